@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+const fs = require('fs');
+const path = require('path');
+const util = require('util');
+const zlib = require('zlib');
+
+const pluginName = 'PrecompressWebpackPlugin';
+const gzip = util.promisify(zlib.gzip);
+const brotliCompress = util.promisify(zlib.brotliCompress);
+
+/**
+ * Webpack plugin that writes a gzip (.gz) and a brotli (.br) compressed variant next to each emitted text asset.
+ * The variants are delivered by the Scout backend to clients accepting the corresponding content encoding, so that the resources need not be compressed on each request.
+ * A variant is only written if it is smaller than the original asset.
+ */
+module.exports = class PrecompressWebpackPlugin {
+  constructor(options = {}) {
+    const {test, minSize} = options;
+    this.options = {
+      test: test || /\.(js|css|html|json|svg|txt|xml)$/i,
+      minSize: minSize ?? 256
+    };
+  }
+
+  // noinspection JSUnusedGlobalSymbols
+  apply(compiler) {
+    compiler.hooks.afterEmit.tapPromise(pluginName, compilation => {
+      const outputPath = compilation.outputOptions.path;
+      const promises = [];
+      for (const asset of compilation.getAssets()) {
+        if (!this.options.test.test(asset.name) || asset.source.size() < this.options.minSize) {
+          continue;
+        }
+        const content = asset.source.buffer();
+        const file = path.resolve(outputPath, asset.name);
+        promises.push(this._writeVariant(file + '.gz', content, gzip(content, {level: zlib.constants.Z_BEST_COMPRESSION})));
+        promises.push(this._writeVariant(file + '.br', content, brotliCompress(content, {
+          params: {
+            [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+            [zlib.constants.BROTLI_PARAM_SIZE_HINT]: content.length
+          }
+        })));
+      }
+      return Promise.all(promises);
+    });
+  }
+
+  async _writeVariant(file, content, compressPromise) {
+    const compressed = await compressPromise;
+    if (compressed.length >= content.length) {
+      await fs.promises.rm(file, {force: true}); // remove outdated variant
+      return;
+    }
+    await fs.promises.writeFile(file, compressed);
+  }
+};
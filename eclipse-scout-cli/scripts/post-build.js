@@ -36,7 +36,9 @@ function fileListFilter(fileName) {
     && !fileName.endsWith('.LICENSE')
     && !themeJsOutFilter(fileName)
     && !fileName.endsWith('d.ts')
-    && !fileName.endsWith('d.ts.map');
+    && !fileName.endsWith('d.ts.map')
+    && !fileName.endsWith('.gz')
+    && !fileName.endsWith('.br');
 }
 
 module.exports = {
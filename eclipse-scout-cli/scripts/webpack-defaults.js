@@ -13,6 +13,7 @@ const scoutBuildConstants = require('./constants');
 const CopyPlugin = require('copy-webpack-plugin');
 const MiniCssExtractPlugin = require('mini-css-extract-plugin');
 const AfterEmitWebpackPlugin = require('./AfterEmitWebpackPlugin');
+const PrecompressWebpackPlugin = require('./PrecompressWebpackPlugin');
 const {SourceMapDevToolPlugin, WatchIgnorePlugin, ProgressPlugin} = require('webpack');
 
 /**
@@ -270,6 +271,9 @@ module.exports = (env, args) => {
   }
 
   if (!devMode) {
+    // write .gz and .br variants of the text assets, delivered by the backend without compressing them on each request
+    config.plugins.push(new PrecompressWebpackPlugin());
+
     const CssMinimizerPlugin = require('css-minimizer-webpack-plugin');
     const TerserPlugin = require('terser-webpack-plugin');
     config.optimization.minimizer = [
@@ -350,8 +354,8 @@ function libraryConfig(config, options = {}) {
   const customExternals = options.externals || {};
   const allExternals = {...packageJsonExternals, ...config.externals, ...customExternals};
 
-  // FileList is not necessary in library mode
-  let plugins = config.plugins.map(plugin => {
+  // FileList and precompressed variants are not necessary in library mode
+  let plugins = config.plugins.filter(plugin => !(plugin instanceof PrecompressWebpackPlugin)).map(plugin => {
     if (plugin instanceof AfterEmitWebpackPlugin) {
       return new AfterEmitWebpackPlugin({outDir: plugin.options.outDir, createFileList: false});
     }
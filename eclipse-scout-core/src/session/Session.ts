@@ -62,6 +62,8 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   /** ms */
   requestTimeoutPing: number;
   backgroundJobPollingSupport: BackgroundJobPollingSupport;
+  /** true if the server pushes the results of background jobs using server-sent events instead of answering polling requests */
+  serverPushEnabled: boolean;
   reconnector: Reconnector;
   processingEvents: boolean;
   /** This property is enabled by URL parameter &adapterExportEnabled=1. Default is false */
@@ -82,6 +84,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _asyncDelay: number;
   protected _sendTimeoutId: number;
   protected _cancellationHandler: EventHandler<Event<BusyIndicator>>;
+  protected _eventSource: EventSource;
 
   constructor() {
     super();
@@ -123,6 +126,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this.requestTimeoutPoll = 75000;
     this.requestTimeoutPing = 5000;
     this.backgroundJobPollingSupport = new BackgroundJobPollingSupport(true);
+    this.serverPushEnabled = false;
     this.reconnector = new Reconnector(this);
     this.processingEvents = false;
     this.adapterExportEnabled = false;
@@ -131,6 +135,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     this._fatalMessagesOnScreen = {};
     this._retryRequest = null;
     this._queuedRequest = null;
+    this._eventSource = null;
     this.requestSequenceNo = 0;
     this.rootAdapter = new ModelAdapter();
     this.ajaxCallOptions = null;
@@ -435,6 +440,9 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     // Init request timeout for poller
     this.requestTimeoutPoll = (data.startupData.pollingInterval + Session.POLLING_GRACE_PERIOD) * 1000;
 
+    // Use server push if the server supports it, fall back to polling otherwise
+    this.serverPushEnabled = !!data.startupData.serverPushEnabled && typeof EventSource !== 'undefined';
+
     // Register UI session
     this.modelAdapterRegistry[this.uiSessionId] = this; // TODO [7.0] cgu: maybe better separate session object from event processing, create ClientSession.js?. If yes, desktop should not have root adapter as parent, see 406
 
@@ -847,7 +855,11 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _resumeBackgroundJobPolling() {
     if (this.backgroundJobPollingSupport.enabled && this.backgroundJobPollingSupport.status !== BackgroundJobPollingStatus.RUNNING) {
       $.log.isInfoEnabled() && $.log.info('Resume background jobs polling request, status was=' + this.backgroundJobPollingSupport.status);
-      this._pollForBackgroundJobs();
+      if (this.serverPushEnabled) {
+        this._openPushChannel();
+      } else {
+        this._pollForBackgroundJobs();
+      }
     }
   }
 
@@ -877,43 +889,8 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     // --- Helper methods ---
 
     function onAjaxDone(data: RemoteResponse) {
-      if (data.error) {
-        // Don't schedule a new polling request, when an error occurs
-        // when the next user-initiated request succeeds, we re-enable polling
-        // otherwise the polling would ping the server to death in case of an error
-        $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
-        this.backgroundJobPollingSupport.setFailed();
-        if (this.areRequestsPending()) {
-          // Add response to queue, handle later by _performUserAjaxRequest()
-          this.responseQueue.add(data);
-        } else {
-          // No user request pending, handle immediately
-          this.responseQueue.process(data);
-        }
-      } else if (data.sessionTerminated) {
-        $.log.info('Session terminated, stopped polling for background jobs');
-        this.backgroundJobPollingSupport.setStopped();
-        // If were are not yet logged out, redirect to the logout URL (the session that initiated the
-        // session invalidation will receive a dedicated logout event, redirect is handled there).
-        if (!this.loggedOut && data.redirectUrl) {
-          this.logout(data.redirectUrl);
-        }
-      } else {
-        try {
-          // No need to change backgroundJobPollingSupport state, it should still be RUNNING
-          if (this.areRequestsPending()) {
-            // Add response to queue, handle later by _performUserAjaxRequest()
-            this.responseQueue.add(data);
-          } else {
-            // No user request pending, handle immediately
-            this.responseQueue.process(data);
-            this.layoutValidator.validate();
-          }
-          setTimeout(this._pollForBackgroundJobs.bind(this));
-        } catch (error) {
-          this.backgroundJobPollingSupport.setFailed();
-          throw error;
-        }
+      if (this._processBackgroundJobResponse(data)) {
+        setTimeout(this._pollForBackgroundJobs.bind(this));
       }
     }
 
@@ -923,6 +900,103 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
     }
   }
 
+  /**
+   * Processes a response of a polling request or a response pushed by the server.
+   *
+   * @returns true if the response was processed successfully and background jobs polling should continue.
+   */
+  protected _processBackgroundJobResponse(data: RemoteResponse): boolean {
+    if (data.error) {
+      // Don't schedule a new polling request, when an error occurs
+      // when the next user-initiated request succeeds, we re-enable polling
+      // otherwise the polling would ping the server to death in case of an error
+      $.log.warn('Polling request failed. Interrupt polling until the next user-initiated request succeeds');
+      this.backgroundJobPollingSupport.setFailed();
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+      }
+      return false;
+    }
+    if (data.sessionTerminated) {
+      $.log.info('Session terminated, stopped polling for background jobs');
+      this.backgroundJobPollingSupport.setStopped();
+      // If were are not yet logged out, redirect to the logout URL (the session that initiated the
+      // session invalidation will receive a dedicated logout event, redirect is handled there).
+      if (!this.loggedOut && data.redirectUrl) {
+        this.logout(data.redirectUrl);
+      }
+      return false;
+    }
+    try {
+      // No need to change backgroundJobPollingSupport state, it should still be RUNNING
+      if (this.areRequestsPending()) {
+        // Add response to queue, handle later by _performUserAjaxRequest()
+        this.responseQueue.add(data);
+      } else {
+        // No user request pending, handle immediately
+        this.responseQueue.process(data);
+        this.layoutValidator.validate();
+      }
+    } catch (error) {
+      this.backgroundJobPollingSupport.setFailed();
+      throw error;
+    }
+    return true;
+  }
+
+  /**
+   * Opens a server-sent event stream which replaces the polling requests. The server pushes the same responses a polling
+   * request would return. The server completes the stream regularly, it is reopened immediately with the current #ACK,
+   * so the server can resend the responses that were missed in the meantime.
+   */
+  protected _openPushChannel() {
+    this.backgroundJobPollingSupport.setRunning();
+    let url = new URL('push/' + this.uiSessionId)
+      .addParameter('ack', this.responseQueue.lastProcessedSequenceNo + '')
+      .toString();
+    let eventSource = new EventSource(url);
+    let opened = false;
+    this._eventSource = eventSource;
+    eventSource.onopen = () => {
+      opened = true;
+    };
+    eventSource.onmessage = (event: MessageEvent<string>) => {
+      if (!this._processBackgroundJobResponse(JSON.parse(event.data))) {
+        this._closePushChannel();
+      }
+    };
+    eventSource.onerror = () => {
+      // Don't let the browser reconnect automatically because the URL contains an outdated #ACK
+      eventSource.close();
+      if (this._eventSource !== eventSource) {
+        return;
+      }
+      this._eventSource = null;
+      if (!this.backgroundJobPollingSupport.isRunning()) {
+        return;
+      }
+      if (opened) {
+        // Stream was completed regularly or the connection was lost -> reconnect
+        setTimeout(this._openPushChannel.bind(this));
+      } else {
+        // Same as for a failed polling request: resume when the next user-initiated request succeeds
+        $.log.warn('Could not open push channel. Interrupt background jobs polling until the next user-initiated request succeeds');
+        this.backgroundJobPollingSupport.setFailed();
+      }
+    };
+  }
+
+  protected _closePushChannel() {
+    if (this._eventSource) {
+      this._eventSource.close();
+      this._eventSource = null;
+    }
+  }
+
   /**
    * Do NOT call this method directly, always use the response queue:
    * ```
@@ -1528,6 +1602,7 @@ export class Session extends EventEmitter implements SessionModel, ModelAdapterL
   protected _onWindowUnload() {
     $.log.isInfoEnabled() && $.log.info('Session unloading...');
     this.unloaded = true;
+    this._closePushChannel();
 
     // Close popup windows
     if (this.desktop && this.desktop.formController) {
@@ -1639,6 +1714,7 @@ export interface SessionStartupResponse extends RemoteResponse {
     clientSession?: string;
     reloadPage?: boolean;
     pollingInterval?: number;
+    serverPushEnabled?: boolean;
     persistent?: boolean;
     inDevelopmentMode?: boolean;
     inspector?: boolean;
@@ -91,6 +91,8 @@ export class Table extends Widget implements TableModel {
   visibleRows: TableRow[];
   estimatedRowCount: number;
   maxRowCount: number;
+  viewportRowCount: number;
+  unloadedRowCount: number;
   aggregateRowHeight: number;
   truncatedCellTooltipEnabled: boolean;
   checkableColumn: BooleanColumn;
@@ -136,6 +138,7 @@ export class Table extends Widget implements TableModel {
 
   /** @internal */
   _renderViewportBlocked: boolean;
+  protected _rowsRequested: boolean;
   /** @internal */
   _filterMenusHandler: (menuItems: Menu[], destination: MenuDestinations) => Menu[];
   /** @internal */
@@ -212,6 +215,9 @@ export class Table extends Widget implements TableModel {
     this.visibleRows = [];
     this.estimatedRowCount = 0;
     this.maxRowCount = 0;
+    this.viewportRowCount = 0;
+    this.unloadedRowCount = 0;
+    this._rowsRequested = false;
     this.truncatedCellTooltipEnabled = null;
     this.visibleRowsMap = {};
     this.rowLevelPadding = 0;
@@ -5420,6 +5426,39 @@ export class Table extends Widget implements TableModel {
     this._renderViewRange(viewRange);
     this._renderLastRowAtBottomMarker();
     this._renderNoRowsSelectedMarker(); // Necessary to call it here if there are no rows at all
+    this._requestRowsIfNearEnd();
+  }
+
+  /**
+   * Requests more rows if not all rows are loaded (see {@link unloadedRowCount}) and less than one page of loaded rows is left below the viewport.
+   */
+  protected _requestRowsIfNearEnd() {
+    if (this.unloadedRowCount <= 0 || this._rowsRequested) {
+      return;
+    }
+    let data = this.$data[0];
+    if (data.scrollTop + data.clientHeight * 2 >= data.scrollHeight) {
+      this.requestRows();
+    }
+  }
+
+  /**
+   * Asks the provider of the rows to send more rows (see {@link viewportRowCount}). Does nothing if all rows are loaded or a request is already pending.
+   * The request is considered complete as soon as {@link unloadedRowCount} is set again.
+   */
+  requestRows(count?: number) {
+    if (this.unloadedRowCount <= 0 || this._rowsRequested) {
+      return;
+    }
+    this._rowsRequested = true;
+    this.trigger('requestRows', {
+      count: count || this.viewportRowCount
+    });
+  }
+
+  setUnloadedRowCount(unloadedRowCount: number) {
+    this._rowsRequested = false;
+    this.setProperty('unloadedRowCount', unloadedRowCount);
   }
 
   protected _rerenderViewport() {
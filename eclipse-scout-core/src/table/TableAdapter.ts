@@ -10,7 +10,7 @@
 import {
   AdapterData, App, arrays, BooleanColumn, Cell, ChildModelOf, Column, ColumnModel, ColumnUserFilter, defaultValues, Event, Filter, ModelAdapter, NumberColumn, ObjectOrModel, objects, RemoteEvent, scout, Table,
   TableAggregationFunctionChangedEvent, TableAppLinkActionEvent, TableCancelCellEditEvent, TableColumnBackgroundEffectChangedEvent, TableColumnMovedEvent, TableColumnOrganizeActionEvent, TableColumnResizedEvent, TableCompleteCellEditEvent,
-  TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
+  TableDropEvent, TableFilterAddedEvent, TableFilterRemovedEvent, TableGroupEvent, TableModel, TablePrepareCellEditEvent, TableReloadEvent, TableRequestRowsEvent, TableRow, TableRowActionEvent, TableRowClickEvent, TableRowModel, TableRowsCheckedEvent,
   TableRowsExpandedEvent, TableRowsSelectedEvent, TableSortEvent, TableUserFilter, ValueField
 } from '../index';
 import $ from 'jquery';
@@ -346,6 +346,12 @@ export class TableAdapter extends ModelAdapter {
     this._send('reload', data);
   }
 
+  protected _onWidgetRequestRows(event: TableRequestRowsEvent) {
+    this._send('requestRows', {
+      count: event.count
+    });
+  }
+
   protected _onWidgetExportToClipboard(event: Event<Table>) {
     this._send('clipboardExport');
     event.preventDefault();
@@ -380,6 +386,8 @@ export class TableAdapter extends ModelAdapter {
       this._onWidgetExportToClipboard(event);
     } else if (event.type === 'reload') {
       this._onWidgetReload(event as TableReloadEvent);
+    } else if (event.type === 'requestRows') {
+      this._onWidgetRequestRows(event as TableRequestRowsEvent);
     } else if (event.type === 'filterAdded') {
       this._onWidgetFilterAdded(event as TableFilterAddedEvent);
     } else if (event.type === 'filterRemoved') {
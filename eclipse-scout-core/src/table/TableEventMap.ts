@@ -124,6 +124,10 @@ export interface TableRowsExpandedEvent<T = Table> extends Event<T> {
   rows: TableRow[];
 }
 
+export interface TableRequestRowsEvent<T = Table> extends Event<T> {
+  count: number;
+}
+
 export interface TableRowsInsertedEvent<T = Table> extends Event<T> {
   rows: TableRow[];
 }
@@ -175,6 +179,7 @@ export interface TableEventMap extends WidgetEventMap {
   'group': TableGroupEvent;
   'prepareCellEdit': TablePrepareCellEditEvent;
   'reload': TableReloadEvent;
+  'requestRows': TableRequestRowsEvent;
   'rowAction': TableRowActionEvent;
   'rowClick': TableRowClickEvent;
   'rowInit': TableRowInitEvent;
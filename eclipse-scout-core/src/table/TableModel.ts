@@ -213,6 +213,19 @@ export interface TableModel extends WidgetModel {
    * By default, there is no estimation.
    */
   estimatedRowCount?: number;
+  /**
+   * Number of rows loaded at once if the rows are provided by a server that only sends a window of the rows (viewport mode).
+   * More rows are requested using a {@link TableEventMap.requestRows} event when the user scrolls near the end of the loaded rows.
+   *
+   * Default is 0 which means all rows are loaded.
+   */
+  viewportRowCount?: number;
+  /**
+   * Number of rows not loaded yet, see {@link viewportRowCount}.
+   *
+   * Default is 0.
+   */
+  unloadedRowCount?: number;
   /**
    * Controls whether a `Reload data` link should be displayed in the {@link TableFooter} that triggers a {@link TableEventMap.reload} event when clicked.
    *
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -606,6 +609,21 @@ public class JSONArray {
     return stringer.toString();
   }
 
+  /**
+   * Writes the compact JSON encoding of this array (same as {@link #toString()}) to the given writer without building
+   * the whole string in memory. The writer is flushed but not closed.
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      JSONStringer stringer = new JSONStringer(writer);
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.array();
     for (Object value : m_values) {
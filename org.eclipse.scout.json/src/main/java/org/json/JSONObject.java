@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -709,6 +712,21 @@ public class JSONObject {
     return stringer.toString();
   }
 
+  /**
+   * Writes the compact JSON encoding of this object (same as {@link #toString()}) to the given writer without building
+   * the whole string in memory. The writer is flushed but not closed.
+   */
+  public void write(Writer writer) throws IOException {
+    try {
+      JSONStringer stringer = new JSONStringer(writer);
+      writeTo(stringer);
+      stringer.flush();
+    }
+    catch (UncheckedIOException e) {
+      throw e.getCause();
+    }
+  }
+
   void writeTo(JSONStringer stringer) {
     stringer.object();
     for (Entry<String, Object> entry : m_nameValuePairs.entrySet()) {
@@ -20,6 +20,9 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +33,7 @@ import java.util.List;
  * Changes to the original code:
  * -----------------------------
  * - Applied Scout code formatting rules
+ * - Added streaming to a Writer (see JSONStringer(Writer))
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -71,6 +75,17 @@ public class JSONStringer {
   @SuppressWarnings("squid:S00116")
   final StringBuilder out = new StringBuilder();
 
+  /**
+   * Number of characters of {@link #out} after which the buffer is written to {@link #m_writer} (if any).
+   */
+  static final int FLUSH_THRESHOLD = 8192;
+
+  /** Optional target the output is streamed to, or null if the output is only collected in {@link #out}. */
+  private final Writer m_writer;
+
+  /** Number of characters already written to {@link #m_writer}. */
+  private long m_flushedCount;
+
   /**
    * Lexical scoping elements within this stringer, necessary to insert the appropriate separator characters (ie. commas
    * and colons) and to detect nesting errors.
@@ -121,12 +136,29 @@ public class JSONStringer {
 
   public JSONStringer() {
     m_indent = null;
+    m_writer = null;
   }
 
   JSONStringer(int indentSpaces) {
     char[] indentChars = new char[indentSpaces];
     Arrays.fill(indentChars, ' ');
     m_indent = new String(indentChars);
+    m_writer = null;
+  }
+
+  /**
+   * Creates a stringer that streams the compact encoding to the given writer instead of collecting the whole output in
+   * memory. Only a small buffer is held, it is written to the writer whenever it exceeds a few kilobytes and on
+   * {@link #flush()}.
+   * <p>
+   * I/O errors of the writer are thrown as {@link UncheckedIOException}.
+   */
+  public JSONStringer(Writer writer) {
+    if (writer == null) {
+      throw new JSONException("Writer must be non-null");
+    }
+    m_indent = null;
+    m_writer = writer;
   }
 
   /**
@@ -169,7 +201,7 @@ public class JSONStringer {
    * Enters a new scope by appending any necessary whitespace and the given bracket.
    */
   JSONStringer open(Scope empty, String openBracket) {
-    if (m_stack.isEmpty() && out.length() > 0) {
+    if (m_stack.isEmpty() && (out.length() > 0 || m_flushedCount > 0)) {
       throw new JSONException("Nesting problem: multiple top-level roots");
     }
     beforeValue();
@@ -192,6 +224,7 @@ public class JSONStringer {
       newline();
     }
     out.append(closeBracket);
+    flushIfFull();
     return this;
   }
 
@@ -250,7 +283,7 @@ public class JSONStringer {
     else {
       string(value.toString());
     }
-
+    flushIfFull();
     return this;
   }
 
@@ -419,9 +452,48 @@ public class JSONStringer {
     }
   }
 
+  private void flushIfFull() {
+    if (m_writer != null && out.length() >= FLUSH_THRESHOLD) {
+      writeBuffer();
+    }
+  }
+
+  private void writeBuffer() {
+    try {
+      m_writer.append(out);
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    m_flushedCount += out.length();
+    out.setLength(0);
+  }
+
+  /**
+   * Writes the buffered output to the writer given in {@link #JSONStringer(Writer)} and flushes the writer. Does nothing
+   * if this stringer does not stream to a writer.
+   *
+   * @return this stringer.
+   */
+  public JSONStringer flush() {
+    if (m_writer == null) {
+      return this;
+    }
+    writeBuffer();
+    try {
+      m_writer.flush();
+    }
+    catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return this;
+  }
+
   /**
    * Returns the encoded JSON string.
    * <p>
+   * If this stringer streams to a writer, only the part not yet written to the writer is returned.
+   * <p>
    * If invoked with unterminated arrays or unclosed objects, this method's return value is undefined.
    * <p>
    * <strong>Warning:</strong> although it contradicts the general contract of {@link Object#toString}, this method
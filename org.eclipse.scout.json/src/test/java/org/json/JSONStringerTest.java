@@ -20,6 +20,10 @@
  */
 package org.json;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
 import junit.framework.TestCase;
 
 /*
@@ -27,6 +31,7 @@ import junit.framework.TestCase;
  * -----------------------------
  * - Applied Scout code formatting rules
  * - Added @SuppressWarnings("CatchMayIgnoreException")
+ * - Added tests for streaming to a Writer
  *
  * Copyright (c) 2015 BSI Business Systems Integration AG.
  */
@@ -376,4 +381,65 @@ public class JSONStringerTest extends TestCase {
     catch (JSONException e) {
     }
   }
+
+  public void testStreamToWriter() throws IOException {
+    JSONObject object = new JSONObject();
+    JSONArray rows = new JSONArray();
+    for (int i = 0; i < 2000; i++) {
+      JSONObject row = new JSONObject();
+      row.put("id", i);
+      row.put("text", "row \"" + i + "\"\n");
+      row.put("flag", i % 2 == 0);
+      rows.put(row);
+    }
+    object.put("rows", rows);
+    object.put("count", rows.length());
+
+    StringWriter writer = new StringWriter();
+    object.write(writer);
+    assertEquals(object.toString(), writer.toString());
+
+    writer = new StringWriter();
+    rows.write(writer);
+    assertEquals(rows.toString(), writer.toString());
+  }
+
+  public void testStreamMultipleRoots() throws JSONException {
+    JSONStringer stringer = new JSONStringer(new StringWriter());
+    stringer.array();
+    stringer.endArray();
+    stringer.flush();
+    try {
+      stringer.object();
+      fail();
+    }
+    catch (JSONException e) {
+    }
+  }
+
+  public void testStreamWriterError() {
+    JSONObject object = new JSONObject();
+    object.put("a", "b");
+    Writer failingWriter = new Writer() {
+      @Override
+      public void write(char[] cbuf, int off, int len) throws IOException {
+        throw new IOException("Broken pipe");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+    try {
+      object.write(failingWriter);
+      fail();
+    }
+    catch (IOException e) {
+      assertEquals("Broken pipe", e.getMessage());
+    }
+  }
 }
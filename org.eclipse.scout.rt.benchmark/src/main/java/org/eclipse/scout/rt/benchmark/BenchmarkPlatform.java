@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark;
+
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.Platform;
+
+/**
+ * Starts the Scout platform within a benchmark JVM. Every JMH fork is a new JVM, therefore the platform is started once
+ * per fork by the first benchmark state requiring it.
+ */
+public final class BenchmarkPlatform {
+
+  private BenchmarkPlatform() {
+  }
+
+  /**
+   * Starts the platform if not running yet and waits until all platform listeners completed.
+   */
+  public static IPlatform ensureStarted() {
+    IPlatform platform = Platform.get();
+    platform.awaitPlatformStarted();
+    return platform;
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.dataobject;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+
+import jakarta.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.DoValue;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("scout.BenchmarkPerson")
+public class BenchmarkPersonDo extends DoEntity {
+
+  public DoValue<Long> id() {
+    return doValue("id");
+  }
+
+  public DoValue<String> firstName() {
+    return doValue("firstName");
+  }
+
+  public DoValue<String> lastName() {
+    return doValue("lastName");
+  }
+
+  public DoValue<Date> birthday() {
+    return doValue("birthday");
+  }
+
+  public DoValue<BigDecimal> salary() {
+    return doValue("salary");
+  }
+
+  public DoValue<Boolean> active() {
+    return doValue("active");
+  }
+
+  public DoList<String> tags() {
+    return doList("tags");
+  }
+
+  public DoList<BenchmarkAddressDo> addresses() {
+    return doList("addresses");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withId(Long id) {
+    id().set(id);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Long getId() {
+    return id().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withFirstName(String firstName) {
+    firstName().set(firstName);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getFirstName() {
+    return firstName().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withLastName(String lastName) {
+    lastName().set(lastName);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public String getLastName() {
+    return lastName().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withBirthday(Date birthday) {
+    birthday().set(birthday);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Date getBirthday() {
+    return birthday().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withSalary(BigDecimal salary) {
+    salary().set(salary);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BigDecimal getSalary() {
+    return salary().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withActive(Boolean active) {
+    active().set(active);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public Boolean getActive() {
+    return active().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withTags(Collection<? extends String> tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withTags(String... tags) {
+    tags().updateAll(tags);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<String> getTags() {
+    return tags().get();
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withAddresses(Collection<? extends BenchmarkAddressDo> addresses) {
+    addresses().updateAll(addresses);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonDo withAddresses(BenchmarkAddressDo... addresses) {
+    addresses().updateAll(addresses);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<BenchmarkAddressDo> getAddresses() {
+    return addresses().get();
+  }
+}
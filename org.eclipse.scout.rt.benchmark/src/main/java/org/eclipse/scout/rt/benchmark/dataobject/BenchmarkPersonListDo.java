@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.dataobject;
+
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.annotation.Generated;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.DoList;
+import org.eclipse.scout.rt.dataobject.TypeName;
+
+@TypeName("scout.BenchmarkPersonList")
+public class BenchmarkPersonListDo extends DoEntity {
+
+  public DoList<BenchmarkPersonDo> persons() {
+    return doList("persons");
+  }
+
+  /* **************************************************************************
+   * GENERATED CONVENIENCE METHODS
+   * *************************************************************************/
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonListDo withPersons(Collection<? extends BenchmarkPersonDo> persons) {
+    persons().updateAll(persons);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public BenchmarkPersonListDo withPersons(BenchmarkPersonDo... persons) {
+    persons().updateAll(persons);
+    return this;
+  }
+
+  @Generated("DoConvenienceMethodsGenerator")
+  public List<BenchmarkPersonDo> getPersons() {
+    return persons().get();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.dataobject;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmark.BenchmarkPlatform;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JSON serialization and deserialization of typed data objects using the {@link IDataObjectMapper}, for a single entity
+ * and for a list of entities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DataObjectSerializationBenchmark {
+
+  @Param({"1", "100", "1000"})
+  public int entityCount; // field name is the parameter name, e.g. -p entityCount=1
+
+  private IDataObjectMapper m_mapper;
+  private DoEntity m_entity;
+  private String m_json;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_mapper = BEANS.get(IDataObjectMapper.class);
+
+    List<BenchmarkPersonDo> persons = new ArrayList<>();
+    for (int i = 0; i < entityCount; i++) {
+      persons.add(createPerson(i));
+    }
+    m_entity = entityCount == 1 ? persons.get(0) : BEANS.get(BenchmarkPersonListDo.class).withPersons(persons);
+    m_json = m_mapper.writeValue(m_entity);
+  }
+
+  protected BenchmarkPersonDo createPerson(long id) {
+    return BEANS.get(BenchmarkPersonDo.class)
+        .withId(id)
+        .withFirstName("First " + id)
+        .withLastName("Last " + id)
+        .withBirthday(new Date(id * 86_400_000L))
+        .withSalary(BigDecimal.valueOf(id * 1000 + 0.5))
+        .withActive(id % 2 == 0)
+        .withTags("alpha", "beta", "gamma")
+        .withAddresses(
+            BEANS.get(BenchmarkAddressDo.class).withStreet("Main Street " + id).withZipCode("8000").withCity("Zurich"),
+            BEANS.get(BenchmarkAddressDo.class).withStreet("Side Street " + id).withZipCode("3000").withCity("Bern"));
+  }
+
+  @Benchmark
+  public String serialize() {
+    return m_mapper.writeValue(m_entity);
+  }
+
+  @Benchmark
+  public Object deserializeTyped() {
+    return m_mapper.readValue(m_json, m_entity.getClass());
+  }
+
+  @Benchmark
+  public IDataObject deserializeRaw() {
+    return m_mapper.readValueRaw(m_json);
+  }
+}
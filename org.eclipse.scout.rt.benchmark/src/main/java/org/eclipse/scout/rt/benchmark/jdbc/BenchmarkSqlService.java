@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.jdbc;
+
+import org.eclipse.scout.rt.server.jdbc.derby.AbstractDerbySqlService;
+
+/**
+ * SQL service on an in-memory Derby database, see {@link JdbcStatementBenchmark}.
+ */
+public class BenchmarkSqlService extends AbstractDerbySqlService {
+
+  @Override
+  protected String getConfiguredJdbcMappingName() {
+    return "jdbc:derby:memory:scoutBenchmark;create=true";
+  }
+
+  @Override
+  protected int getConfiguredJdbcPoolSize() {
+    return 8;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.jdbc;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmark.BenchmarkPlatform;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.holders.LongHolder;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.holders.StringHolder;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Statement processing of {@link BenchmarkSqlService} against an in-memory Derby database: bind parsing, statement and
+ * connection caching, value binding and result conversion. Every invocation runs in its own transaction like a service
+ * call would.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcStatementBenchmark {
+
+  protected static final int ROW_COUNT = 1000;
+  protected static final int BATCH_SIZE = 100;
+
+  private BenchmarkSqlService m_sqlService;
+  private long[] m_batchIds;
+  private String[] m_batchNames;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_sqlService = BEANS.get(BenchmarkSqlService.class);
+
+    long[] ids = new long[ROW_COUNT];
+    String[] names = new String[ROW_COUNT];
+    for (int i = 0; i < ROW_COUNT; i++) {
+      ids[i] = i;
+      names[i] = "Name " + i;
+    }
+    callInTransaction(() -> {
+      m_sqlService.insert("CREATE TABLE BENCHMARK_PERSON (PERSON_ID BIGINT NOT NULL PRIMARY KEY, NAME VARCHAR(100), SCORE INTEGER)");
+      m_sqlService.insert("CREATE TABLE BENCHMARK_LOG (LOG_ID BIGINT NOT NULL, MESSAGE VARCHAR(100))");
+      return m_sqlService.insert("INSERT INTO BENCHMARK_PERSON (PERSON_ID, NAME, SCORE) VALUES (:{ids}, :{names}, 0)",
+          new NVPair("ids", ids),
+          new NVPair("names", names));
+    });
+
+    m_batchIds = new long[BATCH_SIZE];
+    m_batchNames = new String[BATCH_SIZE];
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      m_batchIds[i] = i;
+      m_batchNames[i] = "Message " + i;
+    }
+  }
+
+  protected <T> T callInTransaction(Callable<T> callable) {
+    return RunContexts.empty()
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .call(callable);
+  }
+
+  protected long nextId() {
+    return ThreadLocalRandom.current().nextLong(ROW_COUNT);
+  }
+
+  @Benchmark
+  public Object selectByPrimaryKey() {
+    long id = nextId();
+    return callInTransaction(() -> m_sqlService.select("SELECT NAME, SCORE FROM BENCHMARK_PERSON WHERE PERSON_ID = :id", new NVPair("id", id)));
+  }
+
+  @Benchmark
+  public Object selectIntoHolders() {
+    long id = nextId();
+    StringHolder name = new StringHolder();
+    LongHolder score = new LongHolder();
+    return callInTransaction(() -> {
+      m_sqlService.selectInto("SELECT NAME, SCORE FROM BENCHMARK_PERSON WHERE PERSON_ID = :id INTO :name, :score",
+          new NVPair("id", id),
+          new NVPair("name", name),
+          new NVPair("score", score));
+      return name.getValue();
+    });
+  }
+
+  @Benchmark
+  public Object selectAllRows() {
+    return callInTransaction(() -> m_sqlService.select("SELECT PERSON_ID, NAME, SCORE FROM BENCHMARK_PERSON"));
+  }
+
+  @Benchmark
+  public Object updateSingleRow() {
+    long id = nextId();
+    return callInTransaction(() -> m_sqlService.update("UPDATE BENCHMARK_PERSON SET SCORE = SCORE + 1 WHERE PERSON_ID = :id", new NVPair("id", id)));
+  }
+
+  @Benchmark
+  public Object insertBatchAndDelete() {
+    return callInTransaction(() -> {
+      m_sqlService.insert("INSERT INTO BENCHMARK_LOG (LOG_ID, MESSAGE) VALUES (:{ids}, :{messages})",
+          new NVPair("ids", m_batchIds),
+          new NVPair("messages", m_batchNames));
+      return m_sqlService.delete("DELETE FROM BENCHMARK_LOG");
+    });
+  }
+}
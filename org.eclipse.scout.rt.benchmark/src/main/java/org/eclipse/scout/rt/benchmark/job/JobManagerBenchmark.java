@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.job;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmark.BenchmarkPlatform;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scheduling latency of the job manager: time from scheduling a job until its completion is observed by the
+ * submitter. Run with <code>-jvmArgsAppend -Dscout.jobmanager.virtualThreads=true</code> to compare with virtual
+ * threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JobManagerBenchmark {
+
+  private IExecutionSemaphore m_mutex;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_mutex = Jobs.newExecutionSemaphore(1);
+  }
+
+  @Benchmark
+  public Object scheduleAndAwait() {
+    return Jobs.schedule(() -> "result", Jobs.newInput())
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  public Object scheduleWithRunContextAndAwait() {
+    return Jobs.schedule(() -> "result", Jobs.newInput()
+        .withRunContext(RunContexts.copyCurrent())
+        .withName("benchmark job"))
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  public Object scheduleWithExecutionSemaphoreAndAwait() {
+    return Jobs.schedule(() -> "result", Jobs.newInput()
+        .withExecutionSemaphore(m_mutex))
+        .awaitDoneAndGet();
+  }
+
+  @Benchmark
+  public Object scheduleDelayedAndAwait() {
+    return Jobs.schedule(() -> "result", Jobs.newInput()
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.MILLISECONDS)))
+        .awaitDoneAndGet();
+  }
+}
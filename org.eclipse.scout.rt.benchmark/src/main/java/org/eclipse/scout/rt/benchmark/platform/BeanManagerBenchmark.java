@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.platform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmark.BenchmarkPlatform;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Bean lookup of application scoped beans (cached instance) and of beans creating a new instance per lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanManagerBenchmark {
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+  }
+
+  @Benchmark
+  public IJobManager getApplicationScopedByInterface() {
+    return BEANS.get(IJobManager.class);
+  }
+
+  @Benchmark
+  public ExceptionHandler getApplicationScopedByClass() {
+    return BEANS.get(ExceptionHandler.class);
+  }
+
+  @Benchmark
+  public RunMonitor getNewInstance() {
+    return BEANS.get(RunMonitor.class);
+  }
+
+  @Benchmark
+  public Object optMissing() {
+    return BEANS.opt(BeanManagerBenchmark.class);
+  }
+}
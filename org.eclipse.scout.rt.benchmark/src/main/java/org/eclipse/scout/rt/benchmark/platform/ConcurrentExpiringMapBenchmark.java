@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.platform;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes of a size bounded {@link ConcurrentExpiringMap} (LRU cache) and of a map with a time to live (TTL
+ * cache). The key range is twice the target size, so that writes continuously evict entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ConcurrentExpiringMapBenchmark {
+
+  @Param({"10000", "100000", "1000000"})
+  public int targetSize; // field name is the parameter name, e.g. -p targetSize=10000
+
+  private ConcurrentExpiringMap<Integer, Integer> m_lruMap;
+  private ConcurrentExpiringMap<Integer, Integer> m_ttlMap;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    m_lruMap = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, targetSize);
+    m_ttlMap = new ConcurrentExpiringMap<>(1, TimeUnit.SECONDS);
+    for (int i = 0; i < targetSize; i++) {
+      m_lruMap.put(i, i);
+      m_ttlMap.put(i, i);
+    }
+  }
+
+  protected Integer nextKey() {
+    return ThreadLocalRandom.current().nextInt(targetSize * 2);
+  }
+
+  @Benchmark
+  public Integer lruGet() {
+    return m_lruMap.get(nextKey());
+  }
+
+  @Benchmark
+  public Integer lruPut() {
+    Integer key = nextKey();
+    return m_lruMap.put(key, key);
+  }
+
+  @Benchmark
+  public Integer ttlGet() {
+    return m_ttlMap.get(nextKey());
+  }
+
+  @Benchmark
+  public Integer ttlPut() {
+    Integer key = nextKey();
+    return m_ttlMap.put(key, key);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.platform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.benchmark.BenchmarkPlatform;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Overhead of running a callable in a {@link RunContext}: creating the context, and calling it with and without a new
+ * transaction.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunContextBenchmark {
+
+  private RunContext m_runContext;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    BenchmarkPlatform.ensureStarted();
+    m_runContext = RunContexts.empty();
+  }
+
+  @Benchmark
+  public Object callEmpty() {
+    return RunContexts.empty().call(() -> "result");
+  }
+
+  @Benchmark
+  public Object callCopyCurrent() {
+    return RunContexts.copyCurrent().call(() -> "result");
+  }
+
+  @Benchmark
+  public Object callExisting() {
+    return m_runContext.call(() -> "result");
+  }
+
+  @Benchmark
+  public Object callWithNewTransaction() {
+    return RunContexts.empty()
+        .withTransactionScope(TransactionScope.REQUIRES_NEW)
+        .call(() -> "result");
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.platform;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Frequently used {@link StringUtility} methods.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilityBenchmark {
+
+  // not final, prevents constant folding by the JIT compiler
+  private String m_text = "The quick brown fox jumps over the lazy dog";
+  private String m_blank = "   \t  ";
+  private String m_camelCase = "personFirstNameAndLastName";
+  private Object[] m_parts = {"alpha", null, "beta", "", 42L, "gamma"};
+
+  @Benchmark
+  public boolean hasText() {
+    return StringUtility.hasText(m_text);
+  }
+
+  @Benchmark
+  public boolean hasTextBlank() {
+    return StringUtility.hasText(m_blank);
+  }
+
+  @Benchmark
+  public String join() {
+    return StringUtility.join(", ", m_parts);
+  }
+
+  @Benchmark
+  public String replace() {
+    return StringUtility.replace(m_text, "fox", "cat");
+  }
+
+  @Benchmark
+  public String lowercase() {
+    return StringUtility.lowercase(m_text);
+  }
+
+  @Benchmark
+  public String splitCamelCase() {
+    return StringUtility.splitCamelCase(m_camelCase);
+  }
+}
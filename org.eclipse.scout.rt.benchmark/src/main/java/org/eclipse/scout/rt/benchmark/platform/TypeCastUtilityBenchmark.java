@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.benchmark.platform;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Value conversions of {@link TypeCastUtility} as used by the JDBC statement processor and form data import/export.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeCastUtilityBenchmark {
+
+  // not final, prevents constant folding by the JIT compiler
+  private String m_longString = "1234567890";
+  private Long m_long = 1234567890L;
+  private BigDecimal m_bigDecimal = new BigDecimal("12345.678");
+  private Object[] m_array = {1L, 2L, 3L, 4L, 5L};
+  private List<Long> m_list = Arrays.asList(1L, 2L, 3L, 4L, 5L);
+
+  @Benchmark
+  public Long castSameType() {
+    return TypeCastUtility.castValue(m_long, Long.class);
+  }
+
+  @Benchmark
+  public Long castStringToLong() {
+    return TypeCastUtility.castValue(m_longString, Long.class);
+  }
+
+  @Benchmark
+  public BigDecimal castLongToBigDecimal() {
+    return TypeCastUtility.castValue(m_long, BigDecimal.class);
+  }
+
+  @Benchmark
+  public Integer castBigDecimalToInteger() {
+    return TypeCastUtility.castValue(m_bigDecimal, Integer.class);
+  }
+
+  @Benchmark
+  public String castLongToString() {
+    return TypeCastUtility.castValue(m_long, String.class);
+  }
+
+  @Benchmark
+  public Long[] castArrayToLongArray() {
+    return TypeCastUtility.castValue(m_array, Long[].class);
+  }
+
+  @Benchmark
+  public Integer[] castListToIntegerArray() {
+    return TypeCastUtility.castValue(m_list, Integer[].class);
+  }
+}
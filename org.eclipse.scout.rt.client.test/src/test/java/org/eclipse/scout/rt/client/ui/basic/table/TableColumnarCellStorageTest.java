@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.table.TableColumnarCellStorageTest.P_Table.NameColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.TableColumnarCellStorageTest.P_Table.NumberColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractLongColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link AbstractTable} with {@link AbstractTable#getConfiguredColumnarCellStorage()} enabled.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class TableColumnarCellStorageTest {
+
+  @Test
+  public void testAddRows() {
+    P_Table table = createTable(100);
+    assertTrue(table.isColumnarCellStorage());
+    assertEquals(100, table.getRowCount());
+
+    ITableRow row = table.getRow(42);
+    assertNotNull(((InternalTableRow) row).getCellStorage());
+    assertEquals(2, row.getCellCount());
+    assertEquals("name42", table.getNameColumn().getValue(row));
+    assertEquals("name42", row.getCell(0).getText());
+    assertEquals(Long.valueOf(42), table.getNumberColumn().getValue(row));
+    assertEquals(Long.valueOf(42), table.getRowByKey(List.of("name42")).getCellValue(1));
+  }
+
+  @Test
+  public void testSetValue() {
+    P_Table table = createTable(10);
+    ITableRow row = table.getRow(3);
+    table.getNameColumn().setValue(row, "changed");
+
+    assertEquals("changed", table.getNameColumn().getValue(row));
+    assertEquals("changed", row.getCell(0).getText());
+
+    // adding rows moves the cells back into the storage
+    table.addRow(table.createRow(List.of("new", 99L)));
+    assertEquals("changed", table.getNameColumn().getValue(row));
+    assertEquals("changed", row.getCell(0).getText());
+  }
+
+  @Test
+  public void testStyleRow() {
+    P_Table table = createTable(10);
+    ITableRow row = table.getRow(5);
+    row.setBackgroundColor("ff0000");
+    table.addRow(table.createRow(List.of("new", 99L)));
+
+    assertEquals("ff0000", row.getCell(0).getBackgroundColor());
+    assertEquals("ff0000", row.getCell(1).getBackgroundColor());
+    assertNull(table.getRow(4).getCell(0).getBackgroundColor());
+  }
+
+  @Test
+  public void testGetCellForUpdate() {
+    P_Table table = createTable(10);
+    ITableRow row = table.getRow(1);
+    Cell cell = row.getCellForUpdate(0);
+    cell.setText("text");
+    cell.setTooltipText("tooltip");
+    assertSame(cell, row.getCellForUpdate(0));
+    assertEquals("text", row.getCell(0).getText());
+    assertEquals("tooltip", row.getCell(0).getTooltipText());
+
+    table.addRow(table.createRow(List.of("new", 99L)));
+    assertEquals("text", row.getCell(0).getText());
+    assertEquals("tooltip", row.getCell(0).getTooltipText());
+  }
+
+  @Test
+  public void testDeleteRows() {
+    P_Table table = createTable(3000);
+    List<ITableRow> deletedRows = new ArrayList<>(table.getRows().subList(0, 2900));
+    table.discardRows(deletedRows);
+
+    assertEquals(100, table.getRowCount());
+    for (ITableRow row : table.getRows()) {
+      assertEquals("name" + table.getNumberColumn().getValue(row), table.getNameColumn().getValue(row));
+    }
+    // removed rows remain readable
+    assertEquals("name0", deletedRows.get(0).getCellValue(0));
+    assertNotSame(((InternalTableRow) deletedRows.get(0)).getCellStorage(), ((InternalTableRow) table.getRow(0)).getCellStorage());
+
+    table.discardAllRows();
+    assertEquals(0, table.getRowCount());
+    table.addRow(table.createRow(List.of("new", 1L)));
+    assertEquals("new", table.getNameColumn().getValue(table.getRow(0)));
+  }
+
+  private P_Table createTable(int rowCount) {
+    P_Table table = new P_Table();
+    table.init();
+    List<ITableRow> rows = new ArrayList<>();
+    for (long i = 0; i < rowCount; i++) {
+      rows.add(table.createRow(List.of("name" + i, i)));
+    }
+    table.addRows(rows);
+    return table;
+  }
+
+  public static class P_Table extends AbstractTable {
+
+    @Override
+    protected boolean getConfiguredColumnarCellStorage() {
+      return true;
+    }
+
+    public NameColumn getNameColumn() {
+      return getColumnSet().getColumnByClass(NameColumn.class);
+    }
+
+    public NumberColumn getNumberColumn() {
+      return getColumnSet().getColumnByClass(NumberColumn.class);
+    }
+
+    @Order(10)
+    public class NameColumn extends AbstractStringColumn {
+
+      @Override
+      protected boolean getConfiguredPrimaryKey() {
+        return true;
+      }
+    }
+
+    @Order(20)
+    public class NumberColumn extends AbstractLongColumn {
+    }
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import static org.junit.Assert.*;
+
+import java.math.BigDecimal;
+import java.util.Date;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ColumnarCellStorage}
+ */
+public class ColumnarCellStorageTest {
+
+  @Test
+  public void testPrimitiveValues() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(4);
+    int slot1 = storage.allocateSlot();
+    int slot2 = storage.allocateSlot();
+
+    assertTrue(storage.store(slot1, 0, createCell(42L, "42"), null));
+    assertTrue(storage.store(slot1, 1, createCell(7, "7"), null));
+    assertTrue(storage.store(slot1, 2, createCell(1.5d, "1.50"), null));
+    assertTrue(storage.store(slot1, 3, createCell(Boolean.TRUE, "X"), null));
+    assertTrue(storage.store(slot2, 0, createCell(null, null), null));
+
+    assertEquals(42L, storage.getValue(slot1, 0));
+    assertEquals(7, storage.getValue(slot1, 1));
+    assertEquals(1.5d, storage.getValue(slot1, 2));
+    assertEquals(Boolean.TRUE, storage.getValue(slot1, 3));
+    assertNull(storage.getValue(slot2, 0));
+    assertNull(storage.getValue(slot2, 1));
+
+    assertEquals("42", storage.createCell(slot1, 0, null).getText());
+    assertEquals("1.50", storage.createCell(slot1, 2, null).getText());
+    assertNull(storage.createCell(slot2, 0, null).getText());
+  }
+
+  @Test
+  public void testMixedTypes() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(1);
+    int slot1 = storage.allocateSlot();
+    int slot2 = storage.allocateSlot();
+    storage.store(slot1, 0, createCell(1L, "1"), null);
+    storage.store(slot2, 0, createCell(new BigDecimal("2.5"), "2.5"), null);
+
+    assertEquals(1L, storage.getValue(slot1, 0));
+    assertEquals(new BigDecimal("2.5"), storage.getValue(slot2, 0));
+  }
+
+  @Test
+  public void testDictionaryFallback() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(2);
+    int count = 5000;
+    for (int i = 0; i < count; i++) {
+      int slot = storage.allocateSlot();
+      storage.store(slot, 0, createCell("value" + i, "value" + i), null);
+      storage.store(slot, 1, createCell("code" + (i % 300), "Code " + (i % 300)), null);
+    }
+    assertEquals(count, storage.getSlotCount());
+    for (int slot = 0; slot < count; slot++) {
+      assertEquals("value" + slot, storage.getValue(slot, 0));
+      assertEquals("value" + slot, storage.createCell(slot, 0, null).getText());
+      assertEquals("code" + (slot % 300), storage.getValue(slot, 1));
+      assertEquals("Code " + (slot % 300), storage.createCell(slot, 1, null).getText());
+    }
+  }
+
+  @Test
+  public void testDatesNotShared() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(1);
+    int slot1 = storage.allocateSlot();
+    int slot2 = storage.allocateSlot();
+    storage.store(slot1, 0, createCell(new Date(0), null), null);
+    storage.store(slot2, 0, createCell(new Date(0), null), null);
+
+    assertEquals(storage.getValue(slot1, 0), storage.getValue(slot2, 0));
+    assertNotSame(storage.getValue(slot1, 0), storage.getValue(slot2, 0));
+  }
+
+  @Test
+  public void testCellSpecialization() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(1);
+    int slot1 = storage.allocateSlot();
+    int slot2 = storage.allocateSlot();
+    Cell cell = createCell("a", "A");
+    cell.setBackgroundColor("ff0000");
+    cell.setEditable(true);
+    cell.setTooltipText("tooltip");
+    storage.store(slot1, 0, cell, null);
+    storage.store(slot2, 0, createCell("b", "B"), null);
+
+    Cell cell1 = storage.createCell(slot1, 0, null);
+    assertEquals("ff0000", cell1.getBackgroundColor());
+    assertTrue(cell1.isEditable());
+    assertEquals("tooltip", cell1.getTooltipText());
+
+    // cell extensions are modified in place and must not be shared
+    Cell cell2 = storage.createCell(slot1, 0, null);
+    assertNotSame(cell1.getCellSpecialization(), cell2.getCellSpecialization());
+    cell1.setTooltipText("changed");
+    assertEquals("tooltip", storage.createCell(slot1, 0, null).getTooltipText());
+
+    Cell defaultCell = storage.createCell(slot2, 0, null);
+    assertNull(defaultCell.getBackgroundColor());
+    assertFalse(defaultCell.isEditable());
+  }
+
+  @Test
+  public void testNotStorable() {
+    ColumnarCellStorage storage = new ColumnarCellStorage(1);
+    int slot = storage.allocateSlot();
+    Cell cell = createCell("a", "A");
+    cell.addErrorStatus("invalid");
+    assertFalse(storage.store(slot, 0, cell, null));
+  }
+
+  private static Cell createCell(Object value, String text) {
+    Cell cell = new Cell();
+    cell.setValue(value);
+    cell.setText(text);
+    return cell;
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.desktop.outline.pages;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.columns.AbstractStringColumn;
+import org.eclipse.scout.rt.client.ui.desktop.IDesktop;
+import org.eclipse.scout.rt.client.ui.desktop.outline.AbstractOutline;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for paged loading of {@link AbstractPageWithTable}, see {@link AbstractPageWithTable#getConfiguredPageSize()}.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class PageWithTablePagingTest {
+
+  @Test
+  public void testLoadNextPage() {
+    PageWithTable page = activatePage();
+    assertEquals(Arrays.asList("a", "b"), page.getTable().getFirstColumn().getValues());
+    assertTrue(page.hasNextPage());
+    assertTrue(page.getTable().isMoreRowsAvailable());
+
+    page.reloadPage(IReloadReason.NEXT_PAGE);
+    assertEquals(Arrays.asList("a", "b", "c", "d"), page.getTable().getFirstColumn().getValues());
+    assertTrue(page.hasNextPage());
+
+    page.reloadPage(IReloadReason.NEXT_PAGE);
+    assertEquals(Arrays.asList("a", "b", "c", "d", "e"), page.getTable().getFirstColumn().getValues());
+    assertFalse(page.hasNextPage());
+    assertFalse(page.getTable().isMoreRowsAvailable());
+
+    // no more pages: nothing is loaded
+    page.reloadPage(IReloadReason.NEXT_PAGE);
+    assertEquals(5, page.getTable().getRowCount());
+    assertEquals(Arrays.asList(0L, 2L, 4L), page.m_requestedOffsets);
+  }
+
+  @Test
+  public void testReloadStartsWithFirstPage() {
+    PageWithTable page = activatePage();
+    page.reloadPage(IReloadReason.NEXT_PAGE);
+    assertEquals(4, page.getTable().getRowCount());
+
+    page.reloadPage();
+    assertEquals(Arrays.asList("a", "b"), page.getTable().getFirstColumn().getValues());
+    assertTrue(page.hasNextPage());
+    assertEquals(Arrays.asList(0L, 2L, 0L), page.m_requestedOffsets);
+  }
+
+  @Test
+  public void testNoPaging() {
+    PageWithTable page = activatePage();
+    page.setPageSize(0);
+    page.reloadPage();
+    assertEquals(5, page.getTable().getRowCount());
+    assertFalse(page.hasNextPage());
+    assertFalse(page.getTable().isMoreRowsAvailable());
+  }
+
+  protected PageWithTable activatePage() {
+    IDesktop desktop = TestEnvironmentClientSession.get().getDesktop();
+    desktop.setAvailableOutlines(Collections.singletonList(new PageWithTableOutline()));
+    desktop.setOutline(PageWithTableOutline.class);
+    desktop.activateFirstPage();
+    return (PageWithTable) desktop.getOutline().getActivePage();
+  }
+
+  public static class PageWithTableOutline extends AbstractOutline {
+
+    @Override
+    protected void execCreateChildPages(List<IPage<?>> pageList) {
+      pageList.add(new PageWithTable());
+    }
+  }
+
+  public static class PageWithTable extends AbstractPageWithTable<PageWithTable.Table> {
+    private static final String[] DATA = new String[]{"a", "b", "c", "d", "e"};
+
+    public List<Long> m_requestedOffsets = new ArrayList<>();
+
+    @Override
+    protected int getConfiguredPageSize() {
+      return 2;
+    }
+
+    @Override
+    protected void execLoadData(SearchFilter filter) {
+      int from = 0;
+      int to = DATA.length;
+      if (filter.isPaged()) {
+        m_requestedOffsets.add(filter.getPageOffset());
+        from = (int) filter.getPageOffset();
+        to = Math.min(DATA.length, from + filter.getPageSize());
+      }
+      Object[][] data = new Object[to - from][];
+      for (int i = from; i < to; i++) {
+        data[i - from] = new Object[]{DATA[i]};
+      }
+      importTableData(data);
+    }
+
+    @Override
+    protected IPage<?> execCreateChildPage(ITableRow row) {
+      return new PageWithNode();
+    }
+
+    public class Table extends AbstractTable {
+
+      public FirstColumn getFirstColumn() {
+        return getColumnSet().getColumnByClass(FirstColumn.class);
+      }
+
+      @Order(10)
+      public class FirstColumn extends AbstractStringColumn {
+      }
+    }
+  }
+
+  public static class PageWithNode extends AbstractPageWithNodes {
+  }
+}
@@ -38,6 +38,8 @@ import org.eclipse.scout.rt.shared.logging.UserIdContextValueProvider;
 import org.eclipse.scout.rt.shared.session.ScoutSessionIdContextValueProvider;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 
+import io.opentelemetry.context.Context;
+
 /**
  * Use this class to propagate client-side context.
  * <p>
@@ -93,6 +95,12 @@ public class ClientRunContext extends RunContext {
     return this;
   }
 
+  @Override
+  public ClientRunContext withOpenTelemetryContext(final Context openTelemetryContext) {
+    super.withOpenTelemetryContext(openTelemetryContext);
+    return this;
+  }
+
   @Override
   public ClientRunContext withTransactionScope(final TransactionScope transactionScope) {
     super.withTransactionScope(transactionScope);
@@ -102,6 +102,16 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
     return m_value;
   }
 
+  /**
+   * do not use this internal method
+   * <p>
+   * Sets value and text without validation and without notifying the observer.
+   */
+  public void setValueAndTextInternal(Object value, String text) {
+    m_value = value;
+    m_text = text;
+  }
+
   /**
    * @return true if the value has in fact changed
    */
@@ -298,6 +308,23 @@ public class Cell implements ICell, IStyleable, IHtmlCapable {
     m_observer = observer;
   }
 
+  /**
+   * Returns the specialization carrying the style and the rarely used properties of this cell.
+   */
+  public ICellSpecialization getCellSpecialization() {
+    return m_cellSpecialization;
+  }
+
+  /**
+   * do not use this internal method
+   * <p>
+   * Sets the specialization without sharing its style and without notifying the observer. The given specialization must
+   * not be used by another cell.
+   */
+  public void setCellSpecializationInternal(ICellSpecialization cellSpecialization) {
+    m_cellSpecialization = cellSpecialization;
+  }
+
   private void setValueInternal(int bitPos, ICellSpecialization cellSpecialization) {
     synchronized (SHARED_STYLE_STORE_LOCK) {
       CellStyle newStyle = cellSpecialization.getCellStyle();
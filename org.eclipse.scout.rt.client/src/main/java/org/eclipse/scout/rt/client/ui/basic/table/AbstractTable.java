@@ -77,6 +77,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizer;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.ITableCustomizerProvider;
 import org.eclipse.scout.rt.client.ui.basic.table.customizer.NullTableCustomizerProvider;
+import org.eclipse.scout.rt.client.ui.basic.table.internal.ColumnarCellStorage;
 import org.eclipse.scout.rt.client.ui.basic.table.internal.InternalTableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.menus.OrganizeColumnsMenu;
 import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizer;
@@ -200,6 +201,9 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
   private ISummaryCellBuilder m_summaryCellBuilder;
   private int m_valueChangeTriggerEnabled = 1;// >=1 is true
   private boolean m_treeStructureDirty;
+  private boolean m_columnarCellStorage;
+  private ColumnarCellStorage m_cellStorage;
+  private boolean m_cellStorageCompactionPending;
 
   public AbstractTable() {
     this(true);
@@ -683,6 +687,23 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return false;
   }
 
+  /**
+   * Configures whether the cells of the rows are kept in a columnar storage instead of one {@link Cell} object per row
+   * and column. This considerably reduces the memory used by tables with many rows. Cell objects are only created for
+   * rows which are updated, e.g. edited or styled, and are moved back into the storage when rows are added. Cells
+   * returned by {@link ITableRow#getCell(int)} are detached copies then, use {@link ITableRow#getCellForUpdate(int)} to
+   * modify a cell.
+   * <p>
+   * Subclasses can override this method. Default is <code>false</code>.
+   *
+   * @see ColumnarCellStorage
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(300)
+  protected boolean getConfiguredColumnarCellStorage() {
+    return false;
+  }
+
   /**
    * <p>
    * Called after a drag operation was executed on one or several table rows.
@@ -1029,6 +1050,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setScrollToSelection(getConfiguredScrollToSelection());
     setTableStatusVisible(getConfiguredTableStatusVisible());
     setTextFilterEnabled(getConfiguredTextFilterEnabled());
+    setViewportRowCount(getConfiguredViewportRowCount());
     setTruncatedCellTooltipEnabled(getConfiguredTruncatedCellTooltipEnabled());
     setClientUiPreferencesEnabled(getConfiguredClientUiPreferencesEnabled());
     if (getTableCustomizer() == null) {
@@ -1074,6 +1096,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     setSummaryCellBuilder(createSummaryCellBuilder());
     setCompactHandler(createCompactHandler());
     setCompact(getConfiguredCompact());
+    m_columnarCellStorage = getConfiguredColumnarCellStorage();
 
     // add Convenience observer for drag & drop callbacks, event history and ui sort possible check
     addTableListener(new TableAdapter() {
@@ -1695,6 +1718,66 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return propertySupport.getPropertyBool(PROP_COMPACT);
   }
 
+  @Override
+  public boolean isColumnarCellStorage() {
+    return m_columnarCellStorage;
+  }
+
+  /**
+   * Returns the storage for the cells of new rows, or <code>null</code> if columnar cell storage is disabled.
+   */
+  private ColumnarCellStorage getCellStorage() {
+    if (!m_columnarCellStorage) {
+      return null;
+    }
+    if (m_cellStorage == null) {
+      m_cellStorage = new ColumnarCellStorage(getColumnCount());
+    }
+    return m_cellStorage;
+  }
+
+  /**
+   * Moves materialized cells back into the columnar storage once rows were added or the storage was renewed. Cells
+   * materialized by a row update are kept until then, so that callers may still modify a cell they obtained by
+   * {@link ITableRow#getCellForUpdate(int)}.
+   */
+  private void compactCellStorage() {
+    if (m_cellStorage != null && m_cellStorageCompactionPending) {
+      m_cellStorageCompactionPending = false;
+      m_cellStorage.compact();
+    }
+  }
+
+  /**
+   * Replaces the columnar cell storage once most of its slots belong to rows which are no longer managed by this table.
+   * Such rows keep reading from the previous storage.
+   */
+  private void renewCellStorageIfNecessary() {
+    if (m_cellStorage == null) {
+      return;
+    }
+    int managedRowCount = m_rows.size() + m_deletedRows.size();
+    if (managedRowCount == 0) {
+      m_cellStorage = null;
+      return;
+    }
+    if (m_cellStorage.getSlotCount() <= 2 * managedRowCount + 1024) {
+      return;
+    }
+    ColumnarCellStorage cellStorage = new ColumnarCellStorage(getColumnCount());
+    for (ITableRow row : getRows()) {
+      ((InternalTableRow) row).setCellStorageInternal(cellStorage);
+    }
+    for (ITableRow row : m_deletedRows.values()) {
+      ((InternalTableRow) row).setCellStorageInternal(cellStorage);
+    }
+    m_cellStorage = cellStorage;
+    m_cellStorageCompactionPending = true;
+    if (!isTableChanging()) {
+      compactCellStorage();
+    }
+  }
+
   @Override
   public ITableCompactHandler getCompactHandler() {
     return m_compactHandler;
@@ -1892,6 +1975,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
           if (m_tableChanging == 0) {
             try {
               processEventBuffer();
+              compactCellStorage();
             }
             catch (RuntimeException | PlatformError t) {
               if (saveEx != null) {
@@ -3226,6 +3310,10 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       int newIndex = m_rows.size();
       newIRow.setRowIndex(newIndex);
       newIRow.setTableInternal(this);
+      if (m_columnarCellStorage) {
+        newIRow.setCellStorageInternal(getCellStorage());
+        m_cellStorageCompactionPending = true;
+      }
       m_rows.add(newIRow);
       m_rowsByKey.put(new CompositeObject(newIRow.getKeyValues()), newIRow);
     }
@@ -3475,6 +3563,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         affectedRows[i - minAffectedIndex] = getRow(i);
         ((InternalTableRow) affectedRows[i - minAffectedIndex]).setRowIndex(i);
       }
+      renewCellStorageIfNecessary();
       if (rowCountBefore == deletedRows.size()) {
         removeUserRowFilters(false);
         fireAllRowsDeleted(deletedRows);
@@ -3560,6 +3649,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
       ((InternalTableRow) iTableRow).setTableInternal(null);
     }
     m_deletedRows.clear();
+    renewCellStorageIfNecessary();
   }
 
   @Override
@@ -3576,6 +3666,7 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
         m_deletedRows.remove(new CompositeObject(getRowKeys(row)));
         ((InternalTableRow) row).setTableInternal(null);
       }
+      renewCellStorageIfNecessary();
     }
   }
 
@@ -4573,6 +4664,21 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     return true;
   }
 
+  /**
+   * Configures the number of rows initially sent to the UI. Remaining rows are sent when the UI requests them, which
+   * reduces the payload of tables with many rows considerably. Sorting is done by the model in this mode, text and user
+   * filters of the UI only apply to the rows already sent.
+   * <p>
+   * Subclasses can override this method. Default is {@code 0} (viewport mode disabled, all rows are sent).
+   *
+   * @see ITable#getViewportRowCount()
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(215)
+  protected int getConfiguredViewportRowCount() {
+    return 0;
+  }
+
   @Override
   public boolean isTableStatusVisible() {
     return propertySupport.getPropertyBool(PROP_TABLE_STATUS_VISIBLE);
@@ -5382,6 +5488,26 @@ public abstract class AbstractTable extends AbstractWidget implements ITable, IC
     propertySupport.setPropertyInt(PROP_MAX_ROW_COUNT, maxRowCount);
   }
 
+  @Override
+  public int getViewportRowCount() {
+    return propertySupport.getPropertyInt(PROP_VIEWPORT_ROW_COUNT);
+  }
+
+  @Override
+  public void setViewportRowCount(int viewportRowCount) {
+    propertySupport.setPropertyInt(PROP_VIEWPORT_ROW_COUNT, viewportRowCount);
+  }
+
+  @Override
+  public boolean isMoreRowsAvailable() {
+    return propertySupport.getPropertyBool(PROP_MORE_ROWS_AVAILABLE);
+  }
+
+  @Override
+  public void setMoreRowsAvailable(boolean moreRowsAvailable) {
+    propertySupport.setPropertyBool(PROP_MORE_ROWS_AVAILABLE, moreRowsAvailable);
+  }
+
   @Override
   public TriState isTruncatedCellTooltipEnabled() {
     return (TriState) propertySupport.getProperty(PROP_TRUNCATED_CELL_TOOLTIP_ENABLED);
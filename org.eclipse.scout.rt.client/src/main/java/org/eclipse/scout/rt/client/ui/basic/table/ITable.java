@@ -33,6 +33,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.organizer.ITableOrganizer;
 import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableUserFilterManager;
 import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPage;
 import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IPageWithTable;
+import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IReloadReason;
 import org.eclipse.scout.rt.client.ui.dnd.IDNDSupport;
 import org.eclipse.scout.rt.client.ui.form.fields.IFormField;
 import org.eclipse.scout.rt.client.ui.form.fields.listbox.IListBox;
@@ -277,6 +278,20 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   String PROP_TEXT_FILTER_ENABLED = "textFilterEnabled";
 
+  /**
+   * type int
+   *
+   * @since 24.1
+   */
+  String PROP_VIEWPORT_ROW_COUNT = "viewportRowCount";
+
+  /**
+   * type boolean
+   *
+   * @since 24.1
+   */
+  String PROP_MORE_ROWS_AVAILABLE = "moreRowsAvailable";
+
   /**
    * Alternative loading style. Adds a decent loading animation at the top of the table. To enable it, add this css
    * class and then activate the loading using {@link #setLoading(boolean)}.
@@ -541,6 +556,13 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
 
   void setCompact(boolean compact);
 
+  /**
+   * @return <code>true</code> if the cells of the rows are kept in a columnar storage instead of one cell object per row
+   *         and column.
+   * @since 24.1
+   */
+  boolean isColumnarCellStorage();
+
   ITableCompactHandler getCompactHandler();
 
   void setCompactHandler(ITableCompactHandler handler);
@@ -1298,6 +1320,37 @@ public interface ITable extends IWidget, IDNDSupport, IStyleable, IAppLinkCapabl
    */
   void setMaxRowCount(int maxRowCount);
 
+  /**
+   * Number of rows initially sent to the UI. If the table contains more rows, the remaining rows are only sent when the
+   * UI requests them (e.g. when the user scrolls to the end of the loaded rows). Selected rows are always sent.
+   * <p>
+   * A value &lt;= 0 disables the viewport mode and all rows are sent at once.
+   *
+   * @since 24.1
+   */
+  int getViewportRowCount();
+
+  /**
+   * @see #getViewportRowCount()
+   * @since 24.1
+   */
+  void setViewportRowCount(int viewportRowCount);
+
+  /**
+   * Indicates that the data source contains more rows than loaded into this table. These rows are loaded on demand by
+   * the reload handler with the reason {@link IReloadReason#NEXT_PAGE}, e.g. when the user scrolls to the end of the
+   * table (see {@link #getViewportRowCount()}).
+   *
+   * @since 24.1
+   */
+  boolean isMoreRowsAvailable();
+
+  /**
+   * @see #isMoreRowsAvailable()
+   * @since 24.1
+   */
+  void setMoreRowsAvailable(boolean moreRowsAvailable);
+
   /**
    * @since 9.0
    */
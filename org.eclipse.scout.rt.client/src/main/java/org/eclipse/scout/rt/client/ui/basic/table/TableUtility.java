@@ -135,7 +135,7 @@ public final class TableUtility {
     try {
       row.setRowChanging(true);
       //
-      Cell cell = (Cell) row.getCell(col.getColumnIndex());
+      Cell cell = row.getCellForUpdate(col.getColumnIndex());
       if (result.size() == 1) {
         cell.setText(result.get(0).getText());
       }
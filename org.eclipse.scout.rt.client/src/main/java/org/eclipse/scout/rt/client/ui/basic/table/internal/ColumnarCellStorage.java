@@ -0,0 +1,525 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.client.ui.basic.table.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.eclipse.scout.rt.client.ui.basic.cell.Cell;
+import org.eclipse.scout.rt.client.ui.basic.cell.CellExtension;
+import org.eclipse.scout.rt.client.ui.basic.cell.CellStyle;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellObserver;
+import org.eclipse.scout.rt.client.ui.basic.cell.ICellSpecialization;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+
+/**
+ * Columnar storage for the cells of the rows of an {@link ITable}.
+ * <p>
+ * Instead of one {@link Cell} per row and column, values, texts and cell specializations are kept per column:
+ * <code>Long</code>, <code>Integer</code>, <code>Double</code> and <code>Boolean</code> values in primitive arrays,
+ * dates in plain arrays, and all other values as well as texts and specializations dictionary-encoded. A column with
+ * too many distinct values falls back to a plain array. A text which equals the string representation of its value is
+ * not stored at all but derived from the value when being read.
+ * <p>
+ * Every {@link InternalTableRow} owns a slot of this storage. It materializes a {@link Cell} only when the cell is
+ * updated, e.g. edited or styled, and moves it back into this storage on {@link #compact()}. Reading a stored cell via
+ * {@link InternalTableRow#getCell(int)} returns a detached copy, so changes to that copy are not reflected in the row.
+ * <p>
+ * Slots are never reused. Rows removed from a table keep their slot so that they remain readable; the table replaces
+ * its storage once most slots belong to removed rows.
+ * <p>
+ * This class is not thread safe; it is used from within the model thread only.
+ *
+ * @since 24.1
+ */
+public class ColumnarCellStorage {
+
+  protected static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * Stored as text of a cell whose text equals the string representation of its value.
+   */
+  protected static final Object TEXT_OF_VALUE = new Object();
+
+  private final int m_columnCount;
+  private final IColumnVector[] m_values;
+  private final IColumnVector[] m_texts;
+  private final IColumnVector[] m_specializations;
+  private final Set<InternalTableRow> m_materializedRows;
+  private int m_capacity;
+  private int m_slotCount;
+
+  public ColumnarCellStorage(int columnCount) {
+    m_columnCount = columnCount;
+    m_values = new IColumnVector[columnCount];
+    m_texts = new IColumnVector[columnCount];
+    m_specializations = new IColumnVector[columnCount];
+    m_materializedRows = Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  public int getColumnCount() {
+    return m_columnCount;
+  }
+
+  /**
+   * @return number of slots allocated so far, including the slots of rows no longer part of the table.
+   */
+  public int getSlotCount() {
+    return m_slotCount;
+  }
+
+  /**
+   * Allocates a new slot to store the cells of a row.
+   */
+  public int allocateSlot() {
+    if (m_slotCount == m_capacity) {
+      m_capacity = Math.max(INITIAL_CAPACITY, m_capacity + (m_capacity >> 1));
+      for (int i = 0; i < m_columnCount; i++) {
+        m_values[i] = grow(m_values[i]);
+        m_texts[i] = grow(m_texts[i]);
+        m_specializations[i] = grow(m_specializations[i]);
+      }
+    }
+    return m_slotCount++;
+  }
+
+  /**
+   * Returns the value of the stored cell without creating a {@link Cell}.
+   */
+  public Object getValue(int slot, int columnIndex) {
+    return get(m_values[columnIndex], slot);
+  }
+
+  /**
+   * Creates a {@link Cell} with the stored value, text and specialization.
+   */
+  public Cell createCell(int slot, int columnIndex, ICellObserver observer) {
+    Object value = getValue(slot, columnIndex);
+    Object text = get(m_texts[columnIndex], slot);
+    Object specialization = get(m_specializations[columnIndex], slot);
+
+    Cell cell = new Cell();
+    cell.setValueAndTextInternal(value, text == TEXT_OF_VALUE ? value.toString() : (String) text);
+    if (specialization instanceof P_CellExtensionKey) {
+      cell.setCellSpecializationInternal(((P_CellExtensionKey) specialization).createCellExtension());
+    }
+    else if (specialization != null) {
+      cell.setCellSpecializationInternal((ICellSpecialization) specialization);
+    }
+    cell.setObserver(observer);
+    return cell;
+  }
+
+  /**
+   * Stores the given cell, unless it carries state this storage does not support, e.g. an error status.
+   *
+   * @return <code>true</code> if the cell was stored and may be released by the row.
+   */
+  public boolean store(int slot, int columnIndex, Cell cell, ICellObserver observer) {
+    if (cell.getClass() != Cell.class || cell.getErrorStatus() != null || cell.getObserver() != observer) {
+      return false;
+    }
+    Object specialization = toStorableSpecialization(cell.getCellSpecialization());
+    if (specialization == null) {
+      return false;
+    }
+
+    Object value = cell.getValue();
+    String text = cell.getText();
+    m_values[columnIndex] = set(m_values[columnIndex], slot, value);
+    m_texts[columnIndex] = set(m_texts[columnIndex], slot, isTextOfValue(value, text) ? TEXT_OF_VALUE : text);
+    m_specializations[columnIndex] = set(m_specializations[columnIndex], slot, specialization);
+    return true;
+  }
+
+  /**
+   * Registers a row which materialized some of its cells, so that they are stored again on {@link #compact()}.
+   */
+  public void markMaterialized(InternalTableRow row) {
+    m_materializedRows.add(row);
+  }
+
+  /**
+   * Moves the materialized cells of all registered rows back into this storage.
+   */
+  public void compact() {
+    if (m_materializedRows.isEmpty()) {
+      return;
+    }
+    List<InternalTableRow> rows = new ArrayList<>(m_materializedRows);
+    m_materializedRows.clear();
+    for (InternalTableRow row : rows) {
+      row.compactCellsInternal();
+    }
+  }
+
+  protected boolean isTextOfValue(Object value, String text) {
+    if (text == null || value == null) {
+      return false;
+    }
+    if (value instanceof String) {
+      return text.equals(value);
+    }
+    if (value instanceof Long || value instanceof Integer) {
+      return text.equals(value.toString());
+    }
+    return false;
+  }
+
+  /**
+   * @return the object to store for the given specialization, or <code>null</code> if not supported.
+   */
+  protected Object toStorableSpecialization(ICellSpecialization specialization) {
+    if (specialization instanceof CellStyle) {
+      return specialization; // shared and copied upon modification, see Cell
+    }
+    if (specialization instanceof CellExtension) {
+      return new P_CellExtensionKey((CellExtension) specialization); // not to be shared between cells
+    }
+    return null;
+  }
+
+  protected Object get(IColumnVector vector, int slot) {
+    return vector != null ? vector.get(slot) : null;
+  }
+
+  protected IColumnVector set(IColumnVector vector, int slot, Object value) {
+    if (vector == null) {
+      if (value == null) {
+        return null;
+      }
+      vector = createVector(value);
+    }
+    return vector.set(slot, value);
+  }
+
+  protected IColumnVector grow(IColumnVector vector) {
+    return vector != null ? vector.grow(m_capacity) : null;
+  }
+
+  protected IColumnVector createVector(Object firstValue) {
+    P_PrimitiveKind kind = P_PrimitiveKind.of(firstValue);
+    if (kind != null) {
+      return new P_PrimitiveVector(kind, m_capacity);
+    }
+    if (firstValue instanceof Date) {
+      return new P_ObjectVector(m_capacity); // mutable, must not be shared between cells
+    }
+    return new P_DictionaryVector(m_capacity);
+  }
+
+  /**
+   * Values of one column, indexed by slot.
+   */
+  protected interface IColumnVector {
+
+    Object get(int slot);
+
+    /**
+     * @return the vector which holds the value, which is another vector if the value could not be stored in this one.
+     */
+    IColumnVector set(int slot, Object value);
+
+    IColumnVector grow(int capacity);
+  }
+
+  protected enum P_PrimitiveKind {
+    LONG(Long.class),
+    INTEGER(Integer.class),
+    DOUBLE(Double.class),
+    BOOLEAN(Boolean.class);
+
+    private final Class<?> m_type;
+
+    P_PrimitiveKind(Class<?> type) {
+      m_type = type;
+    }
+
+    protected static P_PrimitiveKind of(Object value) {
+      for (P_PrimitiveKind kind : values()) {
+        if (kind.m_type == value.getClass()) {
+          return kind;
+        }
+      }
+      return null;
+    }
+
+    protected long toBits(Object value) {
+      switch (this) {
+        case LONG:
+          return (Long) value;
+        case INTEGER:
+          return (Integer) value;
+        case DOUBLE:
+          return Double.doubleToRawLongBits((Double) value);
+        default:
+          return ((Boolean) value) ? 1L : 0L;
+      }
+    }
+
+    protected Object fromBits(long bits) {
+      switch (this) {
+        case LONG:
+          return bits;
+        case INTEGER:
+          return (int) bits;
+        case DOUBLE:
+          return Double.longBitsToDouble(bits);
+        default:
+          return bits != 0L;
+      }
+    }
+  }
+
+  /**
+   * Stores values of one primitive wrapper type without boxing.
+   */
+  protected static class P_PrimitiveVector implements IColumnVector {
+
+    private final P_PrimitiveKind m_kind;
+    private final BitSet m_present;
+    private long[] m_bits;
+
+    protected P_PrimitiveVector(P_PrimitiveKind kind, int capacity) {
+      m_kind = kind;
+      m_present = new BitSet(capacity);
+      m_bits = new long[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_present.get(slot) ? m_kind.fromBits(m_bits[slot]) : null;
+    }
+
+    @Override
+    public IColumnVector set(int slot, Object value) {
+      if (value == null) {
+        m_present.clear(slot);
+        return this;
+      }
+      if (value.getClass() != m_kind.m_type) {
+        return toObjectVector().set(slot, value);
+      }
+      m_bits[slot] = m_kind.toBits(value);
+      m_present.set(slot);
+      return this;
+    }
+
+    @Override
+    public IColumnVector grow(int capacity) {
+      m_bits = Arrays.copyOf(m_bits, capacity);
+      return this;
+    }
+
+    protected IColumnVector toObjectVector() {
+      P_ObjectVector vector = new P_ObjectVector(m_bits.length);
+      for (int slot = m_present.nextSetBit(0); slot >= 0; slot = m_present.nextSetBit(slot + 1)) {
+        vector.set(slot, get(slot));
+      }
+      return vector;
+    }
+  }
+
+  /**
+   * Stores values as codes into a dictionary. Codes take one, two or four bytes depending on the dictionary size. Falls
+   * back to a {@link P_ObjectVector} once the dictionary grows too large to pay off.
+   */
+  protected static class P_DictionaryVector implements IColumnVector {
+
+    protected static final int MIN_DICTIONARY_SIZE_LIMIT = 1 << 8;
+
+    private final List<Object> m_entries;
+    private final Map<Object, Integer> m_codes;
+    private byte[] m_codes8;
+    private short[] m_codes16;
+    private int[] m_codes32;
+
+    protected P_DictionaryVector(int capacity) {
+      m_entries = new ArrayList<>();
+      m_entries.add(null); // code 0
+      m_codes = new HashMap<>();
+      m_codes8 = new byte[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_entries.get(getCode(slot));
+    }
+
+    @Override
+    public IColumnVector set(int slot, Object value) {
+      if (value == null) {
+        setCode(slot, 0);
+        return this;
+      }
+      Integer code = m_codes.get(value);
+      if (code == null) {
+        if (m_entries.size() > Math.max(MIN_DICTIONARY_SIZE_LIMIT, getCapacity() >> 2)) {
+          return toObjectVector().set(slot, value);
+        }
+        code = m_entries.size();
+        m_entries.add(value);
+        m_codes.put(value, code);
+      }
+      setCode(slot, code);
+      return this;
+    }
+
+    @Override
+    public IColumnVector grow(int capacity) {
+      if (m_codes8 != null) {
+        m_codes8 = Arrays.copyOf(m_codes8, capacity);
+      }
+      else if (m_codes16 != null) {
+        m_codes16 = Arrays.copyOf(m_codes16, capacity);
+      }
+      else {
+        m_codes32 = Arrays.copyOf(m_codes32, capacity);
+      }
+      return this;
+    }
+
+    protected int getCapacity() {
+      if (m_codes8 != null) {
+        return m_codes8.length;
+      }
+      return m_codes16 != null ? m_codes16.length : m_codes32.length;
+    }
+
+    protected int getCode(int slot) {
+      if (m_codes8 != null) {
+        return m_codes8[slot] & 0xff;
+      }
+      return m_codes16 != null ? m_codes16[slot] & 0xffff : m_codes32[slot];
+    }
+
+    protected void setCode(int slot, int code) {
+      if (m_codes8 != null && code > 0xff) {
+        m_codes16 = new short[m_codes8.length];
+        for (int i = 0; i < m_codes8.length; i++) {
+          m_codes16[i] = (short) (m_codes8[i] & 0xff);
+        }
+        m_codes8 = null;
+      }
+      if (m_codes16 != null && code > 0xffff) {
+        m_codes32 = new int[m_codes16.length];
+        for (int i = 0; i < m_codes16.length; i++) {
+          m_codes32[i] = m_codes16[i] & 0xffff;
+        }
+        m_codes16 = null;
+      }
+
+      if (m_codes8 != null) {
+        m_codes8[slot] = (byte) code;
+      }
+      else if (m_codes16 != null) {
+        m_codes16[slot] = (short) code;
+      }
+      else {
+        m_codes32[slot] = code;
+      }
+    }
+
+    protected IColumnVector toObjectVector() {
+      int capacity = getCapacity();
+      P_ObjectVector vector = new P_ObjectVector(capacity);
+      for (int slot = 0; slot < capacity; slot++) {
+        vector.set(slot, get(slot));
+      }
+      return vector;
+    }
+  }
+
+  /**
+   * Stores values as plain references.
+   */
+  protected static class P_ObjectVector implements IColumnVector {
+
+    private Object[] m_values;
+
+    protected P_ObjectVector(int capacity) {
+      m_values = new Object[capacity];
+    }
+
+    @Override
+    public Object get(int slot) {
+      return m_values[slot];
+    }
+
+    @Override
+    public IColumnVector set(int slot, Object value) {
+      m_values[slot] = value;
+      return this;
+    }
+
+    @Override
+    public IColumnVector grow(int capacity) {
+      m_values = Arrays.copyOf(m_values, capacity);
+      return this;
+    }
+  }
+
+  /**
+   * Content of a {@link CellExtension}. Used as dictionary entry instead of the extension itself because extensions are
+   * modified in place and must therefore not be shared between cells.
+   */
+  protected static class P_CellExtensionKey {
+
+    private final CellStyle m_cellStyle;
+    private final String m_tooltipText;
+    private final boolean m_editable;
+    private final boolean m_mandatory;
+
+    protected P_CellExtensionKey(CellExtension extension) {
+      m_cellStyle = extension.getCellStyle();
+      m_tooltipText = extension.getTooltipText();
+      m_editable = extension.isEditable();
+      m_mandatory = extension.isMandatory();
+    }
+
+    protected CellExtension createCellExtension() {
+      CellExtension extension = new CellExtension(m_cellStyle);
+      extension.setTooltipText(m_tooltipText);
+      extension.setEditable(m_editable);
+      extension.setMandatory(m_mandatory);
+      return extension;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(m_cellStyle, m_tooltipText, m_editable, m_mandatory);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_CellExtensionKey other = (P_CellExtensionKey) obj;
+      return m_editable == other.m_editable
+          && m_mandatory == other.m_mandatory
+          && ObjectUtility.equals(m_cellStyle, other.m_cellStyle)
+          && ObjectUtility.equals(m_tooltipText, other.m_tooltipText);
+    }
+  }
+}
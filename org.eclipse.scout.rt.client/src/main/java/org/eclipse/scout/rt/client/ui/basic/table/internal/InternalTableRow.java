@@ -40,6 +40,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   private ITable m_table;
   private int m_rowIndex;
   private int m_rowChanging = 0;
+  private ColumnarCellStorage m_cellStorage;
+  private int m_storageSlot = -1;
 
   public InternalTableRow(ITable table) {
     super(table.getColumnSet());
@@ -156,6 +158,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   @Override
   public int getCellCount() {
+    if (m_cellStorage != null) {
+      return m_cellStorage.getColumnCount();
+    }
     return m_cells.size();
   }
 
@@ -166,6 +171,9 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   @Override
   public ICell getCell(int columnIndex) {
+    if (isStoredCell(columnIndex)) {
+      return m_cellStorage.createCell(m_storageSlot, columnIndex, null);
+    }
     return getCellForUpdate(columnIndex);
   }
 
@@ -181,6 +189,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
         setRowChanging(true);
         //
         // copy all fields
+        materializeCell(columnIndex);
         m_cells.set(columnIndex, new Cell(this, cell));
       }
       finally {
@@ -196,17 +205,121 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   @Override
   public Cell getCellForUpdate(int columnIndex) {
-    if (columnIndex < 0 || columnIndex >= m_cells.size()) {
+    if (columnIndex < 0 || columnIndex >= getCellCount()) {
       return new Cell();
     }
+    if (m_cellStorage != null) {
+      return materializeCell(columnIndex);
+    }
     return m_cells.get(columnIndex);
   }
 
   @Override
   public Object getCellValue(int columnIndex) {
+    if (isStoredCell(columnIndex)) {
+      return m_cellStorage.getValue(m_storageSlot, columnIndex);
+    }
     return getCell(columnIndex).getValue();
   }
 
+  /**
+   * @return <code>true</code> if the cell at the given index is held by the {@link ColumnarCellStorage} and not
+   *         materialized as {@link Cell}.
+   */
+  protected boolean isStoredCell(int columnIndex) {
+    return m_cellStorage != null
+        && columnIndex >= 0
+        && columnIndex < m_cellStorage.getColumnCount()
+        && (m_cells.isEmpty() || m_cells.get(columnIndex) == null);
+  }
+
+  /**
+   * Returns the {@link Cell} at the given index, which is created from the {@link ColumnarCellStorage} if not
+   * materialized yet. The cell is moved back into the storage once the table is no longer changing.
+   */
+  protected Cell materializeCell(int columnIndex) {
+    if (m_cellStorage == null) {
+      return m_cells.get(columnIndex);
+    }
+    if (m_cells.isEmpty()) {
+      m_cells.addAll(Collections.nCopies(m_cellStorage.getColumnCount(), null));
+    }
+    Cell cell = m_cells.get(columnIndex);
+    if (cell == null) {
+      cell = m_cellStorage.createCell(m_storageSlot, columnIndex, this);
+      m_cells.set(columnIndex, cell);
+      m_cellStorage.markMaterialized(this);
+    }
+    return cell;
+  }
+
+  /**
+   * Materializes all cells held by the {@link ColumnarCellStorage}.
+   */
+  protected void materializeCells() {
+    if (m_cellStorage == null) {
+      return;
+    }
+    for (int i = 0; i < m_cellStorage.getColumnCount(); i++) {
+      materializeCell(i);
+    }
+  }
+
+  /**
+   * do not use this internal method
+   * <p>
+   * Moves the cells of this row into the given storage, or materializes all cells if <code>null</code>.
+   */
+  public void setCellStorageInternal(ColumnarCellStorage cellStorage) {
+    materializeCells();
+    if (cellStorage != null && cellStorage.getColumnCount() != m_cells.size()) {
+      cellStorage = null; // row does not match the columns of the table
+    }
+    m_cellStorage = cellStorage;
+    m_storageSlot = (cellStorage != null ? cellStorage.allocateSlot() : -1);
+    if (cellStorage != null) {
+      cellStorage.markMaterialized(this);
+    }
+  }
+
+  public ColumnarCellStorage getCellStorage() {
+    return m_cellStorage;
+  }
+
+  /**
+   * do not use this internal method
+   * <p>
+   * Moves materialized cells back into the {@link ColumnarCellStorage}. Cells which cannot be stored, e.g. because of an
+   * error status, remain materialized.
+   */
+  public void compactCellsInternal() {
+    if (m_cellStorage == null || m_cells.isEmpty()) {
+      return;
+    }
+    if (isRowChanging() || !m_updatedCells.isEmpty()) {
+      m_cellStorage.markMaterialized(this); // try again later
+      return;
+    }
+    boolean allStored = true;
+    for (int i = 0; i < m_cells.size(); i++) {
+      Cell cell = m_cells.get(i);
+      if (cell != null) {
+        if (m_cellStorage.store(m_storageSlot, i, cell, this)) {
+          m_cells.set(i, null);
+        }
+        else {
+          allStored = false;
+        }
+      }
+    }
+    if (allStored) {
+      m_cells.clear();
+      if (m_cells instanceof ArrayList) {
+        ((ArrayList<Cell>) m_cells).trimToSize();
+      }
+    }
+  }
+
   @Override
   public List<Object> getKeyValues() {
     if (getTable() == null) {
@@ -216,7 +329,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     int[] keyColumns = columnSet.getKeyColumnCount() > 0 ? columnSet.getKeyColumnIndexes() : columnSet.getAllColumnIndexes();
     List<Object> pk = new ArrayList<>(keyColumns.length);
     for (int keyIndex : keyColumns) {
-      pk.add(getCell(keyIndex).getValue());
+      pk.add(getCellValue(keyIndex));
     }
     return pk;
   }
@@ -227,7 +340,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     if (getTable() != null) {
       int[] keyColumns = getTable().getColumnSet().getParentKeyColumnIndexes();
       for (int keyIndex : keyColumns) {
-        pk.add(getCell(keyIndex).getValue());
+        pk.add(getCellValue(keyIndex));
       }
     }
     return pk;
@@ -308,8 +421,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setBackgroundColor(c);
+      for (int i = 0; i < getCellCount(); i++) {
+        getCellForUpdate(i).setBackgroundColor(c);
       }
     }
     finally {
@@ -322,8 +435,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setForegroundColor(c);
+      for (int i = 0; i < getCellCount(); i++) {
+        getCellForUpdate(i).setForegroundColor(c);
       }
     }
     finally {
@@ -335,6 +448,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
   public void setCssClass(String cssClass) {
     try {
       setRowChanging(true);
+      materializeCells();
       super.setCssClass(cssClass);
     }
     finally {
@@ -347,8 +461,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setFont(f);
+      for (int i = 0; i < getCellCount(); i++) {
+        getCellForUpdate(i).setFont(f);
       }
     }
     finally {
@@ -361,8 +475,8 @@ public class InternalTableRow extends TableRow implements ICellObserver {
     try {
       setRowChanging(true);
       //
-      for (Cell cell : m_cells) {
-        cell.setTooltipText(s);
+      for (int i = 0; i < getCellCount(); i++) {
+        getCellForUpdate(i).setTooltipText(s);
       }
     }
     finally {
@@ -428,7 +542,7 @@ public class InternalTableRow extends TableRow implements ICellObserver {
       if (getTable() != null) {
         int colIndex = -1;
         for (int i = 0; i < m_cells.size(); i++) {
-          if (getCell(i) == cell) {
+          if (m_cells.get(i) == cell) {
             colIndex = i;
             break;
           }
@@ -523,6 +637,10 @@ public class InternalTableRow extends TableRow implements ICellObserver {
 
   @Override
   public String toString() {
-    return getClass().getSimpleName() + "[" + VerboseUtility.dumpObjects(m_cells.toArray()) + "]";
+    Object[] cells = new Object[getCellCount()];
+    for (int i = 0; i < cells.length; i++) {
+      cells[i] = getCell(i);
+    }
+    return getClass().getSimpleName() + "[" + VerboseUtility.dumpObjects(cells) + "]";
   }
 }
@@ -34,8 +34,10 @@ import org.eclipse.scout.rt.client.ui.basic.cell.ICell;
 import org.eclipse.scout.rt.client.ui.basic.table.AbstractTable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITable;
 import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRowDataMapper;
 import org.eclipse.scout.rt.client.ui.basic.table.TableAdapter;
 import org.eclipse.scout.rt.client.ui.basic.table.TableEvent;
+import org.eclipse.scout.rt.client.ui.basic.table.TableRow;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.AggregateTableControl;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.SearchFormTableControl;
@@ -66,6 +68,7 @@ import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.data.basic.table.AbstractTableRowData;
 import org.eclipse.scout.rt.shared.data.page.AbstractTablePageData;
 import org.eclipse.scout.rt.shared.dimension.IDimensions;
 import org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter;
@@ -84,6 +87,10 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
 
   private ISearchForm m_searchForm;
   private FormListener m_searchFormListener;
+  private int m_pageSize;
+  private long m_loadedRowCount;
+  private Object[] m_nextPageKeyset;
+  private boolean m_loadingNextPage;
 
   public AbstractPageWithTable() {
     this(true, null);
@@ -202,6 +209,22 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     return false;
   }
 
+  /**
+   * Configures the maximum number of rows loaded at once. If &gt; 0, the {@link SearchFilter} given to
+   * {@link #execLoadData(SearchFilter)} requests a single page of rows (see {@link SearchFilter#getPageSize()}). If
+   * the data provider reports a limited result, the next page is loaded on demand and appended to the table, see
+   * {@link #loadNextPage()}.
+   * <p>
+   * Subclasses can override this method. Default is 0 (all rows are loaded at once).
+   *
+   * @since 24.1
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(150)
+  protected int getConfiguredPageSize() {
+    return 0;
+  }
+
   /**
    * Fetches data and loads them into the page's table.
    * <p/>
@@ -259,12 +282,12 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
         // create a copy of the filter, just in case the subprocess is modifying
         // or extending the filter
         filter = filter.copy();
-        interceptLoadData(filter);
+        interceptLoadData(preparePagedSearchFilter(filter));
       }
     }
     else {
       // searchFilter should never be null
-      interceptLoadData(new SearchFilter());
+      interceptLoadData(preparePagedSearchFilter(new SearchFilter()));
     }
     //update table data status
     if (isSearchActive() && getSearchFilter() != null && (!getSearchFilter().isCompleted()) && isSearchRequired()) {
@@ -366,6 +389,7 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     setSearchActive(true);
     setSearchRequired(getConfiguredSearchRequired());
     setAlwaysCreateChildPage(getConfiguredAlwaysCreateChildPage());
+    setPageSize(getConfiguredPageSize());
   }
 
   @Override
@@ -680,6 +704,89 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     }
   }
 
+  @Override
+  public int getPageSize() {
+    return m_pageSize;
+  }
+
+  @Override
+  public void setPageSize(int pageSize) {
+    m_pageSize = pageSize;
+  }
+
+  @Override
+  public boolean hasNextPage() {
+    return getPageSize() > 0 && isLimitedResult();
+  }
+
+  @Override
+  public void loadNextPage() {
+    T table = getTable();
+    if (table == null || !hasNextPage()) {
+      return;
+    }
+    SearchFilter filter = isSearchActive() ? getSearchFilter().copy() : new SearchFilter();
+    filter = preparePagedSearchFilter(filter);
+    m_loadingNextPage = true;
+    try {
+      table.setTableChanging(true);
+      interceptLoadData(filter);
+    }
+    finally {
+      m_loadingNextPage = false;
+      table.setTableChanging(false);
+    }
+    setTableStatus(createPopulateTableStatus());
+  }
+
+  /**
+   * Requests the next page of rows with the given filter, if this page is paged.
+   *
+   * @since 24.1
+   */
+  protected SearchFilter preparePagedSearchFilter(SearchFilter filter) {
+    if (getPageSize() > 0) {
+      filter.setPageSize(getPageSize());
+      filter.setPageOffset(m_loadedRowCount);
+      filter.setPageKeyset(m_nextPageKeyset);
+    }
+    return filter;
+  }
+
+  /**
+   * Resets the paging state before the first page is loaded.
+   */
+  protected void resetPaging() {
+    m_loadedRowCount = 0;
+    m_nextPageKeyset = null;
+    m_flags = FLAGS_BIT_HELPER.changeBit(LIMITED_RESULT, false, m_flags);
+  }
+
+  /**
+   * Updates the paging state after rows have been imported.
+   */
+  protected void updatePaging(long importedRowCount, boolean limitedResult, Object[] nextPageKeyset) {
+    m_loadedRowCount = (m_loadingNextPage ? m_loadedRowCount : 0) + importedRowCount;
+    m_nextPageKeyset = nextPageKeyset;
+    m_flags = FLAGS_BIT_HELPER.changeBit(LIMITED_RESULT, limitedResult, m_flags);
+    T table = getTable();
+    if (table != null) {
+      table.setMoreRowsAvailable(hasNextPage());
+    }
+  }
+
+  /**
+   * Loads the next page if requested by {@link IReloadReason#NEXT_PAGE}, otherwise reloads the page.
+   */
+  @Override
+  protected void execReloadPage(String reloadReason) {
+    if (IReloadReason.NEXT_PAGE.equals(reloadReason)) {
+      loadNextPage();
+      return;
+    }
+    super.execReloadPage(reloadReason);
+  }
+
   /**
    * Indicates if the result displayed in the table is the whole result or if there is more data in the server (that
    * wasn't sent to the client). Is set if {@link #importPageData(AbstractTablePageData)} was used.
@@ -730,8 +837,13 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
       return;
     }
 
-    table.importFromTableBeanData(tablePageData);
-    m_flags = FLAGS_BIT_HELPER.changeBit(LIMITED_RESULT, tablePageData.isLimitedResult(), m_flags);
+    if (m_loadingNextPage) {
+      appendPageData(table, tablePageData);
+    }
+    else {
+      table.importFromTableBeanData(tablePageData);
+    }
+    updatePaging(tablePageData.getRowCount(), tablePageData.isLimitedResult(), tablePageData.getNextPageKeyset());
     table.setEstimatedRowCount(tablePageData.getEstimatedRowCount());
     table.setMaxRowCount(tablePageData.getMaxRowCount());
   }
@@ -748,7 +860,33 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
     if (table == null) {
       return;
     }
-    table.replaceRowsByMatrix(new AtomicReference<Object>(data));
+    int rowCount = data != null ? data.length : 0;
+    if (m_loadingNextPage) {
+      table.addRowsByMatrix(new AtomicReference<Object>(data), ITableRow.STATUS_NON_CHANGED);
+    }
+    else {
+      table.replaceRowsByMatrix(new AtomicReference<Object>(data));
+    }
+    // without page data, a full page indicates that there might be a next page
+    updatePaging(rowCount, getPageSize() > 0 && rowCount >= getPageSize(), null);
+  }
+
+  /**
+   * Adds the rows of the next page to the table.
+   *
+   * @since 24.1
+   */
+  protected void appendPageData(T table, AbstractTablePageData tablePageData) {
+    ITableRowDataMapper mapper = table.createTableRowDataMapper(tablePageData.getRowType());
+    List<ITableRow> newRows = new ArrayList<>(tablePageData.getRowCount());
+    for (AbstractTableRowData rowData : tablePageData.getRows()) {
+      if (rowData.getRowState() != AbstractTableRowData.STATUS_DELETED && mapper.acceptImport(rowData)) {
+        ITableRow newRow = new TableRow(table.getColumnSet());
+        mapper.importTableRowData(newRow, rowData);
+        newRows.add(newRow);
+      }
+    }
+    table.addRows(newRows);
   }
 
   /**
@@ -764,6 +902,7 @@ public abstract class AbstractPageWithTable<T extends ITable> extends AbstractPa
       table.setTableChanging(true);
       ensureSearchFormCreated();
       ensureSearchFormStarted();
+      resetPaging();
       interceptPopulateTable();
     }
     catch (ThreadInterruptedError | FutureCancelledError e) {
@@ -58,6 +58,32 @@ public interface IPageWithTable<T extends ITable> extends IPage<T> {
    */
   void setAlwaysCreateChildPage(boolean autoCreateLeafPage);
 
+  /**
+   * @return maximum number of rows loaded at once, 0 if all rows are loaded at once. If the data provider reports a
+   *         limited result, further pages are loaded on demand using {@link #loadNextPage()}.
+   * @see SearchFilter#getPageSize()
+   * @since 24.1
+   */
+  int getPageSize();
+
+  /**
+   * @since 24.1
+   */
+  void setPageSize(int pageSize);
+
+  /**
+   * @return <code>true</code> if this page is paged and the data provider reported more rows than loaded so far
+   * @since 24.1
+   */
+  boolean hasNextPage();
+
+  /**
+   * Loads the next page of rows and appends them to the table. Has no effect if there is no next page.
+   *
+   * @since 24.1
+   */
+  void loadNextPage();
+
   /**
    * Convenience for getting the search filter from the page's search form
    *
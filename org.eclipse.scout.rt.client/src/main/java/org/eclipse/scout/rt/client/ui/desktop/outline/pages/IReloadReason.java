@@ -36,6 +36,11 @@ public interface IReloadReason {
    */
   String RESET_ROW_LIMIT = "resetRowLimit";
 
+  /**
+   * The user requested the next page of rows of a paged table page, see {@link IPageWithTable#getPageSize()}
+   */
+  String NEXT_PAGE = "nextPage";
+
   /**
    * The column structure of the table was changed
    */
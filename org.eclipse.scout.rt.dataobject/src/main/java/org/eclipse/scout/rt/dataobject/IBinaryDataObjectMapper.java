@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.dataobject;
+
+/**
+ * Interface to a data mapper using a binary encoding instead of JSON text. The same data object structure, type names
+ * and type versions are used as for {@link IDataObjectMapper}, hence a data object serialized by one mapper and read
+ * back by the other one is equal to the original.
+ * <p>
+ * The string based methods {@link #writeValue(Object)}, {@link #readValue(String, Class)} and
+ * {@link #readValueRaw(String)} use the Base64 representation of the binary encoding.
+ *
+ * @see IDataObjectMapper
+ * @since 24.1
+ */
+public interface IBinaryDataObjectMapper extends IDataObjectMapper {
+
+  /**
+   * @return content type (e.g. used as HTTP media type) of the binary encoding
+   */
+  String getContentType();
+
+  /**
+   * Serializes a data object into its binary representation.
+   */
+  byte[] writeValueAsBytes(Object value);
+
+  /**
+   * Deserialize a binary value into a data object.
+   */
+  <T> T readValue(byte[] value, Class<T> valueType);
+
+  /**
+   * Deserialize a binary value into a generic {@link IDataObject} object tree ignoring any available type attributes.
+   */
+  IDataObject readValueRaw(byte[] value);
+}
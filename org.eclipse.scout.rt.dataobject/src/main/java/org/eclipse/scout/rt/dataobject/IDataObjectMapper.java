@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.dataobject;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.platform.Bean;
 
@@ -46,6 +48,24 @@ public interface IDataObjectMapper {
    */
   IDataObject readValueRaw(String value);
 
+  /**
+   * Deserialize a sequence of data objects from the input stream. The input is either a JSON array or a sequence of
+   * root-level values (e.g. newline-delimited JSON). The values are read lazily while the returned stream is consumed.
+   * <p>
+   * The returned stream must be closed, which closes the input stream too.
+   *
+   * @since 24.1
+   */
+  <T> Stream<T> readValues(InputStream inputStream, Class<T> valueType);
+
+  /**
+   * Same as {@link #readValues(InputStream, Class)} but deserializes each value into a generic {@link IDataObject}
+   * object tree ignoring any available type attributes.
+   *
+   * @since 24.1
+   */
+  Stream<IDataObject> readValuesRaw(InputStream inputStream);
+
   /**
    * Serializes a data object into the given output stream.
    */
@@ -55,4 +75,20 @@ public interface IDataObjectMapper {
    * Serializes a data object into its string representation.
    */
   String writeValue(Object value);
+
+  /**
+   * Serializes the values into the given output stream as JSON array. The values are serialized one by one while the
+   * iterator is consumed. The output stream is closed afterwards.
+   *
+   * @since 24.1
+   */
+  void writeValues(OutputStream outputStream, Iterator<?> values);
+
+  /**
+   * Serializes the values into the given output stream as newline-delimited JSON, i.e. each value on its own line. The
+   * values are serialized one by one while the iterator is consumed. The output stream is closed afterwards.
+   *
+   * @since 24.1
+   */
+  void writeValuesLineDelimited(OutputStream outputStream, Iterator<?> values);
 }
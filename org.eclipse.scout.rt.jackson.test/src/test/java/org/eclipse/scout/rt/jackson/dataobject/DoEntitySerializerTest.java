@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.dataobject.DataObjectInventory;
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan.Attribute;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestDoMapStringDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.type.TypeFactory;
+
+/**
+ * Tests for the {@link DoEntitySerializationPlan} handling of {@link DoEntitySerializer}.
+ */
+public class DoEntitySerializerTest {
+
+  private ScoutDataObjectModuleContext m_context;
+
+  @Before
+  public void before() {
+    m_context = BEANS.get(ScoutDataObjectModule.class).getModuleContext();
+  }
+
+  @Test
+  public void testSerializationPlanCached() {
+    DoEntitySerializer serializer = createSerializer(TestItemDo.class);
+    TestItemDo item1 = BEANS.get(TestItemDo.class).withStringAttribute("a").withId("1");
+    TestItemDo item2 = BEANS.get(TestItemDo.class).withId("2").withStringAttribute("b");
+    TestItemDo item3 = BEANS.get(TestItemDo.class).withId("3");
+
+    DoEntitySerializationPlan plan1 = getSerializationPlan(serializer, item1);
+    assertSame(plan1, getSerializationPlan(serializer, item2));
+    assertEquals(List.of("id", "stringAttribute"), getAttributeNames(plan1));
+    assertNull(plan1.getTypeVersion());
+
+    DoEntitySerializationPlan plan3 = getSerializationPlan(serializer, item3);
+    assertNotSame(plan1, plan3);
+    assertEquals(List.of("id"), getAttributeNames(plan3));
+    assertSame(plan3, getSerializationPlan(serializer, item3));
+  }
+
+  @Test
+  public void testSerializationPlanAttributeTypes() {
+    DoEntitySerializer serializer = createSerializer(TestItemDo.class);
+    TestItemDo item = BEANS.get(TestItemDo.class).withId("1");
+    item.put("unknown", "value");
+
+    DoEntitySerializationPlan plan = getSerializationPlan(serializer, item);
+    assertEquals(List.of("id", "unknown"), getAttributeNames(plan));
+    assertEquals(String.class, plan.getAttributes().get(0).getType().getJavaType().getRawClass());
+    assertNull(plan.getAttributes().get(1).getType());
+  }
+
+  @Test
+  public void testSerializationPlanTypeVersion() {
+    DoEntitySerializer serializer = createSerializer(TestDoMapStringDo.class);
+    TestDoMapStringDo entity = BEANS.get(TestDoMapStringDo.class).withCount(1);
+
+    DoEntitySerializationPlan plan = getSerializationPlan(serializer, entity);
+    assertNotNull(plan.getTypeVersion());
+    assertEquals(BEANS.get(DataObjectInventory.class).getTypeVersion(TestDoMapStringDo.class), plan.getTypeVersion());
+  }
+
+  @Test
+  public void testSerializationPlanCacheLimit() {
+    DoEntitySerializer serializer = createSerializer(DoEntity.class);
+    for (int i = 0; i < DoEntitySerializer.MAX_SERIALIZATION_PLANS * 2; i++) {
+      DoEntity entity = BEANS.get(DoEntity.class);
+      entity.put("attribute" + i, "value");
+      DoEntitySerializationPlan plan = getSerializationPlan(serializer, entity);
+      assertEquals(List.of("attribute" + i), getAttributeNames(plan));
+    }
+    assertEquals(DoEntitySerializer.MAX_SERIALIZATION_PLANS, serializer.m_serializationPlans.size());
+  }
+
+  @Test
+  public void testSerializeDifferentAttributeSets() {
+    IDataObjectMapper mapper = BEANS.get(IDataObjectMapper.class);
+    assertEquals("{\"_type\":\"TestItem\",\"id\":\"1\",\"stringAttribute\":\"a\"}", mapper.writeValue(BEANS.get(TestItemDo.class).withStringAttribute("a").withId("1")));
+    assertEquals("{\"_type\":\"TestItem\",\"id\":\"2\"}", mapper.writeValue(BEANS.get(TestItemDo.class).withId("2")));
+    assertEquals("{\"_type\":\"TestItem\",\"id\":\"3\",\"stringAttribute\":\"c\"}", mapper.writeValue(BEANS.get(TestItemDo.class).withId("3").withStringAttribute("c")));
+
+    DoEntity raw = BEANS.get(DoEntity.class);
+    raw.put("zulu", 1);
+    raw.put("alfa", 2);
+    assertEquals("{\"alfa\":2,\"zulu\":1}", mapper.writeValue(raw));
+  }
+
+  protected DoEntitySerializer createSerializer(Class<? extends IDoEntity> entityClass) {
+    return new DoEntitySerializer(m_context, TypeFactory.defaultInstance().constructType(entityClass));
+  }
+
+  protected DoEntitySerializationPlan getSerializationPlan(DoEntitySerializer serializer, IDoEntity entity) {
+    return serializer.getSerializationPlan(entity, entity.allNodes().keySet());
+  }
+
+  protected List<String> getAttributeNames(DoEntitySerializationPlan plan) {
+    return plan.getAttributes().stream()
+        .map(Attribute::getName)
+        .collect(Collectors.toList());
+  }
+}
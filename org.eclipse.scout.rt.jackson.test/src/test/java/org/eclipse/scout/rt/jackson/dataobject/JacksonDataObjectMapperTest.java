@@ -18,8 +18,11 @@ import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -27,11 +30,13 @@ import java.util.UUID;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.eclipse.scout.rt.dataobject.DataObjectHelper;
 import org.eclipse.scout.rt.dataobject.DoEntity;
 import org.eclipse.scout.rt.dataobject.DoEntityBuilder;
 import org.eclipse.scout.rt.dataobject.DoEntityHolder;
+import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.testing.TestingDataObjectHelper;
@@ -41,6 +46,8 @@ import org.eclipse.scout.rt.jackson.dataobject.fixture.ITestBaseEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestCustomImplementedEntityDo;
 import org.eclipse.scout.rt.jackson.dataobject.fixture.TestEntityWithInterface1Do;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemContributionOneDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
 import org.eclipse.scout.rt.jackson.testing.DataObjectSerializationTestHelper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
@@ -401,4 +408,88 @@ public class JacksonDataObjectMapperTest {
     StreamWriteConstraints constraints = BEANS.get(StreamWriteConstraintsConfigProperty.class).parse(Map.of(StreamReadConstraintsConfigProperty.MAX_NESTING_DEPTH, "1"));
     assertEquals(1, constraints.getMaxNestingDepth());
   }
+
+  @Test
+  public void testReadValuesArray() {
+    String json = "[{\"_type\":\"TestItem\",\"id\":\"1\"},{\"_type\":\"TestItem\",\"id\":\"2\"}]";
+    try (Stream<IDoEntity> stream = m_mapper.readValues(toInputStream(json), IDoEntity.class)) {
+      List<IDoEntity> entities = stream.collect(Collectors.toList());
+      assertEquals(2, entities.size());
+      assertEquals("1", ((TestItemDo) entities.get(0)).getId());
+      assertEquals("2", ((TestItemDo) entities.get(1)).getId());
+    }
+  }
+
+  @Test
+  public void testReadValuesLineDelimited() {
+    String json = "{\"_type\":\"TestItem\",\"id\":\"1\"}\n{\"_type\":\"TestItem\",\"id\":\"2\",\"_contributions\":[{\"_type\":\"scout.TestItemContributionOne\",\"name\":\"two\"}]}\n";
+    try (Stream<TestItemDo> stream = m_mapper.readValues(toInputStream(json), TestItemDo.class)) {
+      List<TestItemDo> items = stream.collect(Collectors.toList());
+      assertEquals(2, items.size());
+      assertEquals("1", items.get(0).getId());
+      assertFalse(items.get(0).hasContributions());
+      assertEquals("two", items.get(1).getContribution(TestItemContributionOneDo.class).getName());
+    }
+  }
+
+  @Test
+  public void testReadValuesLazy() {
+    String json = "[{\"_type\":\"TestItem\",\"id\":\"1\"},{\"_type\":\"TestItem\",\"id\":\"2\"},invalid]";
+    try (Stream<TestItemDo> stream = m_mapper.readValues(toInputStream(json), TestItemDo.class)) {
+      Iterator<TestItemDo> iterator = stream.iterator();
+      assertEquals("1", iterator.next().getId());
+      assertEquals("2", iterator.next().getId());
+      assertThrows(PlatformException.class, iterator::hasNext);
+    }
+  }
+
+  @Test
+  public void testReadValuesRaw() {
+    String json = "[{\"_type\":\"TestItem\",\"id\":\"1\"},{\"_type\":\"TestItem\",\"id\":\"2\"}]";
+    try (Stream<IDataObject> stream = m_mapper.readValuesRaw(toInputStream(json))) {
+      List<IDataObject> dataObjects = stream.collect(Collectors.toList());
+      assertEquals(2, dataObjects.size());
+      assertEquals(DoEntity.class, dataObjects.get(0).getClass());
+      assertEquals("2", ((IDoEntity) dataObjects.get(1)).getString("id"));
+    }
+  }
+
+  @Test
+  public void testWriteValues() {
+    List<TestItemDo> items = IntStream.range(0, 3)
+        .mapToObj(i -> BEANS.get(TestItemDo.class).withId(String.valueOf(i)))
+        .collect(Collectors.toList());
+    items.get(1).contribution(TestItemContributionOneDo.class).withName("one");
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    m_mapper.writeValues(out, items.iterator());
+    String json = out.toString(StandardCharsets.UTF_8);
+    assertEquals(items.stream().map(m_mapper::writeValue).collect(Collectors.joining(",", "[", "]")), json);
+    try (Stream<TestItemDo> stream = m_mapper.readValues(toInputStream(json), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+
+    out = new ByteArrayOutputStream();
+    m_mapper.writeValues(out, Collections.emptyIterator());
+    assertEquals("[]", out.toString(StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void testWriteValuesLineDelimited() {
+    List<TestItemDo> items = IntStream.range(0, 3)
+        .mapToObj(i -> BEANS.get(TestItemDo.class).withId(String.valueOf(i)))
+        .collect(Collectors.toList());
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BEANS.get(JacksonPrettyPrintDataObjectMapper.class).writeValuesLineDelimited(out, items.iterator());
+    String json = out.toString(StandardCharsets.UTF_8);
+    assertEquals("{\"_type\":\"TestItem\",\"id\":\"0\"}\n{\"_type\":\"TestItem\",\"id\":\"1\"}\n{\"_type\":\"TestItem\",\"id\":\"2\"}\n", json);
+    try (Stream<TestItemDo> stream = m_mapper.readValues(toInputStream(json), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+  }
+
+  protected InputStream toInputStream(String json) {
+    return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+  }
 }
@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestBinaryDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestComplexEntityDo;
+import org.eclipse.scout.rt.jackson.dataobject.fixture.TestItemDo;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link JacksonSmileDataObjectMapper} comparing the binary encoding with the JSON encoding of
+ * {@link JacksonDataObjectMapper}.
+ */
+public class JacksonSmileDataObjectMapperTest {
+
+  private JacksonSmileDataObjectMapper m_mapper;
+  private IDataObjectMapper m_jsonMapper;
+
+  @Before
+  public void before() {
+    m_mapper = BEANS.get(JacksonSmileDataObjectMapper.class);
+    m_jsonMapper = BEANS.get(IDataObjectMapper.class);
+  }
+
+  @Test
+  public void testBeans() {
+    assertSame(JacksonDataObjectMapper.class, m_jsonMapper.getClass());
+    assertSame(JacksonSmileDataObjectMapper.class, BEANS.get(IBinaryDataObjectMapper.class).getClass());
+    assertEquals(JacksonSmileDataObjectMapper.CONTENT_TYPE, m_mapper.getContentType());
+  }
+
+  @Test
+  public void testNull() {
+    assertNull(m_mapper.writeValueAsBytes(null));
+    assertNull(m_mapper.writeValue(null));
+    assertNull(m_mapper.readValue((byte[]) null, IDataObject.class));
+    assertNull(m_mapper.readValue((String) null, IDataObject.class));
+    assertNull(m_mapper.readValueRaw((byte[]) null));
+    assertNull(m_mapper.readValueRaw((String) null));
+  }
+
+  @Test
+  public void testRoundTrip() {
+    TestComplexEntityDo entity = createComplexEntity();
+    byte[] smile = m_mapper.writeValueAsBytes(entity);
+
+    // Smile header ':)\n'
+    assertEquals(':', smile[0]);
+    assertEquals(')', smile[1]);
+    assertEquals('\n', smile[2]);
+
+    TestComplexEntityDo parsedEntity = m_mapper.readValue(smile, TestComplexEntityDo.class);
+    assertEquals(entity, parsedEntity);
+    assertEquals(m_jsonMapper.readValue(m_jsonMapper.writeValue(entity), TestComplexEntityDo.class), parsedEntity);
+    assertEquals(m_jsonMapper.writeValue(entity), m_jsonMapper.writeValue(parsedEntity));
+    assertTrue(smile.length < m_jsonMapper.writeValue(entity).getBytes(StandardCharsets.UTF_8).length);
+  }
+
+  @Test
+  public void testRoundTripPolymorphic() {
+    // value type is resolved using the type name, as for JSON
+    TestComplexEntityDo entity = createComplexEntity();
+    IDataObject parsedEntity = m_mapper.readValue(m_mapper.writeValueAsBytes(entity), IDataObject.class);
+    assertEquals(TestComplexEntityDo.class, parsedEntity.getClass());
+    assertEquals(entity, parsedEntity);
+  }
+
+  @Test
+  public void testRoundTripBinary() {
+    TestBinaryDo entity = BEANS.get(TestBinaryDo.class).withContent(new byte[]{0, 1, 2, (byte) 0xff});
+    TestBinaryDo parsedEntity = m_mapper.readValue(m_mapper.writeValueAsBytes(entity), TestBinaryDo.class);
+    assertArrayEquals(entity.getContent(), parsedEntity.getContent());
+    assertEquals(m_jsonMapper.writeValue(entity), m_jsonMapper.writeValue(parsedEntity));
+  }
+
+  @Test
+  public void testReadValueRaw() {
+    TestItemDo item = BEANS.get(TestItemDo.class).withId("1").withStringAttribute("foo");
+    IDataObject raw = m_mapper.readValueRaw(m_mapper.writeValueAsBytes(item));
+    assertEquals(DoEntity.class, raw.getClass());
+    assertEquals(m_jsonMapper.readValueRaw(m_jsonMapper.writeValue(item)), raw);
+  }
+
+  @Test
+  public void testReadWriteValueBase64() {
+    TestComplexEntityDo entity = createComplexEntity();
+    String value = m_mapper.writeValue(entity);
+    assertNotNull(value);
+    assertEquals(entity, m_mapper.readValue(value, TestComplexEntityDo.class));
+    assertEquals(m_jsonMapper.readValueRaw(m_jsonMapper.writeValue(BEANS.get(TestItemDo.class).withId("1"))),
+        m_mapper.readValueRaw(m_mapper.writeValue(BEANS.get(TestItemDo.class).withId("1"))));
+  }
+
+  @Test
+  public void testReadWriteValueWithStreams() {
+    TestComplexEntityDo entity = createComplexEntity();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValue(bos, entity);
+    assertArrayEquals(m_mapper.writeValueAsBytes(entity), bos.toByteArray());
+    assertEquals(entity, m_mapper.readValue(new ByteArrayInputStream(bos.toByteArray()), TestComplexEntityDo.class));
+  }
+
+  @Test
+  public void testWriteValues() {
+    List<TestItemDo> items = createItems();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValues(bos, items.iterator());
+    try (Stream<TestItemDo> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  public void testWriteValuesSequence() {
+    List<TestItemDo> items = createItems();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    m_mapper.writeValuesLineDelimited(bos, items.iterator());
+    try (Stream<TestItemDo> stream = m_mapper.readValues(new ByteArrayInputStream(bos.toByteArray()), TestItemDo.class)) {
+      assertEquals(items, stream.collect(Collectors.toList()));
+    }
+  }
+
+  protected List<TestItemDo> createItems() {
+    return Arrays.asList(
+        BEANS.get(TestItemDo.class).withId("1").withStringAttribute("a"),
+        BEANS.get(TestItemDo.class).withId("2"),
+        BEANS.get(TestItemDo.class).withId("3").withStringAttribute("c"));
+  }
+
+  protected TestComplexEntityDo createComplexEntity() {
+    return BEANS.get(TestComplexEntityDo.class)
+        .withId("id")
+        .withStringAttribute("string äöü")
+        .withIntegerAttribute(42)
+        .withLongAttribute(Long.MAX_VALUE)
+        .withFloatAttribute(1.5f)
+        .withDoubleAttribute(123.456)
+        .withBigIntegerAttribute(new BigInteger("123456789012345678901234567890"))
+        .withBigDecimalAttribute(new BigDecimal("1234567890.0987654321"))
+        .withDateAttribute(new Date(1700000000000L))
+        .withStringListAttribute(Arrays.asList("a", "b", "c"))
+        .withItemAttribute(BEANS.get(TestItemDo.class).withId("item").withStringAttribute("foo"))
+        .withItemsAttribute(createItems())
+        .withUuidAttribute(UUID.fromString("3a8ec7c4-4a1e-4c43-97d9-0bdb2ec4bcd8"))
+        .withLocaleAttribute(Locale.GERMANY);
+  }
+}
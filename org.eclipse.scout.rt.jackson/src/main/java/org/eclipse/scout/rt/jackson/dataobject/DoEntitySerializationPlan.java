@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.dataobject.IDoEntity;
+import org.eclipse.scout.rt.dataobject.IDoEntityContribution;
+import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
+
+import com.fasterxml.jackson.databind.JsonSerializer;
+
+/**
+ * Precomputed serialization steps of an {@link IDoEntity} class with a specific set of attribute names. A plan is
+ * created once by {@link DoEntitySerializer} and reused for all entities with the same class and attribute names.
+ *
+ * @since 24.1
+ */
+public class DoEntitySerializationPlan {
+
+  private final NamespaceVersion m_typeVersion;
+  private final List<Attribute> m_attributes;
+  private final Set<Class<? extends IDoEntityContribution>> m_validContributionClasses = ConcurrentHashMap.newKeySet();
+
+  public DoEntitySerializationPlan(NamespaceVersion typeVersion, List<Attribute> attributes) {
+    m_typeVersion = typeVersion;
+    m_attributes = Collections.unmodifiableList(attributes);
+  }
+
+  /**
+   * @return type version of the entity class or {@code null} if it has none
+   */
+  public NamespaceVersion getTypeVersion() {
+    return m_typeVersion;
+  }
+
+  /**
+   * @return attributes in serialization order
+   */
+  public List<Attribute> getAttributes() {
+    return m_attributes;
+  }
+
+  /**
+   * @return {@code true} if the given contribution class was already validated for the entity class of this plan
+   */
+  public boolean isValidContribution(Class<? extends IDoEntityContribution> contributionClass) {
+    return m_validContributionClasses.contains(contributionClass);
+  }
+
+  public void addValidContribution(Class<? extends IDoEntityContribution> contributionClass) {
+    m_validContributionClasses.add(contributionClass);
+  }
+
+  /**
+   * Single attribute of a {@link DoEntitySerializationPlan}. The serializers are resolved lazily on first use because
+   * they require a {@link com.fasterxml.jackson.databind.SerializerProvider}.
+   */
+  public static class Attribute {
+
+    private final String m_name;
+    private final AttributeType m_type;
+    private volatile JsonSerializer<Object> m_valueSerializer;
+    private volatile JsonSerializer<Object> m_mapKeySerializer;
+    private volatile JsonSerializer<Object> m_mapValueSerializer;
+
+    public Attribute(String name, AttributeType type) {
+      m_name = name;
+      m_type = type;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    /**
+     * @return declared type of the attribute or {@code null} if it is unknown
+     */
+    public AttributeType getType() {
+      return m_type;
+    }
+
+    public JsonSerializer<Object> getValueSerializer() {
+      return m_valueSerializer;
+    }
+
+    public void setValueSerializer(JsonSerializer<Object> valueSerializer) {
+      m_valueSerializer = valueSerializer;
+    }
+
+    public JsonSerializer<Object> getMapKeySerializer() {
+      return m_mapKeySerializer;
+    }
+
+    public void setMapKeySerializer(JsonSerializer<Object> mapKeySerializer) {
+      m_mapKeySerializer = mapKeySerializer;
+    }
+
+    public JsonSerializer<Object> getMapValueSerializer() {
+      return m_mapValueSerializer;
+    }
+
+    public void setMapValueSerializer(JsonSerializer<Object> mapValueSerializer) {
+      m_mapValueSerializer = mapValueSerializer;
+    }
+  }
+}
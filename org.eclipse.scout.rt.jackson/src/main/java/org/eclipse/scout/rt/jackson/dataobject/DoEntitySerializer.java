@@ -12,12 +12,16 @@ package org.eclipse.scout.rt.jackson.dataobject;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.dataobject.DataObjectInventory;
 import org.eclipse.scout.rt.dataobject.DoEntity;
@@ -27,8 +31,10 @@ import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDoCollection;
 import org.eclipse.scout.rt.dataobject.IDoEntity;
 import org.eclipse.scout.rt.dataobject.IDoEntityContribution;
+import org.eclipse.scout.rt.jackson.dataobject.DoEntitySerializationPlan.Attribute;
 import org.eclipse.scout.rt.platform.namespace.NamespaceVersion;
 import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonToken;
@@ -42,14 +48,25 @@ import com.fasterxml.jackson.databind.type.MapType;
 
 /**
  * Serializer for {@link IDoEntity} and all sub-classes.
+ * <p>
+ * The attribute order and the declared attribute types are computed once per entity class and set of attribute names
+ * (see {@link DoEntitySerializationPlan}).
  */
 public class DoEntitySerializer extends StdSerializer<IDoEntity> {
   private static final long serialVersionUID = 1L;
 
+  /**
+   * Maximum number of cached serialization plans per serializer. Typed entities are usually serialized with a few
+   * different sets of attribute names only, whereas raw {@link DoEntity} instances may have arbitrary attribute names.
+   */
+  protected static final int MAX_SERIALIZATION_PLANS = 64;
+
   protected final LazyValue<DataObjectInventory> m_dataObjectInventory = new LazyValue<>(DataObjectInventory.class);
 
   protected final ScoutDataObjectModuleContext m_context;
 
+  protected final ConcurrentMap<P_SerializationPlanKey, DoEntitySerializationPlan> m_serializationPlans = new ConcurrentHashMap<>();
+
   public DoEntitySerializer(ScoutDataObjectModuleContext context, JavaType type) {
     super(type);
     m_context = context;
@@ -73,18 +90,52 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    * Serialize all fields of specified {@link IDoEntity} sorted alphabetically.
    */
   protected void serializeAttributes(IDoEntity entity, JsonGenerator gen, SerializerProvider provider) throws IOException {
-    serializeTypeVersion(gen, entity);
-    TreeMap<String, DoNode<?>> sortedMap = new TreeMap<>(m_context.getComparator());
-    sortedMap.putAll(entity.allNodes());
-    for (Map.Entry<String, DoNode<?>> e : sortedMap.entrySet()) {
+    Map<String, DoNode<?>> nodes = entity.allNodes();
+    DoEntitySerializationPlan plan = getSerializationPlan(entity, nodes.keySet());
+    serializeTypeVersion(gen, plan.getTypeVersion());
+    for (Attribute attribute : plan.getAttributes()) {
       gen.setCurrentValue(entity);
-      serializeAttribute(e.getKey(), e.getValue(), gen, provider);
+      serializeAttribute(attribute, nodes.get(attribute.getName()), gen, provider);
     }
-    serializeContributions(gen, entity, provider);
+    serializeContributions(gen, entity, plan, provider);
+  }
+
+  /**
+   * @return cached {@link DoEntitySerializationPlan} for the class of the given entity and the given attribute names
+   */
+  protected DoEntitySerializationPlan getSerializationPlan(IDoEntity entity, Set<String> attributeNames) {
+    DoEntitySerializationPlan plan = m_serializationPlans.get(new P_SerializationPlanKey(entity.getClass(), attributeNames));
+    if (plan != null) {
+      return plan;
+    }
+    plan = createSerializationPlan(entity.getClass(), attributeNames);
+    if (m_serializationPlans.size() < MAX_SERIALIZATION_PLANS) {
+      // the attribute names are a live view of the entity, use a copy as key
+      DoEntitySerializationPlan existingPlan = m_serializationPlans.putIfAbsent(new P_SerializationPlanKey(entity.getClass(), new HashSet<>(attributeNames)), plan);
+      if (existingPlan != null) {
+        return existingPlan;
+      }
+    }
+    return plan;
+  }
+
+  protected DoEntitySerializationPlan createSerializationPlan(Class<? extends IDoEntity> entityClass, Set<String> attributeNames) {
+    List<Attribute> attributes = new ArrayList<>(attributeNames.size());
+    attributeNames.stream()
+        .sorted(m_context.getComparator())
+        .forEach(attributeName -> attributes.add(createSerializationPlanAttribute(attributeName)));
+    return new DoEntitySerializationPlan(m_dataObjectInventory.get().getTypeVersion(entityClass), attributes);
+  }
+
+  protected Attribute createSerializationPlanAttribute(String attributeName) {
+    return new Attribute(attributeName, getAttributeType(attributeName).orElse(null));
   }
 
   protected void serializeTypeVersion(JsonGenerator gen, IDoEntity entity) throws IOException {
-    NamespaceVersion typeVersion = m_dataObjectInventory.get().getTypeVersion(entity.getClass());
+    serializeTypeVersion(gen, m_dataObjectInventory.get().getTypeVersion(entity.getClass()));
+  }
+
+  protected void serializeTypeVersion(JsonGenerator gen, NamespaceVersion typeVersion) throws IOException {
     if (typeVersion != null) {
       gen.writeFieldName(m_context.getTypeVersionAttributeName());
       gen.writeString(typeVersion.unwrap());
@@ -99,7 +150,25 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
     }
   }
 
+  protected void serializeContributions(JsonGenerator gen, IDoEntity entity, DoEntitySerializationPlan plan, SerializerProvider provider) throws IOException {
+    if (entity.hasContributions()) {
+      Collection<IDoEntityContribution> contributions = entity.getContributions();
+      for (IDoEntityContribution contribution : contributions) {
+        if (!plan.isValidContribution(contribution.getClass())) {
+          validateContributions(entity, List.of(contribution));
+          plan.addValidContribution(contribution.getClass());
+        }
+      }
+      gen.writeObjectField(m_context.getContributionsAttributeName(), contributions);
+    }
+  }
+
   protected void serializeAttribute(String attributeName, Object obj, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    serializeAttribute(createSerializationPlanAttribute(attributeName), obj, gen, provider);
+  }
+
+  protected void serializeAttribute(Attribute attribute, Object obj, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    String attributeName = attribute.getName();
     if (obj instanceof DoValue) {
       // serialize DoValue value as unwrapped object
       obj = ((DoValue<?>) obj).get();
@@ -112,7 +181,7 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       gen.writeObjectField(attributeName, obj);
     }
     else if (obj instanceof Map) {
-      serializeMap(attributeName, (Map<?, ?>) obj, gen, provider);
+      serializeMap(attribute, (Map<?, ?>) obj, gen, provider);
     }
     else if (obj.getClass() == DoEntity.class) {
       // DoEntity exclusion: in special circumstances (e.g. migration scenarios) where a typed DO entity might contain an untyped DO entity,
@@ -121,9 +190,9 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       gen.writeObjectField(attributeName, obj);
     }
     else {
-      JavaType declaredAttributeType = getAttributeType(attributeName).map(AttributeType::getJavaType).orElse(null);
+      JavaType declaredAttributeType = attribute.getType() == null ? null : attribute.getType().getJavaType();
       if (isSerializeByDeclaredType(declaredAttributeType, obj.getClass())) {
-        serializeTypedAttribute(attributeName, obj, gen, provider, declaredAttributeType);
+        serializeTypedAttribute(attribute, obj, gen, provider);
       }
       else {
         // use serialization by value
@@ -136,30 +205,44 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
    * Serializes a map attribute within {@link IDoEntity}
    */
   protected void serializeMap(String attributeName, Map<?, ?> map, JsonGenerator gen, SerializerProvider provider) throws IOException {
-    Optional<AttributeType> typeOpt = getAttributeType(attributeName);
+    serializeMap(createSerializationPlanAttribute(attributeName), map, gen, provider);
+  }
+
+  /**
+   * Serializes a map attribute within {@link IDoEntity}
+   */
+  protected void serializeMap(Attribute attribute, Map<?, ?> map, JsonGenerator gen, SerializerProvider provider) throws IOException {
     JavaType keyType = null;
     JsonSerializer<Object> keySerializer = null;
     JavaType valueType = null;
     JsonSerializer<Object> valueSerializer = null;
-    if (typeOpt.isPresent()) {
-      MapType mapType = (MapType) typeOpt.get().getJavaType();
+    if (attribute.getType() != null) {
+      MapType mapType = (MapType) attribute.getType().getJavaType();
 
       // A data object (e.g. DoValue<Map<TestItemDo, String>>) or a pojo (e.g. DoValue<Map<Pojo, String>>) should never be used as a key type of a map,
       // because SdtKeySerializers.Default will be used which would trigger toString on the given object (not really useful).
       keyType = mapType.getKeyType();
-      keySerializer = provider.findKeySerializer(keyType, null);
+      keySerializer = attribute.getMapKeySerializer();
+      if (keySerializer == null) {
+        keySerializer = provider.findKeySerializer(keyType, null);
+        attribute.setMapKeySerializer(keySerializer);
+      }
 
       // Check for != Object is required because findTypedValueSerializer would otherwise return UnknownSerializer.
       // By not setting a serializer here, JsonGenerator#writeObject will be called further below, which will result in a value-based serialization.
       valueType = mapType.getContentType();
       if (valueType.getRawClass() != Object.class) {
-        valueSerializer = provider.findTypedValueSerializer(valueType, true, null);
+        valueSerializer = attribute.getMapValueSerializer();
+        if (valueSerializer == null) {
+          valueSerializer = provider.findTypedValueSerializer(valueType, true, null);
+          attribute.setMapValueSerializer(valueSerializer);
+        }
       }
     }
 
     // This "raw" map serialization forces Jackson to include type information by using the appropriate serializer if a type is available
     // or use the default serialization via key serializer/JsonGenerator#writeObject otherwise.
-    gen.writeFieldName(attributeName);
+    gen.writeFieldName(attribute.getName());
     gen.writeStartObject();
     gen.setCurrentValue(map);
     for (Entry<?, ?> entry : map.entrySet()) {
@@ -229,6 +312,19 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
     ser.serialize(obj, gen, provider);
   }
 
+  /**
+   * Serialize single attribute using the typed value serializer cached in the {@link Attribute}
+   */
+  protected void serializeTypedAttribute(Attribute attribute, Object obj, JsonGenerator gen, SerializerProvider provider) throws IOException {
+    JsonSerializer<Object> ser = attribute.getValueSerializer();
+    if (ser == null) {
+      ser = provider.findTypedValueSerializer(attribute.getType().getJavaType(), true, null);
+      attribute.setValueSerializer(ser);
+    }
+    gen.writeFieldName(attribute.getName());
+    ser.serialize(obj, gen, provider);
+  }
+
   protected Optional<AttributeType> getAttributeType(String attributeName) {
     return m_dataObjectInventory.get().getAttributeDescription(handledType(), attributeName)
         .map(a -> TypeFactoryUtility.toAttributeType(a.getType()))
@@ -242,4 +338,31 @@ public class DoEntitySerializer extends StdSerializer<IDoEntity> {
       assertTrue(containerClasses.stream().anyMatch(containerClass -> containerClass.isInstance(doEntity)), "{} is not a valid container class of {}", doEntity.getClass().getSimpleName(), contributionClass.getSimpleName());
     }
   }
+
+  private static final class P_SerializationPlanKey {
+    private final Class<? extends IDoEntity> m_entityClass;
+    private final Set<String> m_attributeNames;
+
+    private P_SerializationPlanKey(Class<? extends IDoEntity> entityClass, Set<String> attributeNames) {
+      m_entityClass = entityClass;
+      m_attributeNames = attributeNames;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * m_entityClass.hashCode() + m_attributeNames.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_SerializationPlanKey other = (P_SerializationPlanKey) obj;
+      return m_entityClass == other.m_entityClass && ObjectUtility.equals(m_attributeNames, other.m_attributeNames);
+    }
+  }
 }
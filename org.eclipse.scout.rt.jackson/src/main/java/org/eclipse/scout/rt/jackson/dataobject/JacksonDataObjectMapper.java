@@ -16,8 +16,14 @@ import java.text.SimpleDateFormat;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.rt.dataobject.IDataObject;
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
@@ -36,11 +42,15 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
 
 import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.core.StreamWriteConstraints;
 import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
  * {@link IDataObjectMapper} implementation based on Jackson databind {@link ObjectMapper}.
@@ -99,6 +109,68 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public <T> Stream<T> readValues(InputStream inputStream, Class<T> valueType) {
+    Assertions.assertNotNull(inputStream, "Input stream must not be null");
+    try {
+      return toStream(m_objectMapper.get().readerFor(valueType).readValues(inputStream));
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public Stream<IDataObject> readValuesRaw(InputStream inputStream) {
+    Assertions.assertNotNull(inputStream, "Input stream must not be null");
+    try {
+      return toStream(m_rawObjectMapper.get().readerFor(IDataObject.class).readValues(inputStream)); // use IDataObject as fixed valueType
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * Creates a lazy stream reading the values of the given {@link MappingIterator}. A root-level JSON array is unwrapped
+   * by the iterator, i.e. its elements are returned.
+   */
+  protected <T> Stream<T> toStream(MappingIterator<T> mappingIterator) {
+    Iterator<T> iterator = new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        try {
+          return mappingIterator.hasNextValue();
+        }
+        catch (IOException e) {
+          throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+        }
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        try {
+          return mappingIterator.nextValue();
+        }
+        catch (IOException e) {
+          throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+        }
+      }
+    };
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+        .onClose(() -> {
+          try {
+            mappingIterator.close();
+          }
+          catch (IOException e) {
+            throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+          }
+        });
+  }
+
   @Override
   public void writeValue(OutputStream outputStream, Object value) {
     Assertions.assertNotNull(outputStream, "Output stream must not be null");
@@ -126,6 +198,44 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     }
   }
 
+  @Override
+  public void writeValues(OutputStream outputStream, Iterator<?> values) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    Assertions.assertNotNull(values, "Values must not be null");
+    // flushing after each value would defeat the buffering of the generator
+    ObjectWriter writer = m_objectMapper.get().writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator gen = writer.createGenerator(outputStream)) {
+      gen.writeStartArray();
+      while (values.hasNext()) {
+        writer.writeValue(gen, values.next());
+      }
+      gen.writeEndArray();
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public void writeValuesLineDelimited(OutputStream outputStream, Iterator<?> values) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    Assertions.assertNotNull(values, "Values must not be null");
+    // each value must be written on a single line, hence indentation is disabled and the newline is used as the only separator
+    ObjectWriter writer = m_objectMapper.get().writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+        .without(SerializationFeature.INDENT_OUTPUT);
+    try (JsonGenerator gen = writer.createGenerator(outputStream).setRootValueSeparator(null)) {
+      while (values.hasNext()) {
+        writer.writeValue(gen, values.next());
+        gen.writeRaw('\n');
+      }
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
   /**
    * <b>Note</b> This method is exposed only for internal framework usage. It is recommended to use the
    * {@link IDataObjectMapper} representation of the object mapper and not to use {@link ObjectMapper} instances
@@ -139,16 +249,25 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     return m_objectMapper.get();
   }
 
+  /**
+   * @return object mapper used for typed reading and writing
+   */
+  protected ObjectMapper getObjectMapperInstance() {
+    return m_objectMapper.get();
+  }
+
+  /**
+   * @return object mapper used for raw reading, i.e. ignoring any type attributes
+   */
+  protected ObjectMapper getRawObjectMapperInstance() {
+    return m_rawObjectMapper.get();
+  }
+
   /**
    * Creates new {@link ObjectMapper} instance configured to be used with {@link IDoEntity}.
    */
   protected ObjectMapper createObjectMapperInstance(boolean ignoreTypeAttribute) {
-    // setup custom-configured JsonFactory used for ObjectMapper
-    JsonFactory jsonFactory = JsonFactory.builder()
-        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
-        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
-        .build();
-    ObjectMapper om = new ObjectMapper(jsonFactory);
+    ObjectMapper om = new ObjectMapper(createJsonFactory());
     ScoutDataObjectModule scoutDataObjectModule = BEANS.get(ScoutDataObjectModule.class).withIgnoreTypeAttribute(ignoreTypeAttribute);
     prepareScoutDataModuleContext(scoutDataObjectModule.getModuleContext());
     om.registerModule(scoutDataObjectModule);
@@ -159,6 +278,17 @@ public class JacksonDataObjectMapper implements IDataObjectMapper {
     return om;
   }
 
+  /**
+   * Creates the custom-configured {@link JsonFactory} used for the {@link ObjectMapper}. Override this method to use
+   * another data format backed by a subclass of {@link JsonFactory}.
+   */
+  protected JsonFactory createJsonFactory() {
+    return JsonFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .build();
+  }
+
   /**
    * Override this method to add custom properties to {@code moduleContext}.
    */
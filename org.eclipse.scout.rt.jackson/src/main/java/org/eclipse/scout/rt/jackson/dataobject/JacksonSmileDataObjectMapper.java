@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.jackson.dataobject;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.Base64Utility;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * {@link IDataObjectMapper} implementation based on jackson {@link ObjectMapper} using the binary
+ * <a href="https://github.com/FasterXML/smile-format-specification">Smile</a> data format. The same
+ * {@link ScoutDataObjectModule} as for JSON is used, i.e. the data object structure is identical, only the encoding
+ * differs.
+ *
+ * @since 24.1
+ */
+@Order(IBean.DEFAULT_BEAN_ORDER + 100)
+public class JacksonSmileDataObjectMapper extends JacksonDataObjectMapper implements IBinaryDataObjectMapper {
+
+  public static final String CONTENT_TYPE = "application/x-jackson-smile";
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public byte[] writeValueAsBytes(Object value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return getObjectMapperInstance().writeValueAsBytes(value);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public <T> T readValue(byte[] value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return getObjectMapperInstance().readValue(value, valueType);
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  public IDataObject readValueRaw(byte[] value) {
+    if (value == null) {
+      return null;
+    }
+    try {
+      return getRawObjectMapperInstance().readValue(value, IDataObject.class); // use IDataObject as fixed valueType
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  /**
+   * @return Base64 representation of the binary encoding
+   */
+  @Override
+  public String writeValue(Object value) {
+    if (value == null) {
+      return null;
+    }
+    return Base64Utility.encode(writeValueAsBytes(value));
+  }
+
+  /**
+   * @param value
+   *          Base64 representation of the binary encoding
+   */
+  @Override
+  public <T> T readValue(String value, Class<T> valueType) {
+    if (value == null) {
+      return null;
+    }
+    return readValue(Base64Utility.decode(value), valueType);
+  }
+
+  /**
+   * @param value
+   *          Base64 representation of the binary encoding
+   */
+  @Override
+  public IDataObject readValueRaw(String value) {
+    if (value == null) {
+      return null;
+    }
+    return readValueRaw(Base64Utility.decode(value));
+  }
+
+  /**
+   * Smile values are self-delimiting, hence the values are written as plain sequence of root-level values without any
+   * separator. The sequence can be read using {@link #readValues(java.io.InputStream, Class)}.
+   */
+  @Override
+  public void writeValuesLineDelimited(OutputStream outputStream, Iterator<?> values) {
+    Assertions.assertNotNull(outputStream, "Output stream must not be null");
+    Assertions.assertNotNull(values, "Values must not be null");
+    ObjectWriter writer = getObjectMapperInstance().writer()
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    try (JsonGenerator gen = writer.createGenerator(outputStream)) {
+      while (values.hasNext()) {
+        writer.writeValue(gen, values.next());
+      }
+    }
+    catch (IOException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e);
+    }
+  }
+
+  @Override
+  protected JsonFactory createJsonFactory() {
+    return SmileFactory.builder()
+        .streamReadConstraints(CONFIG.getPropertyValue(StreamReadConstraintsConfigProperty.class))
+        .streamWriteConstraints(CONFIG.getPropertyValue(StreamWriteConstraintsConfigProperty.class))
+        .build();
+  }
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.marshaller.ObjectMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.PassThroughMarshaller;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class InVmMomImplementorTest {
+
+  private InVmMomImplementor m_mom;
+
+  @Before
+  public void before() throws Exception {
+    m_mom = createMom(PassThroughMarshaller.class.getName());
+  }
+
+  @After
+  public void after() {
+    m_mom.destroy();
+  }
+
+  protected InVmMomImplementor createMom(String marshaller) throws Exception {
+    Map<Object, Object> env = new HashMap<>();
+    env.put(IMomImplementor.SYMBOLIC_NAME, "test");
+    env.put(IMomImplementor.MARSHALLER, marshaller);
+    env.put(IMomImplementor.REQUEST_REPLY_ENABLED, "true");
+    InVmMomImplementor mom = new InVmMomImplementor();
+    mom.init(env);
+    return mom;
+  }
+
+  @Test
+  public void testTopicPublishSubscribe() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received1 = new LinkedBlockingQueue<>();
+    BlockingQueue<String> received2 = new LinkedBlockingQueue<>();
+    m_mom.subscribe(topic, message -> received1.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.subscribe(topic, message -> received2.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    m_mom.publish(topic, "hello", MOM.newPublishInput());
+    assertEquals("hello", received1.poll(10, TimeUnit.SECONDS));
+    assertEquals("hello", received2.poll(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testTopicWithoutSubscriptionDiscardsMessages() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    m_mom.publish(topic, "lost", MOM.newPublishInput());
+
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.publish(topic, "hello", MOM.newPublishInput());
+    assertEquals("hello", received.poll(10, TimeUnit.SECONDS));
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testQueueRetainsMessagesAndDeliversOnce() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/invm/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.publish(queue, "a", MOM.newPublishInput());
+    m_mom.publish(queue, "b", MOM.newPublishInput());
+
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    m_mom.publish(queue, "c", MOM.newPublishInput());
+
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      result.add(received.poll(10, TimeUnit.SECONDS));
+    }
+    result.sort(null);
+    assertEquals(Arrays.asList("a", "b", "c"), result);
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testPriority() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/invm/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.publish(queue, "low", MOM.newPublishInput().withPriority(PublishInput.PRIORITY_NORMAL - 2));
+    m_mom.publish(queue, "normal", MOM.newPublishInput());
+    m_mom.publish(queue, "high", MOM.newPublishInput().withPriority(PublishInput.PRIORITY_NORMAL + 2));
+
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    List<String> result = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      result.add(received.poll(10, TimeUnit.SECONDS));
+    }
+    assertEquals(Arrays.asList("high", "normal", "low"), result);
+  }
+
+  @Test
+  public void testTimeToLive() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/invm/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.publish(queue, "expired", MOM.newPublishInput().withTimeToLive(1, TimeUnit.MILLISECONDS));
+    m_mom.publish(queue, "alive", MOM.newPublishInput());
+    Thread.sleep(50);
+
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    ISubscription subscription = m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+    assertEquals("alive", received.poll(10, TimeUnit.SECONDS));
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    assertEquals(1, subscription.getStats().receivedMessages());
+  }
+
+  @Test
+  public void testDurableSubscription() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    SubscribeInput input = MOM.newSubscribeInput().withDurableSubscription("durable");
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input).dispose();
+
+    m_mom.publish(topic, "while inactive", MOM.newPublishInput());
+    ISubscription subscription = m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertEquals("while inactive", received.poll(10, TimeUnit.SECONDS));
+    subscription.dispose();
+
+    m_mom.cancelDurableSubscription("durable");
+    m_mom.publish(topic, "after cancel", MOM.newPublishInput());
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), input);
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testRequestReply() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/invm/requestreply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.reply(queue, request -> request.getTransferObject().toUpperCase(), MOM.newSubscribeInput());
+    assertEquals("HELLO", m_mom.request(queue, "hello", MOM.newPublishInput()));
+  }
+
+  @Test
+  public void testRequestReplyFailure() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/invm/requestreply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    ISubscription subscription = m_mom.reply(queue, request -> {
+      throw new IllegalStateException("expected JUnit exception");
+    }, MOM.newSubscribeInput());
+    try {
+      m_mom.request(queue, "hello", MOM.newPublishInput());
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("expected JUnit exception", e.getMessage());
+      assertEquals(0, e.getStackTrace().length);
+    }
+    assertEquals(1, subscription.getStats().receivedMessages());
+  }
+
+  /**
+   * A request which cannot be unmarshalled by the replier must not block the requester forever.
+   */
+  @Test(timeout = 30_000)
+  public void testRequestReplyUnmarshallFailure() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/invm/requestreply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.registerMarshaller(queue, new PassThroughMarshaller() {
+      @Override
+      public Object unmarshall(Object data, Map<String, String> context) {
+        throw new IllegalStateException("expected JUnit exception");
+      }
+    });
+    m_mom.reply(queue, request -> request.getTransferObject().toUpperCase(), MOM.newSubscribeInput());
+    try {
+      m_mom.request(queue, "hello", MOM.newPublishInput()); // no request-reply timeout by default
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("expected JUnit exception", e.getMessage());
+    }
+  }
+
+  @Test(expected = TimedOutError.class)
+  public void testRequestReplyTimeout() {
+    IBiDestination<String, String> queue = MOM.newBiDestination("test/invm/requestreply", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    m_mom.request(queue, "hello", MOM.newPublishInput().withRequestReplyTimeout(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTransactionalPublish() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/invm/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+      m_mom.publish(queue, "committed", MOM.newPublishInput().withTransactional(true));
+      assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+    });
+    assertEquals("committed", received.poll(10, TimeUnit.SECONDS));
+
+    try {
+      RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+        m_mom.publish(queue, "rolled back", MOM.newPublishInput().withTransactional(true));
+        throw new IllegalStateException("expected JUnit exception");
+      });
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      // expected
+    }
+    assertNull(received.poll(100, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTransactedRedelivery() throws InterruptedException {
+    IDestination<String> queue = MOM.newDestination("test/invm/queue", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(queue, message -> {
+      received.add(message.getTransferObject());
+      if (received.size() < 2) {
+        throw new IllegalStateException("expected JUnit exception");
+      }
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED));
+
+    m_mom.publish(queue, "hello", MOM.newPublishInput());
+    assertEquals("hello", received.poll(10, TimeUnit.SECONDS));
+    assertEquals("hello", received.poll(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testPassThroughMarshaller() throws InterruptedException {
+    IDestination<Object> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+    m_mom.subscribe(topic, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+    ArrayList<String> transferObject = new ArrayList<>(Arrays.asList("a", "b"));
+    m_mom.publish(topic, transferObject, MOM.newPublishInput());
+    assertSame(transferObject, received.poll(10, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCopyingMarshaller() throws Exception {
+    InVmMomImplementor mom = createMom(ObjectMarshaller.class.getName());
+    try {
+      IDestination<Object> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+      BlockingQueue<Object> received = new LinkedBlockingQueue<>();
+      mom.subscribe(topic, message -> received.add(message.getTransferObject()), MOM.newSubscribeInput());
+
+      ArrayList<String> transferObject = new ArrayList<>(Arrays.asList("a", "b"));
+      mom.publish(topic, transferObject, MOM.newPublishInput());
+      Object result = received.poll(10, TimeUnit.SECONDS);
+      assertEquals(transferObject, result);
+      assertNotSame(transferObject, result);
+    }
+    finally {
+      mom.destroy();
+    }
+  }
+
+  @Test
+  public void testSubscriptionStats() throws InterruptedException {
+    IDestination<String> topic = MOM.newDestination("test/invm/topic", DestinationType.TOPIC, ResolveMethod.DEFINE, null);
+    BlockingQueue<String> received = new LinkedBlockingQueue<>();
+    ISubscription subscription = m_mom.subscribe(topic, message -> {
+      received.add(String.valueOf(message.getTransferObject()));
+      if (message.getTransferObject() == null) {
+        throw new IllegalStateException("expected JUnit exception");
+      }
+    }, MOM.newSubscribeInput().withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED));
+
+    m_mom.publish(topic, "a", MOM.newPublishInput());
+    m_mom.publish(topic, null, MOM.newPublishInput());
+    received.poll(10, TimeUnit.SECONDS);
+    received.poll(10, TimeUnit.SECONDS);
+    subscription.dispose();
+
+    ISubscriptionStats stats = subscription.getStats();
+    assertEquals(2, stats.receivedMessages());
+    assertEquals(1, stats.receivedNonNullMessages());
+    assertEquals(1, stats.receivedErrors());
+    assertNotNull(stats.lastMessageReceivedTimestamp());
+    assertTrue(m_mom.getSubscriptions().isEmpty());
+  }
+}
@@ -37,4 +37,36 @@ public interface ISubscriptionStats {
    */
   Date lastMessageReceivedTimestamp();
 
+  /**
+   * @return the number of messages received but not yet processed completely
+   * @since 24.1
+   */
+  default long inFlightMessages() {
+    return 0;
+  }
+
+  /**
+   * @return the number of messages processed, including failed ones
+   * @since 24.1
+   */
+  default long processedMessages() {
+    return 0;
+  }
+
+  /**
+   * @return the average processing time of a message in milliseconds, or <code>0</code> if no message was processed
+   * @since 24.1
+   */
+  default long averageProcessingTimeMillis() {
+    return 0;
+  }
+
+  /**
+   * @return the maximum processing time of a message in milliseconds
+   * @since 24.1
+   */
+  default long maxProcessingTimeMillis() {
+    return 0;
+  }
+
 }
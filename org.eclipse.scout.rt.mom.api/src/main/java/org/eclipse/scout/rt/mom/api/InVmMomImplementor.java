@@ -0,0 +1,1017 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
+import org.eclipse.scout.rt.mom.api.marshaller.PassThroughMarshaller;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.job.IBlockingCondition;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.platform.util.BooleanUtility;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.NumberUtility;
+import org.eclipse.scout.rt.platform.util.ObjectUtility;
+import org.eclipse.scout.rt.platform.util.TypeCastUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.platform.util.date.IDateProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.context.Context;
+
+/**
+ * Implementation of {@link IMom} which delivers messages within the JVM, without a broker. This is useful for single
+ * node deployments and tests.
+ * <p>
+ * Every instance is a separate message broker. Topics, queues, 'request-reply' messaging, durable subscriptions and
+ * all acknowledgement modes of {@link SubscribeInput} are supported. Messages are kept in non-blocking queues per
+ * priority (see {@link PublishInput#withPriority(int)}) and expired messages (see
+ * {@link PublishInput#withTimeToLive(long, TimeUnit)}) are discarded upon delivery. Messages are delivered by jobs of
+ * the job manager and are never persisted, i.e. {@link PublishInput#getDeliveryMode()} is ignored.
+ * <p>
+ * Transfer objects are marshalled once upon publishing and unmarshalled for every subscription. To pass transfer
+ * objects without copying, configure the {@link PassThroughMarshaller} as default marshaller (see
+ * {@link IMomImplementor#MARSHALLER}) or for a specific destination.
+ * <p>
+ * Message selectors are not supported. Because all messages are published locally, a subscription with
+ * {@link SubscribeInput#withLocalReceipt(boolean)} set to <code>false</code> does not receive any messages.
+ *
+ * @since 24.1
+ */
+public class InVmMomImplementor implements IMomImplementor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(InVmMomImplementor.class);
+
+  /**
+   * Property to specify how many times a message is redelivered to a subscription with
+   * {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} if the listener fails. The default is <code>3</code>.
+   * <p>
+   * <b>Value type:</b> {@link Integer} or {@link String}
+   */
+  public static final String MAX_REDELIVERY_COUNT = "scout.mom.invm.maxRedeliveryCount";
+
+  protected static final int DEFAULT_MAX_REDELIVERY_COUNT = 3;
+  protected static final int PRIORITY_LEVELS = 10;
+  protected static final int DEFAULT_PRIORITY = 4;
+
+  protected final String m_momUid = UUID.randomUUID().toString();
+
+  // init -> thread-safety: only set in init method
+  protected String m_symbolicName;
+  protected IMarshaller m_defaultMarshaller;
+  protected boolean m_requestReplyEnabled;
+  protected int m_maxRedeliveryCount;
+  // end init
+
+  protected final Map<IDestination<?>, IMarshaller> m_marshallers = new ConcurrentHashMap<>();
+  protected final Map<String, P_Topic> m_topics = new ConcurrentHashMap<>();
+  protected final Map<String, P_Queue> m_queues = new ConcurrentHashMap<>();
+  protected final Map<String, P_Consumer> m_durableConsumers = new ConcurrentHashMap<>();
+  protected final Map<String, CompletableFuture<P_Envelope>> m_pendingReplies = new ConcurrentHashMap<>();
+  protected final List<P_Subscription> m_subscriptions = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void init(final Map<Object, Object> properties) throws Exception {
+    m_symbolicName = Objects.toString(properties.get(SYMBOLIC_NAME), "InVM MOM");
+    m_defaultMarshaller = createDefaultMarshaller(properties);
+    m_requestReplyEnabled = BooleanUtility.nvl(
+        TypeCastUtility.castValue(properties.get(REQUEST_REPLY_ENABLED), Boolean.class),
+        CONFIG.getPropertyValue(RequestReplyEnabledProperty.class));
+    m_maxRedeliveryCount = NumberUtility.nvl(TypeCastUtility.castValue(properties.get(MAX_REDELIVERY_COUNT), Integer.class), DEFAULT_MAX_REDELIVERY_COUNT);
+    LOG.info("{} initialized [marshaller={}]", m_symbolicName, m_defaultMarshaller.getClass().getSimpleName());
+  }
+
+  @SuppressWarnings("unchecked")
+  protected IMarshaller createDefaultMarshaller(final Map<Object, Object> properties) {
+    Object prop = properties.get(MARSHALLER);
+    if (prop instanceof IMarshaller) {
+      return (IMarshaller) prop;
+    }
+    Class<? extends IMarshaller> marshallerClass;
+    String marshallerClassName = ObjectUtility.toString(prop);
+    if (marshallerClassName != null) {
+      try {
+        marshallerClass = (Class<? extends IMarshaller>) Class.forName(marshallerClassName);
+      }
+      catch (final ClassNotFoundException | ClassCastException e) {
+        throw new PlatformException("Failed to load class specified by environment property '{}' [value={}]", MARSHALLER, marshallerClassName, e);
+      }
+    }
+    else {
+      marshallerClass = CONFIG.getPropertyValue(DefaultMarshallerProperty.class);
+    }
+    return BEANS.get(marshallerClass);
+  }
+
+  public JobInput newJobInput() {
+    return Jobs.newInput()
+        .withExecutionHint(m_momUid);
+  }
+
+  @Override
+  public String getId() {
+    return m_momUid;
+  }
+
+  @Override
+  public String getName() {
+    return m_symbolicName;
+  }
+
+  @Override
+  public List<ISubscription> getSubscriptions() {
+    return new ArrayList<>(m_subscriptions);
+  }
+
+  @Override
+  public <DTO> void publish(final IDestination<DTO> destination, final DTO transferObject, final PublishInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+
+    final P_Envelope envelope = createEnvelope(destination, transferObject, input, null);
+    if (input.isTransactional()) {
+      final ITransaction currentTransaction = assertNotNull(ITransaction.CURRENT.get(), "Transaction required for transactional messaging");
+      final P_TransactionMember txMember = currentTransaction.registerMemberIfAbsent(m_momUid, P_TransactionMember::new);
+      txMember.add(destination, envelope);
+    }
+    else {
+      deliver(destination, envelope);
+    }
+  }
+
+  @Override
+  public <DTO> ISubscription subscribe(final IDestination<DTO> destination, final IMessageListener<DTO> listener, final SubscribeInput input) {
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(destination, listener, null, input);
+  }
+
+  @Override
+  public <REQUEST, REPLY> REPLY request(final IBiDestination<REQUEST, REPLY> destination, final REQUEST requestObject, final PublishInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(input, "publishInput not specified");
+    assertFalse(input.isTransactional(), "transactional mode not supported for 'request-reply' communication");
+
+    final String replyId = String.format("scout.mom.requestreply.uid-%s", UUID.randomUUID());
+    final CompletableFuture<P_Envelope> replyFuture = new CompletableFuture<>();
+    final IBlockingCondition condition = Jobs.newBlockingCondition(true);
+    replyFuture.whenComplete((reply, error) -> condition.setBlocking(false));
+    m_pendingReplies.put(replyId, replyFuture);
+    try {
+      deliver(destination, createEnvelope(destination, requestObject, input, replyId));
+
+      long timeout = input.getRequestReplyTimeout();
+      if (timeout == PublishInput.INFINITELY) {
+        condition.waitFor();
+      }
+      else {
+        condition.waitFor(timeout, TimeUnit.MILLISECONDS);
+      }
+      if (replyFuture.isCancelled()) {
+        throw new ProcessingException("Request cancelled because MOM was destroyed [destination={}]", destination.getName());
+      }
+      final P_Envelope reply;
+      try {
+        reply = replyFuture.getNow(null);
+      }
+      catch (CompletionException e) {
+        // the replier failed before the request listener could be invoked (e.g. the request could not be unmarshalled)
+        throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(e.getCause());
+      }
+      return transform(reply, resolveMarshaller(destination));
+    }
+    catch (ThreadInterruptedError | TimedOutError e) {
+      cancelRequest(replyId);
+      throw e;
+    }
+    finally {
+      m_pendingReplies.remove(replyId);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected <REPLY> REPLY transform(final P_Envelope reply, final IMarshaller marshaller) {
+    Object transferObject = marshaller.unmarshall(reply.getData(), new HashMap<>(reply.getProperties()));
+    if (reply.isSuccess()) {
+      return (REPLY) transferObject;
+    }
+    Throwable cause = transferObject instanceof Throwable ? (Throwable) transferObject : new ProcessingException("Request-Reply failed");
+    throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(cause);
+  }
+
+  /**
+   * Cancels the repliers currently processing the given request.
+   */
+  protected void cancelRequest(final String replyId) {
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(replyId)
+        .toFilter(), true);
+  }
+
+  @Override
+  public <REQUEST, REPLY> ISubscription reply(final IBiDestination<REQUEST, REPLY> destination, final IRequestListener<REQUEST, REPLY> listener, final SubscribeInput input) {
+    assertTrue(m_requestReplyEnabled, "'request-reply' messaging is not enabled for this MOM");
+    assertNotNull(destination, "destination not specified");
+    assertNotNull(listener, "messageListener not specified");
+    assertNotNull(input, "input not specified");
+    return subscribeImpl(destination, null, listener, input);
+  }
+
+  protected ISubscription subscribeImpl(final IDestination<?> destination, final IMessageListener<?> listener, final IRequestListener<?, ?> requestListener, final SubscribeInput input) {
+    assertNull(input.getSelector(), "message selectors are not supported by {}", getClass().getSimpleName());
+
+    final P_Subscription subscription;
+    if (isQueue(destination)) {
+      final P_Queue queue = m_queues.computeIfAbsent(destination.getName(), k -> new P_Queue());
+      subscription = new P_Subscription(destination, listener, requestListener, input, queue.getMailbox());
+      subscription.onDispose(() -> queue.remove(subscription));
+      queue.add(subscription);
+    }
+    else {
+      final P_Topic topic = m_topics.computeIfAbsent(destination.getName(), k -> new P_Topic());
+      final String durableSubscriptionName = input.getDurableSubscriptionName();
+      final P_Consumer consumer;
+      if (durableSubscriptionName != null) {
+        consumer = m_durableConsumers.computeIfAbsent(durableSubscriptionName, k -> topic.add(new P_Consumer(destination.getName(), input.isLocalReceipt())));
+        assertEqual(destination.getName(), consumer.getTopicName(), "durable subscription '{}' belongs to another topic", durableSubscriptionName);
+      }
+      else {
+        consumer = topic.add(new P_Consumer(destination.getName(), input.isLocalReceipt()));
+      }
+      subscription = new P_Subscription(destination, listener, requestListener, input, consumer.getMailbox());
+      consumer.attach(subscription);
+      subscription.onDispose(() -> {
+        consumer.detach(subscription);
+        if (durableSubscriptionName == null) {
+          topic.remove(consumer);
+        }
+      });
+    }
+    m_subscriptions.add(subscription);
+    subscription.signal(); // deliver pending messages (queue or durable subscription)
+    return subscription;
+  }
+
+  @Override
+  public void cancelDurableSubscription(final String durableSubscriptionName) {
+    final P_Consumer consumer = assertNotNull(m_durableConsumers.get(durableSubscriptionName), "no durable subscription '{}'", durableSubscriptionName);
+    assertFalse(consumer.isActive(), "durable subscription '{}' is still active", durableSubscriptionName);
+    m_durableConsumers.remove(durableSubscriptionName);
+    final P_Topic topic = m_topics.get(consumer.getTopicName());
+    if (topic != null) {
+      topic.remove(consumer);
+    }
+  }
+
+  @Override
+  public IRegistrationHandle registerMarshaller(final IDestination<?> destination, final IMarshaller marshaller) {
+    m_marshallers.put(destination, marshaller);
+    return () -> m_marshallers.remove(destination);
+  }
+
+  /**
+   * Returns the {@link IMarshaller} registered for the given destination, and is never <code>null</code>.
+   */
+  public IMarshaller resolveMarshaller(final IDestination<?> destination) {
+    IMarshaller marshaller = m_marshallers.get(destination);
+    return marshaller != null ? marshaller : m_defaultMarshaller;
+  }
+
+  @Override
+  public void destroy() {
+    for (P_Subscription subscription : m_subscriptions) {
+      subscription.dispose();
+    }
+    m_subscriptions.clear();
+    for (CompletableFuture<P_Envelope> pendingReply : m_pendingReplies.values()) {
+      pendingReply.cancel(false);
+    }
+
+    // cancel any still running mom jobs
+    Predicate<IFuture<?>> momJobsFilter = Jobs.newFutureFilterBuilder().andMatchExecutionHint(m_momUid).toFilter();
+    Set<IFuture<?>> futures = Jobs.getJobManager().getFutures(momJobsFilter);
+    if (!futures.isEmpty()) {
+      Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+          .andMatchFuture(futures)
+          .andMatchNotState(JobState.DONE)
+          .toFilter(), true);
+      try {
+        Jobs.getJobManager().awaitDone(momJobsFilter, 10, TimeUnit.SECONDS);
+      }
+      catch (ThreadInterruptedError | TimedOutError e) {
+        LOG.warn("Unable to cancel all mom jobs: {}", futures, e);
+      }
+    }
+
+    m_topics.clear();
+    m_queues.clear();
+    m_durableConsumers.clear();
+  }
+
+  protected boolean isQueue(final IDestination<?> destination) {
+    if (destination.getType() == DestinationType.QUEUE) {
+      return true;
+    }
+    else if (destination.getType() == DestinationType.TOPIC) {
+      return false;
+    }
+    throw new AssertionException("Unsupported destination type [{}]", destination);
+  }
+
+  protected P_Envelope createEnvelope(final IDestination<?> destination, final Object transferObject, final PublishInput input, final String replyId) {
+    final Map<String, String> context = new HashMap<>(input.getProperties());
+    final Object data = resolveMarshaller(destination).marshall(transferObject, context);
+    final long expiration = input.getTimeToLive() == PublishInput.INFINITELY ? 0L : System.currentTimeMillis() + input.getTimeToLive();
+    return new P_Envelope(data, context, toPriorityLevel(input), expiration, CorrelationId.CURRENT.get(), replyId, true);
+  }
+
+  /**
+   * Maps the relative priority of {@link PublishInput#getPriority()} to one of {@link #PRIORITY_LEVELS} levels, like
+   * JMS does.
+   */
+  protected int toPriorityLevel(final PublishInput input) {
+    int priority = input.getPriority() + DEFAULT_PRIORITY;
+    return Math.max(0, Math.min(PRIORITY_LEVELS - 1, priority));
+  }
+
+  protected void deliver(final IDestination<?> destination, final P_Envelope envelope) {
+    if (isQueue(destination)) {
+      m_queues.computeIfAbsent(destination.getName(), k -> new P_Queue()).deliver(envelope);
+    }
+    else {
+      final P_Topic topic = m_topics.get(destination.getName());
+      if (topic != null) {
+        topic.deliver(envelope);
+      }
+    }
+  }
+
+  /**
+   * Allows to intercept the exception if request processing failed.
+   */
+  protected Throwable interceptRequestReplyException(final Throwable t) {
+    Throwable interceptedThrowable = t;
+
+    // Replace PlatformException to ensure serialization
+    if (t instanceof PlatformException) {
+      interceptedThrowable = new RuntimeException(t.getMessage());
+    }
+
+    // Unset cause and stracktrace (security)
+    if (interceptedThrowable.getCause() == t) {
+      interceptedThrowable.initCause(null);
+    }
+    interceptedThrowable.setStackTrace(new StackTraceElement[0]);
+
+    return interceptedThrowable;
+  }
+
+  /**
+   * Marshalled message as kept in the mailboxes.
+   */
+  protected static class P_Envelope {
+    private final Object m_data;
+    private final Map<String, String> m_properties;
+    private final int m_priority;
+    private final long m_expiration;
+    private final String m_correlationId;
+    private final String m_replyId;
+    private final boolean m_success;
+    private final Context m_traceContext;
+
+    public P_Envelope(final Object data, final Map<String, String> properties, final int priority, final long expiration, final String correlationId, final String replyId, final boolean success) {
+      m_data = data;
+      m_properties = Collections.unmodifiableMap(properties);
+      m_priority = priority;
+      m_expiration = expiration;
+      m_correlationId = correlationId;
+      m_replyId = replyId;
+      m_success = success;
+      m_traceContext = Context.current();
+    }
+
+    public Object getData() {
+      return m_data;
+    }
+
+    public Map<String, String> getProperties() {
+      return m_properties;
+    }
+
+    public int getPriority() {
+      return m_priority;
+    }
+
+    public boolean isExpired(final long now) {
+      return m_expiration > 0 && now > m_expiration;
+    }
+
+    public String getCorrelationId() {
+      return m_correlationId;
+    }
+
+    public String getReplyId() {
+      return m_replyId;
+    }
+
+    public boolean isSuccess() {
+      return m_success;
+    }
+
+    /**
+     * @return the OpenTelemetry context of the publisher, so that the processing of the message is part of its trace.
+     */
+    public Context getTraceContext() {
+      return m_traceContext;
+    }
+  }
+
+  /**
+   * Non-blocking message store with one queue per priority level.
+   */
+  protected static class P_Mailbox {
+    private final List<Queue<P_Envelope>> m_priorityQueues;
+
+    public P_Mailbox() {
+      m_priorityQueues = new ArrayList<>(PRIORITY_LEVELS);
+      for (int i = 0; i < PRIORITY_LEVELS; i++) {
+        m_priorityQueues.add(new ConcurrentLinkedQueue<>());
+      }
+    }
+
+    public void offer(final P_Envelope envelope) {
+      m_priorityQueues.get(envelope.getPriority()).offer(envelope);
+    }
+
+    /**
+     * @return the next message with the highest priority which is not expired, or <code>null</code> if empty.
+     */
+    public P_Envelope poll() {
+      final long now = System.currentTimeMillis();
+      for (int i = PRIORITY_LEVELS - 1; i >= 0; i--) {
+        final Queue<P_Envelope> queue = m_priorityQueues.get(i);
+        P_Envelope envelope;
+        while ((envelope = queue.poll()) != null) {
+          if (!envelope.isExpired(now)) {
+            return envelope;
+          }
+          LOG.debug("Discarding expired message [correlationId={}]", envelope.getCorrelationId());
+        }
+      }
+      return null;
+    }
+
+    public boolean isEmpty() {
+      for (Queue<P_Envelope> queue : m_priorityQueues) {
+        if (!queue.isEmpty()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Queue whose messages are load balanced over all subscriptions. Messages are kept until a subscription consumes
+   * them.
+   */
+  protected static class P_Queue {
+    private final P_Mailbox m_mailbox = new P_Mailbox();
+    private final List<P_Subscription> m_subscriptions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger m_nextSubscription = new AtomicInteger();
+
+    public P_Mailbox getMailbox() {
+      return m_mailbox;
+    }
+
+    public void add(final P_Subscription subscription) {
+      m_subscriptions.add(subscription);
+    }
+
+    public void remove(final P_Subscription subscription) {
+      m_subscriptions.remove(subscription);
+      // hand over pending messages to a remaining subscription
+      for (P_Subscription remaining : m_subscriptions) {
+        remaining.signal();
+        break;
+      }
+    }
+
+    public void deliver(final P_Envelope envelope) {
+      m_mailbox.offer(envelope);
+      final List<P_Subscription> subscriptions = new ArrayList<>(m_subscriptions);
+      if (!subscriptions.isEmpty()) {
+        subscriptions.get(Math.floorMod(m_nextSubscription.getAndIncrement(), subscriptions.size())).signal();
+      }
+    }
+  }
+
+  /**
+   * Topic which delivers every message to all of its consumers.
+   */
+  protected static class P_Topic {
+    private final List<P_Consumer> m_consumers = new CopyOnWriteArrayList<>();
+
+    public P_Consumer add(final P_Consumer consumer) {
+      m_consumers.add(consumer);
+      return consumer;
+    }
+
+    public void remove(final P_Consumer consumer) {
+      m_consumers.remove(consumer);
+    }
+
+    public void deliver(final P_Envelope envelope) {
+      for (P_Consumer consumer : m_consumers) {
+        consumer.deliver(envelope);
+      }
+    }
+  }
+
+  /**
+   * Consumer of a topic. Durable consumers keep receiving messages while no subscription is attached.
+   */
+  protected static class P_Consumer {
+    private final String m_topicName;
+    private final boolean m_localReceipt;
+    private final P_Mailbox m_mailbox = new P_Mailbox();
+    private volatile P_Subscription m_subscription;
+
+    public P_Consumer(final String topicName, final boolean localReceipt) {
+      m_topicName = topicName;
+      m_localReceipt = localReceipt;
+    }
+
+    public String getTopicName() {
+      return m_topicName;
+    }
+
+    public P_Mailbox getMailbox() {
+      return m_mailbox;
+    }
+
+    public synchronized void attach(final P_Subscription subscription) {
+      assertNull(m_subscription, "durable subscription is already active");
+      m_subscription = subscription;
+    }
+
+    public synchronized void detach(final P_Subscription subscription) {
+      if (m_subscription == subscription) {
+        m_subscription = null;
+      }
+    }
+
+    public boolean isActive() {
+      return m_subscription != null;
+    }
+
+    public void deliver(final P_Envelope envelope) {
+      if (!m_localReceipt) {
+        return; // all messages are published locally
+      }
+      m_mailbox.offer(envelope);
+      final P_Subscription subscription = m_subscription;
+      if (subscription != null) {
+        subscription.signal();
+      }
+    }
+  }
+
+  /**
+   * Subscription which drains its mailbox in a job of the job manager. At most one drain job is running at any time.
+   */
+  protected class P_Subscription implements ISubscription {
+
+    private final IDestination<?> m_destination;
+    private final IMessageListener<?> m_messageListener;
+    private final IRequestListener<?, ?> m_requestListener;
+    private final SubscribeInput m_subscribeInput;
+    private final P_Mailbox m_mailbox;
+    private final IMarshaller m_marshaller;
+    private final Semaphore m_semaphore;
+    private final InVmSubscriptionStats m_stats = new InVmSubscriptionStats();
+    private final AtomicBoolean m_draining = new AtomicBoolean();
+    private final List<Runnable> m_disposeHooks = new CopyOnWriteArrayList<>();
+    private volatile boolean m_disposed;
+    private volatile IFuture<?> m_drainFuture;
+
+    public P_Subscription(final IDestination<?> destination, final IMessageListener<?> messageListener, final IRequestListener<?, ?> requestListener, final SubscribeInput subscribeInput, final P_Mailbox mailbox) {
+      m_destination = destination;
+      m_messageListener = messageListener;
+      m_requestListener = requestListener;
+      m_subscribeInput = subscribeInput;
+      m_mailbox = mailbox;
+      m_marshaller = resolveMarshaller(destination);
+      m_semaphore = subscribeInput.getMaxConcurrentConsumerJobs() > 0 ? new Semaphore(subscribeInput.getMaxConcurrentConsumerJobs()) : null;
+    }
+
+    @Override
+    public IDestination<?> getDestination() {
+      return m_destination;
+    }
+
+    @Override
+    public IMessageListener<?> getMessageListener() {
+      return m_messageListener;
+    }
+
+    @Override
+    public IRequestListener<?, ?> getRequestListener() {
+      return m_requestListener;
+    }
+
+    @Override
+    public SubscribeInput getSubscribeInput() {
+      return m_subscribeInput;
+    }
+
+    @Override
+    public ISubscriptionStats getStats() {
+      return m_stats;
+    }
+
+    @Override
+    public boolean isDisposed() {
+      return m_disposed;
+    }
+
+    public void onDispose(final Runnable hook) {
+      m_disposeHooks.add(hook);
+    }
+
+    @Override
+    public void dispose() {
+      if (m_disposed) {
+        return;
+      }
+      m_disposed = true;
+      m_subscriptions.remove(this);
+      m_disposeHooks.forEach(Runnable::run);
+
+      // In case of single threaded subscription we wait for any ongoing message processing
+      final IFuture<?> drainFuture = m_drainFuture;
+      if (isSingleThreaded() && drainFuture != null && drainFuture != IFuture.CURRENT.get()) {
+        drainFuture.awaitDone();
+      }
+    }
+
+    protected boolean isSingleThreaded() {
+      return SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED == m_subscribeInput.getAcknowledgementMode();
+    }
+
+    protected boolean isTransacted() {
+      return SubscribeInput.ACKNOWLEDGE_TRANSACTED == m_subscribeInput.getAcknowledgementMode();
+    }
+
+    /**
+     * Schedules a job to drain the mailbox, unless already running.
+     */
+    public void signal() {
+      if (!m_disposed && !m_mailbox.isEmpty() && m_draining.compareAndSet(false, true)) {
+        m_drainFuture = Jobs.schedule(this::drain, newJobInput()
+            .withName("InVM subscriber [dest={}]", m_destination.getName()));
+      }
+    }
+
+    protected void drain() {
+      try {
+        P_Envelope envelope;
+        while (!m_disposed && !IFuture.CURRENT.get().isCancelled() && (envelope = m_mailbox.poll()) != null) {
+          m_stats.notifyReceiveMessage(envelope);
+          dispatch(envelope);
+        }
+      }
+      finally {
+        m_draining.set(false);
+      }
+      // messages might have arrived after the last poll
+      signal();
+    }
+
+    protected void dispatch(final P_Envelope envelope) {
+      if (m_requestListener != null) {
+        dispatchRequest(envelope);
+      }
+      else if (isSingleThreaded() || isTransacted()) {
+        handleMessage(envelope);
+      }
+      else {
+        acquirePermit();
+        Jobs.schedule(() -> handleMessage(envelope), newJobInput()
+            .withName("Receiving InVM message [dest={}]", m_destination.getName()));
+      }
+    }
+
+    protected void dispatchRequest(final P_Envelope envelope) {
+      acquirePermit();
+      final IFuture<Void> future = Jobs.schedule(() -> handleRequest(envelope), newJobInput()
+          .withName("Receiving InVM message [dest={}]", m_destination.getName())
+          .withExecutionHint(envelope.getReplyId())); // Register for cancellation
+      if (isSingleThreaded()) {
+        future.awaitDone();
+      }
+    }
+
+    protected void acquirePermit() {
+      if (m_semaphore == null || isSingleThreaded()) {
+        return;
+      }
+      try {
+        m_semaphore.acquire();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for a consumer permit", e);
+      }
+    }
+
+    protected void releasePermit() {
+      if (m_semaphore != null && !isSingleThreaded()) {
+        m_semaphore.release();
+      }
+    }
+
+    protected RunContext createRunContext(final P_Envelope envelope) {
+      RunContext runContext = (m_subscribeInput.getRunContext() != null ? m_subscribeInput.getRunContext().copy() : RunContexts.empty());
+      return runContext
+          .withCorrelationId(envelope.getCorrelationId())
+          .withOpenTelemetryContext(envelope.getTraceContext())
+          .withTransactionScope(TransactionScope.REQUIRES_NEW);
+    }
+
+    protected P_Message<Object> readMessage(final P_Envelope envelope) {
+      final Object transferObject = m_marshaller.unmarshall(envelope.getData(), new HashMap<>(envelope.getProperties()));
+      return new P_Message<>(transferObject, envelope.getProperties());
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void handleMessage(final P_Envelope envelope) {
+      final boolean concurrent = !isSingleThreaded() && !isTransacted();
+      final long startNanos = System.nanoTime();
+      try {
+        final P_Message<Object> message = readMessage(envelope);
+        final int maxAttempts = isTransacted() ? m_maxRedeliveryCount + 1 : 1;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+          try {
+            createRunContext(envelope)
+                .withThreadLocal(IMessage.CURRENT, message)
+                .run(() -> ((IMessageListener<Object>) m_messageListener).onMessage(message));
+            return;
+          }
+          catch (RuntimeException e) {
+            if (attempt == maxAttempts) {
+              throw e;
+            }
+            LOG.debug("Redelivering message after failure [dest={}, attempt={}]", m_destination.getName(), attempt, e);
+          }
+        }
+      }
+      catch (RuntimeException | PlatformError e) {
+        m_stats.notifyReceiveError();
+        BEANS.get(ExceptionHandler.class).handle(e);
+      }
+      finally {
+        m_stats.notifyMessageProcessed(System.nanoTime() - startNanos);
+        if (concurrent) {
+          releasePermit();
+        }
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    protected void handleRequest(final P_Envelope envelope) {
+      final long startNanos = System.nanoTime();
+      try {
+        final P_Message<Object> request = readMessage(envelope);
+        createRunContext(envelope)
+            .withThreadLocal(IMessage.CURRENT, request)
+            .withRunMonitor(RunMonitor.CURRENT.get()) // associate with the calling monitor to propagate cancellation
+            .run(() -> {
+              Object transferObject;
+              boolean success = true;
+              try {
+                transferObject = ((IRequestListener<Object, Object>) m_requestListener).onRequest(request);
+              }
+              catch (Throwable t) { // NOSONAR (Always send a response, even if a PlatformError is thrown. Otherwise the caller might wait forever.)
+                BEANS.get(ExceptionHandler.class).handle(t);
+                transferObject = interceptRequestReplyException(t);
+                success = false;
+              }
+              if (IFuture.CURRENT.get().isCancelled()) {
+                return;
+              }
+              final CompletableFuture<P_Envelope> replyFuture = m_pendingReplies.get(envelope.getReplyId());
+              if (replyFuture != null) {
+                final Map<String, String> context = new HashMap<>();
+                final Object data = m_marshaller.marshall(transferObject, context);
+                replyFuture.complete(new P_Envelope(data, context, envelope.getPriority(), 0L, envelope.getCorrelationId(), envelope.getReplyId(), success));
+              }
+            });
+      }
+      catch (RuntimeException | PlatformError e) {
+        m_stats.notifyReceiveError();
+        BEANS.get(ExceptionHandler.class).handle(e);
+        // always complete the reply, otherwise the requester might wait forever (no-op if already completed)
+        final CompletableFuture<P_Envelope> replyFuture = m_pendingReplies.get(envelope.getReplyId());
+        if (replyFuture != null) {
+          replyFuture.completeExceptionally(e);
+        }
+      }
+      finally {
+        m_stats.notifyMessageProcessed(System.nanoTime() - startNanos);
+        releasePermit();
+      }
+    }
+
+    @Override
+    public String toString() {
+      return getClass().getSimpleName() + "[destination=" + m_destination.getName() + "]";
+    }
+  }
+
+  /**
+   * Message as given to the listeners.
+   */
+  protected static class P_Message<DTO> implements IMessage<DTO> {
+    private final DTO m_transferObject;
+    private final Map<String, String> m_properties;
+
+    public P_Message(final DTO transferObject, final Map<String, String> properties) {
+      m_transferObject = transferObject;
+      m_properties = properties;
+    }
+
+    @Override
+    public DTO getTransferObject() {
+      return m_transferObject;
+    }
+
+    @Override
+    public String getProperty(final String property) {
+      return m_properties.get(property);
+    }
+
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      return null;
+    }
+  }
+
+  /**
+   * Transaction member to deliver transactional messages upon commit.
+   */
+  protected class P_TransactionMember extends AbstractTransactionMember {
+    private final List<Runnable> m_deliveries = new ArrayList<>();
+
+    public P_TransactionMember(final String memberId) {
+      super(memberId);
+    }
+
+    public synchronized void add(final IDestination<?> destination, final P_Envelope envelope) {
+      m_deliveries.add(() -> deliver(destination, envelope));
+    }
+
+    @Override
+    public synchronized boolean needsCommit() {
+      return !m_deliveries.isEmpty();
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      m_deliveries.forEach(Runnable::run);
+      m_deliveries.clear();
+    }
+
+    @Override
+    public synchronized void rollback() {
+      m_deliveries.clear();
+    }
+  }
+
+  /**
+   * Statistics of a subscription of {@link InVmMomImplementor}.
+   */
+  public static class InVmSubscriptionStats implements ISubscriptionStats {
+    private final AtomicLong m_messageCount = new AtomicLong();
+    private final AtomicLong m_messageNonNullCount = new AtomicLong();
+    private final AtomicLong m_errorCount = new AtomicLong();
+    private final AtomicLong m_inFlightCount = new AtomicLong();
+    private final AtomicLong m_processedCount = new AtomicLong();
+    private final AtomicLong m_totalProcessingNanos = new AtomicLong();
+    private final AtomicLong m_maxProcessingNanos = new AtomicLong();
+    private volatile Date m_lastMessageReceivedTimestamp;
+
+    @Override
+    public long receivedMessages() {
+      return m_messageCount.get();
+    }
+
+    @Override
+    public long receivedNonNullMessages() {
+      return m_messageNonNullCount.get();
+    }
+
+    @Override
+    public long receivedErrors() {
+      return m_errorCount.get();
+    }
+
+    @Override
+    public Date lastMessageReceivedTimestamp() {
+      return m_lastMessageReceivedTimestamp;
+    }
+
+    @Override
+    public long inFlightMessages() {
+      return m_inFlightCount.get();
+    }
+
+    @Override
+    public long processedMessages() {
+      return m_processedCount.get();
+    }
+
+    @Override
+    public long averageProcessingTimeMillis() {
+      long processed = m_processedCount.get();
+      return processed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(m_totalProcessingNanos.get() / processed);
+    }
+
+    @Override
+    public long maxProcessingTimeMillis() {
+      return TimeUnit.NANOSECONDS.toMillis(m_maxProcessingNanos.get());
+    }
+
+    protected void notifyReceiveMessage(final P_Envelope envelope) {
+      m_inFlightCount.incrementAndGet();
+      m_messageCount.incrementAndGet();
+      if (envelope.getData() != null) {
+        m_messageNonNullCount.incrementAndGet();
+      }
+      m_lastMessageReceivedTimestamp = BEANS.get(IDateProvider.class).currentMillis();
+    }
+
+    protected void notifyReceiveError() {
+      m_errorCount.incrementAndGet();
+    }
+
+    protected void notifyMessageProcessed(final long processingNanos) {
+      m_inFlightCount.decrementAndGet();
+      m_processedCount.incrementAndGet();
+      m_totalProcessingNanos.addAndGet(processingNanos);
+      m_maxProcessingNanos.accumulateAndGet(processingNanos, Math::max);
+    }
+  }
+}
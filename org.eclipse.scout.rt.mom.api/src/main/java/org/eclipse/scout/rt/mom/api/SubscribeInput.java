@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.mom.api;
 
+import java.util.concurrent.TimeUnit;
+
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
@@ -56,6 +58,10 @@ public class SubscribeInput {
   private boolean m_localReceipt = true;
   private String m_durableSubscriptionName;
   private int m_maxConcurrentConsumerJobs = -1;
+  private int m_consumerCount = 1;
+  private boolean m_orderedByMessageGroup;
+  private int m_transactedBatchSize = 1;
+  private long m_transactedBatchTimeoutMillis;
 
   public int getAcknowledgementMode() {
     return m_acknowledgementMode;
@@ -165,4 +171,86 @@ public class SubscribeInput {
     m_maxConcurrentConsumerJobs = maxConcurrentConsumerJobs;
     return this;
   }
+
+  /**
+   * @return the number of consumers receiving messages for this subscription. The default is <code>1</code>.
+   * @see #withConsumerCount(int)
+   * @since 24.1
+   */
+  public int getConsumerCount() {
+    return m_consumerCount;
+  }
+
+  /**
+   * Specifies how many consumers receive messages for this subscription in parallel. Each consumer has its own
+   * session, so a slow message does not block the consumption of the following messages. The default is
+   * <code>1</code>.
+   * <p>
+   * This only makes sense for queues, as every consumer of a topic receives every message.
+   *
+   * @since 24.1
+   */
+  public SubscribeInput withConsumerCount(int consumerCount) {
+    m_consumerCount = consumerCount;
+    return this;
+  }
+
+  /**
+   * @return <code>true</code> if messages of the same message group are processed in the order received.
+   * @see #withOrderedByMessageGroup(boolean)
+   * @since 24.1
+   */
+  public boolean isOrderedByMessageGroup() {
+    return m_orderedByMessageGroup;
+  }
+
+  /**
+   * Specifies that messages of the same message group are processed one after the other in the order they are
+   * received, while messages of different groups are still processed concurrently. The default is <code>false</code>.
+   * <p>
+   * This only makes sense for {@link #ACKNOWLEDGE_AUTO}, as the other modes process all messages in order. The message
+   * group is implementor specific, e.g. the property <code>JMSXGroupID</code> in JMS.
+   *
+   * @since 24.1
+   */
+  public SubscribeInput withOrderedByMessageGroup(boolean orderedByMessageGroup) {
+    m_orderedByMessageGroup = orderedByMessageGroup;
+    return this;
+  }
+
+  /**
+   * @return the maximum number of messages acknowledged together in {@link #ACKNOWLEDGE_TRANSACTED} mode. The default
+   *         is <code>1</code>.
+   * @see #withTransactedBatch(int, long, TimeUnit)
+   * @since 24.1
+   */
+  public int getTransactedBatchSize() {
+    return m_transactedBatchSize;
+  }
+
+  /**
+   * @return the maximum time in milliseconds a successfully processed message waits to be acknowledged in
+   *         {@link #ACKNOWLEDGE_TRANSACTED} mode.
+   * @see #withTransactedBatch(int, long, TimeUnit)
+   * @since 24.1
+   */
+  public long getTransactedBatchTimeoutMillis() {
+    return m_transactedBatchTimeoutMillis;
+  }
+
+  /**
+   * Specifies to acknowledge messages in batches in {@link #ACKNOWLEDGE_TRANSACTED} mode. The receipt of the messages
+   * is committed after <code>batchSize</code> messages were processed successfully, or when no further message is
+   * received within the given timeout.
+   * <p>
+   * If a message fails, all not yet acknowledged messages of the batch are delivered again, i.e. message listeners
+   * must be idempotent.
+   *
+   * @since 24.1
+   */
+  public SubscribeInput withTransactedBatch(int batchSize, long timeout, TimeUnit unit) {
+    m_transactedBatchSize = batchSize;
+    m_transactedBatchTimeoutMillis = unit.toMillis(timeout);
+    return this;
+  }
 }
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertType;
+
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.TypeName;
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IMom;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+
+/**
+ * This marshaller allows to transport an {@link IDataObject} in a binary form across the network. It uses the Scout
+ * {@link IBinaryDataObjectMapper} to serialize/deserialize the content to/from bytes. Compared to
+ * {@link JsonDataObjectMarshaller}, no text parsing is required and the payload is smaller.
+ * <p>
+ * Both communication parties must use this marshaller for the {@link IDestination}, e.g. by registering it with
+ * {@link IMom#registerMarshaller(IDestination, IMarshaller)}.
+ * <p>
+ * <b>Important:</b> The content data <i>must</i> be an instance of {@link IDataObject} annotated with a
+ * &#64;{@link TypeName}.
+ *
+ * @see IMarshaller#MESSAGE_TYPE_BYTES
+ * @see JsonDataObjectMarshaller
+ * @since 24.1
+ */
+@Bean
+public class BinaryDataObjectMarshaller implements IMarshaller {
+
+  protected final IBinaryDataObjectMapper m_dataObjectMapper;
+
+  public BinaryDataObjectMarshaller() {
+    m_dataObjectMapper = createDataObjectMapper();
+  }
+
+  /**
+   * @param transferObject
+   *          object to marshal, must be of type {@code IDataObject} (or {@code null})
+   * @throws AssertionException
+   *           if the given object is not of the expected type
+   */
+  @Override
+  public Object marshall(final Object transferObject, final Map<String, String> context) {
+    return m_dataObjectMapper.writeValueAsBytes(assertType(transferObject, IDataObject.class));
+  }
+
+  @Override
+  public Object unmarshall(final Object data, final Map<String, String> context) {
+    return m_dataObjectMapper.readValue(assertType(data, byte[].class), IDataObject.class);
+  }
+
+  @Override
+  public int getMessageType() {
+    return MESSAGE_TYPE_BYTES;
+  }
+
+  protected IBinaryDataObjectMapper createDataObjectMapper() {
+    return BEANS.get(IBinaryDataObjectMapper.class);
+  }
+}
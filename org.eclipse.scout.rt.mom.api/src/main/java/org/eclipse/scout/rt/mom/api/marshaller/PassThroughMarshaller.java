@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.api.marshaller;
+
+import java.util.Map;
+
+import org.eclipse.scout.rt.mom.api.InVmMomImplementor;
+import org.eclipse.scout.rt.platform.Bean;
+
+/**
+ * This marshaller passes the transfer object as it is, without copying or transforming it. The receivers get the very
+ * same instance as published, so the transfer object should be immutable.
+ * <p>
+ * This marshaller only works with MOM implementors that do not leave the JVM, like {@link InVmMomImplementor}.
+ *
+ * @since 24.1
+ */
+@Bean
+public class PassThroughMarshaller implements IMarshaller {
+
+  @Override
+  public Object marshall(final Object transferObject, final Map<String, String> context) {
+    return transferObject;
+  }
+
+  @Override
+  public Object unmarshall(final Object data, final Map<String, String> context) {
+    return data;
+  }
+
+  @Override
+  public int getMessageType() {
+    return MESSAGE_TYPE_BYTES;
+  }
+}
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.eclipse.scout.rt.mom.api.IDestination;
+import org.eclipse.scout.rt.mom.api.IDestination.DestinationType;
+import org.eclipse.scout.rt.mom.api.IDestination.ResolveMethod;
+import org.eclipse.scout.rt.mom.api.ISubscription;
+import org.eclipse.scout.rt.mom.api.ISubscriptionStats;
+import org.eclipse.scout.rt.mom.api.MOM;
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.testcategory.SlowTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+/**
+ * Tests for {@link SubscribeInput#withConsumerCount(int)}, {@link SubscribeInput#withOrderedByMessageGroup(boolean)}
+ * and {@link SubscribeInput#withTransactedBatch(int, long, TimeUnit)}.
+ */
+@Category(SlowTest.class)
+public class JmsMomConsumerTest extends AbstractJmsMomTest {
+
+  public JmsMomConsumerTest(AbstractJmsMomTestParameter parameter) {
+    super(parameter);
+  }
+
+  @Test
+  public void testMultipleConsumers() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testMultipleConsumers", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // both messages must be processed at the same time, although every consumer is single threaded
+    CountDownLatch processing = new CountDownLatch(2);
+    CountDownLatch processed = new CountDownLatch(2);
+    AtomicInteger parallel = new AtomicInteger();
+    ISubscription subscription = MOM.subscribe(FixtureMom.class, queue, message -> {
+      processing.countDown();
+      try {
+        if (processing.await(10, TimeUnit.SECONDS)) {
+          parallel.incrementAndGet();
+        }
+      }
+      catch (InterruptedException e) {
+        throw new ThreadInterruptedError("Interrupted", e);
+      }
+      finally {
+        processed.countDown();
+      }
+    }, MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED)
+        .withConsumerCount(2));
+    m_disposables.add(subscription);
+
+    MOM.publish(FixtureMom.class, queue, "a");
+    MOM.publish(FixtureMom.class, queue, "b");
+    assertTrue(processed.await(15, TimeUnit.SECONDS));
+    assertEquals(2, parallel.get());
+
+    ISubscriptionStats stats = subscription.getStats();
+    assertEquals(2, stats.receivedNonNullMessages());
+
+    subscription.dispose(); // waits for the consumers to complete
+    assertEquals(0, stats.inFlightMessages());
+    assertEquals(2, stats.processedMessages());
+    assertTrue(stats.maxProcessingTimeMillis() >= stats.averageProcessingTimeMillis());
+  }
+
+  @Test
+  public void testOrderedByMessageGroup() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testOrderedByMessageGroup", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    List<String> received = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch latch = new CountDownLatch(10);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> {
+      // earlier messages take longer to process
+      SleepUtil.sleepSafe(10 - Integer.parseInt(message.getTransferObject()), TimeUnit.MILLISECONDS);
+      received.add(message.getTransferObject());
+      latch.countDown();
+    }, MOM.newSubscribeInput().withOrderedByMessageGroup(true)));
+
+    List<String> published = IntStream.range(0, 10).mapToObj(String::valueOf).collect(Collectors.toList());
+    for (String message : published) {
+      MOM.publish(FixtureMom.class, queue, message, MOM.newPublishInput().withProperty(IJmsMomProperties.JMS_PROP_GROUP_ID, "group"));
+    }
+    assertTrue(latch.await(15, TimeUnit.SECONDS));
+    assertEquals(published, received);
+  }
+
+  @Test
+  public void testTransactedBatch() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testTransactedBatch", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // fewer messages than the batch size: the receipt is committed after the timeout
+    CountDownLatch latch = new CountDownLatch(3);
+    ISubscription subscription = MOM.subscribe(FixtureMom.class, queue, message -> latch.countDown(), MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withTransactedBatch(5, 100, TimeUnit.MILLISECONDS));
+    MOM.publish(FixtureMom.class, queue, "a");
+    MOM.publish(FixtureMom.class, queue, "b");
+    MOM.publish(FixtureMom.class, queue, "c");
+    assertTrue(latch.await(15, TimeUnit.SECONDS));
+    SleepUtil.sleepSafe(500, TimeUnit.MILLISECONDS);
+    subscription.dispose();
+
+    // committed messages are not delivered again
+    CountDownLatch redelivered = new CountDownLatch(1);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> redelivered.countDown(), MOM.newSubscribeInput()));
+    assertFalse(redelivered.await(500, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testTransactedBatchDisposeWithPendingMessages() throws InterruptedException {
+    installMom();
+    IDestination<String> queue = MOM.newDestination("test/mom/testTransactedBatchDisposeWithPendingMessages", DestinationType.QUEUE, ResolveMethod.DEFINE, null);
+
+    // neither the batch size nor the timeout is reached before the subscription is disposed
+    CountDownLatch latch = new CountDownLatch(3);
+    ISubscription subscription = MOM.subscribe(FixtureMom.class, queue, message -> latch.countDown(), MOM.newSubscribeInput()
+        .withAcknowledgementMode(SubscribeInput.ACKNOWLEDGE_TRANSACTED)
+        .withTransactedBatch(5, 5, TimeUnit.SECONDS));
+    MOM.publish(FixtureMom.class, queue, "a");
+    MOM.publish(FixtureMom.class, queue, "b");
+    MOM.publish(FixtureMom.class, queue, "c");
+    assertTrue(latch.await(15, TimeUnit.SECONDS));
+    subscription.dispose();
+
+    // pending messages are committed on dispose and not delivered again
+    CountDownLatch redelivered = new CountDownLatch(1);
+    m_disposables.add(MOM.subscribe(FixtureMom.class, queue, message -> redelivered.countDown(), MOM.newSubscribeInput()));
+    assertFalse(redelivered.await(500, TimeUnit.MILLISECONDS));
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link JmsTransactedBatch}
+ */
+public class JmsTransactedBatchTest {
+
+  private Session m_session;
+  private P_JmsTransactedBatch m_batch;
+
+  @Before
+  public void before() {
+    m_session = mock(Session.class);
+    m_batch = new P_JmsTransactedBatch(5, 100);
+  }
+
+  @Test
+  public void testCommitWhenBatchIsFull() throws JMSException {
+    for (int i = 0; i < 4; i++) {
+      m_batch.onMessageProcessed(m_session);
+    }
+    verify(m_session, never()).commit();
+    assertTrue(m_batch.hasPending());
+
+    m_batch.onMessageProcessed(m_session);
+    verify(m_session, times(1)).commit();
+    assertFalse(m_batch.hasPending());
+  }
+
+  @Test
+  public void testTimeout() throws JMSException {
+    assertFalse(m_batch.isTimedOut());
+    m_batch.onMessageProcessed(m_session);
+    assertEquals(100, m_batch.remainingTimeoutMillis());
+
+    m_batch.advance(99);
+    assertFalse(m_batch.isTimedOut());
+    assertEquals(1, m_batch.remainingTimeoutMillis());
+
+    m_batch.advance(1);
+    assertTrue(m_batch.isTimedOut());
+    verify(m_session, never()).commit();
+  }
+
+  /**
+   * Messages arriving steadily but below the batch size must be committed once the timeout elapsed.
+   */
+  @Test
+  public void testCommitOnTimeoutWhileMessagesKeepArriving() throws JMSException {
+    // one message every 30ms, the receiving thread never runs into a receive timeout
+    P_JmsTransactedBatch batch = new P_JmsTransactedBatch(10, 100);
+    for (int i = 0; i < 4; i++) { // t = 0, 30, 60, 90
+      batch.onMessageProcessed(m_session);
+      batch.advance(30);
+    }
+    verify(m_session, never()).commit();
+
+    batch.onMessageProcessed(m_session); // t = 120
+    verify(m_session, times(1)).commit();
+    assertFalse(batch.hasPending());
+
+    // next batch starts with the next message
+    for (int i = 0; i < 4; i++) { // t = 150, 180, 210, 240
+      batch.advance(30);
+      batch.onMessageProcessed(m_session);
+    }
+    verify(m_session, times(1)).commit();
+    assertTrue(batch.hasPending());
+
+    batch.advance(30);
+    batch.onMessageProcessed(m_session); // t = 270
+    verify(m_session, times(2)).commit();
+  }
+
+  @Test
+  public void testResetOnRollback() throws JMSException {
+    m_batch.onMessageProcessed(m_session);
+    m_batch.reset();
+    assertFalse(m_batch.hasPending());
+
+    m_batch.advance(200);
+    assertFalse(m_batch.isTimedOut());
+    m_batch.onMessageProcessed(m_session);
+    verify(m_session, never()).commit();
+  }
+
+  @Test
+  public void testResetIfCommitFails() throws JMSException {
+    doThrow(new JMSException("expected JUnit test exception")).when(m_session).commit();
+    m_batch.onMessageProcessed(m_session);
+    m_batch.advance(100);
+    assertThrows(JMSException.class, () -> m_batch.onMessageProcessed(m_session));
+    assertFalse(m_batch.hasPending());
+  }
+
+  private static class P_JmsTransactedBatch extends JmsTransactedBatch {
+    private long m_now = 1000;
+
+    P_JmsTransactedBatch(int batchSize, long timeoutMillis) {
+      super(batchSize, timeoutMillis);
+    }
+
+    void advance(long millis) {
+      m_now += millis;
+    }
+
+    @Override
+    protected long currentTimeMillis() {
+      return m_now;
+    }
+  }
+}
@@ -20,11 +20,14 @@ import org.eclipse.scout.rt.mom.api.IDestination;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.jms.JmsMomImplementor.MomExceptionHandler;
+import org.eclipse.scout.rt.mom.jms.internal.JmsConsumerStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsTransactedBatch;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
@@ -32,9 +35,12 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.trace.SpanKind;
+
 public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
 
   private static final Logger LOG = LoggerFactory.getLogger(AbstractMessageConsumerJob.class);
+  protected static final String TRACER_NAME = "scout.MessageConsumer";
 
   protected final JmsMomImplementor m_mom;
   protected final IJmsSessionProvider m_sessionProvider;
@@ -47,6 +53,15 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
    * It is nonfair, but for this usecase we only have 1 thread trying to acquire.
    */
   protected final Semaphore m_semaphore;
+  /**
+   * Processing statistics of this consumer.
+   */
+  protected final JmsConsumerStats m_consumerStats = new JmsConsumerStats();
+  /**
+   * Batch to commit received messages in {@link SubscribeInput#ACKNOWLEDGE_TRANSACTED} mode, or <code>null</code> to
+   * commit every message.
+   */
+  protected final JmsTransactedBatch m_transactedBatch;
 
   /**
    * @param mom
@@ -80,6 +95,16 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
       // unlimited concurrent jobs allowed
       m_semaphore = null;
     }
+    if (isTransacted() && input.getTransactedBatchSize() > 1) {
+      m_transactedBatch = new JmsTransactedBatch(input.getTransactedBatchSize(), input.getTransactedBatchTimeoutMillis());
+    }
+    else {
+      m_transactedBatch = null;
+    }
+  }
+
+  public JmsConsumerStats getConsumerStats() {
+    return m_consumerStats;
   }
 
   protected boolean isSingleThreaded() {
@@ -92,57 +117,116 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
 
   @Override
   public void run() throws Exception {
-    while (true) {
-      if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
-        LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
-        break;
-      }
-
-      final Session transactedSession;
-      final Message message;
-      try {
-        transactedSession = m_sessionProvider.getSession();
-        if (m_semaphore != null) {
-          m_semaphore.acquire();
-        }
-        message = m_sessionProvider.receive(m_subscribeInput, m_receiveTimeoutMillis);
-        if (message == null) {
-          // consumer closed or connection failure, go to start of while loop
-          continue;
-        }
-      }
-      catch (Exception | ThreadInterruptedError e) {
-        //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption
-        Thread.interrupted();
+    Session lastTransactedSession = null;
+    try {
+      while (true) {
         if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
           LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
           break;
         }
-        LOG.warn("JMS MessageConsumer for {} is still idle after several retry attempts", m_destination, e);
-        continue;
-      }
 
-      try {
-        m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
-        onJmsMessage(message);
-      }
-      catch (Exception | ThreadInterruptedError e) {
-        //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption in the downstream call to handleIncoming
-        Thread.interrupted();
-        if (isRollbackNecessary(e)) {
-          try {
-            transactedSession.rollback();
+        final Session transactedSession;
+        final Message message;
+        try {
+          transactedSession = m_sessionProvider.getSession();
+          lastTransactedSession = transactedSession;
+          if (m_semaphore != null) {
+            m_semaphore.acquire();
           }
-          catch (final JMSException ex) {
-            LOG.error("Failed to rollback transacted session [session={}]", transactedSession, ex);
+          message = m_sessionProvider.receive(m_subscribeInput, computeReceiveTimeoutMillis());
+          if (message == null) {
+            // consumer closed, connection failure or timeout, go to start of while loop
+            if (m_semaphore != null) {
+              m_semaphore.release();
+            }
+            commitTransactedBatchIfTimedOut(transactedSession);
+            continue;
           }
+          m_consumerStats.notifyMessageReceived();
+        }
+        catch (Exception | ThreadInterruptedError e) {
+          //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption
+          Thread.interrupted();
+          if (IFuture.CURRENT.get().isCancelled() || m_sessionProvider.isClosing()) {
+            LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
+            break;
+          }
+          LOG.warn("JMS MessageConsumer for {} is still idle after several retry attempts", m_destination, e);
+          continue;
+        }
+
+        try {
+          m_mom.getMessageHandler().handleIncoming(m_destination, message, m_marshaller);
+          onJmsMessage(message);
+        }
+        catch (Exception | ThreadInterruptedError e) {
+          //not catching ThreadInterruptedError would exit the event loop in case of accidential thread interruption in the downstream call to handleIncoming
+          Thread.interrupted();
+          if (isRollbackNecessary(e)) {
+            try {
+              transactedSession.rollback();
+            }
+            catch (final JMSException ex) {
+              LOG.error("Failed to rollback transacted session [session={}]", transactedSession, ex);
+            }
+            finally {
+              if (m_transactedBatch != null) {
+                m_transactedBatch.reset();
+              }
+            }
+          }
+          BEANS.get(MomExceptionHandler.class).handle(e);
         }
-        BEANS.get(MomExceptionHandler.class).handle(e);
       }
     }
+    finally {
+      // commit the messages already processed, closing the session would roll them back
+      commitPendingTransactedBatch(lastTransactedSession);
+    }
     LOG.debug("JMS MessageConsumer for {} was closed", m_destination);
   }
 
+  /**
+   * @return the timeout for the next receive call, which is shortened while there are uncommitted messages in the
+   *         transacted batch
+   */
+  protected long computeReceiveTimeoutMillis() {
+    if (m_transactedBatch == null || !m_transactedBatch.hasPending()) {
+      return m_receiveTimeoutMillis;
+    }
+    long batchTimeout = m_transactedBatch.remainingTimeoutMillis();
+    return m_receiveTimeoutMillis == 0L ? batchTimeout : Math.min(m_receiveTimeoutMillis, batchTimeout);
+  }
+
+  protected void commitTransactedBatchIfTimedOut(Session transactedSession) {
+    if (m_transactedBatch == null || !m_transactedBatch.isTimedOut()) {
+      return;
+    }
+    try {
+      m_transactedBatch.commit(transactedSession);
+    }
+    catch (final JMSException e) {
+      LOG.error("Failed to commit transacted session [session={}]", transactedSession, e);
+    }
+  }
+
+  /**
+   * Commits the messages of the transacted batch which are processed but not committed yet. Called by the consumer
+   * thread when the consumer is cancelled or closed, i.e. before the session is closed by
+   * {@link JmsSubscription#dispose()}.
+   */
+  protected void commitPendingTransactedBatch(Session transactedSession) {
+    if (m_transactedBatch == null || !m_transactedBatch.hasPending() || transactedSession == null) {
+      return;
+    }
+    try {
+      m_transactedBatch.commit(transactedSession);
+    }
+    catch (final JMSException | RuntimeException e) {
+      LOG.warn("Failed to commit transacted session of closed consumer, processed messages may be redelivered [session={}]", transactedSession, e);
+    }
+  }
+
   /**
    * Make sure that a scout JMS-Transaction-Member that is being initialized and not yet attached to the
    * {@link ITransaction} is rollbacked in case of error.
@@ -153,12 +237,28 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
     return isTransacted() && !(e instanceof PlatformException);
   }
 
+  /**
+   * Runs the given runnable within a span for the processing of a message received from the destination. The span is a
+   * child of the span propagated by the sender (if any), see {@link JmsMessageReader#readTraceContext()}.
+   */
+  @SuppressWarnings("squid:S00112")
+  protected void runInSpan(final IRunnable runnable) throws Exception {
+    final TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    tracingHelper.wrapInSpan(tracingHelper.getTracer(TRACER_NAME), m_destination.getName() + " process", SpanKind.CONSUMER, span -> {
+      span.setAttribute("messaging.system", "jms");
+      span.setAttribute("messaging.destination.name", m_destination.getName());
+      runnable.run();
+      return null;
+    });
+  }
+
   protected RunContext createRunContext() throws JMSException {
     RunContext runContext = (m_subscribeInput.getRunContext() != null ? m_subscribeInput.getRunContext().copy() : RunContexts.empty());
     if (isTransacted()) {
       runContext.withTransactionMember(BEANS.get(JmsTransactionMember.class)
           .withMemberId(UUID.randomUUID().toString())
           .withSessionProvider(m_sessionProvider)
+          .withTransactedBatch(m_transactedBatch)
           .withAutoClose(false));
     }
     return runContext
@@ -172,5 +272,16 @@ public abstract class AbstractMessageConsumerJob<DTO> implements IRunnable {
     if (m_semaphore != null) {
       m_semaphore.release();
     }
+    m_consumerStats.notifyMessageCompleted();
+  }
+
+  /**
+   * Records the processing time of a message.
+   *
+   * @param startNanos
+   *          {@link System#nanoTime()} when the processing of the message started
+   */
+  protected void onMessageProcessed(long startNanos) {
+    m_consumerStats.notifyMessageProcessed(System.nanoTime() - startNanos);
   }
 }
@@ -29,6 +29,14 @@ public interface IJmsMomProperties {
    */
   String JMS_PROP_REPLY_ID = "x_scout_mom_requestreply_id"; // name must comply with the rules for a message selector identifier
 
+  /**
+   * The JMS defined property id of the message group a message belongs to. Use
+   * {@link org.eclipse.scout.rt.mom.api.PublishInput#withProperty(String, String)} to publish a message within a group.
+   *
+   * @since 24.1
+   */
+  String JMS_PROP_GROUP_ID = "JMSXGroupID";
+
   /**
    * The property id to check whether 'request-reply' communication failed, meaning that request processing failed.
    */
@@ -31,10 +31,14 @@ import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
 /**
  * Allows to read a JMS message.
  *
@@ -125,6 +129,15 @@ public class JmsMessageReader<DTO> {
     return BEANS.get(CorrelationId.class).newCorrelationId();
   }
 
+  /**
+   * Returns the OpenTelemetry trace context propagated by the message properties, or the current context if not set.
+   *
+   * @see JmsMessageWriter#writeTraceContext()
+   */
+  public Context readTraceContext() {
+    return BEANS.get(TracingHelper.class).extractContext(m_message, JmsMessageTextMapGetter.INSTANCE);
+  }
+
   /**
    * Reads the reply-destination used in 'request-reply' communication, or throws {@link AssertionException} if not set.
    *
@@ -221,4 +234,38 @@ public class JmsMessageReader<DTO> {
   public static <DTO> JmsMessageReader<DTO> newInstance(final Message message, final IMarshaller marshaller) throws JMSException {
     return BEANS.get(JmsMessageReader.class).init(message, marshaller);
   }
+
+  /**
+   * Reads OpenTelemetry propagation fields from the string properties of a JMS {@link Message}.
+   */
+  protected static class JmsMessageTextMapGetter implements TextMapGetter<Message> {
+
+    protected static final JmsMessageTextMapGetter INSTANCE = new JmsMessageTextMapGetter();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterable<String> keys(Message message) {
+      try {
+        return Collections.list(message.getPropertyNames());
+      }
+      catch (final JMSException e) {
+        LOG.warn("Failed to read property names from JMS message", e);
+        return Collections.emptyList();
+      }
+    }
+
+    @Override
+    public String get(Message message, String key) {
+      if (message == null) {
+        return null;
+      }
+      try {
+        return message.getStringProperty(key);
+      }
+      catch (final JMSException e) {
+        LOG.warn("Failed to read property '{}' from JMS message", key, e);
+        return null;
+      }
+    }
+  }
 }
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 
 /**
  * Allows to write a JMS message.
@@ -137,6 +138,18 @@ public class JmsMessageWriter {
     return this;
   }
 
+  /**
+   * Writes the current OpenTelemetry trace context as W3C <code>traceparent</code> and <code>tracestate</code> message
+   * properties, so that the processing of the message is part of the same trace.
+   *
+   * @see JmsMessageReader#readTraceContext()
+   */
+  public JmsMessageWriter writeTraceContext() throws JMSException {
+    final Map<String, String> traceContext = new HashMap<>();
+    BEANS.get(TracingHelper.class).injectCurrentContext(traceContext, Map::put);
+    return writeProperties(traceContext);
+  }
+
   /**
    * Writes the reply-destination used in 'request-reply' communication.
    *
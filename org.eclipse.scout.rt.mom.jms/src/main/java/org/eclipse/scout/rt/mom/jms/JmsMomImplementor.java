@@ -23,6 +23,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import jakarta.jms.Connection;
@@ -59,6 +60,7 @@ import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.api.marshaller.IMarshaller;
 import org.eclipse.scout.rt.mom.api.marshaller.TextMarshaller;
 import org.eclipse.scout.rt.mom.jms.internal.JmsConnectionWrapper;
+import org.eclipse.scout.rt.mom.jms.internal.JmsConsumerStats;
 import org.eclipse.scout.rt.mom.jms.internal.JmsSessionProviderWrapper;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
@@ -311,6 +313,46 @@ public class JmsMomImplementor implements IMomImplementor {
     return subscription;
   }
 
+  protected JmsSubscription createJmsSubscription(IDestination<?> destination, IMessageListener<?> listener, IRequestListener<?, ?> requestListener, SubscribeInput input, List<IJmsSessionProvider> sessionProviders, List<IFuture<?>> workers,
+      List<JmsConsumerStats> consumerStats) {
+    JmsSubscription subscription = new JmsSubscription(destination, listener, requestListener, input, sessionProviders, workers, consumerStats);
+    subscription.awaitStarted(m_subscriptionAwaitStartedSeconds, TimeUnit.SECONDS);
+    return subscription;
+  }
+
+  /**
+   * Starts {@link SubscribeInput#getConsumerCount()} consumers, each with its own session.
+   *
+   * @param consumerJobFactory
+   *          creates the consumer job for a session provider
+   * @since 24.1
+   */
+  protected JmsSubscription startConsumers(IDestination<?> destination, IMessageListener<?> listener, IRequestListener<?, ?> requestListener, SubscribeInput input, boolean transacted,
+      Function<IJmsSessionProvider, IRunnable> consumerJobFactory) throws JMSException {
+    int consumerCount = Math.max(1, input.getConsumerCount());
+    assertTrue(consumerCount == 1 || destination.getType() == DestinationType.QUEUE, "multiple consumers are only supported for queues [destination={}]", destination);
+
+    List<IJmsSessionProvider> sessionProviders = new ArrayList<>(consumerCount);
+    List<IFuture<?>> workers = new ArrayList<>(consumerCount);
+    List<JmsConsumerStats> consumerStats = new ArrayList<>(consumerCount);
+    try {
+      for (int i = 0; i < consumerCount; i++) {
+        IJmsSessionProvider sessionProvider = createSessionProvider(destination, transacted);
+        sessionProviders.add(sessionProvider);
+        IRunnable consumerJob = consumerJobFactory.apply(sessionProvider);
+        if (consumerJob instanceof AbstractMessageConsumerJob) {
+          consumerStats.add(((AbstractMessageConsumerJob<?>) consumerJob).getConsumerStats());
+        }
+        workers.add(Jobs.schedule(consumerJob, newJobInput().withName("JMS subscriber")));
+      }
+    }
+    catch (JMSException | RuntimeException e) {
+      sessionProviders.forEach(IJmsSessionProvider::close);
+      throw e;
+    }
+    return createJmsSubscription(destination, listener, requestListener, input, sessionProviders, workers, consumerStats);
+  }
+
   @Override
   public String getId() {
     return m_momUid;
@@ -391,9 +433,9 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <DTO> ISubscription subscribeImpl(IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode());
-    IFuture<?> worker = Jobs.schedule(createMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
-    JmsSubscription subscription = createJmsSubscription(destination, listener, null, input, sessionProvider, worker);
+    boolean transacted = SubscribeInput.ACKNOWLEDGE_TRANSACTED == input.getAcknowledgementMode();
+    JmsSubscription subscription = startConsumers(destination, listener, null, input, transacted,
+        sessionProvider -> createMessageConsumerJob(sessionProvider, destination, listener, input));
     m_subscriptions.add(subscription);
     return subscription;
   }
@@ -541,9 +583,8 @@ public class JmsMomImplementor implements IMomImplementor {
   }
 
   protected <REQUEST, REPLY> ISubscription replyImpl(final IBiDestination<REQUEST, REPLY> destination, final IRequestListener<REQUEST, REPLY> listener, final SubscribeInput input) throws JMSException {
-    IJmsSessionProvider sessionProvider = createSessionProvider(destination, false);
-    IFuture<?> worker = Jobs.schedule(createReplyMessageConsumerJob(sessionProvider, destination, listener, input), newJobInput().withName("JMS subscriber"));
-    JmsSubscription subscription = createJmsSubscription(destination, null, listener, input, sessionProvider, worker);
+    JmsSubscription subscription = startConsumers(destination, null, listener, input, false,
+        sessionProvider -> createReplyMessageConsumerJob(sessionProvider, destination, listener, input));
     m_subscriptions.add(subscription);
     return subscription;
   }
@@ -691,6 +732,7 @@ public class JmsMomImplementor implements IMomImplementor {
   public void send(MessageProducer producer, Destination destination, JmsMessageWriter messageWriter, int deliveryMode, int priority, long timeToLive) throws JMSException {
     Message message = messageWriter
         .writeCorrelationId(CorrelationId.CURRENT.get())
+        .writeTraceContext()
         .build();
     IDestination<?> momDestination = resolveMomDestination(destination);
     getMessageHandler().handleOutgoing(momDestination, message, messageWriter.getMarshaller());
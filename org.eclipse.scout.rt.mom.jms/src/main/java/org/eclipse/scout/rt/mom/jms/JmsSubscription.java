@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.jms.MessageConsumer;
@@ -20,15 +22,28 @@ import org.eclipse.scout.rt.mom.api.IRequestListener;
 import org.eclipse.scout.rt.mom.api.ISubscription;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.mom.jms.internal.ISubscriptionStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsCompositeSubscriptionStats;
+import org.eclipse.scout.rt.mom.jms.internal.JmsConsumerStats;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
- * Represents a {@link MessageConsumer} in the JMS messaging standard.
+ * Represents a {@link MessageConsumer} in the JMS messaging standard, or several of them if the subscription has more
+ * than one consumer (see {@link SubscribeInput#withConsumerCount(int)}).
  *
  * @see IMom
  * @since 6.1
  */
 public class JmsSubscription implements ISubscription {
+  private static final Logger LOG = LoggerFactory.getLogger(JmsSubscription.class);
+
+  /**
+   * Time in addition to the batch timeout to wait for consumers committing their pending messages on
+   * {@link #dispose()}.
+   */
+  protected static final long STOP_GRACE_PERIOD_MILLIS = 500L;
 
   protected final IDestination<?> m_destination;
   protected final IMessageListener<?> m_messageListener;
@@ -36,14 +51,34 @@ public class JmsSubscription implements ISubscription {
   protected final SubscribeInput m_subscribeInput;
   protected final IJmsSessionProvider m_sessionProvider;
   protected final IFuture<?> m_jobMonitor;
+  protected final List<IJmsSessionProvider> m_sessionProviders;
+  protected final List<IFuture<?>> m_jobMonitors;
+  protected final ISubscriptionStats m_stats;
 
   public JmsSubscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, SubscribeInput subscribeInput, IJmsSessionProvider sessionProvider, IFuture<?> jobMonitor) {
+    this(destination, messageListener, requestListener, subscribeInput, Collections.singletonList(sessionProvider), Collections.singletonList(jobMonitor), Collections.emptyList());
+  }
+
+  /**
+   * @param sessionProviders
+   *          the session provider of every consumer
+   * @param jobMonitors
+   *          the job of every consumer, in the same order as the session providers
+   * @param consumerStats
+   *          the processing statistics of the consumers
+   * @since 24.1
+   */
+  public JmsSubscription(IDestination<?> destination, IMessageListener<?> messageListener, IRequestListener<?, ?> requestListener, SubscribeInput subscribeInput, List<IJmsSessionProvider> sessionProviders,
+      List<IFuture<?>> jobMonitors, List<JmsConsumerStats> consumerStats) {
     m_destination = destination;
     m_messageListener = messageListener;
     m_requestListener = requestListener;
     m_subscribeInput = subscribeInput;
-    m_sessionProvider = sessionProvider;
-    m_jobMonitor = jobMonitor;
+    m_sessionProviders = Collections.unmodifiableList(sessionProviders);
+    m_jobMonitors = Collections.unmodifiableList(jobMonitors);
+    m_sessionProvider = sessionProviders.get(0);
+    m_jobMonitor = jobMonitors.get(0);
+    m_stats = sessionProviders.size() == 1 && consumerStats.isEmpty() ? null : new JmsCompositeSubscriptionStats(m_sessionProviders, consumerStats);
   }
 
   @Override
@@ -68,12 +103,42 @@ public class JmsSubscription implements ISubscription {
 
   @Override
   public void dispose() {
-    m_sessionProvider.close();
+    if (isTransactedBatch()) {
+      stopTransactedBatchConsumers();
+    }
+    m_sessionProviders.forEach(IJmsSessionProvider::close);
     if (SubscribeInput.ACKNOWLEDGE_AUTO_SINGLE_THREADED == m_subscribeInput.getAcknowledgementMode()) {
       // Close did not throw an exception
       // In case of single threaded subscription we wait for the job to finish
       // This allows API clients to wait for any ongoing message processing
-      m_jobMonitor.awaitDone();
+      m_jobMonitors.forEach(IFuture::awaitDone);
+    }
+  }
+
+  protected boolean isTransactedBatch() {
+    return SubscribeInput.ACKNOWLEDGE_TRANSACTED == m_subscribeInput.getAcknowledgementMode() && m_subscribeInput.getTransactedBatchSize() > 1;
+  }
+
+  /**
+   * Cancels the consumer jobs and waits until they committed the messages of their transacted batch which are processed
+   * but not committed yet. Otherwise, closing the sessions would roll them back and the messages would be redelivered.
+   * <p>
+   * The consumers are interrupted while waiting for new messages. If the JMS provider does not support interruption, a
+   * consumer with pending messages still wakes up once the batch timeout elapsed. Hence, the consumers are awaited for
+   * the batch timeout at most, consumers which did not stop by then are stopped by closing their session.
+   *
+   * @since 24.1
+   */
+  protected void stopTransactedBatchConsumers() {
+    m_jobMonitors.forEach(future -> future.cancel(true));
+    long deadline = System.currentTimeMillis() + m_subscribeInput.getTransactedBatchTimeoutMillis() + STOP_GRACE_PERIOD_MILLIS;
+    for (IFuture<?> future : m_jobMonitors) {
+      try {
+        future.awaitFinished(Math.max(1L, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+      }
+      catch (TimedOutError e) { // NOSONAR
+        LOG.debug("JMS consumer of {} did not stop, closing its session", m_destination);
+      }
     }
   }
 
@@ -84,6 +149,9 @@ public class JmsSubscription implements ISubscription {
 
   @Override
   public ISubscriptionStats getStats() {
+    if (m_stats != null) {
+      return m_stats;
+    }
     return m_sessionProvider.getStats();
   }
 
@@ -110,7 +178,7 @@ public class JmsSubscription implements ISubscription {
       if (time != JmsMomImplementor.WAIT_TIME_INFINITE && System.nanoTime() >= timeoutNanos) {
         return false;
       }
-      if (m_jobMonitor.isFinished()) {
+      if (m_jobMonitors.stream().allMatch(IFuture::isFinished)) {
         return false;
       }
       ISubscriptionStats stats = getStats();
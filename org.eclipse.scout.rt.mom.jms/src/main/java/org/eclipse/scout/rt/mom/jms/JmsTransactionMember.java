@@ -15,6 +15,7 @@ import static org.eclipse.scout.rt.platform.util.Assertions.assertTrue;
 import jakarta.jms.JMSException;
 import jakarta.jms.Session;
 
+import org.eclipse.scout.rt.mom.jms.internal.JmsTransactedBatch;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
 import org.slf4j.Logger;
@@ -34,6 +35,7 @@ public class JmsTransactionMember implements ITransactionMember {
   private IJmsSessionProvider m_sessionProvider;
   private Session m_transactedSession;
   private boolean m_autoClose;
+  private JmsTransactedBatch m_transactedBatch;
 
   @Override
   public String getMemberId() {
@@ -66,6 +68,20 @@ public class JmsTransactionMember implements ITransactionMember {
     return this;
   }
 
+  public JmsTransactedBatch getTransactedBatch() {
+    return m_transactedBatch;
+  }
+
+  /**
+   * @param transactedBatch
+   *          if set, the session is committed by the batch once it is full, otherwise upon every commit
+   * @since 24.1
+   */
+  public JmsTransactionMember withTransactedBatch(final JmsTransactedBatch transactedBatch) {
+    m_transactedBatch = transactedBatch;
+    return this;
+  }
+
   @Override
   public boolean needsCommit() {
     return true;
@@ -79,7 +95,12 @@ public class JmsTransactionMember implements ITransactionMember {
   @Override
   public void commitPhase2() {
     try {
-      m_transactedSession.commit();
+      if (m_transactedBatch != null) {
+        m_transactedBatch.onMessageProcessed(m_transactedSession);
+      }
+      else {
+        m_transactedSession.commit();
+      }
     }
     catch (final JMSException e) {
       LOG.error("Failed to commit transacted session [session={}]", m_transactedSession, e);
@@ -94,6 +115,11 @@ public class JmsTransactionMember implements ITransactionMember {
     catch (final JMSException e) {
       LOG.error("Failed to rollback transacted session [session={}]", m_transactedSession, e);
     }
+    finally {
+      if (m_transactedBatch != null) {
+        m_transactedBatch.reset();
+      }
+    }
   }
 
   @Override
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.rt.mom.jms;
 
+import static org.eclipse.scout.rt.mom.jms.IJmsMomProperties.JMS_PROP_GROUP_ID;
+
 import jakarta.jms.JMSException;
 import jakarta.jms.Message;
 
@@ -18,10 +20,20 @@ import org.eclipse.scout.rt.mom.api.IMessageListener;
 import org.eclipse.scout.rt.mom.api.SubscribeInput;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.PlatformExceptionTranslator;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.JobInput;
 import org.eclipse.scout.rt.platform.job.Jobs;
 
 public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
+
+  /**
+   * Number of execution semaphores the message groups are distributed to, see
+   * {@link SubscribeInput#withOrderedByMessageGroup(boolean)}.
+   */
+  protected static final int MESSAGE_GROUP_STRIPES = 64;
+
   protected final IMessageListener<DTO> m_listener;
+  protected final IExecutionSemaphore[] m_messageGroupSemaphores;
 
   public MessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input) {
     this(mom, sessionProvider, destination, listener, input, 0L);
@@ -30,6 +42,15 @@ public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
   public MessageConsumerJob(JmsMomImplementor mom, IJmsSessionProvider sessionProvider, IDestination<DTO> destination, IMessageListener<DTO> listener, SubscribeInput input, long receiveTimeout) {
     super(mom, sessionProvider, destination, input, receiveTimeout);
     m_listener = listener;
+    m_messageGroupSemaphores = input.isOrderedByMessageGroup() ? createMessageGroupSemaphores() : null;
+  }
+
+  protected IExecutionSemaphore[] createMessageGroupSemaphores() {
+    IExecutionSemaphore[] semaphores = new IExecutionSemaphore[MESSAGE_GROUP_STRIPES];
+    for (int i = 0; i < semaphores.length; i++) {
+      semaphores[i] = Jobs.newExecutionSemaphore(1);
+    }
+    return semaphores;
   }
 
   @Override
@@ -38,28 +59,50 @@ public class MessageConsumerJob<DTO> extends AbstractMessageConsumerJob<DTO> {
       handleMessageInRunContext(jmsMessage);
     }
     else {
-      Jobs.schedule(() -> handleMessageInRunContext(jmsMessage), m_mom.newJobInput().withName("Receiving JMS message [dest={}]", m_destination));
+      Jobs.schedule(() -> handleMessageInRunContext(jmsMessage), withMessageGroupSemaphore(m_mom.newJobInput().withName("Receiving JMS message [dest={}]", m_destination), jmsMessage));
     }
   }
 
+  /**
+   * Jobs of the same message group compete for the same execution semaphore with a single permit. Because the
+   * semaphore hands over its permit in the order of scheduling, messages of the same group are processed in the order
+   * received.
+   */
+  protected JobInput withMessageGroupSemaphore(final JobInput input, final Message jmsMessage) throws JMSException {
+    if (m_messageGroupSemaphores == null) {
+      return input;
+    }
+    final String groupId = jmsMessage.getStringProperty(JMS_PROP_GROUP_ID);
+    if (groupId == null) {
+      return input;
+    }
+    return input.withExecutionSemaphore(m_messageGroupSemaphores[Math.floorMod(groupId.hashCode(), m_messageGroupSemaphores.length)]);
+  }
+
   protected void handleMessageInRunContext(final Message jmsMessage) throws JMSException {
-    final JmsMessageReader<DTO> messageReader = JmsMessageReader.newInstance(jmsMessage, m_marshaller);
-    final IMessage<DTO> message = messageReader.readMessage();
-    final String correlationId = messageReader.readCorrelationId();
+    final long startNanos = System.nanoTime();
+    try {
+      final JmsMessageReader<DTO> messageReader = JmsMessageReader.newInstance(jmsMessage, m_marshaller);
+      final IMessage<DTO> message = messageReader.readMessage();
+      final String correlationId = messageReader.readCorrelationId();
 
-    createRunContext()
-        .withCorrelationId(correlationId)
-        .withThreadLocal(IMessage.CURRENT, message)
-        .run(() -> {
-          try {
-            m_listener.onMessage(message);
-          }
-          catch (Exception e) {
-            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
-                .withContextInfo("correlationId", correlationId);
-          } finally {
-            onMessageConsumptionComplete();
-          }
-        });
+      createRunContext()
+          .withCorrelationId(correlationId)
+          .withOpenTelemetryContext(messageReader.readTraceContext())
+          .withThreadLocal(IMessage.CURRENT, message)
+          .run(() -> {
+            try {
+              runInSpan(() -> m_listener.onMessage(message));
+            }
+            catch (Exception e) {
+              throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                  .withContextInfo("correlationId", correlationId);
+            }
+          });
+    }
+    finally {
+      onMessageProcessed(startNanos);
+      onMessageConsumptionComplete();
+    }
   }
 }
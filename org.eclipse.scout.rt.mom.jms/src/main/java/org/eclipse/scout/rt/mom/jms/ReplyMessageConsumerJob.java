@@ -65,25 +65,31 @@ public class ReplyMessageConsumerJob<REQUEST, REPLY> extends AbstractMessageCons
   }
 
   protected void handleMessageInRunContext(final Message jmsRequest, final String replyId) throws JMSException {
-    final JmsMessageReader<REQUEST> messageReader = JmsMessageReader.newInstance(jmsRequest, m_marshaller);
-    final IMessage<REQUEST> request = messageReader.readMessage();
-    final Destination replyTopic = messageReader.readReplyTo();
-    final String correlationId = messageReader.readCorrelationId();
-
-    createRunContext()
-        .withCorrelationId(correlationId)
-        .withThreadLocal(IMessage.CURRENT, request)
-        .run(() -> {
-          try {
-            handleRequest(jmsRequest, request, replyId, replyTopic);
-          }
-          catch (Exception e) {
-            throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
-                .withContextInfo("correlationId", correlationId);
-          } finally {
-            onMessageConsumptionComplete();
-          }
-        });
+    final long startNanos = System.nanoTime();
+    try {
+      final JmsMessageReader<REQUEST> messageReader = JmsMessageReader.newInstance(jmsRequest, m_marshaller);
+      final IMessage<REQUEST> request = messageReader.readMessage();
+      final Destination replyTopic = messageReader.readReplyTo();
+      final String correlationId = messageReader.readCorrelationId();
+
+      createRunContext()
+          .withCorrelationId(correlationId)
+          .withOpenTelemetryContext(messageReader.readTraceContext())
+          .withThreadLocal(IMessage.CURRENT, request)
+          .run(() -> {
+            try {
+              runInSpan(() -> handleRequest(jmsRequest, request, replyId, replyTopic));
+            }
+            catch (Exception e) {
+              throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+                  .withContextInfo("correlationId", correlationId);
+            }
+          });
+    }
+    finally {
+      onMessageProcessed(startNanos);
+      onMessageConsumptionComplete();
+    }
   }
 
   /**
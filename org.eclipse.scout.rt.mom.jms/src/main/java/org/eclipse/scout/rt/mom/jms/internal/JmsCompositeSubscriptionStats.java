@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.Collection;
+import java.util.Date;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToLongFunction;
+
+import org.eclipse.scout.rt.mom.jms.IJmsSessionProvider;
+import org.eclipse.scout.rt.mom.jms.JmsSubscription;
+
+/**
+ * Statistics of a {@link JmsSubscription} with one or more consumers. The values are summed up over the statistics of
+ * all consumers when accessed.
+ *
+ * @since 24.1
+ */
+public class JmsCompositeSubscriptionStats implements ISubscriptionStats {
+  private final Collection<IJmsSessionProvider> m_sessionProviders;
+  private final Collection<JmsConsumerStats> m_consumerStats;
+
+  public JmsCompositeSubscriptionStats(Collection<IJmsSessionProvider> sessionProviders, Collection<JmsConsumerStats> consumerStats) {
+    m_sessionProviders = sessionProviders;
+    m_consumerStats = consumerStats;
+  }
+
+  @Override
+  public boolean invokingReceive() {
+    return m_sessionProviders.stream()
+        .map(IJmsSessionProvider::getStats)
+        .filter(Objects::nonNull)
+        .anyMatch(ISubscriptionStats::invokingReceive);
+  }
+
+  @Override
+  public long receivedMessages() {
+    return sumReceiveStats(ISubscriptionStats::receivedMessages);
+  }
+
+  @Override
+  public long receivedNonNullMessages() {
+    return sumReceiveStats(ISubscriptionStats::receivedNonNullMessages);
+  }
+
+  @Override
+  public long receivedErrors() {
+    return sumReceiveStats(ISubscriptionStats::receivedErrors);
+  }
+
+  @Override
+  public Date lastMessageReceivedTimestamp() {
+    return m_sessionProviders.stream()
+        .map(IJmsSessionProvider::getStats)
+        .filter(Objects::nonNull)
+        .map(ISubscriptionStats::lastMessageReceivedTimestamp)
+        .filter(Objects::nonNull)
+        .max(Date::compareTo)
+        .orElse(null);
+  }
+
+  @Override
+  public long inFlightMessages() {
+    return sumConsumerStats(JmsConsumerStats::inFlightMessages);
+  }
+
+  @Override
+  public long processedMessages() {
+    return sumConsumerStats(JmsConsumerStats::processedMessages);
+  }
+
+  @Override
+  public long averageProcessingTimeMillis() {
+    long processed = processedMessages();
+    if (processed == 0) {
+      return 0;
+    }
+    return TimeUnit.NANOSECONDS.toMillis(sumConsumerStats(JmsConsumerStats::totalProcessingTimeNanos) / processed);
+  }
+
+  @Override
+  public long maxProcessingTimeMillis() {
+    return m_consumerStats.stream()
+        .mapToLong(JmsConsumerStats::maxProcessingTimeMillis)
+        .max()
+        .orElse(0);
+  }
+
+  protected long sumReceiveStats(ToLongFunction<ISubscriptionStats> property) {
+    return m_sessionProviders.stream()
+        .map(IJmsSessionProvider::getStats)
+        .filter(Objects::nonNull)
+        .mapToLong(property)
+        .sum();
+  }
+
+  protected long sumConsumerStats(ToLongFunction<JmsConsumerStats> property) {
+    return m_consumerStats.stream()
+        .mapToLong(property)
+        .sum();
+  }
+}
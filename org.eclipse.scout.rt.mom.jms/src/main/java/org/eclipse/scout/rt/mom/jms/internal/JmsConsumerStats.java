@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.mom.jms.AbstractMessageConsumerJob;
+
+/**
+ * Processing statistics of a consumer, see {@link AbstractMessageConsumerJob}.
+ * <p>
+ * Unlike {@link JmsSubscriptionStats}, these statistics are not reset upon (re-)connect.
+ *
+ * @since 24.1
+ */
+public class JmsConsumerStats {
+  private final AtomicLong m_inFlightCount = new AtomicLong();
+  private final AtomicLong m_processedCount = new AtomicLong();
+  private final AtomicLong m_totalProcessingNanos = new AtomicLong();
+  private final AtomicLong m_maxProcessingNanos = new AtomicLong();
+
+  public long inFlightMessages() {
+    return m_inFlightCount.get();
+  }
+
+  public long processedMessages() {
+    return m_processedCount.get();
+  }
+
+  public long totalProcessingTimeNanos() {
+    return m_totalProcessingNanos.get();
+  }
+
+  public long maxProcessingTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_maxProcessingNanos.get());
+  }
+
+  public void notifyMessageReceived() {
+    m_inFlightCount.incrementAndGet();
+  }
+
+  public void notifyMessageCompleted() {
+    m_inFlightCount.decrementAndGet();
+  }
+
+  public void notifyMessageProcessed(long processingNanos) {
+    m_processedCount.incrementAndGet();
+    m_totalProcessingNanos.addAndGet(processingNanos);
+    m_maxProcessingNanos.accumulateAndGet(processingNanos, Math::max);
+  }
+}
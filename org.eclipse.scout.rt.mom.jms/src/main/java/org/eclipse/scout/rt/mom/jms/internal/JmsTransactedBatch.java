@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.mom.jms.internal;
+
+import jakarta.jms.JMSException;
+import jakarta.jms.Session;
+
+import org.eclipse.scout.rt.mom.api.SubscribeInput;
+
+/**
+ * Commits the receipt of messages in batches, see {@link SubscribeInput#withTransactedBatch(int, long, java.util.concurrent.TimeUnit)}.
+ * <p>
+ * Objects of this class are not thread safe, they are used by the thread receiving the messages only.
+ *
+ * @since 24.1
+ */
+public class JmsTransactedBatch {
+  private final int m_batchSize;
+  private final long m_timeoutMillis;
+  private int m_pendingCount;
+  private long m_firstPendingMillis;
+
+  public JmsTransactedBatch(int batchSize, long timeoutMillis) {
+    m_batchSize = batchSize;
+    m_timeoutMillis = timeoutMillis;
+  }
+
+  /**
+   * @return <code>true</code> if there are processed messages which are not committed yet
+   */
+  public boolean hasPending() {
+    return m_pendingCount > 0;
+  }
+
+  /**
+   * @return the time in milliseconds until the pending messages must be committed, at least <code>1</code>
+   */
+  public long remainingTimeoutMillis() {
+    return Math.max(1L, m_firstPendingMillis + m_timeoutMillis - currentTimeMillis());
+  }
+
+  public boolean isTimedOut() {
+    return hasPending() && currentTimeMillis() - m_firstPendingMillis >= m_timeoutMillis;
+  }
+
+  /**
+   * Called after a message was processed successfully. Commits the session once the batch is full or the oldest pending
+   * message exceeded the batch timeout. The latter is required because the receiving thread only checks the timeout
+   * while no message is received: a steady flow of messages below the batch size would otherwise never be committed.
+   */
+  public void onMessageProcessed(Session session) throws JMSException {
+    if (m_pendingCount++ == 0) {
+      m_firstPendingMillis = currentTimeMillis();
+    }
+    if (m_pendingCount >= m_batchSize || isTimedOut()) {
+      commit(session);
+    }
+  }
+
+  public void commit(Session session) throws JMSException {
+    try {
+      session.commit();
+    }
+    finally {
+      reset();
+    }
+  }
+
+  /**
+   * Called after the session was rolled back.
+   */
+  public void reset() {
+    m_pendingCount = 0;
+  }
+
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+}
@@ -112,7 +112,7 @@ public class OpenTelemetryInitializer implements IPlatformListener {
   protected Map<String, String> getDefaultProperties() {
     String defaultExporter = CONFIG.getPropertyValue(OpenTelemetryDefaultExporterProperty.class);
     Map<String, String> defaultConfig = new HashMap<>();
-    defaultConfig.put("otel.traces.exporter", "none");
+    defaultConfig.put("otel.traces.exporter", CONFIG.getPropertyValue(OpenTelemetryTracingEnabledProperty.class) ? defaultExporter : "none");
     defaultConfig.put("otel.logs.exporter", "none");
     defaultConfig.put("otel.metrics.exporter", defaultExporter);
     defaultConfig.put("otel.exporter.otlp.protocol", "http/protobuf");
@@ -181,6 +181,24 @@ public class OpenTelemetryInitializer implements IPlatformListener {
     }
   }
 
+  public static class OpenTelemetryTracingEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.otel.tracingEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Property to specify if spans are exported by the default exporter (see 'scout.otel.defaultExporter'). Default is false. Spans are created for UI requests, jobs, service tunnel calls, SQL statements, REST clients and MOM messages.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
   public static class OpenTelemetryDefaultExporterProperty extends AbstractStringConfigProperty {
 
     @Override
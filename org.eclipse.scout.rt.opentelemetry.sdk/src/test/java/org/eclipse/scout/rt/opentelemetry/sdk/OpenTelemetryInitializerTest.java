@@ -11,16 +11,28 @@ package org.eclipse.scout.rt.opentelemetry.sdk;
 
 import static org.junit.Assert.*;
 
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.opentelemetry.sdk.OpenTelemetryInitializer.OpenTelemetryDefaultExporterProperty;
 import org.eclipse.scout.rt.opentelemetry.sdk.OpenTelemetryInitializer.OpenTelemetryInitializerEnabledProperty;
+import org.eclipse.scout.rt.opentelemetry.sdk.OpenTelemetryInitializer.OpenTelemetryTracingEnabledProperty;
 import org.eclipse.scout.rt.opentelemetry.sdk.OpenTelemetryInitializerTest.OpenTelemetryInitializerPlatform;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
 import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.TestingDefaultPlatform;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
@@ -31,6 +43,8 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
 
+import com.sun.net.httpserver.HttpServer;
+
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.events.GlobalEventEmitterProvider;
@@ -116,6 +130,56 @@ public class OpenTelemetryInitializerTest {
     assertNull(initializer.m_openTelemetry);
   }
 
+  /**
+   * Exports spans to a local stub of an OpenTelemetry collector.
+   */
+  @Test
+  public void testTracingExportedToCollector() throws IOException {
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(OpenTelemetryInitializerEnabledProperty.class, Boolean.TRUE));
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(OpenTelemetryTracingEnabledProperty.class, Boolean.TRUE));
+    m_beans.add(BeanTestingHelper.get().mockConfigProperty(OpenTelemetryDefaultExporterProperty.class, "otlp"));
+
+    List<String> exportRequests = new CopyOnWriteArrayList<>();
+    HttpServer collector = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    collector.createContext("/v1/traces", exchange -> {
+      // protobuf encodes strings as UTF-8, so span names are readable in the raw request body
+      exportRequests.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.ISO_8859_1));
+      exchange.getResponseHeaders().set("Content-Type", "application/x-protobuf");
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+    });
+    collector.start();
+
+    String endpoint = "http://" + collector.getAddress().getHostString() + ":" + collector.getAddress().getPort() + "/v1/traces";
+    OpenTelemetryInitializer initializer = new OpenTelemetryInitializer() {
+      @Override
+      protected Map<String, String> getDefaultProperties() {
+        Map<String, String> properties = super.getDefaultProperties();
+        properties.put("otel.exporter.otlp.traces.endpoint", endpoint);
+        properties.put("otel.metrics.exporter", "none");
+        return properties;
+      }
+    };
+    try {
+      initializer.initOpenTelemetry();
+
+      TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+      boolean jobHasActiveSpan = tracingHelper.wrapInSpan(tracingHelper.getTracer("test"), "test-request", span -> Jobs.schedule(tracingHelper::hasActiveSpan, Jobs.newInput()
+          .withName("test-job")
+          .withRunContext(RunContexts.copyCurrent()))
+          .awaitDoneAndGet());
+      assertTrue(jobHasActiveSpan);
+
+      assertTrue(initializer.m_openTelemetry.getSdkTracerProvider().forceFlush().join(10, TimeUnit.SECONDS).isSuccess());
+      assertTrue(exportRequests.stream().anyMatch(request -> request.contains("test-request")));
+      assertTrue(exportRequests.stream().anyMatch(request -> request.contains("test-job")));
+    }
+    finally {
+      initializer.shutdownOpenTelemetry();
+      collector.stop(0);
+    }
+  }
+
   private void assertMetricProviderInvocations(int expectedRegisterInvocations, int expectedCloseInvocations) {
     Mockito.verify(m_metricProvider, Mockito.times(expectedRegisterInvocations)).register(Mockito.any());
     Mockito.verify(m_metricProvider, Mockito.times(expectedCloseInvocations)).close();
@@ -13,11 +13,15 @@ import static org.junit.Assert.*;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -614,4 +618,93 @@ public class BasicCacheTest {
     assertEquals("newValue_4", RunContexts.empty().call(() -> cache.get(4)));
     assertEquals("newValue_5", RunContexts.empty().call(() -> cache.get(5)));
   }
+
+  protected ICache<Integer, String> createSingleFlightCache(String id, AtomicInteger resolveCounter, CountDownLatch resolveEntered, CountDownLatch resolveRelease) {
+    //noinspection unchecked
+    return BEANS.get(ICacheBuilder.class)
+        .withCacheId(id)
+        .withValueResolver((ICacheValueResolver<Integer, String>) key -> {
+          int count = resolveCounter.incrementAndGet();
+          resolveEntered.countDown();
+          try {
+            assertTrue(resolveRelease.await(30, TimeUnit.SECONDS));
+          }
+          catch (InterruptedException e) {
+            throw new ProcessingException("interrupted", e);
+          }
+          return "value_" + key + "_" + count;
+        })
+        .withSingleFlightResolve(true)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testSingleFlightResolve() throws InterruptedException {
+    AtomicInteger resolveCounter = new AtomicInteger();
+    CountDownLatch resolveEntered = new CountDownLatch(1);
+    CountDownLatch resolveRelease = new CountDownLatch(1);
+    ICache<Integer, String> cache = createSingleFlightCache("BasicCacheTestCacheId#testSingleFlightResolve", resolveCounter, resolveEntered, resolveRelease);
+
+    List<IFuture<String>> futures = new ArrayList<>();
+    futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty())));
+    assertTrue(resolveEntered.await(30, TimeUnit.SECONDS));
+    for (int i = 0; i < 10; i++) {
+      futures.add(Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty())));
+      futures.add(Jobs.schedule(() -> cache.getAll(Arrays.asList(1)).get(1), Jobs.newInput().withRunContext(RunContexts.empty())));
+    }
+    resolveRelease.countDown();
+
+    for (IFuture<String> future : futures) {
+      assertEquals("value_1_1", future.awaitDoneAndGet());
+    }
+    assertEquals(1, resolveCounter.get());
+    assertEquals("value_1_1", cache.getCachedValue(1));
+  }
+
+  @Test
+  public void testSingleFlightInvalidateDuringResolve() throws InterruptedException {
+    AtomicInteger resolveCounter = new AtomicInteger();
+    CountDownLatch resolveEntered = new CountDownLatch(1);
+    CountDownLatch resolveRelease = new CountDownLatch(1);
+    ICache<Integer, String> cache = createSingleFlightCache("BasicCacheTestCacheId#testSingleFlightInvalidateDuringResolve", resolveCounter, resolveEntered, resolveRelease);
+
+    IFuture<String> future = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    assertTrue(resolveEntered.await(30, TimeUnit.SECONDS));
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), true);
+    resolveRelease.countDown();
+
+    // value resolved before invalidation is returned to its caller but not cached
+    assertEquals("value_1_1", future.awaitDoneAndGet());
+    assertNull(cache.getCachedValue(1));
+    assertEquals("value_1_2", cache.get(1));
+    assertEquals(2, resolveCounter.get());
+  }
+
+  @Test
+  public void testSingleFlightInvalidateAllDuringResolve() throws InterruptedException {
+    testSingleFlightInvalidateAllDuringResolve(false);
+  }
+
+  @Test
+  public void testSingleFlightInvalidateAllDuringResolve_getAll() throws InterruptedException {
+    testSingleFlightInvalidateAllDuringResolve(true);
+  }
+
+  protected void testSingleFlightInvalidateAllDuringResolve(boolean getAll) throws InterruptedException {
+    AtomicInteger resolveCounter = new AtomicInteger();
+    CountDownLatch resolveEntered = new CountDownLatch(1);
+    CountDownLatch resolveRelease = new CountDownLatch(1);
+    ICache<Integer, String> cache = createSingleFlightCache("BasicCacheTestCacheId#testSingleFlightInvalidateAllDuringResolve_" + getAll, resolveCounter, resolveEntered, resolveRelease);
+
+    IFuture<String> future = Jobs.schedule(() -> getAll ? cache.getAll(Arrays.asList(1)).get(1) : cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    assertTrue(resolveEntered.await(30, TimeUnit.SECONDS));
+    cache.invalidate(new AllCacheEntryFilter<>(), true);
+    resolveRelease.countDown();
+
+    // value resolved before invalidation must not be put into the cache map afterwards
+    assertEquals("value_1_1", future.awaitDoneAndGet());
+    assertTrue(cache.getCacheMap().isEmpty());
+    assertEquals(1, resolveCounter.get());
+  }
 }
@@ -48,10 +48,15 @@ import org.mockito.Mockito;
 import org.mockito.stubbing.Answer;
 import org.slf4j.MDC;
 
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.context.Scope;
+
 @RunWith(PlatformTestRunner.class)
 public class RunContextTest {
 
   private static final ThreadLocal<String> THREAD_LOCAL = new ThreadLocal<>();
+  private static final ContextKey<String> OTEL_CONTEXT_KEY = ContextKey.named("test");
 
   @Test
   public void testEmpty() {
@@ -241,6 +246,29 @@ public class RunContextTest {
     });
   }
 
+  @Test
+  public void testCopyOpenTelemetryContext() {
+    final Context otelContext = Context.root().with(OTEL_CONTEXT_KEY, "value");
+    assertNull(RunContexts.empty().getOpenTelemetryContext());
+
+    RunContexts.empty().withOpenTelemetryContext(otelContext).run(() -> {
+      assertEquals("value", Context.current().get(OTEL_CONTEXT_KEY));
+      assertSame(otelContext, RunContexts.copyCurrent().getOpenTelemetryContext());
+
+      // Test copy via 'RunContexts.copyCurrent'
+      assertEquals("value", Jobs.schedule(() -> Context.current().get(OTEL_CONTEXT_KEY), Jobs.newInput()
+          .withRunContext(RunContexts.copyCurrent()))
+          .awaitDoneAndGet());
+
+      // Change context directly (e.g. by starting a span)
+      try (Scope ignored = Context.current().with(OTEL_CONTEXT_KEY, "other").makeCurrent()) {
+        assertEquals("other", RunContexts.copyCurrent().getOpenTelemetryContext().get(OTEL_CONTEXT_KEY));
+        assertSame(otelContext, RunContext.CURRENT.get().copy().getOpenTelemetryContext());
+      }
+    });
+    assertNull(Context.current().get(OTEL_CONTEXT_KEY));
+  }
+
   @Test
   public void testCopyRunMonitor() {
     RunContexts.empty().run(() -> {
@@ -70,7 +70,11 @@ public class JobManagerChainTest {
     c = (IChainable) chainIterator.next();
     assertEquals(RunContextRunner.class, c.getClass());
 
-    // 7. ExceptionProcessor
+    // 7. JobSpanProcessor
+    c = (IChainable) chainIterator.next();
+    assertEquals(JobSpanProcessor.class, c.getClass());
+
+    // 8. ExceptionProcessor
     c = (IChainable) chainIterator.next();
     assertEquals(ExceptionProcessor.class, c.getClass());
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.Attributes;
+
+public class JobManagerMetricsTest {
+
+  private JobManager m_jobManager;
+  private P_RecordingJobManagerMetrics m_metrics;
+
+  @Before
+  public void before() {
+    m_jobManager = (JobManager) BEANS.get(IJobManager.class);
+    m_metrics = new P_RecordingJobManagerMetrics(10);
+  }
+
+  @After
+  public void after() {
+    m_jobManager.setMetrics(null);
+  }
+
+  @Test(timeout = 5000)
+  public void testLatencies() throws InterruptedException {
+    m_jobManager.setMetrics(m_metrics);
+
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    BlockingCountDownLatch latch = new BlockingCountDownLatch(1);
+
+    IFuture<Void> future1 = Jobs.schedule(() -> {
+      latch.countDownAndBlock();
+    }, Jobs.newInput()
+        .withName("job-1")
+        .withExecutionSemaphore(semaphore));
+    assertTrue(latch.await());
+
+    IFuture<Void> future2 = Jobs.schedule(() -> {
+    }, Jobs.newInput()
+        .withName("job-2")
+        .withExecutionSemaphore(semaphore));
+
+    Thread.sleep(50);
+    latch.unblock();
+    future1.awaitDone(5, TimeUnit.SECONDS);
+    future2.awaitDone(5, TimeUnit.SECONDS);
+    m_jobManager.awaitFinished(Jobs.newFutureFilterBuilder().andMatchFuture(future1, future2).toFilter(), 5, TimeUnit.SECONDS);
+
+    assertEquals(1, m_metrics.getRecordings("runDuration", "job-1").size());
+    assertEquals(1, m_metrics.getRecordings("runDuration", "job-2").size());
+    assertEquals(1, m_metrics.getRecordings("schedulingDelay", "job-2").size());
+    assertTrue(m_metrics.getRecordings("runDuration", "job-1").get(0) >= TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(m_metrics.getRecordings("permitWaitTime", "job-2").get(0) >= TimeUnit.MILLISECONDS.toNanos(50));
+    assertTrue(m_metrics.getRecordings("permitWaitTime", "job-1").get(0) < m_metrics.getRecordings("permitWaitTime", "job-2").get(0));
+  }
+
+  @Test
+  public void testDisabled() {
+    IFuture<Void> future = Jobs.schedule(() -> {
+    }, Jobs.newInput()
+        .withName("job")
+        .withExecutionSemaphore(Jobs.newExecutionSemaphore(1)));
+    future.awaitDone(5, TimeUnit.SECONDS);
+
+    assertEquals(0L, ((JobFutureTask<?>) future).m_dueNanos);
+    assertEquals(0L, ((JobFutureTask<?>) future).m_permitWaitNanos);
+    assertTrue(m_metrics.m_recordings.isEmpty());
+  }
+
+  @Test
+  public void testMaxJobNames() {
+    JobManagerMetrics metrics = new JobManagerMetrics(OpenTelemetry.noop().getMeter("test"), 2);
+    Attributes attributes1 = metrics.getAttributes(newFutureTask("job-1"));
+    Attributes attributes2 = metrics.getAttributes(newFutureTask("job-2"));
+    Attributes attributes3 = metrics.getAttributes(newFutureTask("job-3"));
+
+    assertEquals("job-1", attributes1.get(JobManagerMetrics.JOB_NAME));
+    assertEquals("job-2", attributes2.get(JobManagerMetrics.JOB_NAME));
+    assertEquals(JobManagerMetrics.OTHER_JOB_NAME, attributes3.get(JobManagerMetrics.JOB_NAME));
+    assertSame(attributes1, metrics.getAttributes(newFutureTask("job-1")));
+  }
+
+  @Test
+  public void testParameterizedJobNames() {
+    JobManagerMetrics metrics = new JobManagerMetrics(OpenTelemetry.noop().getMeter("test"), 2);
+    Attributes attributes1 = metrics.getAttributes(newFutureTask("Stop client session {} due to {}", "session-1", "timeout"));
+    Attributes attributes2 = metrics.getAttributes(newFutureTask("Stop client session {} due to {}", "session-2", "logout"));
+    Attributes attributes3 = metrics.getAttributes(newFutureTask("Stop client session {} due to {}", "session-3", "timeout"));
+
+    assertEquals("Stop client session {} due to {}", attributes1.get(JobManagerMetrics.JOB_NAME));
+    assertSame(attributes1, attributes2);
+    assertSame(attributes1, attributes3);
+    assertEquals(1, metrics.m_attributesByJobName.size());
+
+    // other job names are still reported separately
+    assertEquals("job-1", metrics.getAttributes(newFutureTask("job-1")).get(JobManagerMetrics.JOB_NAME));
+  }
+
+  private JobFutureTask<?> newFutureTask(String name, Object... args) {
+    IFuture<Void> future = Jobs.schedule(() -> {
+    }, Jobs.newInput().withName(name, args));
+    future.awaitDone(5, TimeUnit.SECONDS);
+    return (JobFutureTask<?>) future;
+  }
+
+  private static class P_RecordingJobManagerMetrics extends JobManagerMetrics {
+
+    private final Map<String, List<Long>> m_recordings = new ConcurrentHashMap<>();
+
+    P_RecordingJobManagerMetrics(int maxJobNames) {
+      super(OpenTelemetry.noop().getMeter("test"), maxJobNames);
+    }
+
+    @Override
+    public void recordSchedulingDelay(JobFutureTask<?> futureTask, long nanos) {
+      record("schedulingDelay", futureTask, nanos);
+    }
+
+    @Override
+    public void recordPermitWaitTime(JobFutureTask<?> futureTask, long nanos) {
+      record("permitWaitTime", futureTask, nanos);
+    }
+
+    @Override
+    public void recordRunDuration(JobFutureTask<?> futureTask, long nanos) {
+      record("runDuration", futureTask, nanos);
+    }
+
+    private void record(String metric, JobFutureTask<?> futureTask, long nanos) {
+      m_recordings.computeIfAbsent(metric + ":" + futureTask.getJobInput().getName(), k -> new CopyOnWriteArrayList<>()).add(nanos);
+    }
+
+    List<Long> getRecordings(String metric, String jobName) {
+      return m_recordings.getOrDefault(metric + ":" + jobName, List.of());
+    }
+  }
+}
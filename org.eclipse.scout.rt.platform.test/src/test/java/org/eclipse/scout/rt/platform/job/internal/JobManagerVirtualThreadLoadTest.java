@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the platform thread pool with virtual threads under blocking load. Every job simulates a blocking I/O call
+ * (e.g. service tunnel, JDBC or REST) by sleeping. The results are logged only, because execution times depend on the
+ * system the test is executed on.
+ */
+@Category(ResourceIntensiveTest.class) // uses up to 5k native threads
+@RunWith(PlatformTestRunner.class)
+public class JobManagerVirtualThreadLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobManagerVirtualThreadLoadTest.class);
+
+  private static final int JOB_COUNT = 5_000;
+  private static final long BLOCKING_MILLIS = 50;
+  private static final int SEMAPHORE_PERMITS = 100;
+
+  @Test(timeout = 120_000)
+  public void testPlatformThreads() {
+    runBlockingLoad("platform threads", new P_PlatformThreadJobManager());
+  }
+
+  @Test(timeout = 120_000)
+  public void testVirtualThreads() {
+    assumeTrue("Virtual threads not supported by this Java runtime", VirtualThreadExecutor.isSupported());
+    runBlockingLoad("virtual threads", new P_VirtualThreadJobManager());
+  }
+
+  protected void runBlockingLoad(String mode, JobManager jobManager) {
+    try {
+      long unlimitedNanos = measure(jobManager, null);
+      long semaphoreNanos = measure(jobManager, Jobs.newExecutionSemaphore(SEMAPHORE_PERMITS));
+      LOG.info("Blocking load with {}: {} jobs blocking {}ms each took {}ms (unlimited) and {}ms (execution semaphore with {} permits)",
+          mode, JOB_COUNT, BLOCKING_MILLIS, TimeUnit.NANOSECONDS.toMillis(unlimitedNanos), TimeUnit.NANOSECONDS.toMillis(semaphoreNanos), SEMAPHORE_PERMITS);
+    }
+    finally {
+      jobManager.shutdown();
+    }
+  }
+
+  protected long measure(JobManager jobManager, IExecutionSemaphore semaphore) {
+    String identifier = UUID.randomUUID().toString();
+    Predicate<IFuture<?>> filter = Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(identifier)
+        .toFilter();
+
+    AtomicLong counter = new AtomicLong();
+    long start = System.nanoTime();
+    for (int i = 0; i < JOB_COUNT; i++) {
+      jobManager.schedule(() -> {
+        Thread.sleep(BLOCKING_MILLIS);
+        counter.incrementAndGet();
+      }, Jobs.newInput()
+          .withExecutionHint(identifier)
+          .withExecutionSemaphore(semaphore));
+    }
+    jobManager.awaitDone(filter, 100, TimeUnit.SECONDS);
+    long duration = System.nanoTime() - start;
+
+    assertEquals(JOB_COUNT, counter.get());
+    return duration;
+  }
+
+  private static class P_PlatformThreadJobManager extends JobManager {
+
+    @Override
+    protected ExecutorService createExecutor() {
+      return createPlatformThreadExecutor();
+    }
+  }
+
+  private static class P_VirtualThreadJobManager extends JobManager {
+
+    @Override
+    protected ExecutorService createExecutor() {
+      return createVirtualThreadExecutor();
+    }
+  }
+}
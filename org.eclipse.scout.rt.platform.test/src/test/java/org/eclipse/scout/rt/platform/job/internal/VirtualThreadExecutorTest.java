@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.junit.Assume.assumeTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.slf4j.MDC;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadExecutorTest {
+
+  private static final String MDC_KEY = "mdcTestKey";
+
+  private VirtualThreadExecutor m_executor;
+
+  @Before
+  public void before() {
+    assumeTrue("Virtual threads not supported by this Java runtime", VirtualThreadExecutor.isSupported());
+    m_executor = new VirtualThreadExecutor("virtual-test-thread");
+  }
+
+  @After
+  public void after() throws InterruptedException {
+    if (m_executor != null) {
+      m_executor.shutdownNow();
+      m_executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  @Test
+  public void testThreadInfoAndMdc() throws InterruptedException {
+    MDC.put(MDC_KEY, "value should not be pushed to virtual thread");
+    try {
+      final AtomicReference<ThreadInfo> threadInfo = new AtomicReference<>();
+      final AtomicReference<String> threadName = new AtomicReference<>();
+      final AtomicReference<String> mdcValue = new AtomicReference<>("not set");
+      final CountDownLatch latch = new CountDownLatch(1);
+      m_executor.execute(() -> {
+        threadInfo.set(ThreadInfo.CURRENT.get());
+        threadName.set(Thread.currentThread().getName());
+        mdcValue.set(MDC.get(MDC_KEY));
+        latch.countDown();
+      });
+
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+      assertNotNull(threadInfo.get());
+      assertEquals("virtual-test-thread-1", threadName.get());
+      assertNull(mdcValue.get());
+    }
+    finally {
+      MDC.remove(MDC_KEY);
+    }
+  }
+
+  @Test
+  public void testShutdown() throws InterruptedException {
+    final CountDownLatch running = new CountDownLatch(1);
+    final AtomicBoolean interrupted = new AtomicBoolean();
+    m_executor.execute(() -> {
+      running.countDown();
+      try {
+        Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+      }
+      catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+    });
+    assertTrue(running.await(10, TimeUnit.SECONDS));
+    assertEquals(1, m_executor.getActiveCount());
+
+    m_executor.shutdownNow();
+    assertTrue(m_executor.isShutdown());
+    assertTrue(m_executor.awaitTermination(10, TimeUnit.SECONDS));
+    assertTrue(m_executor.isTerminated());
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void testRejectAfterShutdown() {
+    m_executor.shutdown();
+
+    final AtomicBoolean rejected = new AtomicBoolean();
+    m_executor.execute(new IRejectableRunnable() {
+
+      @Override
+      public void run() {
+        fail("must not run");
+      }
+
+      @Override
+      public void reject() {
+        rejected.set(true);
+      }
+    });
+    assertTrue(rejected.get());
+
+    assertThrows(RejectedExecutionException.class, () -> m_executor.execute(() -> fail("must not run")));
+  }
+}
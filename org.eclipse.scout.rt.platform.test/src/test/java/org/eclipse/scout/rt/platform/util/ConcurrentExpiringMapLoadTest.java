@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the sampled eviction of {@link ConcurrentExpiringMap} with the previous implementation, which sorted all
+ * entries by timestamp whenever the overflow size was reached. The results are logged only, because execution times
+ * depend on the system the test is executed on.
+ */
+@Category(ResourceIntensiveTest.class)
+public class ConcurrentExpiringMapLoadTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ConcurrentExpiringMapLoadTest.class);
+
+  private static final int[] TARGET_SIZES = {10_000, 100_000, 1_000_000};
+  private static final int OPERATIONS_PER_ENTRY = 4;
+
+  @Test
+  public void testSizeBoundedMap() {
+    for (int targetSize : TARGET_SIZES) {
+      Result sampled = run(new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, targetSize), targetSize);
+      Result sorted = run(new P_SortingEvictionMap(targetSize), targetSize);
+      LOG.info("Size bounded map with targetSize={}: sampled eviction {}, sorting eviction {}", targetSize, sampled, sorted);
+    }
+  }
+
+  @Test
+  public void testTimeToLiveMap() {
+    for (int targetSize : TARGET_SIZES) {
+      Result incremental = run(new ConcurrentExpiringMap<>(1, TimeUnit.MINUTES), targetSize);
+      LOG.info("Time to live map with {} entries: incremental expiration {}", targetSize, incremental);
+    }
+  }
+
+  /**
+   * Mix of 3/4 reads and 1/4 writes over twice as many keys as the map should contain.
+   */
+  protected Result run(ConcurrentExpiringMap<Integer, Integer> map, int targetSize) {
+    Random random = new Random(1);
+    int keyRange = targetSize * 2;
+    long maxNanos = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < targetSize * OPERATIONS_PER_ENTRY; i++) {
+      Integer key = random.nextInt(keyRange);
+      long opStart = System.nanoTime();
+      if (i % 4 == 0) {
+        map.put(key, i);
+      }
+      else {
+        map.get(key);
+      }
+      maxNanos = Math.max(maxNanos, System.nanoTime() - opStart);
+    }
+    long totalNanos = System.nanoTime() - start;
+
+    if (map.getTargetSize() > 0) {
+      assertTrue(map.size() <= map.getOverflowSize() + 1);
+    }
+    return new Result(totalNanos, maxNanos);
+  }
+
+  protected static class Result {
+    private final long m_totalNanos;
+    private final long m_maxNanos;
+
+    public Result(long totalNanos, long maxNanos) {
+      m_totalNanos = totalNanos;
+      m_maxNanos = maxNanos;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("[total=%dms, maxOperation=%.3fms]", TimeUnit.NANOSECONDS.toMillis(m_totalNanos), m_maxNanos / 1_000_000d);
+    }
+  }
+
+  /**
+   * Previous eviction: sorts all entries by timestamp and removes the oldest ones.
+   */
+  protected static class P_SortingEvictionMap extends ConcurrentExpiringMap<Integer, Integer> {
+
+    public P_SortingEvictionMap(int targetSize) {
+      super(0, TimeUnit.MILLISECONDS, targetSize);
+    }
+
+    @Override
+    protected void evictOldestEntries() {
+      List<Entry<Integer, ExpiringElement<Integer>>> entries = new ArrayList<>(getElementMap().entrySet());
+      entries.sort(Comparator.comparingLong(e -> e.getValue().getTimestamp())); // stable
+      int numberOfEntriesToEvict = entries.size() - getTargetSize();
+      for (int i = 0; i < entries.size() && numberOfEntriesToEvict > 0; i++) {
+        Entry<Integer, ExpiringElement<Integer>> entry = entries.get(i);
+        if (getElementMap().remove(entry.getKey(), entry.getValue())) {
+          numberOfEntriesToEvict--;
+          execEntryEvicted(entry.getKey(), entry.getValue().getValue());
+        }
+      }
+    }
+  }
+}
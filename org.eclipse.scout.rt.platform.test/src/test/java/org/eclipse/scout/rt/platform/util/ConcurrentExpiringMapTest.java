@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.holders.IntegerHolder;
@@ -258,6 +259,62 @@ public class ConcurrentExpiringMapTest {
     assertEquals(Integer.valueOf(overflowSize), countEvicted.getValue());
   }
 
+  @Test
+  public void testBoundedSizeShrinksIncrementally() {
+    final IntegerHolder countEvicted = new IntegerHolder(0);
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, 1000) {
+
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        countEvicted.setValue(countEvicted.getValue() + 1);
+      }
+    };
+
+    for (int i = 0; i < 1499; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    assertEquals(1499, map.size());
+    assertEquals(Integer.valueOf(0), countEvicted.getValue());
+
+    // reaching the overflow size evicts a limited number of entries only
+    map.put(1499, "1499");
+    assertEquals(1500 - 32, map.size());
+
+    // subsequent write operations continue shrinking until target size is reached
+    for (int i = 1500; i < 1600; i++) {
+      map.put(i, String.valueOf(i));
+      assertTrue(map.size() < 1500);
+    }
+    assertEquals(1084, map.size());
+    assertEquals(Integer.valueOf(516), countEvicted.getValue());
+  }
+
+  /**
+   * The eviction cursor of a map other than {@link java.util.concurrent.ConcurrentHashMap} is not kept across write
+   * operations. Subsequent write operations must nevertheless continue scanning where the previous one stopped.
+   */
+  @Test
+  public void testExpiredEntriesEvictedWithOtherConcurrentMap() {
+    ConcurrentSkipListMap<Integer, ExpiringElement<String>> elementMap = new ConcurrentSkipListMap<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<>(elementMap, TIME_TO_LIVE_MILLISECONDS, false, 0);
+    // the first entries (in iteration order) are valid, the remaining ones are expired
+    for (int i = 0; i < 64; i++) {
+      @SuppressWarnings("unchecked")
+      ExpiringElement<String> element = Mockito.mock(ExpiringElement.class);
+      Mockito.when(element.getValue()).thenReturn(String.valueOf(i));
+      Mockito.when(element.getTimestamp()).thenReturn(i < 16 ? System.currentTimeMillis() : 0L);
+      elementMap.put(i, element);
+    }
+
+    for (int i = 0; i < 4; i++) {
+      map.put(1000 + i, "new");
+    }
+    assertEquals(20, elementMap.size());
+    assertTrue(elementMap.containsKey(15));
+    assertFalse(elementMap.containsKey(16));
+    assertFalse(elementMap.containsKey(63));
+  }
+
   @Test
   public void testCopyConstructorDivisionByZero() {
     TestConcurrentExpiringMap map = new TestConcurrentExpiringMap(0, TimeUnit.MILLISECONDS, 0);
@@ -16,12 +16,16 @@ import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Supplier;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 
 /**
  * Basic implementation of {@link ICache}.
@@ -29,8 +33,11 @@ import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
  * Note:
  * <ul>
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
- * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
- * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>There might be multiple concurrent resolve operations running for the same key unless single-flight resolve is
+ * enabled (see {@link ICacheBuilder#withSingleFlightResolve(boolean)}). In that mode, concurrent misses for the same key
+ * wait on one shared resolve operation. An invalidation which affects a key while its value is being resolved discards
+ * the resolved value (it is not put into the cache map and waiting threads resolve again).
+ * <li>{@link BoundedResolveCacheWrapper} may be used to limit the total number of concurrent resolve operations.
  * </ul>
  *
  * @since 5.2
@@ -43,6 +50,7 @@ public class BasicCache<K, V> implements ICache<K, V> {
   protected final Map<K, V> m_cacheMap;
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
+  protected final ConcurrentMap<K, ResolveFlight<V>> m_resolveFlights; // is null if single-flight resolve is disabled
 
   /**
    * @deprecated Use constructor including label supplier as second argument. Label supplier can be retrieved via
@@ -57,6 +65,10 @@ public class BasicCache<K, V> implements ICache<K, V> {
     this(cacheId, labelSupplier, resolver, cacheMap, findTransactionalMap(cacheMap));
   }
 
+  public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, boolean singleFlightResolve) {
+    this(cacheId, labelSupplier, resolver, cacheMap, findTransactionalMap(cacheMap), singleFlightResolve);
+  }
+
   @SuppressWarnings("unchecked")
   private static <K, V> AbstractTransactionalMap<K, ?> findTransactionalMap(Map<K, V> cacheMap) {
     Map<K, ?> innerMap = cacheMap;
@@ -79,12 +91,26 @@ public class BasicCache<K, V> implements ICache<K, V> {
   }
 
   public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, AbstractTransactionalMap<K, ?> transactionalMap) {
+    this(cacheId, labelSupplier, resolver, cacheMap, transactionalMap, false);
+  }
+
+  /**
+   * @param singleFlightResolve
+   *          if true, concurrent misses for the same key are coalesced into one resolve operation. The provided cache
+   *          map must be thread safe in this case.
+   */
+  public BasicCache(String cacheId, Supplier<String> labelSupplier, ICacheValueResolver<K, V> resolver, Map<K, V> cacheMap, AbstractTransactionalMap<K, ?> transactionalMap, boolean singleFlightResolve) {
     m_cacheId = Assertions.assertNotNullOrEmpty(cacheId);
     m_labelSupplier = labelSupplier;
     m_resolver = Assertions.assertNotNull(resolver);
     m_cacheMap = Assertions.assertNotNull(cacheMap);
 
     m_transactionalMap = transactionalMap;
+    m_resolveFlights = singleFlightResolve ? new ConcurrentHashMap<>() : null;
+  }
+
+  public boolean isSingleFlightResolve() {
+    return m_resolveFlights != null;
   }
 
   @Override
@@ -119,6 +145,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
     V value = m_cacheMap.get(key);
     if (value == null) {
+      if (m_resolveFlights != null) {
+        return resolveSingleFlight(key);
+      }
       if (m_transactionalMap != null) {
         m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
       }
@@ -131,6 +160,79 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return value;
   }
 
+  /**
+   * Resolves the value of a single key. If there is already a resolve operation running for this key, the current
+   * thread waits for its result instead of resolving the value again.
+   */
+  protected V resolveSingleFlight(K key) {
+    while (true) {
+      ResolveFlight<V> flight = new ResolveFlight<>();
+      ResolveFlight<V> runningFlight = m_resolveFlights.putIfAbsent(key, flight);
+      if (runningFlight != null) {
+        if (!runningFlight.await()) {
+          // the running flight was invalidated, resolve again
+          continue;
+        }
+        // the resolving thread already put the value into the cache map (unless it was invalidated meanwhile)
+        return runningFlight.getValue();
+      }
+
+      try {
+        // another flight may have completed between the first cache lookup and registering this flight
+        V value = m_cacheMap.get(key);
+        if (value == null) {
+          if (m_transactionalMap != null) {
+            m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
+          }
+          value = m_resolver.resolve(key);
+          value = putResolvedValueIfNotDiscarded(flight, key, value);
+        }
+        flight.complete(value);
+        return value;
+      }
+      catch (RuntimeException | Error e) {
+        flight.fail(e);
+        throw e;
+      }
+      finally {
+        m_resolveFlights.remove(key, flight);
+      }
+    }
+  }
+
+  /**
+   * Puts a resolved value into the cache map unless the flight was discarded by an invalidation. The check and the put
+   * are atomic with respect to {@link ResolveFlight#discard()}, flights are discarded before the cache map is
+   * invalidated.
+   *
+   * @return value in the cache map or the resolved value if the flight was discarded
+   */
+  protected V putResolvedValueIfNotDiscarded(ResolveFlight<V> flight, K key, V value) {
+    synchronized (flight) {
+      if (flight.isDiscarded()) {
+        return value;
+      }
+      return putResolvedValue(key, value);
+    }
+  }
+
+  /**
+   * Puts a resolved value into the cache map of the current thread (the current transaction if this is a transactional
+   * cache).
+   *
+   * @return value in the cache map
+   */
+  protected V putResolvedValue(K key, V value) {
+    if (value == null) {
+      return null;
+    }
+    if (m_transactionalMap != null) {
+      m_transactionalMap.getTransactionMember(true);
+    }
+    V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
+    return alreadySetValue != null ? alreadySetValue : value;
+  }
+
   @Override
   public Map<K, V> getAll(Collection<? extends K> keys0) {
     Set<K> keys = CollectionUtility.hashSetWithoutNullElements(keys0);
@@ -150,6 +252,10 @@ public class BasicCache<K, V> implements ICache<K, V> {
       // all keys could be resolved with cache
       return result;
     }
+    if (m_resolveFlights != null) {
+      resolveAllSingleFlight(keys, result);
+      return result;
+    }
 
     if (m_transactionalMap != null) {
       m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
@@ -172,10 +278,71 @@ public class BasicCache<K, V> implements ICache<K, V> {
     return result;
   }
 
+  /**
+   * Resolves the values of the given keys. Keys for which there is already a resolve operation running are not resolved
+   * again; the current thread waits for these operations instead.
+   */
+  protected void resolveAllSingleFlight(Set<K> keys, Map<K, V> result) {
+    Map<K, ResolveFlight<V>> ownFlights = new HashMap<>();
+    Map<K, ResolveFlight<V>> runningFlights = new HashMap<>();
+    for (K key : keys) {
+      ResolveFlight<V> flight = new ResolveFlight<>();
+      ResolveFlight<V> runningFlight = m_resolveFlights.putIfAbsent(key, flight);
+      if (runningFlight == null) {
+        ownFlights.put(key, flight);
+      }
+      else {
+        runningFlights.put(key, runningFlight);
+      }
+    }
+
+    if (!ownFlights.isEmpty()) {
+      try {
+        if (m_transactionalMap != null) {
+          m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
+        }
+        Map<K, V> resolvedValues = m_resolver.resolveAll(ownFlights.keySet());
+        for (Entry<K, ResolveFlight<V>> entry : ownFlights.entrySet()) {
+          K key = entry.getKey();
+          ResolveFlight<V> flight = entry.getValue();
+          V value = putResolvedValueIfNotDiscarded(flight, key, resolvedValues.get(key));
+          if (value != null) {
+            result.put(key, value);
+          }
+          flight.complete(value);
+        }
+      }
+      catch (RuntimeException | Error e) {
+        ownFlights.values().forEach(flight -> flight.fail(e));
+        throw e;
+      }
+      finally {
+        ownFlights.forEach(m_resolveFlights::remove);
+      }
+    }
+
+    for (Entry<K, ResolveFlight<V>> entry : runningFlights.entrySet()) {
+      K key = entry.getKey();
+      ResolveFlight<V> flight = entry.getValue();
+      V value;
+      if (!flight.await()) {
+        value = get(key);
+      }
+      else {
+        value = flight.getValue();
+      }
+      if (value != null) {
+        result.put(key, value);
+      }
+    }
+  }
+
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     boolean markInsertsDirty = true;
 
+    // discard running resolve operations first, so that their values are not put into the cache map after it was invalidated
+    discardResolveFlights(filter);
     if (filter instanceof AllCacheEntryFilter) {
       m_cacheMap.clear();
     }
@@ -196,8 +363,93 @@ public class BasicCache<K, V> implements ICache<K, V> {
     }
   }
 
+  /**
+   * Discards the results of all running resolve operations affected by the given filter. The values of these
+   * operations are not put into the cache map and threads waiting for them resolve the value again.
+   */
+  protected void discardResolveFlights(ICacheEntryFilter<K, V> filter) {
+    if (m_resolveFlights == null || filter == null || m_resolveFlights.isEmpty()) {
+      return;
+    }
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        ResolveFlight<V> flight = m_resolveFlights.remove(key);
+        if (flight != null) {
+          flight.discard();
+        }
+      }
+      return;
+    }
+    // the value of a running flight is not known yet, therefore any other filter discards all running flights
+    for (Iterator<ResolveFlight<V>> iterator = m_resolveFlights.values().iterator(); iterator.hasNext();) {
+      iterator.next().discard();
+      iterator.remove();
+    }
+  }
+
   @Override
   public <T> T getAdapter(Class<T> clazz) {
     return null;
   }
+
+  /**
+   * A resolve operation for one key which other threads may wait for.
+   */
+  protected static class ResolveFlight<V> {
+    private final CountDownLatch m_done = new CountDownLatch(1);
+    private volatile boolean m_discarded;
+    private volatile V m_value;
+    private volatile Throwable m_failure;
+
+    public void complete(V value) {
+      m_value = value;
+      m_done.countDown();
+    }
+
+    public void fail(Throwable failure) {
+      m_failure = failure;
+      m_done.countDown();
+    }
+
+    /**
+     * Marks this flight as discarded; waiting threads are released and must resolve the value again.
+     */
+    public synchronized void discard() {
+      m_discarded = true;
+      m_done.countDown();
+    }
+
+    public boolean isDiscarded() {
+      return m_discarded;
+    }
+
+    /**
+     * Waits until this flight is completed, failed or discarded.
+     *
+     * @return true if the flight completed or failed, false if it was discarded
+     * @throws ThreadInterruptedError
+     *           if the current thread is interrupted while waiting
+     */
+    public boolean await() {
+      try {
+        m_done.await();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while waiting for cache value resolve", e);
+      }
+      Throwable failure = m_failure;
+      if (failure instanceof RuntimeException) {
+        throw (RuntimeException) failure;
+      }
+      if (failure instanceof Error) {
+        throw (Error) failure;
+      }
+      return !m_discarded;
+    }
+
+    public V getValue() {
+      return m_value;
+    }
+  }
 }
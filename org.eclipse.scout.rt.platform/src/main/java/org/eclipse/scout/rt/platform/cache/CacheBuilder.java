@@ -49,6 +49,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
   private Integer m_maxConcurrentResolve;
+  private boolean m_singleFlightResolve;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -123,7 +124,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap, isSingleFlightResolve());
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
@@ -326,6 +327,16 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_maxConcurrentResolve;
   }
 
+  @Override
+  public CacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve) {
+    m_singleFlightResolve = singleFlightResolve;
+    return this;
+  }
+
+  public boolean isSingleFlightResolve() {
+    return m_singleFlightResolve;
+  }
+
   @Override
   public CacheBuilder<K, V> withAdditionalCustomWrapper(Class<? extends ICache> cacheClass, Object... arguments) {
     if (cacheClass != null) {
@@ -195,6 +195,22 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve);
 
+  /**
+   * If set to true, concurrent misses for the same key are coalesced: only one thread resolves the value while the
+   * other threads wait for its result. This also applies per key to {@link ICache#getAll(java.util.Collection)}.
+   * <p>
+   * If an invalidation affects a key while its value is being resolved, the resolved value is discarded and waiting
+   * threads resolve the value again.
+   * <p>
+   * <b>Note:</b> Waiting threads are blocked until the resolving thread completes. If the value resolver itself may be
+   * blocked by a waiting thread, this may lead to a deadlock.
+   *
+   * @param singleFlightResolve
+   *          true to enable single-flight resolve (Default false)
+   * @return this builder
+   */
+  ICacheBuilder<K, V> withSingleFlightResolve(boolean singleFlightResolve);
+
   /**
    * Adds a cache wrapper to the constructed cache instance. In the cache instance these additional wrappers are ordered
    * in the same sequence as they were added. The cache wrapper is created always through a constructor that takes as
@@ -240,6 +240,88 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs are executed on virtual threads instead of a pool of platform threads. Requires Java 21 or newer, on older runtimes the platform thread pool is used. "
+          + "If enabled, the properties '%s', '%s', '%s', '%s' and '%s' have no effect. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(),
+          BEANS.get(JobManagerKeepAliveTimeProperty.class).getKey(),
+          BEANS.get(JobManagerAllowCoreThreadTimeoutProperty.class).getKey(),
+          BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerVirtualThreadPinningDetectionProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreadPinningDetection";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether a warning with the stack trace is logged whenever a virtual thread blocks while pinned to its carrier thread (e.g. within a synchronized block). "
+          + "Only has an effect if '%s' is enabled. The default value is true in development mode and false otherwise.", BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Platform.get().inDevelopmentMode();
+    }
+  }
+
+  public static class JobManagerMetricsEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.metricsEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether the job manager reports metrics about its worker pool, execution permit queues and job latencies (scheduling delay, permit wait time and run time). "
+          + "Only has an effect if OpenTelemetry metrics are enabled. If disabled, no timestamps are taken while running jobs. The default value is true.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return true;
+    }
+  }
+
+  public static class JobManagerMetricsMaxJobNamesProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.metricsMaxJobNames";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The maximal number of distinct job names (without their arguments) the job latency metrics are reported for, if '%s' is enabled. "
+          + "Jobs with further names are reported as 'other' to limit the cardinality of the metrics. The default value is 200.",
+          BEANS.get(JobManagerMetricsEnabledProperty.class).getKey());
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 200;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
@@ -32,6 +32,7 @@ import org.eclipse.scout.rt.platform.exception.IExceptionTranslator;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor;
 import org.eclipse.scout.rt.platform.logger.DiagnosticContextValueProcessor.IDiagnosticContextValueProvider;
 import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.platform.opentelemetry.OpenTelemetryContextProcessor;
 import org.eclipse.scout.rt.platform.security.SubjectProcessor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
@@ -48,6 +49,8 @@ import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
 import org.slf4j.MDC;
 
+import io.opentelemetry.context.Context;
+
 /**
  * A {@link RunContext} represents a "snapshot" of the current calling state and is always associated with a
  * {@link RunMonitor}.
@@ -73,6 +76,7 @@ public class RunContext implements IAdaptable {
   protected Subject m_subject;
   protected Locale m_locale;
   protected String m_correlationId;
+  protected Context m_openTelemetryContext;
   protected PropertyMap m_propertyMap = new PropertyMap();
 
   protected Map<ThreadLocal<?>, ThreadLocalProcessor<?>> m_threadLocalProcessors = new HashMap<>();
@@ -186,6 +190,7 @@ public class RunContext implements IAdaptable {
         .add(new RunMonitorCancellableProcessor(m_parentRunMonitor, m_runMonitor))
         .add(new ThreadLocalProcessor<>(CURRENT, this))
         .add(new ThreadLocalProcessor<>(CorrelationId.CURRENT, m_correlationId))
+        .add(new OpenTelemetryContextProcessor(m_openTelemetryContext))
         .add(new ThreadLocalProcessor<>(RunMonitor.CURRENT, Assertions.assertNotNull(m_runMonitor)))
         .add(new SubjectProcessor<>(m_subject))
         .add(new DiagnosticContextValueProcessor(BEANS.get(PrinicpalContextValueProvider.class)))
@@ -308,6 +313,26 @@ public class RunContext implements IAdaptable {
     return this;
   }
 
+  /**
+   * @see #withOpenTelemetryContext(Context)
+   */
+  public Context getOpenTelemetryContext() {
+    return m_openTelemetryContext;
+  }
+
+  /**
+   * Associates this context with the given OpenTelemetry {@link Context}, which typically holds the current span. The
+   * context is made current while running on behalf of this {@link RunContext}, so that spans created in there are
+   * children of the span in the given context. If <code>null</code>, the OpenTelemetry context of the executing thread
+   * is not changed.
+   *
+   * @since 24.1
+   */
+  public RunContext withOpenTelemetryContext(final Context openTelemetryContext) {
+    m_openTelemetryContext = openTelemetryContext;
+    return this;
+  }
+
   /**
    * @see #withTransactionScope(TransactionScope)
    */
@@ -504,6 +529,7 @@ public class RunContext implements IAdaptable {
         .attr("subject", getSubject())
         .attr("locale", getLocale())
         .attr("cid", getCorrelationId())
+        .ref("openTelemetryContext", getOpenTelemetryContext())
         .attr("transactionScope", getTransactionScope())
         .ref("transaction", getTransaction())
         .ref("newTransactionSupplier", getNewTransactionSupplier())
@@ -521,6 +547,7 @@ public class RunContext implements IAdaptable {
     m_subject = origin.m_subject;
     m_locale = origin.m_locale;
     m_correlationId = origin.m_correlationId;
+    m_openTelemetryContext = origin.m_openTelemetryContext;
     m_propertyMap = new PropertyMap(origin.m_propertyMap);
     m_transactionScope = origin.m_transactionScope;
     m_transaction = origin.m_transaction;
@@ -542,6 +569,7 @@ public class RunContext implements IAdaptable {
     m_subject = Subject.getSubject(AccessController.getContext());
     m_locale = NlsLocale.CURRENT.get();
     m_correlationId = CorrelationId.CURRENT.get();
+    m_openTelemetryContext = Context.current();
     m_propertyMap = new PropertyMap(PropertyMap.CURRENT.get());
     m_transactionScope = currentRunContext.m_transactionScope;
     m_transaction = ITransaction.CURRENT.get();
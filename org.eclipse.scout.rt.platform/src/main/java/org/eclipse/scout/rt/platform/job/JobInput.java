@@ -37,6 +37,7 @@ public class JobInput {
   public static final long EXPIRE_NEVER = 0;
 
   protected String m_name;
+  protected String m_nameTemplate;
   protected IExecutionSemaphore m_executionSemaphore;
   protected long m_expirationTime = EXPIRE_NEVER;
   protected String m_threadName = "scout-thread";
@@ -52,6 +53,17 @@ public class JobInput {
     return m_name;
   }
 
+  /**
+   * Returns the name of the job as passed to {@link #withName(String, Object...)}, i.e. without its <em>formatting
+   * anchors</em> being replaced by the arguments. Unlike {@link #getName()}, the template does not contain IDs or other
+   * arguments, which makes it suitable to group jobs, e.g. for metrics.
+   *
+   * @since 24.1
+   */
+  public String getNameTemplate() {
+    return m_nameTemplate;
+  }
+
   /**
    * Sets the name of the job, which is used to name the worker thread and for logging purpose.
    * <p>
@@ -65,6 +77,7 @@ public class JobInput {
    */
   public JobInput withName(final String name, final Object... args) {
     m_name = MessageFormatter.arrayFormat(name, args).getMessage();
+    m_nameTemplate = name;
     return this;
   }
 
@@ -280,6 +293,7 @@ public class JobInput {
   public JobInput copy() {
     final JobInput copy = BEANS.get(JobInput.class);
     copy.m_name = m_name;
+    copy.m_nameTemplate = m_nameTemplate;
     copy.m_executionSemaphore = m_executionSemaphore;
     copy.m_expirationTime = m_expirationTime;
     copy.m_exceptionHandler = m_exceptionHandler;
@@ -75,6 +75,13 @@ class DelayedExecutor {
     m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
   }
 
+  /**
+   * Returns the number of Runnables waiting for their fire time to elapse.
+   */
+  public int size() {
+    return m_delayedTaskQueue.size();
+  }
+
   /**
    * Returns <code>-1</code> if <code>value1</code> is less than <code>value2</code>, or <code>+1</code> if
    * <code>value1</code> is greater than <code>value2</code>, or <code>0</code> if the two values are equals.
@@ -15,6 +15,8 @@ import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
@@ -98,6 +100,19 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     }
   }
 
+  /**
+   * Returns the number of tasks currently waiting for a permit.
+   */
+  public int getQueueSize() {
+    m_readLock.lock();
+    try {
+      return m_queue.size();
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
   @Override
   public boolean isPermitOwner(final IFuture<?> task) {
     m_readLock.lock();
@@ -123,25 +138,32 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
   protected void acquire(final IFuture<?> task, final QueuePosition queuePosition) {
     assertSameSemaphore(task);
 
-    final Object acquisitionLock = new Object();
+    // Use an explicit lock instead of a monitor, so that a waiting virtual thread does not pin its carrier thread.
+    final ReentrantLock acquisitionLock = new ReentrantLock();
+    final Condition permitAcquiredCondition = acquisitionLock.newCondition();
     final AtomicBoolean waitingForPermit = new AtomicBoolean(true);
 
     compete(task, queuePosition, () -> {
-      synchronized (acquisitionLock) {
+      acquisitionLock.lock();
+      try {
         if (waitingForPermit.get()) {
-          acquisitionLock.notify();
+          permitAcquiredCondition.signal();
         }
         else {
           release(task);
         }
       }
+      finally {
+        acquisitionLock.unlock();
+      }
     });
 
     // Block the current thread until a permit is acquired.
-    synchronized (acquisitionLock) {
+    acquisitionLock.lock();
+    try {
       while (!isPermitOwner(task)) {
         try {
-          acquisitionLock.wait();
+          permitAcquiredCondition.await();
         }
         catch (final InterruptedException e) {
           Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by catching InterruptedException.
@@ -153,6 +175,9 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
         }
       }
     }
+    finally {
+      acquisitionLock.unlock();
+    }
   }
 
   /**
@@ -101,6 +101,14 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected volatile Thread m_runner;
   protected final Object m_runnerLock = new Object();
 
+  /**
+   * Timestamps in nanoseconds, which are only taken if {@link JobManager#getMetrics()} is set. These are primitives so
+   * that recording latencies does not allocate any memory per execution. Their visibility is ensured by the hand-over
+   * to {@link ExecutionSemaphore} and {@link ExecutorService}.
+   */
+  protected long m_dueNanos;
+  protected long m_permitWaitNanos;
+
   public JobFutureTask(final JobManager jobManager, final RunMonitor runMonitor, final JobInput input, final CallableChain<RESULT> callableChain, final Callable<RESULT> callable) {
     super(() -> callableChain.call(callable) /* run all processors as contained in the chain before invoking the callable */ );
 
@@ -164,6 +172,12 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
    */
   @Override
   public void run() {
+    final JobManagerMetrics metrics = m_jobManager.getMetrics();
+    final long startNanos = (metrics != null ? System.nanoTime() : 0L);
+    if (metrics != null && m_dueNanos != 0L) {
+      metrics.recordSchedulingDelay(this, startNanos - m_dueNanos - m_permitWaitNanos);
+    }
+
     m_trigger.triggered(m_calendar);
     m_runner = Thread.currentThread();
     try {
@@ -181,6 +195,9 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       synchronized (m_runnerLock) {
         m_runner = null;
       }
+      if (metrics != null) {
+        metrics.recordRunDuration(this, System.nanoTime() - startNanos);
+      }
       finishInternal();
       releasePermit();
     }
@@ -232,6 +249,10 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
 
   @Override
   public final void reject() {
+    final JobManagerMetrics metrics = m_jobManager.getMetrics();
+    if (metrics != null) {
+      metrics.recordRejected(this);
+    }
     changeState(JobState.REJECTED);
     cancel(true); // to enter done state and to release a potential waiting submitter.
     releasePermit();
@@ -557,6 +578,27 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return exception;
   }
 
+  /**
+   * Invoked once this task's fire time elapsed and it is about to compete for an execution permit, or to be given to
+   * {@link ExecutorService} directly. Takes a timestamp only if metrics are enabled.
+   */
+  protected void markDue() {
+    m_dueNanos = (m_jobManager.getMetrics() != null ? System.nanoTime() : 0L);
+    m_permitWaitNanos = 0L;
+  }
+
+  /**
+   * Invoked once this task acquired the permit of its {@link ExecutionSemaphore} after {@link #markDue()}.
+   */
+  protected void markPermitAcquired() {
+    final JobManagerMetrics metrics = m_jobManager.getMetrics();
+    if (metrics == null || m_dueNanos == 0L) {
+      return;
+    }
+    m_permitWaitNanos = System.nanoTime() - m_dueNanos;
+    metrics.recordPermitWaitTime(this, m_permitWaitNanos);
+  }
+
   /**
    * Sets the new state, and fires {@link JobEvent}, unless already being in state {@link JobState#DONE} or
    * {@link JobState#REJECTED}, or the specified state is already the current state.
@@ -33,6 +33,8 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerC
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadPinningDetectionProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
@@ -60,7 +62,8 @@ import org.slf4j.LoggerFactory;
  * Default implementation of {@link IJobManager}.
  * <p>
  * This job manager is based on {@link ThreadPoolExecutor}, {@link DelayedExecutor} and Quartz {@link Trigger} to
- * compute firing times.
+ * compute firing times. If {@link JobManagerVirtualThreadsProperty} is enabled, jobs run on virtual threads instead,
+ * see {@link VirtualThreadExecutor}.
  * <p>
  * Jobs which run immediately and exactly one time are executed directly via {@link ExecutorService}. For all other
  * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
@@ -76,6 +79,8 @@ public class JobManager implements IJobManager {
 
   protected final ExecutorService m_executor;
   protected final DelayedExecutor m_delayedExecutor;
+  protected VirtualThreadPinningMonitor m_pinningMonitor;
+  protected volatile JobManagerMetrics m_metrics;
 
   protected final FutureSet m_futures;
   protected final JobListeners m_listeners;
@@ -139,13 +144,18 @@ public class JobManager implements IJobManager {
    * Competes for an execution permit (if semaphore aware) and executes the runnable via {@link ExecutorService}.
    */
   protected void competeForPermitAndExecute(final JobFutureTask<?> futureTask, final IRejectableRunnable futureRunner) {
+    futureTask.markDue();
+
     final ExecutionSemaphore executionSemaphore = futureTask.getExecutionSemaphore();
     if (executionSemaphore == null) {
       m_executor.execute(futureRunner);
     }
     else {
       futureTask.changeState(JobState.WAITING_FOR_PERMIT);
-      executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> m_executor.execute(futureRunner));
+      executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> {
+        futureTask.markPermitAcquired();
+        m_executor.execute(futureRunner);
+      });
     }
   }
 
@@ -208,6 +218,9 @@ public class JobManager implements IJobManager {
 
     // Shutdown the Executor.
     shutdownExecutor(m_executor);
+    if (m_pinningMonitor != null) {
+      m_pinningMonitor.stop();
+    }
 
     // Fire event that job manager was shutdown.
     fireEvent(new JobEvent(this, JobEventType.JOB_MANAGER_SHUTDOWN, new JobEventData()));
@@ -251,6 +264,36 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      if (VirtualThreadExecutor.isSupported()) {
+        return createVirtualThreadExecutor();
+      }
+      LOG.warn("Virtual threads are not supported by this Java runtime, using platform threads instead. [property={}, javaVersion={}]",
+          BEANS.get(JobManagerVirtualThreadsProperty.class).getKey(), Runtime.version());
+    }
+    return createPlatformThreadExecutor();
+  }
+
+  /**
+   * Creates the executor to run every job in a new virtual thread. Blocking jobs do not occupy a platform thread, so
+   * the number of concurrently running jobs is not limited by a pool size.
+   * <p>
+   * Blocking within a <code>synchronized</code> block pins the virtual thread to its carrier thread. If
+   * {@link JobManagerVirtualThreadPinningDetectionProperty} is enabled, such situations are logged.
+   */
+  protected ExecutorService createVirtualThreadExecutor() {
+    LOG.info("Job manager runs jobs on virtual threads");
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadPinningDetectionProperty.class)) {
+      m_pinningMonitor = new VirtualThreadPinningMonitor();
+      m_pinningMonitor.start();
+    }
+    return new VirtualThreadExecutor("scout-thread");
+  }
+
+  /**
+   * Creates the executor to run jobs in a pool of platform threads.
+   */
+  protected ExecutorService createPlatformThreadExecutor() {
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
     final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
@@ -281,6 +324,22 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * Returns the metrics to record job latencies to, or <code>null</code> if metrics are disabled.
+   */
+  public JobManagerMetrics getMetrics() {
+    return m_metrics;
+  }
+
+  /**
+   * Sets the metrics to record job latencies to, or <code>null</code> to disable recording.
+   *
+   * @see JobManagerMetricProvider
+   */
+  public void setMetrics(final JobManagerMetrics metrics) {
+    m_metrics = metrics;
+  }
+
   /**
    * Returns the internal Executor Service.
    */
@@ -343,6 +402,7 @@ public class JobManager implements IJobManager {
         .add(BEANS.get(ThreadNameDecorator.class))
         .add(new DiagnosticContextValueProcessor(BEANS.get(JobNameContextValueProvider.class)))
         .add(new RunContextRunner<>(input.getRunContext()))
+        .add(new JobSpanProcessor<>(input))
         .add(new ExceptionProcessor<>(input)); // must follow RunContextRunner to handle exception in proper RunContext
   }
 
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMetricsEnabledProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMetricsMaxJobNamesProperty;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.opentelemetry.IHistogramViewHintProvider;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} which serves the metrics of {@link JobManager}:
+ * <ul>
+ * <li>size and utilization of the <code>scout-thread</code> worker pool</li>
+ * <li>number of jobs waiting for their fire time or for an execution permit</li>
+ * <li>longest queue of an execution semaphore, e.g. the model job queue of a client session</li>
+ * <li>rejected jobs as well as scheduling delay, permit wait time and run time per job name, see
+ * {@link JobManagerMetrics}</li>
+ * </ul>
+ * Queue lengths are not reported per session (i.e. per execution semaphore) because the number of sessions is
+ * unbounded, but as the maximum and the number of semaphores having a queue.
+ *
+ * @see JobManagerMetricsEnabledProperty
+ * @since 24.1
+ */
+public class JobManagerMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobManagerMetricProvider.class);
+
+  protected static final AttributeKey<String> QUEUE = AttributeKey.stringKey("queue");
+  protected static final Attributes DELAYED_QUEUE_ATTRIBUTES = Attributes.of(QUEUE, "delayed");
+  protected static final Attributes PERMIT_QUEUE_ATTRIBUTES = Attributes.of(QUEUE, "permit");
+
+  private JobManager m_jobManager;
+  private BatchCallback m_batchCallback;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    if (!CONFIG.getPropertyValue(JobManagerMetricsEnabledProperty.class)) {
+      return;
+    }
+
+    IJobManager jobManager = BEANS.get(IJobManager.class);
+    if (!(jobManager instanceof JobManager)) {
+      LOG.info("Job manager metrics not available for {}", jobManager.getClass().getName());
+      return;
+    }
+    m_jobManager = (JobManager) jobManager;
+
+    Meter meter = openTelemetry.getMeter("scout.JobManager");
+    ObservableLongMeasurement poolSize = meter.upDownCounterBuilder("scout.jobs.workers.pool.size")
+        .setDescription("The number of worker threads currently in the pool.")
+        .setUnit("{thread}")
+        .buildObserver();
+    ObservableLongMeasurement maxPoolSize = meter.upDownCounterBuilder("scout.jobs.workers.max")
+        .setDescription("The maximum number of worker threads allowed in the pool.")
+        .setUnit("{thread}")
+        .buildObserver();
+    ObservableLongMeasurement activeWorkers = meter.upDownCounterBuilder("scout.jobs.workers.active")
+        .setDescription("The number of worker threads currently running a job.")
+        .setUnit("{thread}")
+        .buildObserver();
+    ObservableLongMeasurement queuedJobs = meter.upDownCounterBuilder("scout.jobs.queued")
+        .setDescription("The number of jobs waiting for their fire time to elapse (queue=delayed) or for an execution permit (queue=permit).")
+        .setUnit("{job}")
+        .buildObserver();
+    ObservableLongMeasurement maxSemaphoreQueueLength = meter.gaugeBuilder("scout.jobs.semaphore.queue.length.max")
+        .ofLongs()
+        .setDescription("The number of jobs waiting in the longest queue of an execution semaphore.")
+        .setUnit("{job}")
+        .buildObserver();
+    ObservableLongMeasurement contendedSemaphores = meter.upDownCounterBuilder("scout.jobs.semaphore.contended")
+        .setDescription("The number of execution semaphores having jobs waiting for a permit.")
+        .setUnit("{semaphore}")
+        .buildObserver();
+
+    m_jobManager.setMetrics(createJobManagerMetrics(meter));
+
+    m_batchCallback = meter.batchCallback(() -> {
+      ExecutorService executor = m_jobManager.getExecutor();
+      if (executor instanceof ThreadPoolExecutor) {
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+        poolSize.record(threadPoolExecutor.getPoolSize());
+        maxPoolSize.record(threadPoolExecutor.getMaximumPoolSize());
+        activeWorkers.record(threadPoolExecutor.getActiveCount());
+      }
+      else if (executor instanceof VirtualThreadExecutor) {
+        int activeCount = ((VirtualThreadExecutor) executor).getActiveCount();
+        poolSize.record(activeCount);
+        activeWorkers.record(activeCount);
+      }
+      queuedJobs.record(m_jobManager.getDelayedExecutor().size(), DELAYED_QUEUE_ATTRIBUTES);
+
+      int queued = 0;
+      int maxQueueLength = 0;
+      int contended = 0;
+      for (ExecutionSemaphore semaphore : collectContendedSemaphores()) {
+        int queueSize = semaphore.getQueueSize();
+        queued += queueSize;
+        maxQueueLength = Math.max(maxQueueLength, queueSize);
+        if (queueSize > 0) {
+          contended++;
+        }
+      }
+      queuedJobs.record(queued, PERMIT_QUEUE_ATTRIBUTES);
+      maxSemaphoreQueueLength.record(maxQueueLength);
+      contendedSemaphores.record(contended);
+    },
+        poolSize,
+        maxPoolSize,
+        activeWorkers,
+        queuedJobs,
+        maxSemaphoreQueueLength,
+        contendedSemaphores);
+  }
+
+  protected JobManagerMetrics createJobManagerMetrics(Meter meter) {
+    return new JobManagerMetrics(meter, CONFIG.getPropertyValue(JobManagerMetricsMaxJobNamesProperty.class));
+  }
+
+  /**
+   * Returns the execution semaphores of all jobs currently waiting for a permit.
+   */
+  protected Set<ExecutionSemaphore> collectContendedSemaphores() {
+    Set<ExecutionSemaphore> semaphores = Collections.newSetFromMap(new IdentityHashMap<>());
+    for (IFuture<?> future : m_jobManager.getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchState(JobState.WAITING_FOR_PERMIT)
+        .toFilter())) {
+      if (future instanceof JobFutureTask && ((JobFutureTask<?>) future).getExecutionSemaphore() != null) {
+        semaphores.add(((JobFutureTask<?>) future).getExecutionSemaphore());
+      }
+    }
+    return semaphores;
+  }
+
+  @Override
+  public void close() {
+    if (m_jobManager != null) {
+      m_jobManager.setMetrics(null);
+    }
+    if (m_batchCallback != null) {
+      m_batchCallback.close();
+      m_batchCallback = null;
+    }
+  }
+
+  /**
+   * Custom histogram buckets for the job latencies (time unit: milliseconds).
+   *
+   * @see JobManagerMetrics
+   */
+  public static class JobLatencyHistogramViewHintProvider implements IHistogramViewHintProvider {
+
+    @Override
+    public String getInstrumentName() {
+      return "scout.jobs.*";
+    }
+
+    @Override
+    public List<Double> getExplicitBuckets() {
+      return List.of(1d, 5d, 10d, 50d, 100d, 500d, 1_000d, 5_000d, 10_000d, 60_000d);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.platform.job.JobInput;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * Records the latencies and rejections of jobs run by {@link JobManager}.
+ * <p>
+ * An instance is only installed in {@link JobManager} while metrics are enabled, see
+ * {@link JobManagerMetricProvider}. Otherwise, {@link JobFutureTask} takes no timestamps at all.
+ * <p>
+ * Latencies are reported per {@link JobInput#getNameTemplate()}, i.e. the job name without its arguments, so that jobs
+ * named like <code>"Stop client session {}"</code> are reported as a single series. Because names may still be built
+ * dynamically, the number of distinct names is limited; jobs with further names are reported as
+ * {@link #OTHER_JOB_NAME}.
+ *
+ * @since 24.1
+ */
+public class JobManagerMetrics {
+
+  public static final String OTEL_METRIC_SCHEDULING_DELAY = "scout.jobs.scheduling.delay";
+  public static final String OTEL_METRIC_PERMIT_WAIT_TIME = "scout.jobs.permit.wait_time";
+  public static final String OTEL_METRIC_RUN_DURATION = "scout.jobs.run.duration";
+  public static final String OTEL_METRIC_REJECTED = "scout.jobs.rejected";
+
+  public static final String OTHER_JOB_NAME = "other";
+
+  protected static final AttributeKey<String> JOB_NAME = AttributeKey.stringKey("job.name");
+  protected static final double NANOS_PER_MILLI = 1_000_000d;
+
+  protected final DoubleHistogram m_schedulingDelay;
+  protected final DoubleHistogram m_permitWaitTime;
+  protected final DoubleHistogram m_runDuration;
+  protected final LongCounter m_rejected;
+
+  protected final int m_maxJobNames;
+  protected final Map<String, Attributes> m_attributesByJobName;
+  protected final Attributes m_otherAttributes;
+
+  public JobManagerMetrics(final Meter meter, final int maxJobNames) {
+    m_schedulingDelay = meter.histogramBuilder(OTEL_METRIC_SCHEDULING_DELAY)
+        .setDescription("The time a job waited for a worker thread after its fire time elapsed, not including the time waiting for an execution permit.")
+        .setUnit("ms")
+        .build();
+    m_permitWaitTime = meter.histogramBuilder(OTEL_METRIC_PERMIT_WAIT_TIME)
+        .setDescription("The time a job waited to acquire a permit of its execution semaphore.")
+        .setUnit("ms")
+        .build();
+    m_runDuration = meter.histogramBuilder(OTEL_METRIC_RUN_DURATION)
+        .setDescription("The time a job was running on a worker thread.")
+        .setUnit("ms")
+        .build();
+    m_rejected = meter.counterBuilder(OTEL_METRIC_REJECTED)
+        .setDescription("The number of jobs rejected by the job manager, e.g. because no more worker threads were available or the job manager was shut down.")
+        .setUnit("{job}")
+        .build();
+
+    m_maxJobNames = maxJobNames;
+    m_attributesByJobName = new ConcurrentHashMap<>();
+    m_otherAttributes = Attributes.of(JOB_NAME, OTHER_JOB_NAME);
+  }
+
+  /**
+   * Invoked once the given job's fire time elapsed and it waited the given time for a worker thread.
+   */
+  public void recordSchedulingDelay(final JobFutureTask<?> futureTask, final long nanos) {
+    m_schedulingDelay.record(nanos / NANOS_PER_MILLI, getAttributes(futureTask));
+  }
+
+  /**
+   * Invoked once the given job acquired the permit of its execution semaphore after having waited the given time.
+   */
+  public void recordPermitWaitTime(final JobFutureTask<?> futureTask, final long nanos) {
+    m_permitWaitTime.record(nanos / NANOS_PER_MILLI, getAttributes(futureTask));
+  }
+
+  /**
+   * Invoked once the given job completed a run of the given duration.
+   */
+  public void recordRunDuration(final JobFutureTask<?> futureTask, final long nanos) {
+    m_runDuration.record(nanos / NANOS_PER_MILLI, getAttributes(futureTask));
+  }
+
+  /**
+   * Invoked once the given job was rejected.
+   */
+  public void recordRejected(final JobFutureTask<?> futureTask) {
+    m_rejected.add(1, getAttributes(futureTask));
+  }
+
+  /**
+   * Returns the cached {@link Attributes} for the name template of the given job without allocating memory on a cache
+   * hit.
+   */
+  protected Attributes getAttributes(final JobFutureTask<?> futureTask) {
+    final String jobName = futureTask.getJobInput().getNameTemplate();
+    if (jobName == null) {
+      return m_otherAttributes;
+    }
+
+    Attributes attributes = m_attributesByJobName.get(jobName);
+    if (attributes == null) {
+      if (m_attributesByJobName.size() >= m_maxJobNames) {
+        return m_otherAttributes; // limit the cardinality, concurrent callers may exceed the limit slightly
+      }
+      attributes = Attributes.of(JOB_NAME, jobName);
+      m_attributesByJobName.put(jobName, attributes);
+    }
+    return attributes;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.concurrent.Callable;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
+import org.eclipse.scout.rt.platform.chain.callable.CallableChain.Chain;
+import org.eclipse.scout.rt.platform.chain.callable.ICallableInterceptor;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+
+/**
+ * Processor to run the subsequent sequence of actions in an OpenTelemetry span named after the job. A span is only
+ * created if the job's {@link JobInput#getRunContext() RunContext} is part of a trace, so that background jobs do not
+ * start new traces.
+ * <p>
+ * Instances of this class are to be added to a {@link CallableChain} to participate in the execution of a
+ * {@link Callable}.
+ *
+ * @since 24.1
+ */
+public class JobSpanProcessor<RESULT> implements ICallableInterceptor<RESULT> {
+
+  protected static final String TRACER_NAME = "scout.JobManager";
+
+  protected final JobInput m_input;
+
+  public JobSpanProcessor(final JobInput input) {
+    m_input = input;
+  }
+
+  @Override
+  public RESULT intercept(final Chain<RESULT> chain) throws Exception {
+    final TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    return tracingHelper.wrapInChildSpan(tracingHelper.getTracer(TRACER_NAME), getSpanName(), span -> chain.continueChain());
+  }
+
+  protected String getSpanName() {
+    return StringUtility.hasText(m_input.getName()) ? m_input.getName() : "job";
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return m_input.getRunContext() != null;
+  }
+}
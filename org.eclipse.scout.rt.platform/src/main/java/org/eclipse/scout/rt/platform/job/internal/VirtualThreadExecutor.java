@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.Thread.UncaughtExceptionHandler;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+/**
+ * Executor which runs every task in a new virtual thread.
+ * <p>
+ * Virtual threads are available as of Java 21. The virtual thread factory is looked up reflectively, so that the
+ * platform still runs on older Java versions; use {@link #isSupported()} before creating an instance.
+ * <p>
+ * Like {@link NamedThreadFactory}, every worker thread is associated with a {@link ThreadInfo} to support thread name
+ * decoration, and uncaught exceptions are given to {@link ExceptionHandler}. Tasks submitted after shutdown are
+ * rejected: if implementing {@link IRejectableRunnable}, the task is notified, otherwise a
+ * {@link RejectedExecutionException} is thrown.
+ *
+ * @since 24.1
+ */
+public class VirtualThreadExecutor extends AbstractExecutorService implements UncaughtExceptionHandler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+
+  private static final ThreadFactory VIRTUAL_THREAD_FACTORY = createVirtualThreadFactory();
+
+  private final String m_threadName;
+  private final AtomicLong m_sequence;
+
+  private final ReentrantLock m_lock;
+  private final Condition m_terminatedCondition;
+  private final Set<Thread> m_workers;
+  private volatile boolean m_shutdown;
+
+  public VirtualThreadExecutor(final String threadName) {
+    Assertions.assertTrue(isSupported(), "Virtual threads are not supported by this Java runtime [version={}]", Runtime.version());
+    m_threadName = threadName;
+    m_sequence = new AtomicLong();
+    m_lock = new ReentrantLock();
+    m_terminatedCondition = m_lock.newCondition();
+    m_workers = new HashSet<>();
+  }
+
+  /**
+   * @return <code>true</code> if the current Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return VIRTUAL_THREAD_FACTORY != null;
+  }
+
+  @Override
+  public void execute(final Runnable runnable) {
+    Assertions.assertNotNull(runnable, "Runnable must not be null");
+
+    final long sequence = m_sequence.incrementAndGet();
+    final Thread thread = VIRTUAL_THREAD_FACTORY.newThread(() -> runWorker(runnable, sequence));
+    thread.setUncaughtExceptionHandler(this);
+
+    m_lock.lock();
+    try {
+      if (m_shutdown) {
+        reject(runnable);
+        return;
+      }
+      m_workers.add(thread);
+    }
+    finally {
+      m_lock.unlock();
+    }
+    thread.start();
+  }
+
+  /**
+   * Method invoked in the worker thread to run the given task.
+   */
+  protected void runWorker(final Runnable runnable, final long sequence) {
+    // Virtual threads inherit inheritable thread locals, so clear the MDC like NamedThreadFactory does.
+    MDC.clear();
+
+    ThreadInfo.CURRENT.set(new ThreadInfo(Thread.currentThread(), m_threadName, sequence));
+    try {
+      runnable.run();
+    }
+    finally {
+      ThreadInfo.CURRENT.remove();
+      onWorkerTerminated(Thread.currentThread());
+    }
+  }
+
+  protected void onWorkerTerminated(final Thread thread) {
+    m_lock.lock();
+    try {
+      m_workers.remove(thread);
+      if (m_shutdown && m_workers.isEmpty()) {
+        m_terminatedCondition.signalAll();
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Method invoked if a task is submitted after shutdown.
+   */
+  protected void reject(final Runnable runnable) {
+    LOG.debug("Job rejected because the executor is shutdown.");
+    if (runnable instanceof IRejectableRunnable) {
+      ((IRejectableRunnable) runnable).reject();
+    }
+    else {
+      throw new RejectedExecutionException("Executor is shutdown");
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    m_lock.lock();
+    try {
+      m_shutdown = true;
+      if (m_workers.isEmpty()) {
+        m_terminatedCondition.signalAll();
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * Interrupts all running tasks. Tasks are started immediately upon submission, so there are never tasks awaiting
+   * execution.
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    m_lock.lock();
+    try {
+      shutdown();
+      for (final Thread worker : m_workers) {
+        worker.interrupt();
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+    return Collections.emptyList();
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return m_shutdown;
+  }
+
+  @Override
+  public boolean isTerminated() {
+    m_lock.lock();
+    try {
+      return m_shutdown && m_workers.isEmpty();
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public boolean awaitTermination(final long timeout, final TimeUnit unit) throws InterruptedException {
+    long nanos = unit.toNanos(timeout);
+    m_lock.lock();
+    try {
+      while (!(m_shutdown && m_workers.isEmpty())) {
+        if (nanos <= 0L) {
+          return false;
+        }
+        nanos = m_terminatedCondition.awaitNanos(nanos);
+      }
+      return true;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * @return number of tasks currently running.
+   */
+  public int getActiveCount() {
+    m_lock.lock();
+    try {
+      return m_workers.size();
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  // === UncaughtExceptionHandler ===
+
+  @Override
+  public void uncaughtException(final Thread thread, final Throwable t) {
+    try {
+      // Worker thread abruptly terminated due to an uncaught exception.
+      BEANS.get(ExceptionHandler.class).handle(t);
+    }
+    catch (final Throwable unhandledThrowable) { // NOSONAR
+      LOG.error("Unexpected: Unhandled throwable during job execution", unhandledThrowable);
+    }
+  }
+
+  /**
+   * Obtains the factory of <code>Thread.ofVirtual()</code> reflectively, because the platform is compiled for Java
+   * versions without virtual threads.
+   *
+   * @return the factory, or <code>null</code> if not supported.
+   */
+  private static ThreadFactory createVirtualThreadFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException e) { // NOSONAR
+      LOG.debug("Virtual threads not supported [javaVersion={}]", Runtime.version(), e);
+      return null;
+    }
+  }
+}
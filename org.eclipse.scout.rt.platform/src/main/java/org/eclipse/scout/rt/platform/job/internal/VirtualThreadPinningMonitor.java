@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs a warning whenever a virtual thread blocks while being pinned to its carrier thread, e.g. when waiting for a
+ * monitor or calling {@link Object#wait()} within a <code>synchronized</code> block. A pinned virtual thread occupies
+ * its carrier thread, which limits the throughput of all other virtual threads.
+ * <p>
+ * The monitor listens for the JDK Flight Recorder event <code>jdk.VirtualThreadPinned</code>, which is emitted if the
+ * pinned thread blocked longer than {@link #DEFAULT_THRESHOLD}. Alternatively, the system property
+ * <code>-Djdk.tracePinnedThreads=full</code> prints the stack trace of pinned threads to stdout.
+ *
+ * @since 24.1
+ */
+public class VirtualThreadPinningMonitor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+  public static final String EVENT_VIRTUAL_THREAD_PINNED = "jdk.VirtualThreadPinned";
+  public static final Duration DEFAULT_THRESHOLD = Duration.ofMillis(20);
+
+  protected static final int MAX_LOGGED_FRAMES = 32;
+
+  private final Duration m_threshold;
+  private RecordingStream m_recordingStream;
+
+  public VirtualThreadPinningMonitor() {
+    this(DEFAULT_THRESHOLD);
+  }
+
+  public VirtualThreadPinningMonitor(final Duration threshold) {
+    m_threshold = threshold;
+  }
+
+  /**
+   * Starts listening for pinned virtual threads. Has no effect if already started or if the JDK Flight Recorder is not
+   * available.
+   */
+  public synchronized void start() {
+    if (m_recordingStream != null) {
+      return;
+    }
+    try {
+      final RecordingStream recordingStream = new RecordingStream();
+      recordingStream.enable(EVENT_VIRTUAL_THREAD_PINNED).withThreshold(m_threshold).withStackTrace();
+      recordingStream.onEvent(EVENT_VIRTUAL_THREAD_PINNED, this::onVirtualThreadPinned);
+      recordingStream.startAsync();
+      m_recordingStream = recordingStream;
+      LOG.info("Virtual thread pinning detection started [threshold={}ms]", m_threshold.toMillis());
+    }
+    catch (RuntimeException | LinkageError e) { // NOSONAR
+      LOG.warn("Failed to start virtual thread pinning detection", e);
+    }
+  }
+
+  /**
+   * Stops listening for pinned virtual threads.
+   */
+  public synchronized void stop() {
+    if (m_recordingStream == null) {
+      return;
+    }
+    try {
+      m_recordingStream.close();
+    }
+    catch (RuntimeException e) {
+      LOG.debug("Failed to stop virtual thread pinning detection", e);
+    }
+    finally {
+      m_recordingStream = null;
+    }
+  }
+
+  public synchronized boolean isStarted() {
+    return m_recordingStream != null;
+  }
+
+  /**
+   * Method invoked for every recorded pinning event.
+   */
+  protected void onVirtualThreadPinned(final RecordedEvent event) {
+    final RecordedThread thread = event.getThread();
+    LOG.warn("Virtual thread blocked while pinned to its carrier thread [thread={}, duration={}ms]{}",
+        thread != null ? thread.getJavaName() : null,
+        event.getDuration().toMillis(),
+        formatStackTrace(event.getStackTrace()));
+  }
+
+  protected String formatStackTrace(final RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "";
+    }
+    final StringBuilder sb = new StringBuilder();
+    final List<RecordedFrame> frames = stackTrace.getFrames();
+    for (int i = 0; i < frames.size() && i < MAX_LOGGED_FRAMES; i++) {
+      final RecordedFrame frame = frames.get(i);
+      sb.append("\n\tat ")
+          .append(frame.getMethod().getType().getName())
+          .append('.')
+          .append(frame.getMethod().getName())
+          .append(" (line ")
+          .append(frame.getLineNumber())
+          .append(')');
+    }
+    if (frames.size() > MAX_LOGGED_FRAMES || stackTrace.isTruncated()) {
+      sb.append("\n\t...");
+    }
+    return sb.toString();
+  }
+}
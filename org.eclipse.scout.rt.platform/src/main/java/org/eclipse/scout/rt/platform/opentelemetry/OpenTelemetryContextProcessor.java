@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.opentelemetry;
+
+import java.util.concurrent.Callable;
+
+import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
+import org.eclipse.scout.rt.platform.chain.callable.ICallableDecorator;
+
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+
+/**
+ * Processor to make an OpenTelemetry {@link Context} current for the subsequent sequence of actions.
+ * <p>
+ * Instances of this class are to be added to a {@link CallableChain} to participate in the execution of a
+ * {@link Callable}.
+ *
+ * @since 24.1
+ */
+public class OpenTelemetryContextProcessor implements ICallableDecorator {
+
+  protected final Context m_context;
+
+  public OpenTelemetryContextProcessor(final Context context) {
+    m_context = context;
+  }
+
+  @Override
+  public IUndecorator decorate() {
+    if (m_context == null || m_context == Context.current()) {
+      return null; // nothing to do
+    }
+    final Scope scope = m_context.makeCurrent();
+    return scope::close;
+  }
+
+  public Context getContext() {
+    return m_context;
+  }
+}
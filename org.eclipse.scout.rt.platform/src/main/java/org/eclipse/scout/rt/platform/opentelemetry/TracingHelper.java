@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.opentelemetry;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapSetter;
+
+/**
+ * Helper to create OpenTelemetry spans and to propagate the span context across process boundaries (e.g. HTTP headers
+ * or message properties) using the W3C trace context format.
+ * <p>
+ * All methods use {@link GlobalOpenTelemetry}. As long as no OpenTelemetry SDK is initialized, spans are no-op and
+ * cause almost no overhead.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class TracingHelper {
+
+  /**
+   * @return the {@link Tracer} for the given instrumentation scope, usually the name of the calling class.
+   */
+  public Tracer getTracer(String instrumentationScopeName) {
+    // the tracer is not cached, so it is always created by the currently registered global instance
+    return GlobalOpenTelemetry.getTracer(instrumentationScopeName);
+  }
+
+  /**
+   * @return {@code true} if the calling thread runs on behalf of a valid span, i.e. is part of a trace.
+   */
+  public boolean hasActiveSpan() {
+    return Span.current().getSpanContext().isValid();
+  }
+
+  /**
+   * Same as {@link #wrapInSpan(Tracer, String, SpanKind, ISpanFunction)} with {@link SpanKind#INTERNAL}.
+   */
+  public <RESULT, EXCEPTION extends Throwable> RESULT wrapInSpan(Tracer tracer, String spanName, ISpanFunction<RESULT, EXCEPTION> function) throws EXCEPTION {
+    return wrapInSpan(tracer, spanName, SpanKind.INTERNAL, function);
+  }
+
+  /**
+   * Starts a new span as child of the current span (if any) and invokes the given function with the span being the
+   * current span. If the function fails, the exception is recorded on the span. The span is ended in any case.
+   */
+  public <RESULT, EXCEPTION extends Throwable> RESULT wrapInSpan(Tracer tracer, String spanName, SpanKind spanKind, ISpanFunction<RESULT, EXCEPTION> function) throws EXCEPTION {
+    Span span = tracer.spanBuilder(spanName)
+        .setSpanKind(spanKind)
+        .startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      return function.apply(span);
+    }
+    catch (Throwable t) { // NOSONAR
+      span.recordException(t);
+      span.setStatus(StatusCode.ERROR);
+      throw t;
+    }
+    finally {
+      span.end();
+    }
+  }
+
+  /**
+   * Like {@link #wrapInSpan(Tracer, String, ISpanFunction)}, but only creates a span if the calling thread is already
+   * part of a trace (see {@link #hasActiveSpan()}). Otherwise, the function is invoked with {@link Span#getInvalid()}.
+   * <p>
+   * Use this method for frequent operations (e.g. jobs or SQL statements) which should not start a trace on their own.
+   */
+  public <RESULT, EXCEPTION extends Throwable> RESULT wrapInChildSpan(Tracer tracer, String spanName, ISpanFunction<RESULT, EXCEPTION> function) throws EXCEPTION {
+    if (!hasActiveSpan()) {
+      return function.apply(Span.getInvalid());
+    }
+    return wrapInSpan(tracer, spanName, SpanKind.INTERNAL, function);
+  }
+
+  /**
+   * Writes the given context into the carrier, e.g. as <code>traceparent</code> and <code>tracestate</code> header.
+   */
+  public <CARRIER> void injectContext(Context context, CARRIER carrier, TextMapSetter<CARRIER> setter) {
+    if (context == null) {
+      return;
+    }
+    GlobalOpenTelemetry.getPropagators().getTextMapPropagator().inject(context, carrier, setter);
+  }
+
+  /**
+   * Same as {@link #injectContext(Context, Object, TextMapSetter)} with {@link Context#current()}.
+   */
+  public <CARRIER> void injectCurrentContext(CARRIER carrier, TextMapSetter<CARRIER> setter) {
+    injectContext(Context.current(), carrier, setter);
+  }
+
+  /**
+   * Reads the context propagated by the carrier and returns it based on {@link Context#current()}. If the carrier does
+   * not contain any propagation fields, the current context is returned.
+   */
+  public <CARRIER> Context extractContext(CARRIER carrier, TextMapGetter<CARRIER> getter) {
+    return GlobalOpenTelemetry.getPropagators().getTextMapPropagator().extract(Context.current(), carrier, getter);
+  }
+
+  /**
+   * Function invoked on behalf of a {@link Span}.
+   */
+  @FunctionalInterface
+  public interface ISpanFunction<RESULT, EXCEPTION extends Throwable> {
+
+    RESULT apply(Span span) throws EXCEPTION;
+  }
+}
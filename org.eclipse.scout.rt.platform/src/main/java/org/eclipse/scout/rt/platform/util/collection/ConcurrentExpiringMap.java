@@ -9,16 +9,13 @@
  */
 package org.eclipse.scout.rt.platform.util.collection;
 
-import java.io.Serializable;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
-import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
@@ -33,7 +30,13 @@ import java.util.concurrent.locks.ReentrantLock;
  * <p>
  * If the <tt>targetSize</tt> property is set, the maximum number of cached values is bounded. The provided size bound
  * is <em>not</em> enforced and is just a guidance value. In fact, the map grows up to <tt>overflowSize</tt> till it is
- * shrunk back to the targeted size.
+ * shrunk back to the targeted size. Shrinking is spread over subsequent write operations, each of which evicts at most
+ * {@link #EVICTION_BATCH_SIZE} entries. Eviction approximates least recently used: for every entry to evict, a small
+ * sample of entries is taken by a cursor cycling through the map and the oldest one is removed. Expired entries are
+ * evicted first. Hence the work per write operation is bounded and independent of the size of the map.
+ * <p>
+ * If only a time to live is set, every write operation checks a bounded number of entries for expiration, continuing
+ * where the previous check stopped. Expired entries not yet visited are never returned and removed on access.
  * <p>
  * If the <tt>touchOnGet</tt> property is set, the {@link #get(Object)} operation does the same as
  * {@link #getAndTouch(Object)}.
@@ -69,6 +72,27 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   private final int m_targetSize;
   private final int m_overflowSize;
   private final Lock m_validateSizeLock = new ReentrantLock();
+  // guarded by m_validateSizeLock
+  private Iterator<Entry<K, ExpiringElement<V>>> m_evictionCursor;
+  // guarded by m_validateSizeLock, number of entries the eviction cursor advanced since it started over
+  private int m_evictionOffset;
+  // guarded by m_validateSizeLock
+  private boolean m_shrinking;
+
+  /**
+   * Number of entries sampled to select the entry to evict, see {@link #selectEvictionCandidate()}.
+   */
+  protected static final int EVICTION_SAMPLE_SIZE = 8;
+
+  /**
+   * Maximum number of entries evicted per write operation while shrinking, see {@link #evictOldestEntries()}.
+   */
+  protected static final int EVICTION_BATCH_SIZE = 32;
+
+  /**
+   * Maximum number of entries checked per write operation, see {@link #evictExpiredEntries()}.
+   */
+  protected static final int EXPIRATION_SCAN_SIZE = 16;
 
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
@@ -430,54 +454,59 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
         if (m_targetSize == 0 && m_timeToLive > 0) {
           evictExpiredEntries();
         }
-        else if (m_targetSize > 0 && m_elementMap.size() >= m_overflowSize) {
+        else if (m_targetSize > 0 && (m_shrinking || m_elementMap.size() >= m_overflowSize)) {
           // note: in JRE 1.8 the performance of ConcurrentHashMap#size() is increased, however other ConcurrentMaps may be slower
           evictOldestEntries();
         }
       }
       finally {
+        if (!(m_elementMap instanceof ConcurrentHashMap)) {
+          // only the iterators of ConcurrentHashMap are known to be valid across operations (e.g. not for transactional maps)
+          m_evictionCursor = null;
+        }
         m_validateSizeLock.unlock();
       }
     }
   }
 
   /**
-   * Evict all expired entries
+   * Evict expired entries among the next {@link #EXPIRATION_SCAN_SIZE} entries
    */
   protected void evictExpiredEntries() {
-    Iterator<Entry<K, ExpiringElement<V>>> it = m_elementMap.entrySet().iterator();
-    while (it.hasNext()) {
-      Entry<K, ExpiringElement<V>> entry = it.next();
+    int scanSize = Math.min(EXPIRATION_SCAN_SIZE, m_elementMap.size());
+    for (int i = 0; i < scanSize; i++) {
+      Entry<K, ExpiringElement<V>> entry = nextEntry();
+      if (entry == null) {
+        break;
+      }
       K key = entry.getKey();
       ExpiringElement<V> element = entry.getValue();
-      if (!isElementValid(element) && m_elementMap.remove(key, element)) {
+      if (!isElementValid(element) && removeVisitedEntry(key, element)) {
         execEntryEvicted(key, element.getValue());
       }
     }
   }
 
   /**
-   * Evict entries until targetsize is reached
+   * Evict entries until targetsize is reached, but at most {@link #EVICTION_BATCH_SIZE} entries. The remaining entries
+   * are evicted by subsequent write operations.
    */
   protected void evictOldestEntries() {
-    TreeSet<Entry<K, ExpiringElement<V>>> set = new TreeSet<>(new StableTimestampComparator<>());
-
-    int counter = 0;
-    for (Entry<K, ExpiringElement<V>> entry : m_elementMap.entrySet()) {
-      entry.getValue().m_iterationIndex = counter;
-      set.add(entry);
-      counter++;
-    }
-    int numberOfEntriesToEvict = set.size() - m_targetSize;
-    while (numberOfEntriesToEvict > 0) {
-      Entry<K, ExpiringElement<V>> oldestEntry = set.pollFirst();
-      if (oldestEntry == null) {
+    int excess = m_elementMap.size() - m_targetSize;
+    int numberOfEntriesToEvict = Math.min(excess, EVICTION_BATCH_SIZE);
+    m_shrinking = excess > numberOfEntriesToEvict;
+    // bounded number of attempts in case of concurrent modifications
+    int attempts = numberOfEntriesToEvict * 2;
+    while (numberOfEntriesToEvict > 0 && attempts > 0) {
+      attempts--;
+      Entry<K, ExpiringElement<V>> candidate = selectEvictionCandidate();
+      if (candidate == null) {
         break;
       }
       // try to remove entry from element map
-      K key = oldestEntry.getKey();
-      ExpiringElement<V> element = oldestEntry.getValue();
-      if (m_elementMap.remove(key, element)) {
+      K key = candidate.getKey();
+      ExpiringElement<V> element = candidate.getValue();
+      if (removeVisitedEntry(key, element)) {
         numberOfEntriesToEvict--;
         execEntryEvicted(key, element.getValue());
       }
@@ -488,23 +517,69 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
-  private static class StableTimestampComparator<K, V> implements Comparator<Entry<K, ExpiringElement<V>>>, Serializable {
-    private static final long serialVersionUID = 1L;
-
-    @Override
-    public int compare(Entry<K, ExpiringElement<V>> o1, Entry<K, ExpiringElement<V>> o2) {
-      ExpiringElement<V> e1 = o1.getValue();
-      ExpiringElement<V> e2 = o2.getValue();
-      if (e1.m_timestamp < e2.m_timestamp) {
-        return -1;
+  /**
+   * @return the first expired or else the oldest entry among the next {@link #EVICTION_SAMPLE_SIZE} entries, or
+   *         <code>null</code> if the map is empty.
+   */
+  protected Entry<K, ExpiringElement<V>> selectEvictionCandidate() {
+    Entry<K, ExpiringElement<V>> oldest = null;
+    int sampleSize = Math.min(EVICTION_SAMPLE_SIZE, m_elementMap.size());
+    for (int i = 0; i < sampleSize; i++) {
+      Entry<K, ExpiringElement<V>> entry = nextEntry();
+      if (entry == null) {
+        break;
       }
-      else if (e1.m_timestamp > e2.m_timestamp) {
-        return 1;
+      if (!isElementValid(entry.getValue())) {
+        return entry;
       }
-      else {
-        return Integer.compare(e1.m_iterationIndex, e2.m_iterationIndex);
+      if (oldest == null || entry.getValue().getTimestamp() < oldest.getValue().getTimestamp()) {
+        oldest = entry;
       }
     }
+    return oldest;
+  }
+
+  /**
+   * Advances the eviction cursor, which starts over once it reached the end of the map. Must only be called while
+   * holding {@link #m_validateSizeLock}.
+   * <p>
+   * The cursor of a map other than {@link ConcurrentHashMap} is discarded after each {@link #validateSize()}. The new
+   * cursor skips the entries already visited, so that subsequent calls do not sample the same entries over and over.
+   *
+   * @return the next entry or <code>null</code> if the map is empty.
+   */
+  private Entry<K, ExpiringElement<V>> nextEntry() {
+    if (m_evictionCursor == null) {
+      m_evictionCursor = m_elementMap.entrySet().iterator();
+      for (int i = 0; i < m_evictionOffset && m_evictionCursor.hasNext(); i++) {
+        m_evictionCursor.next();
+      }
+    }
+    if (!m_evictionCursor.hasNext()) {
+      m_evictionCursor = m_elementMap.entrySet().iterator();
+      m_evictionOffset = 0;
+      if (!m_evictionCursor.hasNext()) {
+        return null;
+      }
+    }
+    m_evictionOffset++;
+    return m_evictionCursor.next();
+  }
+
+  /**
+   * Removes an entry returned by {@link #nextEntry()}. The removed entry no longer precedes the eviction cursor, hence
+   * the eviction offset is decremented. Must only be called while holding {@link #m_validateSizeLock}.
+   *
+   * @return <code>true</code> if the entry was removed
+   */
+  private boolean removeVisitedEntry(K key, ExpiringElement<V> element) {
+    if (!m_elementMap.remove(key, element)) {
+      return false;
+    }
+    if (m_evictionOffset > 0) {
+      m_evictionOffset--;
+    }
+    return true;
   }
 
   /**
@@ -636,9 +711,6 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     private final long m_timestamp;
     private final V m_value;
 
-    // temporary value / guarded by m_validateSizeLock
-    private int m_iterationIndex;
-
     public ExpiringElement(V value) {
       m_timestamp = System.currentTimeMillis();
       m_value = value;
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.Set;
+
+import jakarta.ws.rs.WebApplicationException;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.MessageBodyReader;
+import jakarta.ws.rs.ext.MessageBodyWriter;
+
+import org.eclipse.scout.rt.dataobject.IBinaryDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.jackson.dataobject.JacksonSmileDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.rest.RestApplication.IRestApplicationClassesContributor;
+import org.eclipse.scout.rt.rest.client.IGlobalRestClientConfigurator;
+
+/**
+ * {@link MessageBodyReader} and {@link MessageBodyWriter} for {@link IDataObject} using the binary encoding of
+ * {@link IBinaryDataObjectMapper} (e.g. Smile). The provider only handles the content type of the binary mapper, all
+ * other content types (e.g. JSON) are left to the {@link ObjectMapperResolver} based providers.
+ * <p>
+ * The encoding is negotiated by content type, i.e. a REST resource supporting both formats declares
+ *
+ * <pre>
+ * &#64;Produces({MediaType.APPLICATION_JSON, BinaryDataObjectMessageBodyProvider.APPLICATION_SMILE})
+ * &#64;Consumes({MediaType.APPLICATION_JSON, BinaryDataObjectMessageBodyProvider.APPLICATION_SMILE})
+ * </pre>
+ *
+ * and the client selects the binary encoding using the corresponding {@code Accept} and {@code Content-Type} headers.
+ *
+ * @since 24.1
+ */
+public class BinaryDataObjectMessageBodyProvider implements MessageBodyReader<IDataObject>, MessageBodyWriter<IDataObject> {
+
+  public static final String APPLICATION_SMILE = JacksonSmileDataObjectMapper.CONTENT_TYPE;
+  public static final MediaType APPLICATION_SMILE_TYPE = new MediaType("application", "x-jackson-smile");
+
+  @Override
+  public boolean isReadable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && isBinaryMediaType(mediaType);
+  }
+
+  @Override
+  public IDataObject readFrom(Class<IDataObject> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, String> httpHeaders, InputStream entityStream)
+      throws IOException, WebApplicationException {
+    // entity stream is read completely but not closed, it is owned by the JAX-RS implementation
+    return getDataObjectMapper().readValue(entityStream.readAllBytes(), type);
+  }
+
+  @Override
+  public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+    return IDataObject.class.isAssignableFrom(type) && isBinaryMediaType(mediaType);
+  }
+
+  @Override
+  public void writeTo(IDataObject dataObject, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+      throws IOException, WebApplicationException {
+    entityStream.write(getDataObjectMapper().writeValueAsBytes(dataObject));
+  }
+
+  protected boolean isBinaryMediaType(MediaType mediaType) {
+    return mediaType != null && getDataObjectMapper().getContentType().equalsIgnoreCase(mediaType.getType() + "/" + mediaType.getSubtype());
+  }
+
+  protected IBinaryDataObjectMapper getDataObjectMapper() {
+    return BEANS.get(IBinaryDataObjectMapper.class);
+  }
+
+  /**
+   * {@link IRestApplicationClassesContributor} registering {@link BinaryDataObjectMessageBodyProvider} for REST
+   * resources.
+   */
+  public static class BinaryDataObjectMessageBodyProviderContributor implements IRestApplicationClassesContributor {
+
+    @Override
+    public Set<Class<?>> contribute() {
+      return Collections.singleton(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+
+  /**
+   * {@link IGlobalRestClientConfigurator} registering {@link BinaryDataObjectMessageBodyProvider} for REST clients.
+   */
+  public static class BinaryDataObjectMessageBodyProviderClientConfigurator implements IGlobalRestClientConfigurator {
+
+    @Override
+    public void configure(ClientBuilder clientBuilder) {
+      clientBuilder.register(BinaryDataObjectMessageBodyProvider.class);
+    }
+  }
+}
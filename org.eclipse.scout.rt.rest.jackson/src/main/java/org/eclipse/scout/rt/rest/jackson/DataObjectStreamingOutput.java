@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.jackson;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.StreamingOutput;
+
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * {@link StreamingOutput} serializing a sequence of data objects as JSON array or as newline-delimited JSON (see
+ * {@link #APPLICATION_NDJSON}). The values are serialized while they are consumed, hence the memory used does not
+ * depend on the number of values.
+ *
+ * <pre>
+ * return Response.ok(DataObjectStreamingOutput.ofArray(persons), MediaType.APPLICATION_JSON).build();
+ * </pre>
+ *
+ * @see IDataObjectMapper#writeValues(OutputStream, Iterator)
+ * @see IDataObjectMapper#writeValuesLineDelimited(OutputStream, Iterator)
+ * @since 24.1
+ */
+public class DataObjectStreamingOutput implements StreamingOutput {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
+  private final Iterator<?> m_values;
+  private final Stream<?> m_stream;
+  private final boolean m_lineDelimited;
+
+  protected DataObjectStreamingOutput(Iterator<?> values, Stream<?> stream, boolean lineDelimited) {
+    m_values = Assertions.assertNotNull(values, "Values must not be null");
+    m_stream = stream;
+    m_lineDelimited = lineDelimited;
+  }
+
+  /**
+   * Serializes the values of the given stream as JSON array. The stream is closed afterwards.
+   */
+  public static DataObjectStreamingOutput ofArray(Stream<?> values) {
+    Assertions.assertNotNull(values, "Values must not be null");
+    return new DataObjectStreamingOutput(values.iterator(), values, false);
+  }
+
+  /**
+   * Serializes the values of the given iterator as JSON array.
+   */
+  public static DataObjectStreamingOutput ofArray(Iterator<?> values) {
+    return new DataObjectStreamingOutput(values, null, false);
+  }
+
+  /**
+   * Serializes the values of the given stream as newline-delimited JSON. The stream is closed afterwards.
+   */
+  public static DataObjectStreamingOutput ofLines(Stream<?> values) {
+    Assertions.assertNotNull(values, "Values must not be null");
+    return new DataObjectStreamingOutput(values.iterator(), values, true);
+  }
+
+  /**
+   * Serializes the values of the given iterator as newline-delimited JSON.
+   */
+  public static DataObjectStreamingOutput ofLines(Iterator<?> values) {
+    return new DataObjectStreamingOutput(values, null, true);
+  }
+
+  public boolean isLineDelimited() {
+    return m_lineDelimited;
+  }
+
+  /**
+   * @return {@link #APPLICATION_NDJSON_TYPE} for newline-delimited JSON, {@link MediaType#APPLICATION_JSON_TYPE}
+   *         otherwise
+   */
+  public MediaType getMediaType() {
+    return m_lineDelimited ? APPLICATION_NDJSON_TYPE : MediaType.APPLICATION_JSON_TYPE;
+  }
+
+  @Override
+  public void write(OutputStream output) {
+    try {
+      if (m_lineDelimited) {
+        getDataObjectMapper().writeValuesLineDelimited(output, m_values);
+      }
+      else {
+        getDataObjectMapper().writeValues(output, m_values);
+      }
+    }
+    finally {
+      if (m_stream != null) {
+        m_stream.close();
+      }
+    }
+  }
+
+  protected IDataObjectMapper getDataObjectMapper() {
+    return BEANS.get(IDataObjectMapper.class);
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.rest.client;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.client.ClientResponseFilter;
+
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
+import org.eclipse.scout.rt.platform.util.LazyValue;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+
+/**
+ * Creates an OpenTelemetry span for every REST call and propagates its context as W3C <code>traceparent</code> and
+ * <code>tracestate</code> HTTP headers to the called REST service.
+ * <p>
+ * The span is ended when the response is received. If the request fails without a response (e.g. connection refused),
+ * the span is never ended and therefore not exported.
+ *
+ * @since 24.1
+ */
+public class TracingClientFilter implements IGlobalRestRequestFilter, ClientResponseFilter {
+
+  protected static final String TRACER_NAME = "scout.RestClient";
+  protected static final String SPAN_PROPERTY = TracingClientFilter.class.getName() + ".span";
+
+  private final LazyValue<TracingHelper> m_tracingHelper = new LazyValue<>(TracingHelper.class);
+
+  @Override
+  public void filter(ClientRequestContext requestContext) throws IOException {
+    TracingHelper tracingHelper = m_tracingHelper.get();
+    Span span = tracingHelper.getTracer(TRACER_NAME)
+        .spanBuilder("HTTP " + requestContext.getMethod())
+        .setSpanKind(SpanKind.CLIENT)
+        .setAttribute("http.request.method", requestContext.getMethod())
+        .setAttribute("url.full", requestContext.getUri().toString())
+        .startSpan();
+    requestContext.setProperty(SPAN_PROPERTY, span);
+    tracingHelper.injectContext(Context.current().with(span), requestContext, (ctx, key, value) -> ctx.getHeaders().putSingle(key, value));
+  }
+
+  @Override
+  public void filter(ClientRequestContext requestContext, ClientResponseContext responseContext) throws IOException {
+    Object span = requestContext.getProperty(SPAN_PROPERTY);
+    if (!(span instanceof Span)) {
+      return;
+    }
+    requestContext.removeProperty(SPAN_PROPERTY);
+    ((Span) span).setAttribute("http.response.status_code", responseContext.getStatus());
+    if (responseContext.getStatus() >= 400) {
+      ((Span) span).setStatus(StatusCode.ERROR);
+    }
+    ((Span) span).end();
+  }
+}
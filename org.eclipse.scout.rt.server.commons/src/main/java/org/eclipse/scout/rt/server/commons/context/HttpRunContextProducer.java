@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.server.commons.context;
 
 import java.security.AccessController;
+import java.util.Collections;
 
 import javax.security.auth.Subject;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,11 +21,15 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.server.commons.servlet.IHttpServletRoundtrip;
 import org.eclipse.scout.rt.server.commons.servlet.logging.ServletDiagnosticsProviderFactory;
 
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+
 /**
  * Creates a {@link RunContext} based on a {@link HttpServletRequest} and the current JAAS context.
  *
@@ -64,6 +69,7 @@ public class HttpRunContextProducer {
     return contextToFill
         .withSubject(Subject.getSubject(AccessController.getContext()))
         .withCorrelationId(currentCorrelationId(req))
+        .withOpenTelemetryContext(currentOpenTelemetryContext(req))
         .withThreadLocal(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST, req)
         .withThreadLocal(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_RESPONSE, resp)
         .withDiagnostics(getServletDiagnosticsProviderFactory().getProviders(req, resp))
@@ -79,6 +85,14 @@ public class HttpRunContextProducer {
     return getCorrelationIdProvider().newCorrelationId();
   }
 
+  /**
+   * @return the OpenTelemetry context propagated by the W3C trace context headers of the request, or the current
+   *         context if the request does not contain such headers.
+   */
+  protected Context currentOpenTelemetryContext(HttpServletRequest req) {
+    return BEANS.get(TracingHelper.class).extractContext(req, HttpServletRequestTextMapGetter.INSTANCE);
+  }
+
   protected ServletDiagnosticsProviderFactory createServletDiagnosticsProviderFactory() {
     return BEANS.get(ServletDiagnosticsProviderFactory.class);
   }
@@ -94,4 +108,22 @@ public class HttpRunContextProducer {
   protected ServletDiagnosticsProviderFactory getServletDiagnosticsProviderFactory() {
     return m_servletDiagProviderFactory;
   }
+
+  /**
+   * Reads OpenTelemetry propagation fields from the HTTP headers of a {@link HttpServletRequest}.
+   */
+  protected static class HttpServletRequestTextMapGetter implements TextMapGetter<HttpServletRequest> {
+
+    protected static final HttpServletRequestTextMapGetter INSTANCE = new HttpServletRequestTextMapGetter();
+
+    @Override
+    public Iterable<String> keys(HttpServletRequest req) {
+      return Collections.list(req.getHeaderNames());
+    }
+
+    @Override
+    public String get(HttpServletRequest req, String key) {
+      return req == null ? null : req.getHeader(key);
+    }
+  }
 }
@@ -12,6 +12,9 @@ package org.eclipse.scout.rt.server.commons.servlet.cache;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -28,6 +31,7 @@ public class HttpCacheObject implements Serializable {
   private final HttpCacheKey m_cacheKey;
   private final BinaryResource m_resource;
   private final Set<IHttpResponseInterceptor> m_httpResponseInterceptors = new HashSet<>();
+  private final ConcurrentMap<String, BinaryResource> m_encodedResources = new ConcurrentHashMap<>();
 
   /**
    * @param cacheKey
@@ -56,6 +60,37 @@ public class HttpCacheObject implements Serializable {
     return m_resource;
   }
 
+  /**
+   * @param encoding
+   *          content encoding, e.g. <code>gzip</code> or <code>br</code>
+   * @return the variant of the resource with the given content encoding or <code>null</code> if there is none. If the
+   *         resource itself is returned, the encoding does not reduce its size and the resource should be delivered
+   *         uncompressed.
+   * @since 24.1
+   */
+  public BinaryResource getEncodedResource(String encoding) {
+    return m_encodedResources.get(encoding);
+  }
+
+  /**
+   * Adds a variant of the resource with the given content encoding (e.g. a precompressed file created by the build).
+   *
+   * @since 24.1
+   */
+  public void putEncodedResource(String encoding, BinaryResource resource) {
+    m_encodedResources.put(Assertions.assertNotNull(encoding), Assertions.assertNotNull(resource));
+  }
+
+  /**
+   * Returns the variant of the resource with the given content encoding. If there is none yet, it is created once by the
+   * given function (even if this object is used by concurrent requests).
+   *
+   * @since 24.1
+   */
+  public BinaryResource computeEncodedResourceIfAbsent(String encoding, Function<BinaryResource, BinaryResource> encoder) {
+    return m_encodedResources.computeIfAbsent(encoding, e -> encoder.apply(m_resource));
+  }
+
   /**
    * @return an ETAG if the resource's {@link BinaryResource#getContentLength()} and
    *         {@link BinaryResource#getFingerprint()} are both not -1
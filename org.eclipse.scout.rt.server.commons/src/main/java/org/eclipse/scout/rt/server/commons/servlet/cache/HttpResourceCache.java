@@ -9,9 +9,8 @@
  */
 package org.eclipse.scout.rt.server.commons.servlet.cache;
 
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.Bean;
 import org.slf4j.Logger;
@@ -25,7 +24,7 @@ public class HttpResourceCache implements IHttpResourceCache {
 
   private static final Logger LOG = LoggerFactory.getLogger(HttpResourceCache.class);
 
-  private final Map<HttpCacheKey, HttpCacheObject> m_cache = Collections.synchronizedMap(new HashMap<>());
+  private final Map<HttpCacheKey, HttpCacheObject> m_cache = new ConcurrentHashMap<>();
 
   @Override
   public boolean put(HttpCacheObject obj) {
@@ -39,14 +38,14 @@ public class HttpResourceCache implements IHttpResourceCache {
 
   @Override
   public HttpCacheObject get(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.get(cacheKey);
+    HttpCacheObject obj = cacheKey != null ? m_cache.get(cacheKey) : null;
     LOG.debug("Lookup object in cache: {} found={}", cacheKey, obj != null);
     return obj;
   }
 
   @Override
   public HttpCacheObject remove(HttpCacheKey cacheKey) {
-    HttpCacheObject obj = m_cache.remove(cacheKey);
+    HttpCacheObject obj = cacheKey != null ? m_cache.remove(cacheKey) : null;
     LOG.debug("Remove object in cache: {} removed={}", cacheKey, obj != null);
     return obj;
   }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.commons.servlet.cache;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.UrlHints;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
+
+/**
+ * Selects and creates the compressed variants of a {@link HttpCacheObject}.
+ * <p>
+ * Compressed variants are either provided by the resource loader (e.g. <code>.br</code> and <code>.gz</code> files
+ * created by the build) or created once by this class for cacheable resources. They are kept in the
+ * {@link HttpCacheObject} so that a resource is not compressed again for each request.
+ *
+ * @since 24.1
+ */
+@ApplicationScoped
+public class HttpResourceEncoder {
+
+  public static final String BROTLI = "br";
+  public static final String GZIP = GzipServletFilter.GZIP;
+  public static final String VARY = "Vary";
+
+  /**
+   * Minimum size in bytes of a resource to be compressed, same as the default of {@link GzipServletFilter}.
+   */
+  public static final int MIN_SIZE = 256;
+
+  /**
+   * Content types of compressible resources: the ones compressed by {@link GzipServletFilter} and
+   * <code>text/javascript</code> used for script resources.
+   */
+  private final Set<String> m_contentTypes = CollectionUtility.hashSet(StringUtility.split(GzipServletFilter.CONTENT_TYPES + ",text/javascript", ","));
+
+  /**
+   * @return the supported content encodings, in order of preference
+   */
+  public List<String> getEncodings() {
+    return Collections.unmodifiableList(Arrays.asList(BROTLI, GZIP));
+  }
+
+  /**
+   * @return the file suffix of a precompressed variant with the given content encoding, e.g. <code>.gz</code> for
+   *         <code>gzip</code>
+   */
+  public String getFileSuffix(String encoding) {
+    if (BROTLI.equals(encoding)) {
+      return ".br";
+    }
+    if (GZIP.equals(encoding)) {
+      return ".gz";
+    }
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if the resource is a text resource whose size justifies compression
+   */
+  public boolean isCompressible(BinaryResource resource) {
+    if (resource == null || resource.getContentLength() < MIN_SIZE) {
+      return false;
+    }
+    String contentType = resource.getContentType();
+    if (contentType == null) {
+      return false;
+    }
+    // Content type may contain the charset parameter separated by ; -> remove it
+    return getContentTypes().contains(contentType.split(";")[0].trim());
+  }
+
+  protected Set<String> getContentTypes() {
+    return m_contentTypes;
+  }
+
+  /**
+   * Selects the content encoding to deliver the given object with. The variant of the selected encoding is available
+   * by {@link HttpCacheObject#getEncodedResource(String)} afterwards.
+   *
+   * @return the selected content encoding or <code>null</code> if the uncompressed resource should be delivered
+   */
+  public String negotiateEncoding(HttpServletRequest req, HttpCacheObject obj) {
+    if (!UrlHints.isCompressHint(req) || !isCompressible(obj.getResource())) {
+      return null;
+    }
+    String acceptEncoding = req.getHeader(GzipServletFilter.ACCEPT_ENCODING);
+    if (!StringUtility.hasText(acceptEncoding)) {
+      return null;
+    }
+    for (String encoding : getEncodings()) {
+      if (!isAccepted(acceptEncoding, encoding)) {
+        continue;
+      }
+      BinaryResource variant = obj.getEncodedResource(encoding);
+      if (variant == null && GZIP.equals(encoding) && obj.isCachingAllowed()) {
+        variant = obj.computeEncodedResourceIfAbsent(encoding, this::gzip);
+      }
+      if (variant != null && variant != obj.getResource()) {
+        return encoding;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if the given <code>Accept-Encoding</code> header value accepts the given encoding with a
+   *         quality greater than zero
+   */
+  protected boolean isAccepted(String acceptEncoding, String encoding) {
+    for (String part : StringUtility.split(acceptEncoding, ",")) {
+      String[] tokens = StringUtility.split(part, ";");
+      if (tokens.length == 0 || !encoding.equals(tokens[0].trim().toLowerCase(Locale.US))) {
+        continue;
+      }
+      for (int i = 1; i < tokens.length; i++) {
+        String param = tokens[i].trim();
+        if (param.startsWith("q=")) {
+          try {
+            return Double.parseDouble(param.substring(2)) > 0;
+          }
+          catch (NumberFormatException e) { // NOSONAR
+            return false;
+          }
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * @return the gzip compressed variant of the resource or the resource itself if compression does not reduce its size
+   */
+  public BinaryResource gzip(BinaryResource resource) {
+    try {
+      return createEncodedResource(resource, IOUtility.compressGzip(resource.getContent()));
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to compress resource '{}'.", resource.getFilename(), e);
+    }
+  }
+
+  /**
+   * @return a variant of the resource with the given compressed content or the resource itself if the compressed
+   *         content is not smaller
+   */
+  public BinaryResource createEncodedResource(BinaryResource resource, byte[] compressedContent) {
+    if (compressedContent == null || compressedContent.length >= resource.getContentLength()) {
+      return resource;
+    }
+    return BinaryResources.create(resource)
+        .withContent(compressedContent)
+        .build();
+  }
+}
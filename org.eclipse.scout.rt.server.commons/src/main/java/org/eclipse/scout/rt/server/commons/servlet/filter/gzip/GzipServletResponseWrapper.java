@@ -90,12 +90,15 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void setContentLength(int len) {
-    // ignored: content length zipped content != content length unzipped content
+    if (isContentEncoded()) {
+      super.setContentLength(len);
+    }
+    // otherwise ignored: content length zipped content != content length unzipped content
   }
 
   @Override
   public void setHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
@@ -104,7 +107,7 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
 
   @Override
   public void addHeader(String name, String value) {
-    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+    if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name) && !isContentEncoded()) {
       // see setContentLength
       return;
     }
@@ -134,10 +137,20 @@ public class GzipServletResponseWrapper extends HttpServletResponseWrapper {
     }
   }
 
+  /**
+   * @return <code>true</code> if the content written to this response is already encoded, e.g. a precompressed resource
+   */
+  protected boolean isContentEncoded() {
+    return getResponse().containsHeader(GzipServletFilter.CONTENT_ENCODING);
+  }
+
   protected boolean requiresGzipCompression(String contentType) {
     if (!UrlHints.isCompressHint(m_request)) {
       return false;
     }
+    if (isContentEncoded()) {
+      return false;
+    }
     if (m_request.isAsyncStarted()) {
       // GzipServletOutputStream does not work with async responses unfortunately
       return false;
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc;
+
+import static org.junit.Assert.*;
+
+import java.sql.Statement;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.server.TestJdbcServerSession;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+import org.eclipse.scout.rt.server.jdbc.mssql.MSSQLSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.postgresql.PostgreSqlStyle;
+import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.testing.server.runner.RunWithServerSession;
+import org.eclipse.scout.rt.testing.server.runner.ServerTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Test for JDBC batch execution of modification statements with batch binds (see
+ * {@link ISqlStyle#isBatchUpdateSupported()}).
+ */
+@RunWith(ServerTestRunner.class)
+@RunWithServerSession(TestJdbcServerSession.class)
+@RunWithSubject("default")
+public class JdbcBatchUpdateTest {
+
+  private static final String STATEMENT = "UDPATE this_table SET v = :value where r = :{roles} and p = :personNr";
+  private static final String PREPARE_STATEMENT = "Connection.prepareStatement(UDPATE this_table SET v = ? where r = ? and p = ?)\n";
+  private static final String OBJECTS_RECORD_1 = "PreparedStatement.setObject(1, lorem, 12)\n"
+      + "PreparedStatement.setObject(2, 5, -5)\n"
+      + "PreparedStatement.setObject(3, 9, -5)\n";
+  private static final String OBJECTS_RECORD_2 = "PreparedStatement.setObject(1, lorem, 12)\n"
+      + "PreparedStatement.setObject(2, 6, -5)\n"
+      + "PreparedStatement.setObject(3, 9, -5)\n";
+  private static final String EXECUTE_BATCH = "PreparedStatement.executeBatch()\n";
+
+  @Test
+  public void testBatchUpdateSupportedByStyle() {
+    assertTrue(new OracleSqlStyle().isBatchUpdateSupported());
+    assertTrue(new PostgreSqlStyle().isBatchUpdateSupported());
+    assertFalse(new MSSQLSqlStyle().isBatchUpdateSupported());
+  }
+
+  @Test
+  public void testRowByRowIfNotSupportedByStyle() {
+    SqlServiceMock sql = new P_NoBatchUpdateSqlServiceMock();
+
+    assertArrayEquals(new int[]{0, 0}, sql.updateBatch(STATEMENT, createBinds()));
+    assertEquals(PREPARE_STATEMENT + OBJECTS_RECORD_1 + PREPARE_STATEMENT + OBJECTS_RECORD_2, sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testRowByRowIfBatchSizeIsOne() {
+    SqlServiceMock sql = new SqlServiceMock();
+    assertTrue(sql.getSqlStyle().isBatchUpdateSupported());
+
+    assertArrayEquals(new int[]{0, 0}, sql.updateBatch(STATEMENT, createBinds()));
+    assertEquals(PREPARE_STATEMENT + OBJECTS_RECORD_1 + PREPARE_STATEMENT + OBJECTS_RECORD_2, sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testJdbcBatch() {
+    SqlServiceMock sql = new P_BatchUpdateSqlServiceMock();
+
+    assertArrayEquals(new int[]{1, 1}, sql.updateBatch(STATEMENT, createBinds()));
+    assertEquals(PREPARE_STATEMENT + OBJECTS_RECORD_1 + OBJECTS_RECORD_2 + EXECUTE_BATCH, sql.getProtocol().toString());
+
+    sql.clearProtocol();
+    assertEquals(2, sql.update(STATEMENT, createBinds()));
+    assertEquals(PREPARE_STATEMENT + OBJECTS_RECORD_1 + OBJECTS_RECORD_2 + EXECUTE_BATCH, sql.getProtocol().toString());
+  }
+
+  @Test
+  public void testJdbcBatchNoRowsAffected() {
+    SqlServiceMock sql = new P_BatchUpdateSqlServiceMock();
+    sql.setBatchUpdateCount(0);
+
+    assertEquals(0, sql.update(STATEMENT, createBinds()));
+  }
+
+  /**
+   * {@link Statement#SUCCESS_NO_INFO} is passed through for batch updates but must not be returned as row count.
+   */
+  @Test
+  public void testJdbcBatchSuccessNoInfo() {
+    SqlServiceMock sql = new P_BatchUpdateSqlServiceMock();
+    sql.setBatchUpdateCount(Statement.SUCCESS_NO_INFO);
+
+    assertArrayEquals(new int[]{Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO}, sql.updateBatch(STATEMENT, createBinds()));
+    assertThrows(ProcessingException.class, () -> sql.update(STATEMENT, createBinds()));
+  }
+
+  protected Object[] createBinds() {
+    return new Object[]{new NVPair("personNr", 9L), new NVPair("roles", new Long[]{5L, 6L}), new NVPair("value", "lorem")};
+  }
+
+  public static class NoBatchUpdateSqlStyle extends OracleSqlStyle {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    public boolean isBatchUpdateSupported() {
+      return false;
+    }
+  }
+
+  private static class P_BatchUpdateSqlServiceMock extends SqlServiceMock {
+
+    @Override
+    protected int getConfiguredJdbcBatchSize() {
+      return DEFAULT_JDBC_BATCH_SIZE;
+    }
+  }
+
+  private static class P_NoBatchUpdateSqlServiceMock extends P_BatchUpdateSqlServiceMock {
+
+    @Override
+    protected Class<? extends ISqlStyle> getConfiguredSqlStyle() {
+      return NoBatchUpdateSqlStyle.class;
+    }
+  }
+}
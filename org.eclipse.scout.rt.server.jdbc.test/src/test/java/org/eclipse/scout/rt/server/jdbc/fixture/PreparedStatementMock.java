@@ -15,18 +15,30 @@ import java.lang.reflect.Proxy;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLWarning;
+import java.util.Arrays;
 
 public class PreparedStatementMock extends VerboseMock implements InvocationHandler/*, java.sql.PreparedStatement*/ {
   private final PreparedStatement m_ps;
   private final Object[][] m_resultData;
+  private final int m_batchUpdateCount;
+  private int m_batchCount;
 
   public PreparedStatementMock(StringBuffer protocol) {
     this(protocol, null);
   }
 
   public PreparedStatementMock(StringBuffer protocol, Object[][] resultData) {
+    this(protocol, resultData, 1);
+  }
+
+  /**
+   * @param batchUpdateCount
+   *          update count reported by {@link #executeBatch()} for every batch element
+   */
+  public PreparedStatementMock(StringBuffer protocol, Object[][] resultData, int batchUpdateCount) {
     super(protocol);
     m_resultData = resultData;
+    m_batchUpdateCount = batchUpdateCount;
     m_ps = (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{PreparedStatement.class}, this);
   }
 
@@ -37,7 +49,7 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   @Override
   public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
     String mname = method.getName();
-    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
+    if ("executeQuery".equals(mname) || "getResultSet".equals(mname) || "executeBatch".equals(mname) || mname.matches("set[a-zA-Z0-9]+")) {
       log(PreparedStatement.class, mname, args);
     }
     //generic setter
@@ -81,4 +93,19 @@ public class PreparedStatementMock extends VerboseMock implements InvocationHand
   public int executeUpdate() {
     return 0;
   }
+
+  public void addBatch() {
+    m_batchCount++;
+  }
+
+  public void clearBatch() {
+    m_batchCount = 0;
+  }
+
+  public int[] executeBatch() {
+    int[] updateCounts = new int[m_batchCount];
+    Arrays.fill(updateCounts, m_batchUpdateCount);
+    m_batchCount = 0;
+    return updateCounts;
+  }
 }
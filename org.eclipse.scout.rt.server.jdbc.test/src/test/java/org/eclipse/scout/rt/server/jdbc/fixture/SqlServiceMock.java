@@ -24,6 +24,7 @@ public class SqlServiceMock extends AbstractSqlService {
 
   private final StringBuffer m_protocol;
   private Object[][] m_resultData;
+  private int m_batchUpdateCount = 1;
 
   public SqlServiceMock() {
     m_protocol = new StringBuffer();
@@ -48,6 +49,13 @@ public class SqlServiceMock extends AbstractSqlService {
     return m_resultData;
   }
 
+  /**
+   * set the update count the JDBC driver reports for every element of a JDBC batch
+   */
+  public void setBatchUpdateCount(int batchUpdateCount) {
+    m_batchUpdateCount = batchUpdateCount;
+  }
+
   private void createPlainTextLog(String s, Object... bindBases) {
     if (logger.isInfoEnabled()) {
       String plainTextSql = SQL.createPlainText(s, bindBases);
@@ -72,6 +80,15 @@ public class SqlServiceMock extends AbstractSqlService {
     }
   }
 
+  /**
+   * Every batch element is executed separately, the expected protocols of the tests rely on it. See
+   * JdbcBatchUpdateTest for JDBC batch execution.
+   */
+  @Override
+  protected int getConfiguredJdbcBatchSize() {
+    return 1;
+  }
+
   @Override
   public Object[][] select(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processSelect(getTransaction(), new PreparedStatementCache(1), null);
@@ -89,8 +106,14 @@ public class SqlServiceMock extends AbstractSqlService {
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), new PreparedStatementCache(1), null);
   }
 
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    createPlainTextLog(s, bindBases);
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), new PreparedStatementCache(1), null);
+  }
+
   @Override
   protected Connection getTransaction() {
-    return new ConnectionMock(m_protocol, getResultData()).getConnection();
+    return new ConnectionMock(m_protocol, getResultData(), m_batchUpdateCount).getConnection();
   }
 }
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.server.jdbc.fixture.SqlServiceMock;
+
+/**
+ * Creates pools with in-memory connections which only track whether they are closed.
+ */
+public final class PooledConnectionFixture {
+
+  private PooledConnectionFixture() {
+  }
+
+  public static AbstractSqlService createSqlService() {
+    return new SqlServiceMock() {
+      @Override
+      protected void execTestConnection(Connection conn) {
+        // nop
+      }
+    };
+  }
+
+  public static Connection createConnection(AtomicInteger createdCounter) {
+    createdCounter.incrementAndGet();
+    AtomicBoolean closed = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(PooledConnectionFixture.class.getClassLoader(), new Class<?>[]{Connection.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "isClosed":
+          return closed.get();
+        case "close":
+          closed.set(true);
+          return null;
+        case "isValid":
+          return !closed.get();
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return "PooledConnectionFixture@" + Integer.toHexString(System.identityHashCode(proxy));
+        default:
+          return null;
+      }
+    });
+  }
+
+  public static ISqlConnectionPool createSqlConnectionPool(AtomicInteger createdCounter) {
+    return new SqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) {
+        return PooledConnectionFixture.createConnection(createdCounter);
+      }
+    };
+  }
+
+  public static ISqlConnectionPool createStripedSqlConnectionPool(AtomicInteger createdCounter) {
+    return new StripedSqlConnectionPool() {
+      @Override
+      protected Connection createConnection(AbstractSqlService service) {
+        return PooledConnectionFixture.createConnection(createdCounter);
+      }
+    };
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.assertEquals;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Contention benchmark comparing {@link SqlConnectionPool} and {@link StripedSqlConnectionPool}: many concurrent jobs
+ * lease a connection, hold it for a short time and release it again.
+ * <p>
+ * Results are logged only. Timing based assertions would depend on the machine the test is executed on.
+ */
+@Category(ResourceIntensiveTest.class) // uses 200 concurrent threads
+@RunWith(PlatformTestRunner.class)
+public class SqlConnectionPoolContentionTest {
+  private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPoolContentionTest.class);
+
+  private static final int POOL_SIZE = 25;
+  private static final int THREAD_COUNT = 200;
+  private static final int LEASES_PER_THREAD = 500;
+  private static final long HOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+  @Test(timeout = 120_000)
+  public void testContention() {
+    runBenchmark("SqlConnectionPool (warm-up)", PooledConnectionFixture::createSqlConnectionPool);
+    runBenchmark("StripedSqlConnectionPool (warm-up)", PooledConnectionFixture::createStripedSqlConnectionPool);
+
+    long legacyNanos = runBenchmark("SqlConnectionPool", PooledConnectionFixture::createSqlConnectionPool);
+    long stripedNanos = runBenchmark("StripedSqlConnectionPool", PooledConnectionFixture::createStripedSqlConnectionPool);
+    LOG.info("Contention benchmark [threads={}, poolSize={}]: SqlConnectionPool={}ms, StripedSqlConnectionPool={}ms, speedup={}",
+        THREAD_COUNT, POOL_SIZE, TimeUnit.NANOSECONDS.toMillis(legacyNanos), TimeUnit.NANOSECONDS.toMillis(stripedNanos), String.format("%.2f", (double) legacyNanos / stripedNanos));
+  }
+
+  protected long runBenchmark(String name, Function<AtomicInteger, ISqlConnectionPool> poolFactory) {
+    AtomicInteger createdCounter = new AtomicInteger();
+    AbstractSqlService service = PooledConnectionFixture.createSqlService();
+    ISqlConnectionPool pool = poolFactory.apply(createdCounter);
+    pool.initialize(name, POOL_SIZE, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(6));
+    try {
+      AtomicLong leaseCount = new AtomicLong();
+      AtomicLong maxWaitNanos = new AtomicLong();
+      List<IFuture<Void>> futures = new ArrayList<>();
+      long start = System.nanoTime();
+      for (int i = 0; i < THREAD_COUNT; i++) {
+        futures.add(Jobs.schedule(() -> {
+          for (int j = 0; j < LEASES_PER_THREAD; j++) {
+            long leaseStart = System.nanoTime();
+            Connection conn = pool.leaseConnection(service);
+            maxWaitNanos.accumulateAndGet(System.nanoTime() - leaseStart, Math::max);
+            busyWait(HOLD_NANOS);
+            pool.releaseConnection(conn);
+            leaseCount.incrementAndGet();
+          }
+          return null;
+        }, Jobs.newInput()
+            .withName("Pool contention benchmark")));
+      }
+      for (IFuture<Void> future : futures) {
+        future.awaitDoneAndGet();
+      }
+      long elapsed = System.nanoTime() - start;
+      assertEquals((long) THREAD_COUNT * LEASES_PER_THREAD, leaseCount.get());
+      LOG.info("{}: {} leases in {}ms ({} leases/s, max wait {}ms, connections created {})",
+          name, leaseCount.get(), TimeUnit.NANOSECONDS.toMillis(elapsed), leaseCount.get() * TimeUnit.SECONDS.toNanos(1) / elapsed,
+          TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()), createdCounter.get());
+      return elapsed;
+    }
+    finally {
+      pool.destroy();
+    }
+  }
+
+  protected static void busyWait(long nanos) {
+    long end = System.nanoTime() + nanos;
+    while (System.nanoTime() < end) {
+      Thread.onSpinWait();
+    }
+  }
+}
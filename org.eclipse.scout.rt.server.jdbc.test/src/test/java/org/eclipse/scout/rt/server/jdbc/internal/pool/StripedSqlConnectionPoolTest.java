@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import static org.junit.Assert.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class StripedSqlConnectionPoolTest {
+
+  private AtomicInteger m_createdCounter;
+  private AbstractSqlService m_service;
+  private ISqlConnectionPool m_pool;
+
+  @Before
+  public void before() {
+    m_createdCounter = new AtomicInteger();
+    m_service = PooledConnectionFixture.createSqlService();
+    m_pool = PooledConnectionFixture.createStripedSqlConnectionPool(m_createdCounter);
+    m_pool.initialize("StripedSqlConnectionPoolTest", 2, TimeUnit.MINUTES.toMillis(5), TimeUnit.HOURS.toMillis(6));
+  }
+
+  @After
+  public void after() {
+    m_pool.destroy();
+  }
+
+  @Test
+  public void testLeaseReusesReleasedConnection() throws Exception {
+    Connection conn = m_pool.leaseConnection(m_service);
+    m_pool.releaseConnection(conn);
+    assertSame(conn, m_pool.leaseConnection(m_service));
+    assertEquals(1, m_createdCounter.get());
+  }
+
+  @Test
+  public void testPoolSizeIsNotExceeded() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+    assertNotSame(conn1, conn2);
+
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    Thread.sleep(200);
+    assertFalse(future.isDone());
+
+    // released connection is handed over to the waiting thread
+    m_pool.releaseConnection(conn1);
+    assertSame(conn1, future.awaitDoneAndGet(10, TimeUnit.SECONDS));
+    assertEquals(2, m_createdCounter.get());
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplaced() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    Connection conn2 = m_pool.leaseConnection(m_service);
+
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    conn1.close();
+    m_pool.releaseConnection(conn1);
+
+    Connection conn3 = future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertNotSame(conn1, conn3);
+    assertNotSame(conn2, conn3);
+    assertEquals(3, m_createdCounter.get());
+  }
+
+  @Test
+  public void testDirtyConnectionIsReplacedForWaiterBehindInterruptedWaiter() throws Exception {
+    Connection conn1 = m_pool.leaseConnection(m_service);
+    m_pool.leaseConnection(m_service);
+
+    IFuture<Connection> interruptedFuture = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    Thread.sleep(100);
+    IFuture<Connection> future = Jobs.schedule(() -> m_pool.leaseConnection(m_service), Jobs.newInput());
+    Thread.sleep(100);
+    interruptedFuture.cancel(true);
+
+    conn1.close();
+    m_pool.releaseConnection(conn1);
+
+    Connection conn3 = future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    assertNotSame(conn1, conn3);
+    assertEquals(3, m_createdCounter.get());
+  }
+
+  @Test
+  public void testWaiterSignal() {
+    Thread thread = new Thread(() -> {
+    });
+    StripedSqlConnectionPool.Waiter waiter = new StripedSqlConnectionPool.Waiter(thread);
+    assertTrue(waiter.signal());
+    assertFalse(waiter.signal()); // already signalled
+
+    waiter.clearSignal();
+    assertTrue(waiter.signal());
+
+    StripedSqlConnectionPool.Waiter cancelledWaiter = new StripedSqlConnectionPool.Waiter(thread);
+    assertTrue(cancelledWaiter.cancel());
+    assertFalse(cancelledWaiter.signal());
+  }
+
+  @Test
+  public void testConcurrentLeaseAndRelease() {
+    Set<Connection> leased = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    AtomicInteger violations = new AtomicInteger();
+    List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      futures.add(Jobs.schedule(() -> {
+        for (int j = 0; j < 200; j++) {
+          Connection conn = m_pool.leaseConnection(m_service);
+          if (!leased.add(conn)) {
+            violations.incrementAndGet();
+          }
+          leased.remove(conn);
+          m_pool.releaseConnection(conn);
+        }
+        return null;
+      }, Jobs.newInput()));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(30, TimeUnit.SECONDS);
+    }
+    assertEquals(0, violations.get());
+    assertTrue(m_createdCounter.get() <= 2);
+  }
+
+  @Test(expected = AssertionException.class)
+  public void testLeaseAfterDestroy() throws Exception {
+    m_pool.destroy();
+    m_pool.leaseConnection(m_service);
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.junit.Test;
+
+/**
+ * Test for lookups by several keys in {@link AbstractSqlLookupService}.
+ */
+public class AbstractSqlLookupServiceTest {
+
+  private static final String SQL_SELECT = "SELECT ID, NAME FROM COLOR WHERE 1=1 <key>AND ID = :key</key> <text>AND NAME LIKE :text</text> <all></all> <rec>AND PARENT_ID = :rec</rec>";
+
+  @Test
+  public void testFilterSqlByKeys() {
+    P_LookupService service = new P_LookupService();
+    assertEquals("SELECT ID, NAME FROM COLOR WHERE 1=1 AND ID = :keys   ", service.filterSqlByKeys(SQL_SELECT));
+    assertEquals("SELECT ID FROM COLOR WHERE 1=1 AND ID = :keys AND KEY_TEXT = :keyText", service.filterSqlByKeys("SELECT ID FROM COLOR WHERE 1=1 <key>AND ID = :key AND KEY_TEXT = :keyText</key>"));
+  }
+
+  @Test
+  public void testFilterSqlByKeysNotSupported() {
+    P_LookupService service = new P_LookupService();
+    assertNull(service.filterSqlByKeys("SELECT ID FROM COLOR WHERE 1=1 <text>AND NAME LIKE :text</text>"));
+    assertNull(service.filterSqlByKeys("SELECT ID FROM COLOR WHERE 1=1 <key>AND ID = #key#</key>"));
+    assertNull(service.filterSqlByKeys("SELECT ID, :key FROM COLOR WHERE 1=1 <key>AND ID = :key</key>"));
+  }
+
+  @Test
+  public void testMultiKeyLookupEnabled() {
+    assertTrue(new P_LookupService().isMultiKeyLookupEnabled());
+    assertTrue(new P_LookupServiceWithCustomRowsByKeys().isMultiKeyLookupEnabled());
+    assertFalse(new P_LookupServiceWithCustomRows().isMultiKeyLookupEnabled());
+    assertFalse(new P_LookupServiceDisabled().isMultiKeyLookupEnabled());
+  }
+
+  private static class P_LookupService extends AbstractSqlLookupService<Long> {
+
+    @Override
+    protected String getConfiguredSqlSelect() {
+      return SQL_SELECT;
+    }
+  }
+
+  private static class P_LookupServiceWithCustomRows extends P_LookupService {
+
+    @Override
+    protected List<ILookupRow<Long>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<Long> call) {
+      return super.execLoadLookupRows(originalSql, preprocessedSql, call);
+    }
+  }
+
+  private static class P_LookupServiceWithCustomRowsByKeys extends P_LookupServiceWithCustomRows {
+
+    @Override
+    protected List<ILookupRow<Long>> execLoadLookupRowsByKeys(String originalSql, String preprocessedSql, ILookupCall<Long> call, Object keys) {
+      return super.execLoadLookupRowsByKeys(originalSql, preprocessedSql, call, keys);
+    }
+  }
+
+  private static class P_LookupServiceDisabled extends P_LookupService {
+
+    @Override
+    protected boolean getConfiguredMultiKeyLookup() {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import static org.junit.Assert.*;
+
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache.ParsedStatement;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.TextToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ParsedStatementCache}
+ */
+public class ParsedStatementCacheTest {
+
+  private static final String STATEMENT = "SELECT NAME FROM PERSON WHERE PERSON_ID = :{personId} INTO :{name}";
+
+  @Test
+  public void testHitAndMiss() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    cache.get(STATEMENT);
+    cache.get(STATEMENT);
+    cache.get(STATEMENT);
+    cache.get("SELECT 1 FROM DUAL");
+
+    assertEquals(2, cache.getMissCount());
+    assertEquals(2, cache.getHitCount());
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  public void testParseResult() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    cache.get(STATEMENT);
+    ParsedStatement parsed = cache.get(STATEMENT);
+
+    ValueOutputToken[] intoTokens = parsed.getIntoModel().getOutputTokens();
+    assertEquals(1, intoTokens.length);
+    assertEquals("name", intoTokens[0].getName());
+    assertTrue(intoTokens[0].isBatch());
+    assertTrue(intoTokens[0].isSelectInto());
+
+    IToken[] ioTokens = parsed.getBindModel().getIOTokens();
+    assertEquals(1, ioTokens.length);
+    ValueInputToken in = (ValueInputToken) ioTokens[0];
+    assertEquals("personId", in.getName());
+    assertEquals("PERSON_ID", in.getParsedAttribute());
+    assertEquals("=", in.getParsedOp());
+    assertTrue(in.isBatch());
+  }
+
+  @Test
+  public void testReturnedModelsAreIndependent() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    ParsedStatement first = cache.get(STATEMENT);
+    ValueInputToken firstIn = (ValueInputToken) first.getBindModel().getIOTokens()[0];
+    firstIn.setReplaceToken("?");
+    firstIn.setPlainValue(true);
+    first.getIntoModel().getOutputTokens()[0].setReplaceToken("");
+
+    ParsedStatement second = cache.get(STATEMENT);
+    ValueInputToken secondIn = (ValueInputToken) second.getBindModel().getIOTokens()[0];
+    assertNotSame(firstIn, secondIn);
+    assertEquals(":{personId}", secondIn.getReplaceToken());
+    assertFalse(secondIn.isPlainValue());
+    assertEquals(":{name}", second.getIntoModel().getOutputTokens()[0].getReplaceToken());
+    assertEquals(new BindParser(second.getIntoModel().getFilteredStatement()).parse().getFilteredStatement(), second.getBindModel().getFilteredStatement());
+  }
+
+  @Test
+  public void testTextTokensAreShared() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    IToken[] first = cache.get(STATEMENT).getBindModel().getAllTokens();
+    IToken[] second = cache.get(STATEMENT).getBindModel().getAllTokens();
+
+    assertNotSame(first, second);
+    assertEquals(first.length, second.length);
+    for (int i = 0; i < first.length; i++) {
+      if (first[i] instanceof TextToken) {
+        assertSame(first[i], second[i]);
+      }
+      else {
+        assertNotSame(first[i], second[i]);
+      }
+    }
+  }
+
+  @Test
+  public void testStatementWithoutBindsIsShared() {
+    ParsedStatementCache cache = new ParsedStatementCache(10);
+    ParsedStatement first = cache.get("SELECT 1 FROM DUAL");
+    ParsedStatement second = cache.get("SELECT 1 FROM DUAL");
+
+    assertSame(first, second);
+    assertEquals("SELECT 1 FROM DUAL", second.getBindModel().getFilteredStatement());
+  }
+
+  @Test
+  public void testSizeLimit() {
+    ParsedStatementCache cache = new ParsedStatementCache(5);
+    for (int i = 0; i < 100; i++) {
+      cache.get("SELECT " + i + " FROM DUAL WHERE X = :x");
+    }
+    assertTrue(cache.size() <= 10);
+  }
+
+  @Test
+  public void testDisabled() {
+    ParsedStatementCache cache = new ParsedStatementCache(0);
+    ParsedStatement first = cache.get(STATEMENT);
+    ParsedStatement second = cache.get(STATEMENT);
+
+    assertNotSame(first.getBindModel(), second.getBindModel());
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.getHitCount());
+    assertEquals(2, cache.getMissCount());
+  }
+}
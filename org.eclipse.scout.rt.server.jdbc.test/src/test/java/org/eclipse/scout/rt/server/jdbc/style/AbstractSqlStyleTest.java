@@ -21,6 +21,7 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
 
+import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -254,6 +255,19 @@ public class AbstractSqlStyleTest {
     assertTrue(o2 instanceof Long);
   }
 
+  @Test
+  public void testCreatePagingClause() {
+    assertEquals("FETCH FIRST :limit ROWS ONLY", sql.createPagingClause(null, "limit"));
+    assertEquals("OFFSET :offset ROWS FETCH NEXT :limit ROWS ONLY", sql.createPagingClause("offset", "limit"));
+  }
+
+  @Test
+  public void testCreateKeysetPredicate() {
+    assertEquals("((a>:a))", sql.createKeysetPredicate(new String[]{"a"}, new boolean[]{true}, new String[]{"a"}));
+    assertEquals("((a<:a) OR (a=:a AND b>:b))", sql.createKeysetPredicate(new String[]{"a", "b"}, new boolean[]{false, true}, new String[]{"a", "b"}));
+    assertThrows(AssertionException.class, () -> sql.createKeysetPredicate(new String[]{"a"}, new boolean[]{true, true}, new String[]{"a"}));
+  }
+
   /**
    * SQL style decimal conversion with no conversion strategy
    */
@@ -45,11 +45,13 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
 import org.eclipse.scout.rt.security.ACCESS;
 import org.eclipse.scout.rt.security.IPermission;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlDirectJdbcConnectionProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcBatchSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcDriverNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcMappingNameProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionBusyTimeoutProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolConnectionLifetimeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolSizeProperty;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPoolStripedProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcPropertiesProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJdbcStatementCacheSizeProperty;
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlJndiInitialContextFactoryProperty;
@@ -61,8 +63,10 @@ import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlTransactionMember
 import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlUsernameProperty;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.PreparedStatementCache;
 import org.eclipse.scout.rt.server.jdbc.internal.exec.StatementProcessor;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.ISqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionBuilder;
 import org.eclipse.scout.rt.server.jdbc.internal.pool.SqlConnectionPool;
+import org.eclipse.scout.rt.server.jdbc.internal.pool.StripedSqlConnectionPool;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.style.ISqlStyle;
 import org.eclipse.scout.rt.shared.services.common.code.ICodeService;
@@ -73,8 +77,9 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractSqlService implements ISqlService, IServiceInventory {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlService.class);
   public static final int DEFAULT_MEMORY_PREFETCH_SIZE = 1024 * 1024; // = 1MB default
+  public static final int DEFAULT_JDBC_BATCH_SIZE = 500;
 
-  private volatile SqlConnectionPool m_pool;
+  private volatile ISqlConnectionPool m_pool;
   private final String m_transactionMemberId;
   private final boolean m_directJdbcConnection;
   private final String m_jndiName;
@@ -87,9 +92,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   private final int m_jdbcPoolSize;
   private final long m_jdbcPoolConnectionLifetime;
   private final long m_jdbcPoolConnectionBusyTimeout;
+  private final boolean m_jdbcPoolStriped;
   private final String m_defaultUser;
   private final String m_defaultPass;
   private final int m_queryCacheSize;
+  private final int m_jdbcBatchSize;
   private final int m_maxFetchMemorySize;
   private final ISqlStyle m_sqlStyle;
 
@@ -116,9 +123,11 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     m_jdbcDriverName = getPropertyValue(SqlJdbcDriverNameProperty.class, getConfiguredJdbcDriverName());
     m_jdbcProps = getPropertyValue(SqlJdbcPropertiesProperty.class, getConfiguredJdbcProperties());
     m_queryCacheSize = getPropertyValue(SqlJdbcStatementCacheSizeProperty.class, getConfiguredJdbcStatementCacheSize());
+    m_jdbcBatchSize = getPropertyValue(SqlJdbcBatchSizeProperty.class, getConfiguredJdbcBatchSize());
     m_jdbcPoolSize = getPropertyValue(SqlJdbcPoolSizeProperty.class, getConfiguredJdbcPoolSize());
     m_jdbcPoolConnectionBusyTimeout = getPropertyValue(SqlJdbcPoolConnectionBusyTimeoutProperty.class, getConfiguredJdbcPoolConnectionBusyTimeout());
     m_jdbcPoolConnectionLifetime = getPropertyValue(SqlJdbcPoolConnectionLifetimeProperty.class, getConfiguredJdbcPoolConnectionLifetime());
+    m_jdbcPoolStriped = getPropertyValue(SqlJdbcPoolStripedProperty.class, getConfiguredJdbcPoolStriped());
     m_maxFetchMemorySize = DEFAULT_MEMORY_PREFETCH_SIZE;
 
     // load sql style
@@ -247,12 +256,32 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return 21600000L;
   }
 
+  /**
+   * @return true to use a {@link StripedSqlConnectionPool} for direct JDBC connections instead of a
+   *         {@link SqlConnectionPool}
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(155)
+  protected boolean getConfiguredJdbcPoolStriped() {
+    return false;
+  }
+
   @ConfigProperty(ConfigProperty.INTEGER)
   @Order(160)
   protected int getConfiguredJdbcStatementCacheSize() {
     return 25;
   }
 
+  /**
+   * @return maximum number of rows sent to the database in one JDBC batch, see
+   *         {@link IStatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor)}
+   */
+  @ConfigProperty(ConfigProperty.INTEGER)
+  @Order(165)
+  protected int getConfiguredJdbcBatchSize() {
+    return DEFAULT_JDBC_BATCH_SIZE;
+  }
+
   @ConfigProperty(ConfigProperty.STRING)
   @Order(170)
   protected String getConfiguredJndiName() {
@@ -484,13 +513,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return m_jdbcPoolConnectionBusyTimeout;
   }
 
+  public boolean isJdbcPoolStriped() {
+    return m_jdbcPoolStriped;
+  }
+
   public int getMaxFetchMemorySize() {
     return m_maxFetchMemorySize;
   }
 
+  public int getJdbcBatchSize() {
+    return m_jdbcBatchSize;
+  }
+
   @Override
   public String getInventory() {
-    final SqlConnectionPool pool = m_pool;
+    final ISqlConnectionPool pool = m_pool;
     if (pool != null) {
       return pool.getInventory();
     }
@@ -548,10 +585,10 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     }
   }
 
-  protected synchronized SqlConnectionPool getSqlConnectionPool() {
+  protected synchronized ISqlConnectionPool getSqlConnectionPool() {
     Assertions.assertFalse(isDestroyed(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
     if (m_pool == null) {
-      m_pool = BEANS.get(SqlConnectionPool.class);
+      m_pool = isJdbcPoolStriped() ? BEANS.get(StripedSqlConnectionPool.class) : BEANS.get(SqlConnectionPool.class);
       m_pool.initialize(getClass().getName(), getJdbcPoolSize(), getJdbcPoolConnectionLifetime(), getJdbcPoolConnectionBusyTimeout());
     }
     return m_pool;
@@ -649,6 +686,21 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
     return createStatementProcessor(s, bindBases, 0).processModification(getTransaction(), getStatementCache(), null);
   }
 
+  @Override
+  public int[] insertBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null);
+  }
+
+  @Override
+  public int[] updateBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null);
+  }
+
+  @Override
+  public int[] deleteBatch(String s, Object... bindBases) {
+    return createStatementProcessor(s, bindBases, 0).processModificationBatch(getTransaction(), getStatementCache(), null);
+  }
+
   @Override
   public boolean callStoredProcedure(String s, Object... bindBases) {
     return createStatementProcessor(s, bindBases, 0).processStoredProcedure(getTransaction(), getStatementCache(), null);
@@ -674,7 +726,7 @@ public abstract class AbstractSqlService implements ISqlService, IServiceInvento
   }
 
   protected IStatementProcessor createStatementProcessor(String s, Object[] bindBases, int maxRowCount) {
-    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize);
+    return new StatementProcessor(this, s, bindBases, maxRowCount, m_maxFetchMemorySize, m_jdbcBatchSize);
   }
 
   /**
@@ -267,6 +267,39 @@ public interface ISqlService extends IService {
    */
   int delete(String s, Object... bindBases);
 
+  /**
+   * insert rows using batch binds (arrays, collections or table bean holders)
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of inserted rows per batch element, see
+   *         {@link IStatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor)}
+   */
+  int[] insertBatch(String s, Object... bindBases);
+
+  /**
+   * update rows using batch binds (arrays, collections or table bean holders)
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of updated rows per batch element, see
+   *         {@link IStatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor)}
+   */
+  int[] updateBatch(String s, Object... bindBases);
+
+  /**
+   * delete rows using batch binds (arrays, collections or table bean holders)
+   * <p>
+   * See the interface comment of {@link ISqlService} for description of how to use bind variables
+   * </p>
+   *
+   * @return number of deleted rows per batch element, see
+   *         {@link IStatementProcessor#processModificationBatch(Connection, IStatementCache, IStatementProcessorMonitor)}
+   */
+  int[] deleteBatch(String s, Object... bindBases);
+
   /**
    * call a stored procedure
    * <p>
@@ -21,6 +21,16 @@ public interface IStatementProcessor {
 
   int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
+  /**
+   * Same as {@link #processModification(Connection, IStatementCache, IStatementProcessorMonitor)} but returns the update
+   * count of every input batch (e.g. every element of an array bind or every row of a table bean holder bind).
+   * <p>
+   * Input batches are sent to the database using JDBC batch execution if the {@link org.eclipse.scout.rt.server.jdbc.style.ISqlStyle}
+   * supports it. An element may be {@link java.sql.Statement#SUCCESS_NO_INFO} if the driver does not report the number
+   * of affected rows of a batch element.
+   */
+  int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
+
   boolean processStoredProcedure(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor);
 
   String createPlainText();
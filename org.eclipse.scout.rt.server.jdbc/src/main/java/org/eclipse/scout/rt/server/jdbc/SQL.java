@@ -143,6 +143,30 @@ public final class SQL {
     return service.delete(s, bindBases);
   }
 
+  /**
+   * @see ISqlService#insertBatch(String, Object...)
+   */
+  public static int[] insertBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.insertBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#updateBatch(String, Object...)
+   */
+  public static int[] updateBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.updateBatch(s, bindBases);
+  }
+
+  /**
+   * @see ISqlService#deleteBatch(String, Object...)
+   */
+  public static int[] deleteBatch(String s, Object... bindBases) {
+    ISqlService service = BEANS.get(usedServiceType);
+    return service.deleteBatch(s, bindBases);
+  }
+
   /**
    * @see ISqlService#callStoredProcedure(String, Object...)
    */
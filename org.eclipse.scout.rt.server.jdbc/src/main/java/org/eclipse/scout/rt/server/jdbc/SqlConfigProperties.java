@@ -204,6 +204,40 @@ public final class SqlConfigProperties {
     }
   }
 
+  public static class SqlJdbcBatchSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.batchSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of rows sent to the database in one JDBC batch when a modification statement uses batch binds (arrays, collections or table bean holders). "
+          + "Only used if JDBC batch execution is enabled by the SQL style (ISqlStyle#isBatchUpdateSupported, enabled for Oracle and PostgreSQL). "
+          + "A value of 1 executes every row separately. The default value is 500.";
+    }
+  }
+
+  public static class SqlParsedStatementCacheSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.parsedStatementCacheSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of SQL statements whose bind and 'select into' parse results are cached (shared by all SQL services). "
+          + "Set to 0 to parse every statement on each execution. The default value is 1000.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
+
   public static class SqlJdbcPoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -216,4 +250,18 @@ public final class SqlConfigProperties {
       return "The maximum number of connections to create. The default pool size is 25.";
     }
   }
+
+  public static class SqlJdbcPoolStripedProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.sql.jdbc.pool.striped";
+    }
+
+    @Override
+    public String description() {
+      return "If true, direct JDBC connections are pooled by a striped pool with lock-free idle stacks, FIFO hand-off to waiting threads and background validation of idle connections. "
+          + "Otherwise, the pool serializes all lease and release operations through a single lock. The default value is false.";
+    }
+  }
 }
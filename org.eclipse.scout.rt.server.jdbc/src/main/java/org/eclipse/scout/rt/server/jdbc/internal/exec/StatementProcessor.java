@@ -20,6 +20,7 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.sql.Types;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -37,6 +38,7 @@ import org.eclipse.scout.rt.platform.holders.IHolder;
 import org.eclipse.scout.rt.platform.holders.ITableBeanHolder;
 import org.eclipse.scout.rt.platform.holders.NVPair;
 import org.eclipse.scout.rt.platform.holders.TableBeanHolderFilter;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.reflect.FastPropertyDescriptor;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.transaction.ITransactionMember;
@@ -53,9 +55,9 @@ import org.eclipse.scout.rt.server.jdbc.IStatementProcessorMonitor;
 import org.eclipse.scout.rt.server.jdbc.SqlBind;
 import org.eclipse.scout.rt.server.jdbc.oracle.OracleSqlStyle;
 import org.eclipse.scout.rt.server.jdbc.parsers.BindModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.BindParser;
 import org.eclipse.scout.rt.server.jdbc.parsers.IntoModel;
-import org.eclipse.scout.rt.server.jdbc.parsers.IntoParser;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache;
+import org.eclipse.scout.rt.server.jdbc.parsers.ParsedStatementCache.ParsedStatement;
 import org.eclipse.scout.rt.server.jdbc.parsers.sql.SqlFormatter;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.DatabaseSpecificToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
@@ -67,10 +69,14 @@ import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+
 @SuppressWarnings("squid:S1166")
 public class StatementProcessor implements IStatementProcessor {
   private static final Logger LOG = LoggerFactory.getLogger(StatementProcessor.class);
   private static final Pattern REGEX_DOT = Pattern.compile("[.]");
+  private static final String TRACER_NAME = "scout.StatementProcessor";
 
   static {
     if (LOG.isDebugEnabled()) {
@@ -86,6 +92,7 @@ public class StatementProcessor implements IStatementProcessor {
   private final Object[] m_bindBases;
   private final int m_maxRowCount;
   private final int m_maxFetchMemorySize;
+  private final int m_jdbcBatchSize;
   private final BindModel m_bindModel;
   private final IToken[] m_ioTokens;
   private final List<IBindInput> m_inputList;
@@ -96,6 +103,7 @@ public class StatementProcessor implements IStatementProcessor {
   private int m_currentOutputBatchIndex = -1;
   private String m_currentInputStm;
   private TreeMap<Integer/* jdbcBindIndex */, SqlBind> m_currentInputBindMap;
+  private Span m_activeStatementSpan;
 
   public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases) {
     this(callerService, stm, bindBases, 0);
@@ -106,6 +114,10 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases, int maxRowCount, int maxFetchMemorySize) {
+    this(callerService, stm, bindBases, maxRowCount, maxFetchMemorySize, AbstractSqlService.DEFAULT_JDBC_BATCH_SIZE);
+  }
+
+  public StatementProcessor(ISqlService callerService, String stm, Object[] bindBases, int maxRowCount, int maxFetchMemorySize, int jdbcBatchSize) {
     if (stm == null) {
       throw new ProcessingException("statement is null");
     }
@@ -114,6 +126,7 @@ public class StatementProcessor implements IStatementProcessor {
       m_originalStm = stm;
       m_maxRowCount = maxRowCount;
       m_maxFetchMemorySize = maxFetchMemorySize;
+      m_jdbcBatchSize = jdbcBatchSize;
       // add session to binds if available
       final IServerSession session = ServerSessionProvider.currentSession();
       if (session != null) {
@@ -138,10 +151,9 @@ public class StatementProcessor implements IStatementProcessor {
       m_inputList = new ArrayList<>();
       m_outputList = new ArrayList<>();
       //
-      IntoModel intoModel = new IntoParser(m_originalStm).parse();
-      String stmWithoutSelectInto = intoModel.getFilteredStatement();
-      //
-      m_bindModel = new BindParser(stmWithoutSelectInto).parse();
+      ParsedStatement parsedStatement = BEANS.get(ParsedStatementCache.class).get(m_originalStm);
+      IntoModel intoModel = parsedStatement.getIntoModel();
+      m_bindModel = parsedStatement.getBindModel();
       m_ioTokens = m_bindModel.getIOTokens();
       //
       int jdbcBindIndex = 1;
@@ -424,11 +436,119 @@ public class StatementProcessor implements IStatementProcessor {
    * org.eclipse.scout
    * .rt.server.services.common.sql.internal.exec.PreparedStatementCache)
    */
-  @SuppressWarnings("resource")
   @Override
   public int processModification(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
-    PreparedStatement ps = null;
     int rowCount = 0;
+    for (int updateCount : processModificationBatch(conn, cache, monitor)) {
+      if (updateCount == Statement.SUCCESS_NO_INFO) {
+        // the statements were executed but the driver did not report the number of affected rows. Fail instead of
+        // returning a wrong row count, the transaction is rolled back.
+        throw new ProcessingException("JDBC driver did not report the number of affected rows of a batch element. Disable JDBC batch execution for this SQL style (ISqlStyle#isBatchUpdateSupported).")
+            .withContextInfo("statement", createSqlDump(false, false));
+      }
+      if (updateCount > 0) {
+        rowCount += updateCount;
+      }
+    }
+    return rowCount;
+  }
+
+  @Override
+  public int[] processModificationBatch(Connection conn, IStatementCache cache, IStatementProcessorMonitor monitor) {
+    if (isJdbcBatchExecution()) {
+      return processModificationJdbcBatch(conn, cache);
+    }
+    return processModificationRowByRow(conn, cache);
+  }
+
+  /**
+   * @return true if there are batch inputs which should be sent to the database using JDBC batch execution
+   */
+  protected boolean isJdbcBatchExecution() {
+    if (m_jdbcBatchSize <= 1 || !m_callerService.getSqlStyle().isBatchUpdateSupported()) {
+      return false;
+    }
+    for (IBindInput input : m_inputList) {
+      if (input.isBatch()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Adds every input batch to a JDBC batch. The JDBC batch is executed when it reaches the configured batch size or
+   * when the statement text changes between two input batches (e.g. because of plain value binds).
+   */
+  @SuppressWarnings("resource")
+  protected int[] processModificationJdbcBatch(Connection conn, IStatementCache cache) {
+    P_UpdateCounts updateCounts = new P_UpdateCounts();
+    PreparedStatement ps = null;
+    String batchStm = null;
+    int batchCount = 0;
+    try {
+      while (hasNextInputBatch()) {
+        nextInputBatch();
+        prepareInputStatementAndBinds();
+        dump();
+        if (ps != null && !m_currentInputStm.equals(batchStm)) {
+          executeJdbcBatch(ps, updateCounts);
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+        if (ps == null) {
+          ps = cache.getPreparedStatement(conn, m_currentInputStm);
+          batchStm = m_currentInputStm;
+          batchCount = 0;
+        }
+        bindBatch(ps);
+        ps.addBatch();
+        batchCount++;
+        if (batchCount >= m_jdbcBatchSize) {
+          executeJdbcBatch(ps, updateCounts);
+          cache.releasePreparedStatement(ps);
+          ps = null;
+        }
+      }
+      if (ps != null) {
+        executeJdbcBatch(ps, updateCounts);
+        cache.releasePreparedStatement(ps);
+        ps = null;
+      }
+      return updateCounts.toArray();
+    }
+    catch (SQLException | RuntimeException e) {
+      throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
+          .withContextInfo("statement", createSqlDump(true, false));
+    }
+    finally {
+      if (ps != null) {
+        // do not leave pending batch elements on a cached statement
+        try {
+          ps.clearBatch();
+        }
+        catch (SQLException e) {
+          LOG.warn("could not clear batch", e);
+        }
+        cache.releasePreparedStatement(ps);
+      }
+    }
+  }
+
+  protected void executeJdbcBatch(PreparedStatement ps, P_UpdateCounts updateCounts) throws SQLException {
+    registerActiveStatement(ps);
+    try {
+      updateCounts.addAll(ps.executeBatch());
+    }
+    finally {
+      unregisterActiveStatement(ps);
+    }
+  }
+
+  @SuppressWarnings("resource")
+  protected int[] processModificationRowByRow(Connection conn, IStatementCache cache) {
+    P_UpdateCounts updateCounts = new P_UpdateCounts();
+    PreparedStatement ps = null;
     try {
       while (hasNextInputBatch()) {
         nextInputBatch();
@@ -438,14 +558,14 @@ public class StatementProcessor implements IStatementProcessor {
         bindBatch(ps);
         registerActiveStatement(ps);
         try {
-          rowCount = rowCount + ps.executeUpdate();
+          updateCounts.add(ps.executeUpdate());
         }
         finally {
           unregisterActiveStatement(ps);
           cache.releasePreparedStatement(ps);
         }
       }
-      return rowCount;
+      return updateCounts.toArray();
     }
     catch (SQLException | RuntimeException e) {
       throw BEANS.get(PlatformExceptionTranslator.class).translate(e)
@@ -839,6 +959,38 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Growable list of update counts
+   */
+  protected static class P_UpdateCounts {
+    private int[] m_counts = new int[16];
+    private int m_size;
+
+    public void add(int count) {
+      ensureCapacity(m_size + 1);
+      m_counts[m_size++] = count;
+    }
+
+    public void addAll(int[] counts) {
+      if (counts == null) {
+        return;
+      }
+      ensureCapacity(m_size + counts.length);
+      System.arraycopy(counts, 0, m_counts, m_size, counts.length);
+      m_size += counts.length;
+    }
+
+    private void ensureCapacity(int capacity) {
+      if (capacity > m_counts.length) {
+        m_counts = Arrays.copyOf(m_counts, Math.max(capacity, m_counts.length * 2));
+      }
+    }
+
+    public int[] toArray() {
+      return Arrays.copyOf(m_counts, m_size);
+    }
+  }
+
   protected void dump() {
     if (LOG.isDebugEnabled()) {
       LOG.debug("\n" + createSqlDump(true, true));
@@ -1454,6 +1606,7 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected void registerActiveStatement(Statement s) throws SQLException {
+    startStatementSpan();
     ITransaction tx = ITransaction.CURRENT.get();
     if (tx == null) {
       return;
@@ -1465,6 +1618,7 @@ public class StatementProcessor implements IStatementProcessor {
   }
 
   protected void unregisterActiveStatement(Statement s) {
+    endStatementSpan();
     ITransaction tx = ITransaction.CURRENT.get();
     if (tx == null) {
       return;
@@ -1475,6 +1629,31 @@ public class StatementProcessor implements IStatementProcessor {
     }
   }
 
+  /**
+   * Starts a span for the execution of the current input statement (including fetching its results). The span is only
+   * created if the calling thread is part of a trace, and is ended by {@link #unregisterActiveStatement(Statement)}.
+   * <p>
+   * Failures are not recorded on this span, but on the enclosing span by the caller.
+   */
+  protected void startStatementSpan() {
+    TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    if (m_activeStatementSpan != null || !tracingHelper.hasActiveSpan()) {
+      return;
+    }
+    m_activeStatementSpan = tracingHelper.getTracer(TRACER_NAME)
+        .spanBuilder("SQL " + m_callerService.getClass().getSimpleName())
+        .setSpanKind(SpanKind.CLIENT)
+        .setAttribute("db.statement", m_currentInputStm)
+        .startSpan();
+  }
+
+  protected void endStatementSpan() {
+    if (m_activeStatementSpan != null) {
+      m_activeStatementSpan.end();
+      m_activeStatementSpan = null;
+    }
+  }
+
   private void releasePreparedStatementAndResultSet(PreparedStatement ps, IStatementCache cache, ResultSet rs) {
     if (rs != null) {
       try {
@@ -0,0 +1,42 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+
+/**
+ * Connection pool used by {@link AbstractSqlService} for direct JDBC connections.
+ *
+ * @see SqlConnectionPool
+ * @see StripedSqlConnectionPool
+ */
+public interface ISqlConnectionPool {
+
+  void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout);
+
+  Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException;
+
+  void releaseConnection(Connection conn);
+
+  String getInventory();
+
+  /**
+   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
+   */
+  boolean isDestroyed();
+
+  /**
+   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
+   */
+  void destroy();
+}
@@ -17,4 +17,12 @@ class PoolEntry {
   public long createTime;
   public long leaseBegin;
   public int leaseCount;
+  /**
+   * Used by {@link StripedSqlConnectionPool}: index of the stripe the entry is returned to.
+   */
+  public int stripe;
+  /**
+   * Used by {@link StripedSqlConnectionPool}: last time the connection was known to be valid.
+   */
+  public volatile long lastValidated;
 }
@@ -46,7 +46,7 @@ import io.opentelemetry.api.metrics.ObservableLongMeasurement;
  */
 @Bean
 @SuppressWarnings("squid:S1166")
-public class SqlConnectionPool {
+public class SqlConnectionPool implements ISqlConnectionPool {
   private static final Logger LOG = LoggerFactory.getLogger(SqlConnectionPool.class);
 
   private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
@@ -73,6 +73,7 @@ public class SqlConnectionPool {
   private DoubleHistogram m_connectionWaitTime;
   private Attributes m_defaultAttributes;
 
+  @Override
   public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
     Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
     m_name = name;
@@ -129,6 +130,7 @@ public class SqlConnectionPool {
         maxConnections);
   }
 
+  @Override
   public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
     final long startTime = System.nanoTime();
     managePool();
@@ -145,7 +147,7 @@ public class SqlConnectionPool {
         if (candidate == null && m_idleEntries.size() + m_busyEntries.size() < m_poolSize) {
           // create new connection
           PoolEntry test = new PoolEntry();
-          test.conn = new SqlConnectionBuilder().createJdbcConnection(service);
+          test.conn = createConnection(service);
           LOG.info("created jdbc connection {}", test.conn);
           service.callbackAfterConnectionCreated(test.conn);
           test.createTime = System.currentTimeMillis();
@@ -193,6 +195,7 @@ public class SqlConnectionPool {
     }
   }
 
+  @Override
   public void releaseConnection(Connection conn) {
     LOG.debug("release {}", conn);
     synchronized (m_poolLock) {
@@ -257,6 +260,7 @@ public class SqlConnectionPool {
     managePool();
   }
 
+  @Override
   public String getInventory() {
     StringBuilder buf = new StringBuilder();
     SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
@@ -280,6 +284,10 @@ public class SqlConnectionPool {
     return buf.toString();
   }
 
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
   /**
    * Thread worker to manage pool
    */
@@ -315,16 +323,12 @@ public class SqlConnectionPool {
     }
   }
 
-  /**
-   * Returns whether this SQL pool was destroyed, and cannot be used anymore.
-   */
+  @Override
   public boolean isDestroyed() {
     return m_destroyed;
   }
 
-  /**
-   * Destroys this connection pool. Upon return, this pool cannot be used anymore.
-   */
+  @Override
   public void destroy() {
     if (isDestroyed()) {
       return;
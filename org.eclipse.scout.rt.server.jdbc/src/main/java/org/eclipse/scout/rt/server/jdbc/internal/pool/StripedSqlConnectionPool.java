@@ -0,0 +1,626 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.pool;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.TimingUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.server.jdbc.AbstractSqlService;
+import org.eclipse.scout.rt.shared.ISession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Connection pool which does not serialize lease and release operations through a single monitor.
+ * <ul>
+ * <li>Idle connections are kept in lock-free stacks, one per stripe. A scout session is always mapped to the same stripe
+ * and therefore usually gets the same connection it had in the last request.</li>
+ * <li>Threads waiting for a connection are queued in FIFO order. A released connection is handed directly to the next
+ * waiting thread; other waiting threads are not woken up.</li>
+ * <li>Validation of idle connections and eviction of expired or timed out connections is done by a background job.
+ * Leasing a connection only tests it if it was not validated recently.</li>
+ * </ul>
+ * This pool is used instead of {@link SqlConnectionPool} if {@link AbstractSqlService#isJdbcPoolStriped()} is true.
+ * <p>
+ * This class is thread-safe.
+ */
+@Bean
+@SuppressWarnings("squid:S1166")
+public class StripedSqlConnectionPool implements ISqlConnectionPool {
+  private static final Logger LOG = LoggerFactory.getLogger(StripedSqlConnectionPool.class);
+
+  private static final AttributeKey<String> POOL_NAME = AttributeKey.stringKey("pool.name");
+  private static final AttributeKey<String> CONNECTION_STATE = AttributeKey.stringKey("state");
+  private static final String OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME = "db.client.connections.wait_time";
+
+  /**
+   * Interval of the background job which validates idle connections and evicts expired ones. Connections which were
+   * validated (or successfully used) within this interval are not tested again upon lease.
+   */
+  protected static final long HOUSEKEEPING_INTERVAL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+  /**
+   * Maximum time a waiting thread is parked before it re-checks whether the pool has free capacity again.
+   */
+  protected static final long WAIT_SLICE_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+  private final AtomicBoolean m_destroyed = new AtomicBoolean(false);
+  private final String m_identity = UUID.randomUUID().toString();
+
+  /*
+   * Instance
+   */
+  private volatile Stripe[] m_stripes;
+  private final ConcurrentLinkedQueue<Waiter> m_waiters = new ConcurrentLinkedQueue<>();
+  private final ConcurrentHashMap<Connection, PoolEntry> m_busyEntries = new ConcurrentHashMap<>();
+  private final AtomicInteger m_totalCount = new AtomicInteger();
+  private final AtomicInteger m_idleCount = new AtomicInteger();
+  private final AtomicInteger m_pendingCount = new AtomicInteger();
+  private volatile AbstractSqlService m_service; // used by background validation
+  private volatile String m_name;
+  private volatile int m_poolSize;
+  private volatile long m_connectionLifetime;
+  private volatile long m_connectionBusyTimeout;
+  private final AtomicBoolean m_initialized = new AtomicBoolean(false);
+  /*
+   * OpenTelemetry
+   */
+  private DoubleHistogram m_connectionWaitTime;
+  private Attributes m_defaultAttributes;
+
+  @Override
+  public void initialize(String name, int poolSize, long connectionLifetime, long connectionBusyTimeout) {
+    Assertions.assertTrue(m_initialized.compareAndSet(false, true), "already initialized");
+    m_name = name;
+    m_poolSize = poolSize;
+    m_connectionLifetime = connectionLifetime;
+    m_connectionBusyTimeout = connectionBusyTimeout;
+    m_stripes = createStripes(poolSize);
+    startManagePool();
+    initMetrics();
+  }
+
+  protected Stripe[] createStripes(int poolSize) {
+    int stripeCount = Math.max(1, Math.min(poolSize, Runtime.getRuntime().availableProcessors()));
+    Stripe[] stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe();
+    }
+    return stripes;
+  }
+
+  /**
+   * Start managing pool
+   */
+  private void startManagePool() {
+    Jobs.schedule(this::managePool, Jobs.newInput()
+        .withName("Managing SQL connection pool for {}", m_name)
+        .withExecutionHint(m_identity)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(HOUSEKEEPING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS))));
+  }
+
+  /**
+   * @see <a href=
+   *      "https://opentelemetry.io/docs/specs/otel/metrics/semantic_conventions/database-metrics/">OpenTelemetry:
+   *      Semantic Conventions for Database Metrics</a>
+   */
+  private void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter("scout.SqlConnectionPool");
+
+    ObservableLongMeasurement connectionsUsage = meter.upDownCounterBuilder("db.client.connections.usage")
+        .setDescription("The number of connections that are currently in state described by the state attribute.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement maxConnections = meter.upDownCounterBuilder("db.client.connections.max")
+        .setDescription("The maximum number of open connections allowed.")
+        .setUnit("{connection}")
+        .buildObserver();
+    ObservableLongMeasurement pendingRequests = meter.upDownCounterBuilder("db.client.connections.pending_requests")
+        .setDescription("The number of pending requests for an open connection, cumulative for the entire pool.")
+        .setUnit("{request}")
+        .buildObserver();
+    // same instrument as SqlConnectionPool, bucket boundaries are provided by SqlConnectionPool.WaitTimeHistogramViewHintProvider
+    m_connectionWaitTime = meter.histogramBuilder(OTEL_METRIC_DB_CLIENT_CONNECTIONS_WAIT_TIME)
+        .setUnit("ms")
+        .setDescription("The time it took to obtain an open connection from the pool.")
+        .build();
+
+    m_defaultAttributes = Attributes.of(POOL_NAME, m_name);
+    Attributes idleConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "idle").build();
+    Attributes usedConnectionsAttributes = m_defaultAttributes.toBuilder().put(CONNECTION_STATE, "used").build();
+    //noinspection resource
+    meter.batchCallback(() -> {
+      connectionsUsage.record(m_idleCount.get(), idleConnectionsAttributes);
+      connectionsUsage.record(m_busyEntries.size(), usedConnectionsAttributes);
+      maxConnections.record(m_poolSize, m_defaultAttributes);
+      pendingRequests.record(m_pendingCount.get(), m_defaultAttributes);
+    },
+        connectionsUsage,
+        maxConnections,
+        pendingRequests);
+  }
+
+  @Override
+  public Connection leaseConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    final long startTime = System.nanoTime();
+    assertNotDestroyed();
+    if (m_service != service) {
+      m_service = service;
+    }
+
+    int stripeIndex = getStripeIndex();
+    PoolEntry candidate = null;
+    while (candidate == null) {
+      candidate = pollIdle(stripeIndex);
+      if (candidate == null) {
+        candidate = tryCreateEntry(service);
+      }
+      if (candidate == null) {
+        candidate = awaitHandOff(stripeIndex);
+      }
+      if (candidate != null) {
+        candidate = testOnLease(service, candidate);
+      }
+    }
+    candidate.stripe = stripeIndex;
+    candidate.leaseBegin = System.currentTimeMillis();
+    candidate.leaseCount++;
+    m_busyEntries.put(candidate.conn, candidate);
+    LOG.debug("lease   {}", candidate.conn);
+    m_connectionWaitTime.record(TimingUtility.msElapsed(startTime), m_defaultAttributes);
+    return candidate.conn;
+  }
+
+  @Override
+  public void releaseConnection(Connection conn) {
+    LOG.debug("release {}", conn);
+    assertNotDestroyed();
+
+    PoolEntry candidate = m_busyEntries.remove(conn);
+    if (candidate == null) {
+      // unknown connection or evicted because of busy timeout
+      LOG.warn("closing dirty connection: {}", conn);
+      try {
+        conn.close();
+      }
+      catch (SQLException e) {
+        // ignored
+      }
+      return;
+    }
+    if (!isReusable(candidate.conn)) {
+      LOG.warn("closing dirty connection: {}", conn);
+      discardEntry(candidate, "dirty connection");
+      return;
+    }
+    candidate.leaseBegin = 0;
+    candidate.lastValidated = System.currentTimeMillis();
+    offerIdle(candidate);
+  }
+
+  /**
+   * Sessions are mapped to a fixed stripe (affinity); jobs without a session are mapped by thread.
+   */
+  protected int getStripeIndex() {
+    ISession session = ISession.CURRENT.get();
+    String sessionId = session != null ? session.getId() : null;
+    int hash = sessionId != null ? sessionId.hashCode() : Long.hashCode(Thread.currentThread().getId());
+    return Math.floorMod(hash, m_stripes.length);
+  }
+
+  /**
+   * @return an idle entry, preferably of the given stripe, or null if no entry is idle
+   */
+  protected PoolEntry pollIdle(int stripeIndex) {
+    Stripe[] stripes = m_stripes;
+    for (int i = 0; i < stripes.length; i++) {
+      PoolEntry entry = stripes[(stripeIndex + i) % stripes.length].m_idleEntries.pollFirst();
+      if (entry != null) {
+        m_idleCount.decrementAndGet();
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @return a new entry or null if the pool has reached its maximum size
+   */
+  protected PoolEntry tryCreateEntry(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    int count;
+    do {
+      count = m_totalCount.get();
+      if (count >= m_poolSize) {
+        return null;
+      }
+    }
+    while (!m_totalCount.compareAndSet(count, count + 1));
+
+    boolean success = false;
+    try {
+      PoolEntry entry = new PoolEntry();
+      entry.conn = createConnection(service);
+      LOG.info("created jdbc connection {}", entry.conn);
+      service.callbackAfterConnectionCreated(entry.conn);
+      entry.createTime = System.currentTimeMillis();
+      entry.lastValidated = entry.createTime;
+      success = true;
+      return entry;
+    }
+    finally {
+      if (!success) {
+        m_totalCount.decrementAndGet();
+      }
+    }
+  }
+
+  protected Connection createConnection(AbstractSqlService service) throws ClassNotFoundException, SQLException {
+    return new SqlConnectionBuilder().createJdbcConnection(service);
+  }
+
+  /**
+   * Waits until a released connection is handed over to the current thread.
+   *
+   * @return the handed over entry or null if the pool has free capacity again and the caller should retry
+   */
+  protected PoolEntry awaitHandOff(int stripeIndex) {
+    Waiter waiter = new Waiter(Thread.currentThread());
+    m_waiters.offer(waiter);
+    m_pendingCount.incrementAndGet();
+    try {
+      // re-check after enqueueing, an entry may have been released in between
+      PoolEntry entry = pollIdle(stripeIndex);
+      if (entry != null) {
+        if (waiter.cancel()) {
+          return entry;
+        }
+        // another entry was handed over concurrently
+        offerIdle(entry);
+        return waiter.getEntry();
+      }
+
+      while (true) {
+        waiter.clearSignal();
+        entry = waiter.getEntry();
+        if (entry != null) {
+          return entry;
+        }
+        if (isDestroyed() && waiter.cancel()) {
+          assertNotDestroyed();
+        }
+        if (m_totalCount.get() < m_poolSize && waiter.cancel()) {
+          // a connection was discarded, retry to create a new one
+          return null;
+        }
+        LockSupport.parkNanos(this, WAIT_SLICE_NANOS);
+        if (Thread.interrupted()) {
+          Thread.currentThread().interrupt(); // Restore the thread's interrupted status
+          if (!waiter.cancel()) {
+            offerIdle(waiter.getEntry());
+          }
+          throw new ThreadInterruptedError("Interrupted while leasing database connection");
+        }
+      }
+    }
+    finally {
+      m_waiters.remove(waiter);
+      m_pendingCount.decrementAndGet();
+    }
+  }
+
+  /**
+   * Tests the connection of the given entry if it was not validated recently.
+   *
+   * @return the entry or null if the connection is dirty and was discarded
+   */
+  protected PoolEntry testOnLease(AbstractSqlService service, PoolEntry entry) {
+    long now = System.currentTimeMillis();
+    if (now - entry.lastValidated <= HOUSEKEEPING_INTERVAL_MILLIS) {
+      return entry;
+    }
+    try {
+      service.callbackTestConnection(entry.conn);
+      entry.lastValidated = now;
+      return entry;
+    }
+    catch (Exception e) {
+      LOG.warn("closing dirty connection: {}", entry.conn, e);
+      discardEntry(entry, "dirty connection");
+      return null;
+    }
+  }
+
+  /**
+   * Hands the given entry over to the next waiting thread or pushes it onto the idle stack of its stripe.
+   */
+  protected void offerIdle(PoolEntry entry) {
+    while (entry != null) {
+      if (handOff(entry)) {
+        return;
+      }
+      m_stripes[entry.stripe].m_idleEntries.offerFirst(entry);
+      m_idleCount.incrementAndGet();
+      // a thread may have started waiting after the hand off attempt above
+      entry = m_waiters.isEmpty() ? null : pollIdle(entry.stripe);
+    }
+  }
+
+  protected boolean handOff(PoolEntry entry) {
+    Waiter waiter;
+    while ((waiter = m_waiters.poll()) != null) {
+      if (waiter.offer(entry)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected boolean isReusable(Connection conn) {
+    try {
+      if (conn.isClosed()) {
+        return false;
+      }
+      if (conn.getWarnings() != null) {
+        /*
+         * connection is normally valid again after clearing the warnings.
+         * Since oracle is not supporting warnings, the subsequent call has no effect!
+         */
+        conn.clearWarnings();
+      }
+      return true;
+    }
+    catch (Exception e) {
+      return false;
+    }
+  }
+
+  /**
+   * Removes the entry from the pool and closes its connection. A waiting thread is woken up to create a new connection.
+   */
+  protected void discardEntry(PoolEntry entry, String reason) {
+    m_totalCount.decrementAndGet();
+    closeConnectionAsync(entry.conn, reason);
+    entry.conn = null;
+    signalWaiter();
+  }
+
+  /**
+   * Wakes up the first thread which is still waiting and was not signalled yet. Threads which gave up waiting (e.g.
+   * interrupted) may still be queued and are skipped.
+   */
+  protected void signalWaiter() {
+    for (Waiter waiter : m_waiters) {
+      if (waiter.signal()) {
+        return;
+      }
+    }
+  }
+
+  @Override
+  public String getInventory() {
+    StringBuilder buf = new StringBuilder();
+    SimpleDateFormat fmt = new SimpleDateFormat("dd.MM.yyyy HH:mm:ss.SSSS");
+    buf.append("Total connections: ").append(m_totalCount.get());
+    buf.append("\n");
+    buf.append("Busy: ").append(m_busyEntries.size());
+    buf.append("\n");
+    for (PoolEntry e : m_busyEntries.values()) {
+      buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount).append(", leaseBegin=")
+          .append(fmt.format(new Date(e.leaseBegin)));
+      buf.append("\n");
+    }
+    buf.append("Idle: ").append(m_idleCount.get());
+    buf.append("\n");
+    Stripe[] stripes = m_stripes;
+    if (stripes != null) {
+      for (Stripe stripe : stripes) {
+        for (PoolEntry e : stripe.m_idleEntries) {
+          buf.append("  class=").append(e.conn.getClass().getName()).append(", created=").append(fmt.format(new Date(e.createTime))).append(", leaseCount=").append(e.leaseCount);
+          buf.append("\n");
+        }
+      }
+    }
+    buf.append("Pending: ").append(m_pendingCount.get());
+    buf.append("\n");
+    return buf.toString();
+  }
+
+  /**
+   * Thread worker to manage pool: closes expired idle connections and timed out busy connections and validates idle
+   * connections.
+   */
+  protected void managePool() {
+    try {
+      if (isDestroyed()) {
+        return;
+      }
+      long now = System.currentTimeMillis();
+      AbstractSqlService service = m_service;
+
+      for (Stripe stripe : m_stripes) {
+        for (PoolEntry e : stripe.m_idleEntries) {
+          boolean expired = now - e.createTime > m_connectionLifetime;
+          boolean validate = service != null && now - e.lastValidated > HOUSEKEEPING_INTERVAL_MILLIS;
+          if (!expired && !validate) {
+            continue;
+          }
+          if (!stripe.m_idleEntries.removeFirstOccurrence(e)) {
+            continue; // leased in the meantime
+          }
+          m_idleCount.decrementAndGet();
+          if (expired) {
+            discardEntry(e, "expired idle connection");
+            continue;
+          }
+          try {
+            service.callbackTestConnection(e.conn);
+            e.lastValidated = now;
+            offerIdle(e);
+          }
+          catch (Exception ex) {
+            LOG.warn("closing dirty connection: {}", e.conn, ex);
+            discardEntry(e, "dirty connection");
+          }
+        }
+      }
+
+      for (PoolEntry e : m_busyEntries.values()) {
+        if (now - e.leaseBegin > m_connectionBusyTimeout && m_busyEntries.remove(e.conn, e)) {
+          discardEntry(e, "timed out busy connection");
+        }
+      }
+    }
+    catch (Exception t) {
+      LOG.warn("Unexpected Problem while managing SQL connection pool", t);
+    }
+  }
+
+  protected void assertNotDestroyed() {
+    Assertions.assertFalse(isDestroyed(), "{} not available because destroyed.", getClass().getSimpleName());
+  }
+
+  @Override
+  public boolean isDestroyed() {
+    return m_destroyed.get();
+  }
+
+  @Override
+  public void destroy() {
+    if (!m_destroyed.compareAndSet(false, true)) {
+      return;
+    }
+
+    // Cancel jobs.
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identity)
+        .toFilter(), true);
+
+    Stripe[] stripes = m_stripes;
+    if (stripes != null) {
+      for (Stripe stripe : stripes) {
+        PoolEntry idleEntry;
+        while ((idleEntry = stripe.m_idleEntries.pollFirst()) != null) {
+          m_idleCount.decrementAndGet();
+          closeConnectionAsync(idleEntry.conn, "destroying SQL connection pool");
+        }
+      }
+    }
+
+    for (PoolEntry busyEntry : m_busyEntries.values()) {
+      closeConnectionAsync(busyEntry.conn, "destroying SQL connection pool");
+    }
+    m_busyEntries.clear();
+
+    // wake up waiting threads, they fail because the pool is destroyed
+    for (Waiter waiter : m_waiters) {
+      LockSupport.unpark(waiter.m_thread);
+    }
+  }
+
+  protected void closeConnectionAsync(final Connection connection, final String reason) {
+    Jobs.schedule(() -> {
+      LOG.info("Closing SQL connection {}", connection);
+      try {
+        connection.close();
+      }
+      catch (SQLException e) {
+        LOG.error("Failed to close SQL connection [connection={}]", connection, e);
+      }
+    }, Jobs.newInput()
+        .withName("Closing SQL connection [name={}, connection={}, reason={}]", m_name, connection, reason)
+        .withExecutionHint(m_identity));
+  }
+
+  protected static class Stripe {
+    /**
+     * Used as a stack (LIFO) so that recently used connections are preferred.
+     */
+    private final ConcurrentLinkedDeque<PoolEntry> m_idleEntries = new ConcurrentLinkedDeque<>();
+  }
+
+  /**
+   * A thread waiting for a connection. The state is either <code>null</code> (waiting), the handed over
+   * {@link PoolEntry} or {@link #CANCELLED}.
+   */
+  protected static class Waiter {
+    private static final Object CANCELLED = new Object();
+
+    private final Thread m_thread;
+    private final AtomicReference<Object> m_state = new AtomicReference<>();
+    private final AtomicBoolean m_signalled = new AtomicBoolean(false);
+
+    protected Waiter(Thread thread) {
+      m_thread = thread;
+    }
+
+    protected boolean offer(PoolEntry entry) {
+      if (m_state.compareAndSet(null, entry)) {
+        LockSupport.unpark(m_thread);
+        return true;
+      }
+      return false;
+    }
+
+    protected boolean cancel() {
+      return m_state.compareAndSet(null, CANCELLED);
+    }
+
+    /**
+     * Wakes up the thread if it is still waiting and was not signalled since it last checked the pool, see
+     * {@link #clearSignal()}.
+     *
+     * @return <code>true</code> if the thread was woken up
+     */
+    protected boolean signal() {
+      if (m_state.get() == null && m_signalled.compareAndSet(false, true)) {
+        LockSupport.unpark(m_thread);
+        return true;
+      }
+      return false;
+    }
+
+    /**
+     * Called by the waiting thread before it checks the pool again.
+     */
+    protected void clearSignal() {
+      m_signalled.set(false);
+    }
+
+    protected PoolEntry getEntry() {
+      Object state = m_state.get();
+      return state instanceof PoolEntry ? (PoolEntry) state : null;
+    }
+  }
+}
@@ -9,7 +9,12 @@
  */
 package org.eclipse.scout.rt.server.jdbc.lookup;
 
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -19,6 +24,8 @@ import org.eclipse.scout.rt.platform.annotations.ConfigOperation;
 import org.eclipse.scout.rt.platform.annotations.ConfigProperty;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.holders.NVPair;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.platform.text.TEXTS;
 import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
@@ -29,6 +36,7 @@ import org.eclipse.scout.rt.server.services.lookup.AbstractLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.IMultiKeyLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,12 +60,23 @@ import org.slf4j.LoggerFactory;
  * <p>
  * Valid bind names are: Object key, String text, String all, Object rec, {@link TriState} active<br>
  * Valid xml tags are: &lt;key&gt;, &lt;text&gt;, &lt;all&gt;, &lt;rec&gt;
+ * <p>
+ * Lookups by several keys (see {@link IMultiKeyLookupService}) are executed with a single statement: within the
+ * &lt;key&gt; tag, the bind <code>:key</code> is replaced by the array bind <code>:keys</code>. Therefore a condition
+ * like <code>&lt;key&gt;AND ID = :key&lt;/key&gt;</code> becomes an IN list.
  */
-public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> {
+public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<T> implements IMultiKeyLookupService<T> {
+
+  /**
+   * Name of the array bind holding all keys of a lookup by several keys.
+   */
+  public static final String KEYS_BIND_NAME = "keys";
 
   @SuppressWarnings("bsiRulesDefinition:htmlInString")
   private static final Pattern REFUSING_ALL_TAGS_REGEX = Pattern.compile("<all>\\s*and\\s*([0-9]+)\\s*=\\s*([0-9]+)\\s*</all>", Pattern.DOTALL);
 
+  private static final Pattern KEY_BIND_REGEX = Pattern.compile(":key(?![\\w.])");
+
   private static final Logger LOG = LoggerFactory.getLogger(AbstractSqlLookupService.class);
 
   /**
@@ -78,6 +97,16 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return 1;
   }
 
+  /**
+   * Defines whether a lookup by several keys is executed with a single statement. If <code>false</code>, or if the
+   * &lt;key&gt; tag does not contain the bind <code>:key</code>, every key is looked up separately.
+   */
+  @ConfigProperty(ConfigProperty.BOOLEAN)
+  @Order(30)
+  protected boolean getConfiguredMultiKeyLookup() {
+    return true;
+  }
+
   /**
    * This method is called on server side to load lookup rows.
    */
@@ -85,6 +114,27 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
   @Order(10)
   protected List<ILookupRow<T>> execLoadLookupRows(String originalSql, String preprocessedSql, ILookupCall<T> call) {
     Object[][] data = SQL.selectLimited(preprocessedSql, call.getMaxRowCount(), call);
+    return createLookupRows(data, call);
+  }
+
+  /**
+   * This method is called on server side to load lookup rows of several keys at once.
+   *
+   * @param keys
+   *          array bound as {@link #KEYS_BIND_NAME}
+   */
+  @ConfigOperation
+  @Order(20)
+  protected List<ILookupRow<T>> execLoadLookupRowsByKeys(String originalSql, String preprocessedSql, ILookupCall<T> call, Object keys) {
+    int maxRowCount = 0;
+    if (call.getMaxRowCount() > 0) {
+      maxRowCount = (int) Math.min(Integer.MAX_VALUE, (long) call.getMaxRowCount() * Array.getLength(keys));
+    }
+    Object[][] data = SQL.selectLimited(preprocessedSql, maxRowCount, new NVPair(KEYS_BIND_NAME, keys), call);
+    return createLookupRows(data, call);
+  }
+
+  protected List<ILookupRow<T>> createLookupRows(Object[][] data, ILookupCall<T> call) {
     if (getConfiguredSortColumn() >= 0) {
       sortData(data, getConfiguredSortColumn());
     }
@@ -114,6 +164,59 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return execLoadLookupRows(sql, filterSqlByKey(sql), call);
   }
 
+  @Override
+  public Map<T, List<ILookupRow<T>>> getDataByKeys(ILookupCall<T> call, Collection<T> keys) {
+    Map<T, List<ILookupRow<T>>> result = new HashMap<>();
+    if (keys == null || keys.isEmpty()) {
+      return result;
+    }
+    String sql = getConfiguredSqlSelect();
+    String preprocessedSql = isMultiKeyLookupEnabled() ? filterSqlByKeys(sql) : null;
+    if (preprocessedSql == null) {
+      for (T key : keys) {
+        ILookupCall<T> keyCall = call.copy();
+        keyCall.setKey(key);
+        result.put(key, new ArrayList<>(getDataByKey(keyCall)));
+      }
+      return result;
+    }
+
+    // keys of the loaded rows are converted to the key class, map them back to the requested keys
+    Class<?> keyClass = determineGenericsParameterClass();
+    Object keyArray = Array.newInstance(keyClass, keys.size());
+    Map<Object, T> requestedKeys = new HashMap<>();
+    int i = 0;
+    for (T key : keys) {
+      Object typedKey = TypeCastUtility.castValue(key, keyClass);
+      Array.set(keyArray, i++, typedKey);
+      requestedKeys.put(typedKey, key);
+    }
+    ILookupCall<T> keysCall = call.copy();
+    keysCall.setKey(null);
+    for (ILookupRow<T> row : execLoadLookupRowsByKeys(sql, preprocessedSql, keysCall, keyArray)) {
+      T key = requestedKeys.getOrDefault(row.getKey(), row.getKey());
+      result.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+    }
+    return result;
+  }
+
+  /**
+   * @return <code>true</code> if lookups by several keys may be executed with a single statement. This is not the case
+   *         if the lookup by a single key is customized, because such customizations would not be applied.
+   */
+  protected boolean isMultiKeyLookupEnabled() {
+    if (!getConfiguredMultiKeyLookup()) {
+      return false;
+    }
+    Class<?> implementationType = getClass();
+    if (ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "getDataByKey", new Class[]{ILookupCall.class}, implementationType)
+        || ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "filterSqlByKey", new Class[]{String.class}, implementationType)) {
+      return false;
+    }
+    return !ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "execLoadLookupRows", new Class[]{String.class, String.class, ILookupCall.class}, implementationType)
+        || ConfigurationUtility.isMethodOverwrite(AbstractSqlLookupService.class, "execLoadLookupRowsByKeys", new Class[]{String.class, String.class, ILookupCall.class, Object.class}, implementationType);
+  }
+
   @Override
   public List<ILookupRow<T>> getDataByText(ILookupCall<T> call) {
     // change wildcards in text to db specific wildcards
@@ -151,6 +254,23 @@ public abstract class AbstractSqlLookupService<T> extends AbstractLookupService<
     return StringUtility.removeTagBounds(StringUtility.removeTags(sqlSelect, new String[]{"text", "all", "rec"}), "key");
   }
 
+  /**
+   * Process xml tags.<br>
+   * Keep content of "key" tag and replace the bind <code>:key</code> by <code>:keys</code>.<br>
+   * Remove text,all,rec tags.
+   *
+   * @return <code>null</code> if the statement cannot be used for several keys, i.e. if the "key" tag does not contain
+   *         the bind <code>:key</code> or if the bind is used outside of the "key" tag.
+   */
+  protected String filterSqlByKeys(String sqlSelect) {
+    String sql = StringUtility.removeTags(sqlSelect, new String[]{"text", "all", "rec"});
+    String keyTagContent = StringUtility.getTag(sql, "key");
+    if (keyTagContent == null || !KEY_BIND_REGEX.matcher(keyTagContent).find() || KEY_BIND_REGEX.matcher(StringUtility.removeTag(sql, "key")).find()) {
+      return null;
+    }
+    return StringUtility.replaceTags(sql, "key", (tagName, tagContent) -> KEY_BIND_REGEX.matcher(tagContent).replaceAll(":" + KEYS_BIND_NAME));
+  }
+
   /**
    * Process xml tags.<br>
    * Keep content of "text" tag.<br>
@@ -67,4 +67,12 @@ public class MSSQLSqlStyle extends AbstractSqlStyle {
       testStatement.execute("SELECT 1");
     }
   }
+
+  /**
+   * SQL Server requires an <code>OFFSET</code> for <code>FETCH</code> (SQL Server 2012 or newer).
+   */
+  @Override
+  public String createPagingClause(String offsetBindName, String limitBindName) {
+    return "OFFSET " + (offsetBindName == null ? "0" : adaptBindName(offsetBindName)) + " ROWS FETCH NEXT " + adaptBindName(limitBindName) + " ROWS ONLY";
+  }
 }
@@ -119,4 +119,12 @@ public class MySqlSqlStyle extends AbstractSqlStyle {
   public String createNotContains(String attribute, String bindName) {
     return UPPERCASE_SQL_METHOD + attribute + ") not like " + UPPERCASE_SQL_METHOD + CONCATENATE_SQL_METHOD + SQL_ANY + "," + adaptBindName(bindName) + "," + SQL_ANY + "))";
   }
+
+  @Override
+  public String createPagingClause(String offsetBindName, String limitBindName) {
+    if (offsetBindName == null) {
+      return "LIMIT " + adaptBindName(limitBindName);
+    }
+    return "LIMIT " + adaptBindName(limitBindName) + " OFFSET " + adaptBindName(offsetBindName);
+  }
 }
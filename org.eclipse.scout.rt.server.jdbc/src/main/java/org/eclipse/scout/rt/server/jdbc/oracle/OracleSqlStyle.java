@@ -55,6 +55,14 @@ public class OracleSqlStyle extends AbstractSqlStyle {
     return true;
   }
 
+  /**
+   * The Oracle (12c and later) JDBC driver reports the exact number of affected rows for every batch element.
+   */
+  @Override
+  public boolean isBatchUpdateSupported() {
+    return true;
+  }
+
   @Override
   public void testConnection(Connection conn) throws SQLException {
     try (Statement testStatement = conn.createStatement()) {
@@ -10,31 +10,52 @@
 package org.eclipse.scout.rt.server.jdbc.parsers;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.eclipse.scout.rt.server.jdbc.parsers.token.FunctionInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.IToken;
+import org.eclipse.scout.rt.server.jdbc.parsers.token.TextToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueInputToken;
 import org.eclipse.scout.rt.server.jdbc.parsers.token.ValueOutputToken;
 
 public class BindModel {
   private final IToken[] m_allTokens;
   private final IToken[] m_ioTokens;
+  /**
+   * Positions of the tokens which are modified while processing a statement (all but {@link TextToken}s).
+   */
+  private final int[] m_mutableTokenIndexes;
+  /**
+   * Positions of the {@link #m_ioTokens} in {@link #m_allTokens}.
+   */
+  private final int[] m_ioTokenIndexes;
 
   public BindModel(IToken[] tokens) {
     m_allTokens = tokens;
     ArrayList<IToken> ioList = new ArrayList<>();
-    for (IToken token : tokens) {
-      if (token instanceof ValueInputToken) {
+    int[] mutableTokenIndexes = new int[tokens.length];
+    int[] ioTokenIndexes = new int[tokens.length];
+    int mutableCount = 0;
+    for (int i = 0; i < tokens.length; i++) {
+      IToken token = tokens[i];
+      if (token instanceof ValueInputToken || token instanceof FunctionInputToken || token instanceof ValueOutputToken) {
+        ioTokenIndexes[ioList.size()] = i;
         ioList.add(token);
       }
-      else if (token instanceof FunctionInputToken) {
-        ioList.add(token);
-      }
-      else if (token instanceof ValueOutputToken) {
-        ioList.add(token);
+      if (!(token instanceof TextToken)) {
+        mutableTokenIndexes[mutableCount++] = i;
       }
     }
     m_ioTokens = ioList.toArray(new IToken[0]);
+    m_mutableTokenIndexes = Arrays.copyOf(mutableTokenIndexes, mutableCount);
+    m_ioTokenIndexes = Arrays.copyOf(ioTokenIndexes, m_ioTokens.length);
+  }
+
+  private BindModel(IToken[] allTokens, IToken[] ioTokens, int[] mutableTokenIndexes, int[] ioTokenIndexes) {
+    m_allTokens = allTokens;
+    m_ioTokens = ioTokens;
+    m_mutableTokenIndexes = mutableTokenIndexes;
+    m_ioTokenIndexes = ioTokenIndexes;
   }
 
   public IToken[] getAllTokens() {
@@ -45,6 +66,26 @@ public class BindModel {
     return m_ioTokens;
   }
 
+  /**
+   * @return a model which may be modified (replace tokens, plain flags) without affecting this model. Only the tokens
+   *         which are modified while processing a statement are copied, {@link TextToken}s are shared. A model without
+   *         such tokens is returned as is.
+   */
+  public BindModel copy() {
+    if (m_mutableTokenIndexes.length == 0) {
+      return this;
+    }
+    IToken[] tokens = m_allTokens.clone();
+    for (int i : m_mutableTokenIndexes) {
+      tokens[i] = tokens[i].copy();
+    }
+    IToken[] ioTokens = new IToken[m_ioTokenIndexes.length];
+    for (int i = 0; i < ioTokens.length; i++) {
+      ioTokens[i] = tokens[m_ioTokenIndexes[i]];
+    }
+    return new BindModel(tokens, ioTokens, m_mutableTokenIndexes, m_ioTokenIndexes);
+  }
+
   public String getFilteredStatement() {
     StringBuilder b = new StringBuilder();
     for (IToken m_allToken : m_allTokens) {
@@ -27,4 +27,19 @@ public class IntoModel {
   public String getFilteredStatement() {
     return m_filteredStatement;
   }
+
+  /**
+   * @return a model with copies of all into tokens. The copy may be modified without affecting this model. A model
+   *         without into tokens is returned as is.
+   */
+  public IntoModel copy() {
+    if (m_intoTokens.length == 0) {
+      return this;
+    }
+    ValueOutputToken[] tokens = new ValueOutputToken[m_intoTokens.length];
+    for (int i = 0; i < tokens.length; i++) {
+      tokens[i] = m_intoTokens[i].copy();
+    }
+    return new IntoModel(m_filteredStatement, tokens);
+  }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.parsers;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.server.jdbc.SqlConfigProperties.SqlParsedStatementCacheSizeProperty;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * Bounded cache of the bind and 'select into' parse results of SQL statements, keyed by the original statement text.
+ * <p>
+ * Parsing is a pure function of the statement text, therefore the result is shared by all SQL services. Since the
+ * statement processor modifies the bind tokens (replace tokens, plain flags), {@link #get(String)} returns copies of
+ * them. The plain text tokens are never modified and are shared, a statement without binds is returned as is.
+ * <p>
+ * The size is limited by {@link SqlParsedStatementCacheSizeProperty}, least recently used statements are evicted
+ * first. A size of 0 disables the cache.
+ */
+@ApplicationScoped
+public class ParsedStatementCache {
+
+  protected static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+  private final int m_maxSize;
+  private final Map<String, ParsedStatement> m_cache;
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+
+  public ParsedStatementCache() {
+    this(CONFIG.getPropertyValue(SqlParsedStatementCacheSizeProperty.class));
+  }
+
+  protected ParsedStatementCache(int maxSize) {
+    m_maxSize = maxSize;
+    m_cache = maxSize > 0 ? new ConcurrentExpiringMap<>(0, TimeUnit.MILLISECONDS, maxSize) : null;
+    initMetrics();
+  }
+
+  protected void initMetrics() {
+    Meter meter = GlobalOpenTelemetry.get().getMeter(getClass().getName());
+    ObservableLongMeasurement requests = meter.counterBuilder("scout.sql.parsed_statement_cache.requests")
+        .setDescription("The number of parsed statement lookups, differentiated by hit or miss.")
+        .setUnit("{request}")
+        .buildObserver();
+    ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.sql.parsed_statement_cache.size")
+        .setDescription("The number of statements currently held in the parsed statement cache.")
+        .setUnit("{statement}")
+        .buildObserver();
+    Attributes hitAttributes = Attributes.of(RESULT, "hit");
+    Attributes missAttributes = Attributes.of(RESULT, "miss");
+    //noinspection resource
+    meter.batchCallback(() -> {
+      requests.record(getHitCount(), hitAttributes);
+      requests.record(getMissCount(), missAttributes);
+      size.record(size());
+    },
+        requests,
+        size);
+  }
+
+  /**
+   * @return parse result of the given statement. The bind tokens of the returned models are private to the caller and
+   *         may be modified.
+   */
+  public ParsedStatement get(String stm) {
+    if (m_cache == null) {
+      m_missCount.increment();
+      return parse(stm);
+    }
+    ParsedStatement template = m_cache.get(stm);
+    if (template != null) {
+      m_hitCount.increment();
+    }
+    else {
+      m_missCount.increment();
+      // concurrent misses of the same statement parse twice, the result is identical
+      template = parse(stm);
+      m_cache.put(stm, template);
+    }
+    return template.copy();
+  }
+
+  protected ParsedStatement parse(String stm) {
+    IntoModel intoModel = new IntoParser(stm).parse();
+    BindModel bindModel = new BindParser(intoModel.getFilteredStatement()).parse();
+    return new ParsedStatement(intoModel, bindModel);
+  }
+
+  public int getMaxSize() {
+    return m_maxSize;
+  }
+
+  public int size() {
+    return m_cache != null ? m_cache.size() : 0;
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  public void clear() {
+    if (m_cache != null) {
+      m_cache.clear();
+    }
+  }
+
+  /**
+   * Parse result of a statement: the 'select into' model of the original statement and the bind model of the statement
+   * without 'into' clauses.
+   */
+  public static class ParsedStatement {
+    private final IntoModel m_intoModel;
+    private final BindModel m_bindModel;
+
+    public ParsedStatement(IntoModel intoModel, BindModel bindModel) {
+      m_intoModel = intoModel;
+      m_bindModel = bindModel;
+    }
+
+    public IntoModel getIntoModel() {
+      return m_intoModel;
+    }
+
+    public BindModel getBindModel() {
+      return m_bindModel;
+    }
+
+    /**
+     * @return a parse result whose tokens may be modified without affecting this one, see {@link BindModel#copy()}
+     */
+    public ParsedStatement copy() {
+      IntoModel intoModel = m_intoModel.copy();
+      BindModel bindModel = m_bindModel.copy();
+      if (intoModel == m_intoModel && bindModel == m_bindModel) {
+        return this;
+      }
+      return new ParsedStatement(intoModel, bindModel);
+    }
+  }
+}
@@ -51,6 +51,13 @@ public class DatabaseSpecificToken implements IToken {
     m_replaceToken = s;
   }
 
+  @Override
+  public DatabaseSpecificToken copy() {
+    DatabaseSpecificToken t = new DatabaseSpecificToken(m_parsedToken, m_name);
+    t.m_replaceToken = m_replaceToken;
+    return t;
+  }
+
   public String getName() {
     return m_name;
   }
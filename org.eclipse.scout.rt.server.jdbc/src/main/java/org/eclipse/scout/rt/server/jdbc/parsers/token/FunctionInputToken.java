@@ -61,6 +61,14 @@ public class FunctionInputToken implements IToken {
     m_replaceToken = s;
   }
 
+  @Override
+  public FunctionInputToken copy() {
+    FunctionInputToken t = new FunctionInputToken(m_parsedToken, m_name, m_args, m_plainValue, m_plainSql);
+    t.m_replaceToken = m_replaceToken;
+    t.m_plainToken = m_plainToken;
+    return t;
+  }
+
   public String getName() {
     return m_name;
   }
@@ -20,4 +20,10 @@ public interface IToken {
   boolean isInput();
 
   boolean isOutput();
+
+  /**
+   * @return a token with the same parse state that can be modified independently of this token. Immutable tokens may
+   *         return themselves.
+   */
+  IToken copy();
 }
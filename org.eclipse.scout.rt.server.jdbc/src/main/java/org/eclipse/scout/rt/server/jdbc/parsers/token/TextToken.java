@@ -41,6 +41,11 @@ public class TextToken implements IToken {
     throw new IllegalArgumentException("Cannot replace content of a TextToken");
   }
 
+  @Override
+  public TextToken copy() {
+    return this;
+  }
+
   @Override
   public String toString() {
     return "TextToken[" + m_parsedToken + "]";
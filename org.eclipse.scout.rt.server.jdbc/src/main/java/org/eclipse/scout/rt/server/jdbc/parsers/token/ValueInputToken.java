@@ -43,6 +43,17 @@ public class ValueInputToken implements IToken {
     }
   }
 
+  protected ValueInputToken(ValueInputToken other) {
+    m_parsedToken = other.m_parsedToken;
+    m_parsedOp = other.m_parsedOp;
+    m_parsedAttribute = other.m_parsedAttribute;
+    m_replaceToken = other.m_replaceToken;
+    m_name = other.m_name;
+    m_plainValue = other.m_plainValue;
+    m_plainSql = other.m_plainSql;
+    m_batch = other.m_batch;
+  }
+
   @Override
   public boolean isInput() {
     return true;
@@ -73,6 +84,11 @@ public class ValueInputToken implements IToken {
     m_replaceToken = s;
   }
 
+  @Override
+  public ValueInputToken copy() {
+    return new ValueInputToken(this);
+  }
+
   public String getParsedOp() {
     return m_parsedOp;
   }
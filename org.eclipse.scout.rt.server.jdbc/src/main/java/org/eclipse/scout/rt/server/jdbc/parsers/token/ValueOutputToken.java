@@ -29,6 +29,14 @@ public class ValueOutputToken implements IToken {
     }
   }
 
+  protected ValueOutputToken(ValueOutputToken other) {
+    m_parsedToken = other.m_parsedToken;
+    m_replaceToken = other.m_replaceToken;
+    m_name = other.m_name;
+    m_batch = other.m_batch;
+    m_selectInto = other.m_selectInto;
+  }
+
   @Override
   public boolean isInput() {
     return false;
@@ -59,6 +67,11 @@ public class ValueOutputToken implements IToken {
     m_replaceToken = s;
   }
 
+  @Override
+  public ValueOutputToken copy() {
+    return new ValueOutputToken(this);
+  }
+
   public String getName() {
     return m_name;
   }
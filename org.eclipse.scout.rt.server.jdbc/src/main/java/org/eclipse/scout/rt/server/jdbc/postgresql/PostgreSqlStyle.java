@@ -79,6 +79,14 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
     return false;
   }
 
+  /**
+   * The PostgreSQL JDBC driver reports the exact number of affected rows for every batch element.
+   */
+  @Override
+  public boolean isBatchUpdateSupported() {
+    return true;
+  }
+
   @Override
   public boolean isLargeString(String s) {
     return (s.length() > MAX_SQL_STRING_LENGTH);
@@ -88,4 +96,39 @@ public class PostgreSqlStyle extends AbstractSqlStyle {
   protected int getMaxListSize() {
     return MAX_LIST_SIZE;
   }
+
+  @Override
+  public String createPagingClause(String offsetBindName, String limitBindName) {
+    if (offsetBindName == null) {
+      return "LIMIT " + adaptBindName(limitBindName);
+    }
+    return "LIMIT " + adaptBindName(limitBindName) + " OFFSET " + adaptBindName(offsetBindName);
+  }
+
+  /**
+   * Uses a row value comparison if all sort columns have the same direction, which PostgreSQL evaluates as a single
+   * index range scan.
+   */
+  @Override
+  public String createKeysetPredicate(String[] attributes, boolean[] ascending, String[] bindNames) {
+    if (attributes.length < 2 || attributes.length != ascending.length || attributes.length != bindNames.length) {
+      return super.createKeysetPredicate(attributes, ascending, bindNames);
+    }
+    for (boolean asc : ascending) {
+      if (asc != ascending[0]) {
+        return super.createKeysetPredicate(attributes, ascending, bindNames);
+      }
+    }
+    StringBuilder attributeList = new StringBuilder();
+    StringBuilder bindList = new StringBuilder();
+    for (int i = 0; i < attributes.length; i++) {
+      if (i > 0) {
+        attributeList.append(", ");
+        bindList.append(", ");
+      }
+      attributeList.append(attributes[i]);
+      bindList.append(adaptBindName(bindNames[i]));
+    }
+    return "(" + attributeList + ") " + (ascending[0] ? ">" : "<") + " (" + bindList + ")";
+  }
 }
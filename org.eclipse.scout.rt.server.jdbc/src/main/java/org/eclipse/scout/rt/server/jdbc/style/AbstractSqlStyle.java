@@ -29,6 +29,7 @@ import java.util.Collection;
 import java.util.Date;
 
 import org.eclipse.scout.rt.platform.holders.IHolder;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.TriState;
 import org.eclipse.scout.rt.platform.util.TypeCastUtility;
@@ -616,6 +617,33 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return attribute + " BETWEEN ((DATE_TRUNC('year', CURRENT_DATE)+ INTERVAL '" + adaptBindName(bindName) + " year') and (CURRENT_DATE + interval '" + adaptBindName(bindName) + " year') ";
   }
 
+  @Override
+  public String createPagingClause(String offsetBindName, String limitBindName) {
+    if (offsetBindName == null) {
+      return "FETCH FIRST " + adaptBindName(limitBindName) + " ROWS ONLY";
+    }
+    return "OFFSET " + adaptBindName(offsetBindName) + " ROWS FETCH NEXT " + adaptBindName(limitBindName) + " ROWS ONLY";
+  }
+
+  @Override
+  public String createKeysetPredicate(String[] attributes, boolean[] ascending, String[] bindNames) {
+    Assertions.assertTrue(attributes.length > 0 && attributes.length == ascending.length && attributes.length == bindNames.length, "attributes, ascending and bindNames must have the same non-zero length");
+    StringBuilder buf = new StringBuilder("(");
+    for (int i = 0; i < attributes.length; i++) {
+      if (i > 0) {
+        buf.append(" OR ");
+      }
+      buf.append('(');
+      for (int j = 0; j < i; j++) {
+        buf.append(createEQ(attributes[j], bindNames[j])).append(" AND ");
+      }
+      buf.append(ascending[i] ? createGT(attributes[i], bindNames[i]) : createLT(attributes[i], bindNames[i]));
+      buf.append(')');
+    }
+    buf.append(')');
+    return buf.toString();
+  }
+
   @Override
   public String createDateTimeBetween(String attribute, String bindName1, String bindName2) {
     return attribute + " BETWEEN TRUNC(" + adaptBindNameTimeDateOp(bindName1) + ",'MI') AND (TRUNC(" + adaptBindNameTimeDateOp(bindName2) + ",'MI')+(59/86400)) ";
@@ -1069,6 +1097,16 @@ public abstract class AbstractSqlStyle implements ISqlStyle {
     return adaptBindName(bindName);
   }
 
+  /**
+   * JDBC batch execution is disabled by default because some drivers report {@link java.sql.Statement#SUCCESS_NO_INFO}
+   * instead of the number of affected rows. Styles of databases whose drivers report exact update counts override this
+   * method.
+   */
+  @Override
+  public boolean isBatchUpdateSupported() {
+    return false;
+  }
+
   @Override
   public void commit() {
   }
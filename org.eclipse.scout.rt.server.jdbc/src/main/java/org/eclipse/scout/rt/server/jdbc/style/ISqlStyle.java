@@ -177,6 +177,16 @@ public interface ISqlStyle extends Serializable {
    */
   boolean isLargeString(String s);
 
+  /**
+   * flag signaling whether the driver supports JDBC batch execution (<code>addBatch/executeBatch</code>) of
+   * modification statements with batch binds. If <code>false</code>, every batch element is executed separately.
+   * <p>
+   * Only return <code>true</code> if the driver reports the exact number of affected rows for every batch element.
+   * {@link org.eclipse.scout.rt.server.jdbc.ISqlService#update(String, Object...)} and its siblings fail if the driver
+   * reports {@link java.sql.Statement#SUCCESS_NO_INFO}.
+   */
+  boolean isBatchUpdateSupported();
+
   /*
    * Attribute filters Aggregate SQL code transforming the template code to
    * specific database sql the following methods display an example of an
@@ -1127,6 +1137,53 @@ public interface ISqlStyle extends Serializable {
    */
   String createYearToDate(String attribute, String bindName);
 
+  /**
+   * Clause limiting the result of a select statement to a page of rows, to be appended after the
+   * <code>ORDER BY</code> clause. The statement must have a deterministic order, e.g. the last sort column is a primary
+   * key.
+   * <p>
+   * In an Oracle implementation this could be represented as
+   * </p>
+   *
+   * <pre>
+   * OFFSET :offsetBind ROWS FETCH NEXT :limitBind ROWS ONLY
+   * </pre>
+   *
+   * @param offsetBindName
+   *          number of rows to skip, may be <code>null</code> (e.g. if paging with
+   *          {@link #createKeysetPredicate(String[], boolean[], String[])})
+   * @param limitBindName
+   *          maximum number of rows to fetch. Fetching one row more than the page size allows to detect whether there
+   *          is a next page.
+   * @since 24.1
+   */
+  String createPagingClause(String offsetBindName, String limitBindName);
+
+  /**
+   * Keyset (seek) predicate selecting all rows after a given row in the sort order. Other than an offset, the predicate
+   * can use an index on the sort columns, so fetching a page costs the same regardless of its position.
+   * <p>
+   * The sort columns must not be nullable and must be unique in combination, e.g. the last sort column is a primary
+   * key. The binds contain the sort column values of the last row of the previous page.
+   * </p>
+   * <p>
+   * In an Oracle implementation this could be represented as
+   * </p>
+   *
+   * <pre>
+   * (attribute1 &gt; :bind1 OR (attribute1 = :bind1 AND attribute2 &gt; :bind2))
+   * </pre>
+   *
+   * @param attributes
+   *          sort columns, in the order of the <code>ORDER BY</code> clause
+   * @param ascending
+   *          sort direction per sort column
+   * @param bindNames
+   *          bind per sort column
+   * @since 24.1
+   */
+  String createKeysetPredicate(String[] attributes, boolean[] ascending, String[] bindNames);
+
   /**
    * expression for the current date using the database specific keyword, <code>SYSDATE</code> on oracle
    */
@@ -13,7 +13,12 @@ import static org.junit.Assert.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.scout.rt.dataobject.id.NodeId;
@@ -33,6 +38,7 @@ import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.server.TestServerSession;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatchMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.shared.services.common.bookmark.BookmarkChangedClientNotification;
@@ -192,6 +198,76 @@ public class ClusterSynchronizationServiceTest {
     assertEquals(InvalidateCacheNotification.class, messages.get(1).getNotification().getClass());
   }
 
+  @Test
+  public void testTransactionalSendBatched() {
+    ClusterSynchronizationService svc = new P_BatchingClusterSynchronizationService();
+    svc.enable();
+    ArgumentCaptor<IClusterNotificationMessage> msgCaptor = ArgumentCaptor.forClass(IClusterNotificationMessage.class);
+    doNothing().when(m_nullMomImplementorSpy).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), msgCaptor.capture(), any(PublishInput.class));
+
+    svc.publishTransactional("Testnotification1");
+    svc.publishTransactional("Testnotification2");
+    svc.publishTransactional("Testnotification3");
+    ITransaction.CURRENT.get().commitPhase1();
+    ITransaction.CURRENT.get().commitPhase2();
+
+    // verify
+    verify(m_nullMomImplementorSpy, times(1)).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
+    assertEquals(3, svc.getStatusInfo().getSentMessageCount());
+
+    ClusterNotificationBatchMessage batch = (ClusterNotificationBatchMessage) msgCaptor.getValue();
+    assertEquals(Arrays.asList("Testnotification1", "Testnotification2", "Testnotification3"), batch.getNotifications());
+    assertEquals(NodeId.current(), batch.getProperties().getOriginNode());
+  }
+
+  @Test
+  public void testSendBatchedSingleMessage() {
+    ClusterSynchronizationService svc = new P_BatchingClusterSynchronizationService();
+    svc.enable();
+    ArgumentCaptor<IClusterNotificationMessage> msgCaptor = ArgumentCaptor.forClass(IClusterNotificationMessage.class);
+    doNothing().when(m_nullMomImplementorSpy).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), msgCaptor.capture(), any(PublishInput.class));
+
+    svc.publish("Testnotification");
+    assertEquals(ClusterNotificationMessage.class, msgCaptor.getValue().getClass());
+  }
+
+  @SuppressWarnings("unchecked")
+  @Test
+  public void testReceiveBatch() {
+    ClusterNotificationBatchMessage batch = new ClusterNotificationBatchMessage(Arrays.asList("notification1", "notification2"), new ClusterNotificationProperties(TEST_NODE, TEST_USER));
+    IMessage<IClusterNotificationMessage> momMsg = mock(IMessage.class);
+    when(momMsg.getTransferObject()).thenReturn(batch);
+    m_svc.onMessage(momMsg);
+
+    IClusterNodeStatusInfo nodeInfo = m_svc.getStatusInfo();
+    assertEquals(2, nodeInfo.getReceivedMessageCount());
+    assertEquals(0, nodeInfo.getSentMessageCount());
+    assertEquals(TEST_NODE, nodeInfo.getLastChangedOriginNodeId());
+    assertEquals(2, m_svc.getStatusInfo(String.class).getReceivedMessageCount());
+  }
+
+  @Test
+  public void testBatchMessageSerialization() throws Exception {
+    ClusterNotificationBatchMessage batch = new ClusterNotificationBatchMessage(Arrays.asList("notification1", new BookmarkChangedClientNotification()), new ClusterNotificationProperties(TEST_NODE, TEST_USER));
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(batch);
+    }
+    ClusterNotificationBatchMessage copy;
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      copy = (ClusterNotificationBatchMessage) in.readObject();
+    }
+
+    assertEquals(batch.getProperties(), copy.getProperties());
+    assertEquals(2, copy.getNotifications().size());
+    assertEquals("notification1", copy.getNotifications().get(0));
+    assertEquals(BookmarkChangedClientNotification.class, copy.getNotifications().get(1).getClass());
+
+    List<IClusterNotificationMessage> messages = copy.unpack();
+    assertEquals(2, messages.size());
+    assertEquals(batch.getProperties(), messages.get(0).getProperties());
+  }
+
   private void assertNoMessageSent() {
     verify(m_nullMomImplementorSpy, never()).publish(eq(IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC), any(IClusterNotificationMessage.class), any(PublishInput.class));
     assertEmptyNodeInfo(m_svc.getStatusInfo());
@@ -223,6 +299,14 @@ public class ClusterSynchronizationServiceTest {
     }
   }
 
+  private static class P_BatchingClusterSynchronizationService extends ClusterSynchronizationService {
+
+    @Override
+    protected boolean isBatchEnabled() {
+      return true;
+    }
+  }
+
   @IgnoreBean
   @Replace
   public static class TestClusterMom extends ClusterMom {
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.lookup;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.IMultiKeyLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupRow;
+import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+
+/**
+ * Test {@link BatchLookupService} with an {@link IMultiKeyLookupService}.
+ */
+@RunWith(PlatformTestRunner.class)
+public class BatchLookupMultiKeyTest {
+
+  @BeanMock
+  private IColorLookupService m_lookupService;
+
+  @Before
+  @SuppressWarnings("unchecked")
+  public void setUp() {
+    Mockito.doAnswer((Answer<Map<Long, List<ILookupRow<Long>>>>) invocation -> {
+      ILookupCall<Long> call = invocation.getArgument(0);
+      Collection<Long> keys = invocation.getArgument(1);
+      Map<Long, List<ILookupRow<Long>>> result = new HashMap<>();
+      for (Long key : keys) {
+        if (key > 0) {
+          result.put(key, createResult(call, key));
+        }
+      }
+      return result;
+    }).when(m_lookupService).getDataByKeys(Mockito.any(), Mockito.any());
+    Mockito.doAnswer((Answer<List<ILookupRow<Long>>>) invocation -> {
+      ILookupCall<Long> call = invocation.getArgument(0);
+      return createResult(call, call.getKey());
+    }).when(m_lookupService).getDataByKey(Mockito.any());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCallsGroupedByMaster() {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < 100; i++) {
+      ColorLookupCall call = new ColorLookupCall();
+      call.setKey((long) (i % 10) + 1);
+      call.setMaster(i % 2 == 0 ? "even" : "odd");
+      batchCall.addLookupCall(call);
+    }
+
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    ArgumentCaptor<Collection<Long>> keys = ArgumentCaptor.forClass(Collection.class);
+    Mockito.verify(m_lookupService, Mockito.times(2)).getDataByKeys(Mockito.any(), keys.capture());
+    Mockito.verify(m_lookupService, Mockito.never()).getDataByKey(Mockito.any());
+    assertEquals(Arrays.asList(1L, 3L, 5L, 7L, 9L), new ArrayList<>(keys.getAllValues().get(0)));
+    assertEquals(Arrays.asList(2L, 4L, 6L, 8L, 10L), new ArrayList<>(keys.getAllValues().get(1)));
+
+    assertEquals(100, result.size());
+    for (int i = 0; i < result.size(); i++) {
+      ILookupCall<?> call = batchCall.getCallBatch().get(i);
+      assertEquals(1, result.get(i).size());
+      assertEquals(call.getKey(), result.get(i).get(0).getKey());
+      assertEquals(call.getMaster() + "-" + call.getKey(), result.get(i).get(0).getText());
+    }
+  }
+
+  @Test
+  public void testMissingKey() {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (long key : new long[]{1, -1, 2, 1}) {
+      ColorLookupCall call = new ColorLookupCall();
+      call.setKey(key);
+      batchCall.addLookupCall(call);
+    }
+
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    Mockito.verify(m_lookupService, Mockito.times(1)).getDataByKeys(Mockito.any(), Mockito.any());
+    assertEquals(4, result.size());
+    assertEquals(1L, result.get(0).get(0).getKey());
+    assertTrue(result.get(1).isEmpty());
+    assertEquals(2L, result.get(2).get(0).getKey());
+    assertEquals(1L, result.get(3).get(0).getKey());
+  }
+
+  @Test
+  public void testSingleKeyNotGrouped() {
+    BatchLookupCall batchCall = new BatchLookupCall();
+    for (int i = 0; i < 3; i++) {
+      ColorLookupCall call = new ColorLookupCall();
+      call.setKey(5L);
+      batchCall.addLookupCall(call);
+    }
+    batchCall.addLookupCall(new ColorLookupCall()); // without key
+
+    List<List<ILookupRow<?>>> result = new BatchLookupService().getBatchDataByKey(batchCall);
+
+    Mockito.verify(m_lookupService, Mockito.never()).getDataByKeys(Mockito.any(), Mockito.any());
+    Mockito.verify(m_lookupService, Mockito.times(1)).getDataByKey(Mockito.any()); // cached
+    assertEquals(4, result.size());
+    assertEquals(5L, result.get(2).get(0).getKey());
+    assertTrue(result.get(3).isEmpty());
+  }
+
+  private static List<ILookupRow<Long>> createResult(ILookupCall<Long> call, Long key) {
+    List<ILookupRow<Long>> rows = new ArrayList<>();
+    rows.add(new LookupRow<>(key, call.getMaster() + "-" + key));
+    return rows;
+  }
+
+  public static class ColorLookupCall extends LookupCall<Long> {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Class<? extends ILookupService<Long>> getConfiguredService() {
+      return IColorLookupService.class;
+    }
+  }
+
+  public interface IColorLookupService extends IMultiKeyLookupService<Long> {
+  }
+}
@@ -11,6 +11,8 @@ package org.eclipse.scout.rt.server;
 
 import java.util.concurrent.TimeUnit;
 
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.server.services.common.file.RemoteFileService;
@@ -40,6 +42,50 @@ public final class ServerConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class ClusterSyncBatchEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.batchEnabled";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the cluster notifications published together (e.g. at the end of a transaction) are packed into a single message.\n"
+          + "This reduces the number of messages sent over the cluster MOM considerably for bulk updates. All nodes of the cluster must support batched messages before this property is enabled.\n"
+          + "The default value is false.";
+    }
+  }
+
+  /**
+   * @since 24.1
+   */
+  public static class ClusterSyncBatchMaxSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 500;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.clustersync.batchMaxSize";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum number of cluster notifications packed into a single message if 'scout.clustersync.batchEnabled' is set. The default value is 500.";
+    }
+  }
+
   public static class ServerSessionCacheExpirationProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
@@ -22,6 +22,7 @@ import org.eclipse.scout.rt.platform.exception.IThrowableWithContextInfo;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.platform.service.IService;
 import org.eclipse.scout.rt.platform.text.TEXTS;
@@ -39,6 +40,8 @@ import org.eclipse.scout.rt.shared.servicetunnel.ServiceUtility;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.trace.SpanKind;
+
 /**
  * Provides functionality to invoke service operations as described by {@link ServiceTunnelRequest} and to return the
  * operations result in the form of a {@link ServiceTunnelResponse}.
@@ -46,6 +49,7 @@ import org.slf4j.LoggerFactory;
 @ApplicationScoped
 public class ServiceOperationInvoker {
   private static final Logger LOG = LoggerFactory.getLogger(ServiceOperationInvoker.class);
+  protected static final String TRACER_NAME = "scout.ServiceOperationInvoker";
 
   /**
    * Invoke the service associated with the {@link ServiceTunnelRequest}. <br>
@@ -56,7 +60,7 @@ public class ServiceOperationInvoker {
     final long t0 = System.nanoTime();
     ServiceTunnelResponse response;
     try {
-      response = runContext.call(() -> invokeInternal(serviceReq), DefaultExceptionTranslator.class);
+      response = runContext.call(() -> invokeInSpan(serviceReq), DefaultExceptionTranslator.class);
     }
     catch (Exception e) {
       // Associate the exception with context information about the service call.
@@ -78,6 +82,27 @@ public class ServiceOperationInvoker {
     return response;
   }
 
+  /**
+   * Invokes the service within a span, which is a child of the span propagated by the caller (if any).
+   */
+  protected ServiceTunnelResponse invokeInSpan(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
+    final TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    return tracingHelper.wrapInSpan(tracingHelper.getTracer(TRACER_NAME), createSpanName(serviceReq), SpanKind.SERVER, span -> {
+      span.setAttribute("rpc.system", "scout");
+      span.setAttribute("rpc.service", serviceReq.getServiceInterfaceClassName());
+      span.setAttribute("rpc.method", serviceReq.getOperation());
+      return invokeInternal(serviceReq);
+    });
+  }
+
+  /**
+   * Returns the name of the span created for the service request, e.g. <code>IMyService.load</code>.
+   */
+  protected String createSpanName(ServiceTunnelRequest serviceReq) {
+    String serviceInterfaceClassName = serviceReq.getServiceInterfaceClassName();
+    return serviceInterfaceClassName.substring(serviceInterfaceClassName.lastIndexOf('.') + 1) + "." + serviceReq.getOperation();
+  }
+
   protected ServiceTunnelResponse invokeInternal(ServiceTunnelRequest serviceReq) throws ClassNotFoundException {
     IServerSession serverSession = ServerSessionProvider.currentSession();
     if (LOG.isDebugEnabled()) {
@@ -38,6 +38,8 @@ import org.eclipse.scout.rt.shared.logging.UserIdContextValueProvider;
 import org.eclipse.scout.rt.shared.session.ScoutSessionIdContextValueProvider;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 
+import io.opentelemetry.context.Context;
+
 /**
  * The <code>ServerRunContext</code> controls propagation of server-side state.
  * <p>
@@ -93,6 +95,12 @@ public class ServerRunContext extends RunContext {
     return this;
   }
 
+  @Override
+  public ServerRunContext withOpenTelemetryContext(final Context openTelemetryContext) {
+    super.withOpenTelemetryContext(openTelemetryContext);
+    return this;
+  }
+
   @Override
   public ServerRunContext withTransactionScope(final TransactionScope transactionScope) {
     super.withTransactionScope(transactionScope);
@@ -12,8 +12,11 @@ package org.eclipse.scout.rt.server.services.common.clustersync;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 
@@ -36,10 +39,13 @@ import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchEnabledProperty;
+import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncBatchMaxSizeProperty;
 import org.eclipse.scout.rt.server.ServerConfigProperties.ClusterSyncUserProperty;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.mom.IClusterMomDestinations;
+import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationBatchMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationMessage;
 import org.eclipse.scout.rt.server.services.common.clustersync.internal.ClusterNotificationProperties;
 import org.eclipse.scout.rt.server.session.ServerSessionProviderWithCache;
@@ -62,6 +68,8 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
   private final Object m_subscriptionLock = new Object();
 
   private final NodeId m_nodeId = NodeId.current();
+  private final boolean m_batchEnabled = CONFIG.getPropertyValue(ClusterSyncBatchEnabledProperty.class);
+  private final int m_batchMaxSize = CONFIG.getPropertyValue(ClusterSyncBatchMaxSizeProperty.class);
 
   public ClusterSynchronizationService() {
     m_subject = new Subject();
@@ -169,7 +177,7 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
    * Publish and update status.
    */
   private void publishInternal(List<IClusterNotificationMessage> messages) {
-    for (IClusterNotificationMessage message : messages) {
+    for (IClusterNotificationMessage message : isBatchEnabled() ? createBatchMessages(messages) : messages) {
       MOM.publish(ClusterMom.class, IClusterMomDestinations.CLUSTER_NOTIFICATION_TOPIC, message);
     }
     for (IClusterNotificationMessage im : messages) {
@@ -178,6 +186,42 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
     }
   }
 
+  /**
+   * @return <code>true</code> if messages published together are packed into a
+   *         {@link ClusterNotificationBatchMessage}, see {@link ClusterSyncBatchEnabledProperty}.
+   */
+  protected boolean isBatchEnabled() {
+    return m_batchEnabled;
+  }
+
+  /**
+   * Packs messages with the same properties into {@link ClusterNotificationBatchMessage}s of at most
+   * {@link ClusterSyncBatchMaxSizeProperty} notifications. Single messages are published as they are.
+   */
+  protected List<IClusterNotificationMessage> createBatchMessages(List<IClusterNotificationMessage> messages) {
+    if (messages.size() < 2) {
+      return messages;
+    }
+    Map<IClusterNotificationProperties, List<Serializable>> notificationsByProperties = new LinkedHashMap<>();
+    for (IClusterNotificationMessage message : messages) {
+      notificationsByProperties.computeIfAbsent(message.getProperties(), k -> new ArrayList<>()).add(message.getNotification());
+    }
+    List<IClusterNotificationMessage> batchMessages = new ArrayList<>();
+    for (Map.Entry<IClusterNotificationProperties, List<Serializable>> entry : notificationsByProperties.entrySet()) {
+      List<Serializable> notifications = entry.getValue();
+      for (int from = 0; from < notifications.size(); from += m_batchMaxSize) {
+        List<Serializable> chunk = notifications.subList(from, Math.min(from + m_batchMaxSize, notifications.size()));
+        if (chunk.size() == 1) {
+          batchMessages.add(new ClusterNotificationMessage(chunk.get(0), entry.getKey()));
+        }
+        else {
+          batchMessages.add(new ClusterNotificationBatchMessage(chunk, entry.getKey()));
+        }
+      }
+    }
+    return batchMessages;
+  }
+
   @Override
   public IClusterNotificationProperties getNotificationProperties() {
     ISession curentSession = ISession.CURRENT.get();
@@ -187,25 +231,56 @@ public class ClusterSynchronizationService implements IClusterSynchronizationSer
 
   @Override
   public void onMessage(IMessage<IClusterNotificationMessage> message) {
-    final IClusterNotificationMessage notificationMessage = message.getTransferObject();
+    final IClusterNotificationMessage transferObject = message.getTransferObject();
     if (isEnabled()) {
       //Do not progress notifications sent by node itself
-      NodeId originNode = notificationMessage.getProperties().getOriginNode();
+      NodeId originNode = transferObject.getProperties().getOriginNode();
 
       if (m_nodeId.equals(originNode)) {
         return;
       }
 
-      getStatusInfoInternal().updateReceiveStatus(notificationMessage);
-      getStatusInfoInternal(notificationMessage.getNotification().getClass()).updateReceiveStatus(notificationMessage);
+      final List<IClusterNotificationMessage> notificationMessages;
+      if (transferObject instanceof ClusterNotificationBatchMessage) {
+        notificationMessages = ((ClusterNotificationBatchMessage) transferObject).unpack();
+      }
+      else {
+        notificationMessages = Collections.singletonList(transferObject);
+      }
+      for (IClusterNotificationMessage notificationMessage : notificationMessages) {
+        getStatusInfoInternal().updateReceiveStatus(notificationMessage);
+        getStatusInfoInternal(notificationMessage.getNotification().getClass()).updateReceiveStatus(notificationMessage);
+      }
 
       ServerRunContext serverRunContext = ServerRunContexts.empty();
       serverRunContext.withSubject(m_subject);
       serverRunContext.withSession(BEANS.get(ServerSessionProviderWithCache.class).provide(serverRunContext.copy()));
-      serverRunContext.run(() -> {
-        NotificationHandlerRegistry reg = BEANS.get(NotificationHandlerRegistry.class);
+      serverRunContext.run(() -> notifyNotificationHandlers(notificationMessages));
+    }
+  }
+
+  /**
+   * Dispatches the received notifications to the notification handlers. If a handler fails, the remaining
+   * notifications are dispatched nevertheless and the first failure is thrown afterwards.
+   */
+  protected void notifyNotificationHandlers(List<IClusterNotificationMessage> notificationMessages) {
+    NotificationHandlerRegistry reg = BEANS.get(NotificationHandlerRegistry.class);
+    RuntimeException firstFailure = null;
+    for (IClusterNotificationMessage notificationMessage : notificationMessages) {
+      try {
         reg.notifyNotificationHandlers(notificationMessage.getNotification());
-      });
+      }
+      catch (RuntimeException e) {
+        if (firstFailure == null) {
+          firstFailure = e;
+        }
+        else {
+          firstFailure.addSuppressed(e);
+        }
+      }
+    }
+    if (firstFailure != null) {
+      throw firstFailure;
     }
   }
 
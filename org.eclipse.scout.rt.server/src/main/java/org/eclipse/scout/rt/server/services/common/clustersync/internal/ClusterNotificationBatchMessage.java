@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.services.common.clustersync.internal;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationMessage;
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterNotificationProperties;
+
+/**
+ * Envelope for several cluster notifications with the same {@link IClusterNotificationProperties}, which are sent as a
+ * single message.
+ * <p>
+ * The envelope uses its own versioned encoding: the properties are written only once, followed by the notifications.
+ * All notifications are written to the same object stream, so the class descriptors of notifications with the same
+ * type are shared.
+ *
+ * @since 24.1
+ */
+public class ClusterNotificationBatchMessage implements IClusterNotificationMessage, Externalizable {
+  private static final long serialVersionUID = 1L;
+
+  protected static final byte VERSION = 1;
+
+  private IClusterNotificationProperties m_props;
+  private ArrayList<Serializable> m_notifications;
+
+  /**
+   * Constructor used for deserialization.
+   */
+  public ClusterNotificationBatchMessage() {
+    m_notifications = new ArrayList<>();
+  }
+
+  public ClusterNotificationBatchMessage(List<? extends Serializable> notifications, IClusterNotificationProperties props) {
+    m_notifications = new ArrayList<>(notifications);
+    m_props = props;
+  }
+
+  /**
+   * @return the list of all notifications in this envelope
+   */
+  @Override
+  public Serializable getNotification() {
+    return m_notifications;
+  }
+
+  public List<Serializable> getNotifications() {
+    return m_notifications;
+  }
+
+  @Override
+  public IClusterNotificationProperties getProperties() {
+    return m_props;
+  }
+
+  /**
+   * @return a {@link ClusterNotificationMessage} for every notification in this envelope
+   */
+  public List<IClusterNotificationMessage> unpack() {
+    List<IClusterNotificationMessage> messages = new ArrayList<>(m_notifications.size());
+    for (Serializable notification : m_notifications) {
+      messages.add(new ClusterNotificationMessage(notification, m_props));
+    }
+    return messages;
+  }
+
+  @Override
+  public void writeExternal(ObjectOutput out) throws IOException {
+    out.writeByte(VERSION);
+    NodeId originNode = m_props != null ? m_props.getOriginNode() : null;
+    out.writeObject(originNode != null ? originNode.unwrap() : null);
+    out.writeObject(m_props != null ? m_props.getOriginUser() : null);
+    out.writeInt(m_notifications.size());
+    for (Serializable notification : m_notifications) {
+      out.writeObject(notification);
+    }
+  }
+
+  @Override
+  public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+    byte version = in.readByte();
+    if (version != VERSION) {
+      throw new InvalidClassException(ClusterNotificationBatchMessage.class.getName(), "Unsupported version " + version);
+    }
+    NodeId originNode = NodeId.of((String) in.readObject());
+    String originUser = (String) in.readObject();
+    m_props = new ClusterNotificationProperties(originNode, originUser);
+    int size = in.readInt();
+    m_notifications = new ArrayList<>(Math.min(size, 1024));
+    for (int i = 0; i < size; i++) {
+      m_notifications.add((Serializable) in.readObject());
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "ClusterNotificationBatchMessage [m_notifications=" + m_notifications + ", m_props=" + m_props + "]";
+  }
+}
@@ -10,20 +10,32 @@
 package org.eclipse.scout.rt.server.services.lookup;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.reflect.ConfigurationUtility;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.BatchLookupResultCache;
 import org.eclipse.scout.rt.shared.services.lookup.IBatchLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupCall;
 import org.eclipse.scout.rt.shared.services.lookup.ILookupRow;
+import org.eclipse.scout.rt.shared.services.lookup.ILookupService;
+import org.eclipse.scout.rt.shared.services.lookup.IMultiKeyLookupService;
 import org.eclipse.scout.rt.shared.services.lookup.IServerBatchLookupService;
+import org.eclipse.scout.rt.shared.services.lookup.LocalLookupCall;
+import org.eclipse.scout.rt.shared.services.lookup.LookupCall;
 
 /**
  * Implementation of {@link IBatchLookupService} that can be used in a server.<br>
  * It is not implemented for client-only application, bug 447592 is not relevant anymore.<br>
  * If you want to use {@link IBatchLookupService} in a client-only application, copy this service to your client code.
+ * <p>
+ * Key lookups of the same {@link IMultiKeyLookupService} that only differ in their key are resolved with a single call
+ * to {@link IMultiKeyLookupService#getDataByKeys(ILookupCall, java.util.Collection)}.
  *
  * @since 4.3.0 (Mars-M5)
  */
@@ -34,13 +46,70 @@ public class BatchLookupService implements IServerBatchLookupService {
   public List<List<ILookupRow<?>>> getBatchDataByKey(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
     List<List<ILookupRow<?>>> result = new ArrayList<>();
+    for (int i = 0; i < calls.size(); i++) {
+      result.add(null);
+    }
+    resolveMultiKeyGroups(calls, result);
+
     BatchLookupResultCache cache = new BatchLookupResultCache();
-    for (ILookupCall<?> call : calls) {
-      result.add(new ArrayList<>(cache.getDataByKey(call)));
+    for (int i = 0; i < calls.size(); i++) {
+      if (result.get(i) == null) {
+        result.set(i, new ArrayList<>(cache.getDataByKey(calls.get(i))));
+      }
     }
     return result;
   }
 
+  /**
+   * Groups all calls which only differ in their key and resolves every group with more than one distinct key by a
+   * single call to {@link IMultiKeyLookupService#getDataByKeys(ILookupCall, java.util.Collection)}. The results are set
+   * at the index of the corresponding call, all other indices are left untouched.
+   */
+  @SuppressWarnings("unchecked")
+  protected void resolveMultiKeyGroups(List<ILookupCall<?>> calls, List<List<ILookupRow<?>>> result) {
+    Map<ILookupCall<Object>, P_MultiKeyGroup> groups = new LinkedHashMap<>();
+    for (int i = 0; i < calls.size(); i++) {
+      ILookupCall<?> call = calls.get(i);
+      if (!isMultiKeyLookupCall(call)) {
+        continue;
+      }
+      // the key is the only difference between the calls of a group
+      ILookupCall<Object> template = (ILookupCall<Object>) call.copy();
+      template.setKey(null);
+      groups.computeIfAbsent(template, P_MultiKeyGroup::new).add(i, call.getKey());
+    }
+
+    for (P_MultiKeyGroup group : groups.values()) {
+      if (group.getKeys().size() < 2) {
+        continue;
+      }
+      IMultiKeyLookupService<Object> service = (IMultiKeyLookupService<Object>) ((LookupCall<Object>) group.getTemplate()).getLookupService();
+      Map<Object, List<ILookupRow<Object>>> rowsByKey = service.getDataByKeys(group.getTemplate(), group.getKeys());
+      for (int index : group.getCallIndices()) {
+        List<ILookupRow<Object>> rows = rowsByKey.get(calls.get(index).getKey());
+        result.set(index, rows != null ? new ArrayList<>(rows) : new ArrayList<>());
+      }
+    }
+  }
+
+  /**
+   * @return <code>true</code> if the call may be resolved together with other calls of the same lookup service. This
+   *         requires a remote {@link LookupCall} without a custom key lookup whose service implements
+   *         {@link IMultiKeyLookupService}. Calls must implement equals and hashCode to be grouped, see
+   *         {@link BatchLookupResultCache#isCacheable(Class)}.
+   */
+  protected boolean isMultiKeyLookupCall(ILookupCall<?> call) {
+    if (!(call instanceof LookupCall) || call instanceof LocalLookupCall || call.getKey() == null) {
+      return false;
+    }
+    if (!BatchLookupResultCache.isCacheable(call.getClass())
+        || ConfigurationUtility.isMethodOverwrite(LookupCall.class, "getDataByKey", new Class[0], call.getClass())) {
+      return false;
+    }
+    ILookupService<?> service = ((LookupCall<?>) call).getLookupService();
+    return service instanceof IMultiKeyLookupService;
+  }
+
   @Override
   public List<List<ILookupRow<?>>> getBatchDataByText(BatchLookupCall batch) {
     List<ILookupCall<?>> calls = batch.getCallBatch();
@@ -74,4 +143,30 @@ public class BatchLookupService implements IServerBatchLookupService {
     return result;
   }
 
+  private static class P_MultiKeyGroup {
+    private final ILookupCall<Object> m_template;
+    private final List<Integer> m_callIndices = new ArrayList<>();
+    private final Set<Object> m_keys = new LinkedHashSet<>();
+
+    P_MultiKeyGroup(ILookupCall<Object> template) {
+      m_template = template;
+    }
+
+    void add(int callIndex, Object key) {
+      m_callIndices.add(callIndex);
+      m_keys.add(key);
+    }
+
+    ILookupCall<Object> getTemplate() {
+      return m_template;
+    }
+
+    List<Integer> getCallIndices() {
+      return m_callIndices;
+    }
+
+    Set<Object> getKeys() {
+      return m_keys;
+    }
+  }
 }
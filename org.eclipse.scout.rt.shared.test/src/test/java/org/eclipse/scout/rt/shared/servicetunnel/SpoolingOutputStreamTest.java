@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link SpoolingOutputStream}
+ */
+public class SpoolingOutputStreamTest {
+
+  @Test
+  public void testInMemory() throws IOException {
+    SpoolingOutputStream out = new SpoolingOutputStream(4);
+    try {
+      out.write(1);
+      out.write(new byte[]{2, 3, 4});
+      out.close();
+
+      assertTrue(out.isInMemory());
+      assertNull(out.getFile());
+      assertEquals(4, out.getSize());
+      assertArrayEquals(new byte[]{1, 2, 3, 4}, out.toByteArray());
+      assertArrayEquals(new byte[]{1, 2, 3, 4}, readAll(out));
+    }
+    finally {
+      out.dispose();
+    }
+  }
+
+  @Test
+  public void testSpoolToFile() throws IOException {
+    SpoolingOutputStream out = new SpoolingOutputStream(4);
+    File file;
+    try {
+      out.write(new byte[]{1, 2, 3});
+      assertTrue(out.isInMemory());
+      out.write(new byte[]{4, 5});
+      out.write(6);
+      out.close();
+
+      assertFalse(out.isInMemory());
+      file = out.getFile();
+      assertTrue(file.exists());
+      assertEquals(6, out.getSize());
+      assertEquals(6, file.length());
+      assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, out.toByteArray());
+      // data can be read repeatedly
+      assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, readAll(out));
+      assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6}, readAll(out));
+    }
+    finally {
+      out.dispose();
+    }
+    assertFalse(file.exists());
+    assertNull(out.getFile());
+  }
+
+  @Test
+  public void testZeroThreshold() throws IOException {
+    SpoolingOutputStream out = new SpoolingOutputStream(0);
+    try {
+      out.close();
+      assertTrue(out.isInMemory());
+      assertEquals(0, out.toByteArray().length);
+    }
+    finally {
+      out.dispose();
+    }
+
+    out = new SpoolingOutputStream(0);
+    try {
+      out.write(1);
+      out.close();
+      assertFalse(out.isInMemory());
+      assertArrayEquals(new byte[]{1}, readAll(out));
+    }
+    finally {
+      out.dispose();
+    }
+  }
+
+  @Test(expected = IOException.class)
+  public void testWriteAfterClose() throws IOException {
+    SpoolingOutputStream out = new SpoolingOutputStream(4);
+    try {
+      out.close();
+      out.write(1);
+    }
+    finally {
+      out.dispose();
+    }
+  }
+
+  protected byte[] readAll(SpoolingOutputStream out) throws IOException {
+    try (InputStream in = out.toInputStream()) {
+      return IOUtility.readBytes(in);
+    }
+  }
+}
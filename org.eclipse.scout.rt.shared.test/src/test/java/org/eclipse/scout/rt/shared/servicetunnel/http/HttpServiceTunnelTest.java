@@ -12,10 +12,15 @@ package org.eclipse.scout.rt.shared.servicetunnel.http;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.when;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.core5.http.ContentType;
+import org.eclipse.scout.rt.platform.context.CorrelationId;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.AbstractHttpTransportManager;
@@ -24,11 +29,13 @@ import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.SpoolingOutputStream;
 import org.eclipse.scout.rt.testing.platform.mock.BeanMock;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
+import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpTransport;
 import com.google.api.client.testing.http.MockHttpTransport;
@@ -73,6 +80,61 @@ public class HttpServiceTunnelTest {
     assertEquals(401, ((HttpServiceTunnelException) response.getException()).getHttpStatus());
   }
 
+  @Test
+  public void testCreateAsyncRequest() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost/process");
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(new MockLowLevelHttpResponse());
+    tunnel.setContentHandler(getTestContentHandler());
+    assertNull(tunnel.getAsyncHttpClientManager());
+
+    byte[] callData = {1, 2, 3};
+    ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", "ping", null, null);
+    SimpleHttpRequest asyncRequest = RunContexts.empty()
+        .withCorrelationId("cid")
+        .call(() -> tunnel.createAsyncRequest(request, callData));
+
+    assertEquals("POST", asyncRequest.getMethod());
+    assertEquals("http://localhost/process", asyncRequest.getUri().toString());
+    assertArrayEquals(callData, asyncRequest.getBodyBytes());
+    assertEquals(ContentType.APPLICATION_OCTET_STREAM.getMimeType(), asyncRequest.getContentType().getMimeType());
+
+    // same headers as for the HTTP transport
+    assertEquals("no-cache", asyncRequest.getFirstHeader("Cache-Control").getValue());
+    assertEquals("no-cache", asyncRequest.getFirstHeader("Pragma").getValue());
+    assertEquals("cid", asyncRequest.getFirstHeader(CorrelationId.HTTP_HEADER_NAME).getValue());
+    assertNull(asyncRequest.getFirstHeader("Accept-Encoding"));
+    assertNull(asyncRequest.getFirstHeader("Content-Type"));
+  }
+
+  @Test
+  public void testBuildSpooledRequest() throws Exception {
+    when(mockUrl.getValue()).thenReturn("http://localhost/process");
+    HttpServiceTunnel tunnel = createHttpServiceTunnel(new MockLowLevelHttpResponse());
+    tunnel.setContentHandler(getTestContentHandler());
+
+    SpoolingOutputStream callData = new SpoolingOutputStream(2);
+    try {
+      callData.write(new byte[]{1, 2, 3});
+      callData.close();
+      assertFalse(callData.isInMemory());
+
+      ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", "ping", null, null);
+      HttpRequest httpRequest = RunContexts.empty()
+          .withCorrelationId("cid")
+          .call(() -> tunnel.buildRequest(request, callData));
+
+      assertTrue(httpRequest.getContent() instanceof SpooledContent);
+      assertEquals(3, httpRequest.getContent().getLength());
+      assertEquals("cid", httpRequest.getHeaders().getFirstHeaderStringValue(CorrelationId.HTTP_HEADER_NAME));
+      ByteArrayOutputStream body = new ByteArrayOutputStream();
+      httpRequest.getContent().writeTo(body);
+      assertArrayEquals(new byte[]{1, 2, 3}, body.toByteArray());
+    }
+    finally {
+      callData.dispose();
+    }
+  }
+
   protected HttpServiceTunnel createHttpServiceTunnel(final MockLowLevelHttpResponse expectedResponse) {
     HttpServiceTunnel tunnel = new HttpServiceTunnel() {
 
@@ -27,6 +27,7 @@ public abstract class AbstractTablePageData extends AbstractTableFieldBeanData {
   private boolean m_limitedResult;
   private long m_estimatedRowCount;
   private int m_maxRowCount;
+  private Object[] m_nextPageKeyset;
 
   /**
    * Optional property may be used by the data provider to signal, that the data returned by this instance has been
@@ -86,4 +87,22 @@ public abstract class AbstractTablePageData extends AbstractTableFieldBeanData {
   public void setMaxRowCount(int maxRowCount) {
     m_maxRowCount = maxRowCount;
   }
+
+  /**
+   * Optional property may be used by the data provider to support keyset paging (see
+   * {@link org.eclipse.scout.rt.shared.services.common.jdbc.SearchFilter#getPageSize()}): the sort column values of the
+   * last row, which are passed to the data provider with the search filter when loading the next page.
+   *
+   * @since 24.1
+   */
+  public Object[] getNextPageKeyset() {
+    return m_nextPageKeyset;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public void setNextPageKeyset(Object... nextPageKeyset) {
+    m_nextPageKeyset = nextPageKeyset;
+  }
 }
@@ -80,6 +80,16 @@ public abstract class AbstractMultiSessionCookieStore<CS> {
     }
   }
 
+  /**
+   * @return cookie store of the current session or the default cookie store if there is no current session. Use this
+   *         method if cookies are processed by a thread without the session context of the caller (e.g. by the I/O
+   *         threads of an async HTTP client).
+   * @since 24.1
+   */
+  public CS getCurrentSessionCookieStore() {
+    return getDelegate();
+  }
+
   public void sessionStopped(ISession session) {
     m_cookieStoresLock.writeLock().lock();
     try {
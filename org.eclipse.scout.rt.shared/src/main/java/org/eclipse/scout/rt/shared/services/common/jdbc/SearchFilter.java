@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.shared.services.common.jdbc;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
@@ -22,6 +23,11 @@ import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
 
 /**
  * Search model that contains a form data, verbose search texts and a valid status
+ * <p>
+ * If {@link #getPageSize()} is set, the data provider is asked to load a single page of rows: either the rows after
+ * {@link #getPageKeyset()} (keyset paging) or the rows after {@link #getPageOffset()} (offset paging). If more rows are
+ * available, the provider marks the result as limited, see
+ * {@link org.eclipse.scout.rt.shared.data.page.AbstractTablePageData#setLimitedResult(boolean)}.
  */
 public class SearchFilter implements Serializable {
   private static final long serialVersionUID = 0L;
@@ -30,6 +36,9 @@ public class SearchFilter implements Serializable {
   private AbstractFormData m_formData;
   private IDoEntity m_data;
   private List<String> m_displayTexts;
+  private int m_pageSize;
+  private long m_pageOffset;
+  private Object[] m_pageKeyset;
 
   public SearchFilter() {
     m_displayTexts = new ArrayList<>();
@@ -45,6 +54,11 @@ public class SearchFilter implements Serializable {
       m_data = mapper.readValue(mapper.writeValue(other.m_data), other.m_data.getClass());
     }
     m_displayTexts = new ArrayList<>(other.m_displayTexts);
+    m_pageSize = other.m_pageSize;
+    m_pageOffset = other.m_pageOffset;
+    if (other.m_pageKeyset != null) {
+      m_pageKeyset = Arrays.copyOf(other.m_pageKeyset, other.m_pageKeyset.length);
+    }
   }
 
   /**
@@ -78,6 +92,9 @@ public class SearchFilter implements Serializable {
     m_displayTexts.clear();
     m_formData = null;
     m_data = null;
+    m_pageSize = 0;
+    m_pageOffset = 0;
+    m_pageKeyset = null;
   }
 
   public String[] getDisplayTexts() {
@@ -111,6 +128,61 @@ public class SearchFilter implements Serializable {
     m_completed = b;
   }
 
+  /**
+   * @return maximum number of rows to load, 0 if all rows should be loaded (default)
+   * @since 24.1
+   */
+  public int getPageSize() {
+    return m_pageSize;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public void setPageSize(int pageSize) {
+    m_pageSize = pageSize;
+  }
+
+  /**
+   * @return <code>true</code> if a page of rows should be loaded instead of all rows
+   * @since 24.1
+   */
+  public boolean isPaged() {
+    return m_pageSize > 0;
+  }
+
+  /**
+   * @return number of rows already loaded, i.e. the number of rows to skip for offset paging
+   * @since 24.1
+   */
+  public long getPageOffset() {
+    return m_pageOffset;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public void setPageOffset(long pageOffset) {
+    m_pageOffset = pageOffset;
+  }
+
+  /**
+   * @return the sort column values of the last row already loaded, as returned by the data provider with
+   *         {@link org.eclipse.scout.rt.shared.data.page.AbstractTablePageData#getNextPageKeyset()}. <code>null</code>
+   *         for the first page or if the data provider does not support keyset paging.
+   * @since 24.1
+   */
+  public Object[] getPageKeyset() {
+    return m_pageKeyset;
+  }
+
+  /**
+   * @since 24.1
+   */
+  public void setPageKeyset(Object[] pageKeyset) {
+    m_pageKeyset = pageKeyset;
+  }
+
   /**
    * Creates a copy of this instance. The copy is basically a deep copy, but immutable objects are shallow copied.
    */
@@ -141,6 +213,9 @@ public class SearchFilter implements Serializable {
     result = prime * result + ((m_displayTexts == null) ? 0 : m_displayTexts.hashCode());
     result = prime * result + ((m_formData == null) ? 0 : m_formData.hashCode());
     result = prime * result + ((m_data == null) ? 0 : m_data.hashCode());
+    result = prime * result + m_pageSize;
+    result = prime * result + Long.hashCode(m_pageOffset);
+    result = prime * result + Arrays.hashCode(m_pageKeyset);
     return result;
   }
 
@@ -183,6 +258,9 @@ public class SearchFilter implements Serializable {
     else if (!m_data.equals(other.m_data)) {
       return false;
     }
-    return true;
+    if (m_pageSize != other.m_pageSize || m_pageOffset != other.m_pageOffset) {
+      return false;
+    }
+    return Arrays.equals(m_pageKeyset, other.m_pageKeyset);
   }
 }
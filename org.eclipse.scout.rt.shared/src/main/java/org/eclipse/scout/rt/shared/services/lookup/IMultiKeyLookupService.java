@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.services.lookup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Optional extension of {@link ILookupService} for services that can resolve several keys at once.
+ * <p>
+ * {@link IBatchLookupService} implementations use this contract to collapse key lookups which only differ in their key
+ * into a single call, e.g. a table column with many distinct smart values.
+ *
+ * @since 24.1
+ */
+public interface IMultiKeyLookupService<KEY_TYPE> extends ILookupService<KEY_TYPE> {
+
+  /**
+   * Lookup by several keys. Except for the key, all properties of the given call (e.g. master, active) are applied to
+   * every key. The key of the call itself is ignored.
+   *
+   * @return the rows per key, the result is the same as calling {@link #getDataByKey(ILookupCall)} for each key. Keys
+   *         without rows may be missing in the map.
+   */
+  Map<KEY_TYPE, List<ILookupRow<KEY_TYPE>>> getDataByKeys(ILookupCall<KEY_TYPE> call, Collection<KEY_TYPE> keys);
+}
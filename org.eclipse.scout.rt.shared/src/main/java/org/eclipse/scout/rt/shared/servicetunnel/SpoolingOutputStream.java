@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link OutputStream} keeping the written data in memory up to a given threshold. As soon as more data is written,
+ * the data is spooled to a temporary file.
+ * <p>
+ * After the stream was closed, the data can be read (repeatedly) using {@link #toInputStream()}. Call
+ * {@link #dispose()} when the data is not used anymore to delete the temporary file.
+ *
+ * @since 24.1
+ */
+public class SpoolingOutputStream extends OutputStream {
+  private static final Logger LOG = LoggerFactory.getLogger(SpoolingOutputStream.class);
+
+  private final int m_memoryThreshold;
+  private ByteArrayOutputStream m_memoryOut;
+  private File m_file;
+  private OutputStream m_fileOut;
+  private long m_size;
+  private boolean m_closed;
+
+  /**
+   * @param memoryThreshold
+   *          maximum number of bytes kept in memory
+   */
+  public SpoolingOutputStream(int memoryThreshold) {
+    m_memoryThreshold = Math.max(memoryThreshold, 0);
+    m_memoryOut = new ByteArrayOutputStream(Math.min(m_memoryThreshold, 8192));
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    prepareWrite(1).write(b);
+    m_size++;
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    prepareWrite(len).write(b, off, len);
+    m_size += len;
+  }
+
+  protected OutputStream prepareWrite(int len) throws IOException {
+    if (m_closed) {
+      throw new IOException("Stream is closed");
+    }
+    if (m_fileOut == null && m_size + len > m_memoryThreshold) {
+      spool();
+    }
+    return m_fileOut != null ? m_fileOut : m_memoryOut;
+  }
+
+  protected void spool() throws IOException {
+    m_file = Files.createTempFile("scout-spool-", ".tmp").toFile();
+    m_fileOut = new BufferedOutputStream(Files.newOutputStream(m_file.toPath()));
+    m_memoryOut.writeTo(m_fileOut);
+    m_memoryOut = null;
+    LOG.debug("Spooled more than {} bytes to file {}", m_memoryThreshold, m_file);
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (m_fileOut != null) {
+      m_fileOut.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    if (m_fileOut != null) {
+      m_fileOut.close();
+    }
+  }
+
+  /**
+   * @return number of bytes written to this stream
+   */
+  public long getSize() {
+    return m_size;
+  }
+
+  /**
+   * @return {@code true} if all data written to this stream is kept in memory
+   */
+  public boolean isInMemory() {
+    return m_file == null;
+  }
+
+  /**
+   * @return the temporary file containing the data or {@code null} if the data is kept in memory
+   */
+  public File getFile() {
+    return m_file;
+  }
+
+  /**
+   * @return a new {@link InputStream} reading the data written to this stream, the stream must be closed already
+   */
+  public InputStream toInputStream() throws IOException {
+    Assertions.assertTrue(m_closed, "Stream is not closed");
+    if (isInMemory()) {
+      return new ByteArrayInputStream(m_memoryOut.toByteArray());
+    }
+    return new BufferedInputStream(Files.newInputStream(m_file.toPath()));
+  }
+
+  /**
+   * @return the data written to this stream as byte array. If the data was spooled to a file, the whole file is read
+   *         into memory.
+   */
+  public byte[] toByteArray() throws IOException {
+    Assertions.assertTrue(m_closed, "Stream is not closed");
+    if (isInMemory()) {
+      return m_memoryOut.toByteArray();
+    }
+    return Files.readAllBytes(m_file.toPath());
+  }
+
+  /**
+   * Closes this stream and deletes the temporary file (if any).
+   */
+  public void dispose() {
+    try {
+      close();
+    }
+    catch (IOException e) {
+      LOG.debug("Could not close spooling stream", e);
+    }
+    if (m_file != null) {
+      try {
+        Files.deleteIfExists(m_file.toPath());
+      }
+      catch (IOException e) {
+        LOG.warn("Could not delete temporary file {}", m_file, e);
+      }
+      m_file = null;
+    }
+    m_memoryOut = null;
+  }
+}
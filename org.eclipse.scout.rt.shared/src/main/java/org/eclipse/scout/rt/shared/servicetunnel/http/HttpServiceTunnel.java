@@ -10,36 +10,59 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.reflect.Method;
+import java.net.URI;
 import java.net.URL;
+import java.util.Map.Entry;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import org.apache.hc.client5.http.ContextBuilder;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.protocol.HttpContext;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.http.async.AbstractAsyncHttpClientManager;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.SpoolingOutputStream;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelAsyncHttpClientManagerProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelRequestMemoryThresholdProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.api.client.http.AbstractInputStreamContent;
 import com.google.api.client.http.GenericUrl;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
 import com.google.api.client.http.HttpResponse;
 
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+
 /**
  * Abstract tunnel used to invoke a service through HTTP.
  */
@@ -47,11 +70,14 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private static final Logger LOG = LoggerFactory.getLogger(HttpServiceTunnel.class);
 
   public static final String TOKEN_AUTH_HTTP_HEADER = "X-ScoutAccessToken";
+  protected static final String TRACER_NAME = "scout.ServiceTunnel";
 
   private IServiceTunnelContentHandler m_contentHandler;
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final Class<? extends AbstractAsyncHttpClientManager> m_asyncHttpClientManagerClass;
+  private final int m_requestMemoryThreshold;
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -61,6 +87,8 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     m_serverUrl = url;
     m_genericUrl = url != null ? new GenericUrl(url) : null;
     m_active = url != null;
+    m_asyncHttpClientManagerClass = CONFIG.getPropertyValue(HttpServiceTunnelAsyncHttpClientManagerProperty.class);
+    m_requestMemoryThreshold = CONFIG.getPropertyValue(HttpServiceTunnelRequestMemoryThresholdProperty.class);
   }
 
   protected static URL getConfiguredServerUrl() {
@@ -86,6 +114,16 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     return m_serverUrl;
   }
 
+  /**
+   * @return maximum number of bytes of a serialized request kept in memory, larger requests are spooled to a temporary
+   *         file
+   * @see HttpServiceTunnelRequestMemoryThresholdProperty
+   * @since 24.1
+   */
+  protected int getRequestMemoryThreshold() {
+    return m_requestMemoryThreshold;
+  }
+
   /**
    * Execute a {@link ServiceTunnelRequest}, returns the plain {@link HttpResponse} - (executed and) ready to be
    * processed to create a {@link ServiceTunnelResponse}.
@@ -100,6 +138,41 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return buildRequest(call, callData).execute();
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} whose data was spooled to a temporary file, see
+   * {@link #executeRequest(ServiceTunnelRequest, byte[])}. The request data is streamed from the file.
+   *
+   * @since 24.1
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, SpoolingOutputStream callData) throws IOException {
+    return buildRequest(call, callData).execute();
+  }
+
+  /**
+   * Creates the {@link HttpRequest} for a {@link ServiceTunnelRequest} including all HTTP headers, see
+   * {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}.
+   *
+   * @since 24.1
+   */
+  protected HttpRequest buildRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return buildRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Creates the {@link HttpRequest} for a {@link ServiceTunnelRequest} whose data is streamed from a
+   * {@link SpoolingOutputStream}. If the data was spooled to a temporary file, <code>null</code> is passed as
+   * <code>callData</code> to {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}.
+   *
+   * @since 24.1
+   */
+  protected HttpRequest buildRequest(ServiceTunnelRequest call, SpoolingOutputStream callData) throws IOException {
+    return buildRequest(call, new SpooledContent(null, callData, false), callData.isInMemory() ? callData.toByteArray() : null);
+  }
+
+  private HttpRequest buildRequest(ServiceTunnelRequest call, AbstractInputStreamContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -110,13 +183,106 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
     headers.put("Pragma", "no-cache");
     addCustomHeaders(request, call, callData);
-    return request.execute();
+    return request;
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} using the client of {@link #getAsyncHttpClientManager()} and wait for the
+   * complete response. With an HTTP/2 client manager, concurrent calls of this method are multiplexed over a single
+   * connection.
+   * <p>
+   * The async client keeps the whole request and response data in memory, hence
+   * {@link HttpServiceTunnelRequestMemoryThresholdProperty} does not apply.
+   *
+   * @see #createAsyncRequest(ServiceTunnelRequest, byte[])
+   * @since 24.1
+   */
+  protected SimpleHttpResponse executeAsyncRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    SimpleHttpRequest request = createAsyncRequest(call, callData);
+    Future<SimpleHttpResponse> future = getAsyncHttpClientManager().getClient().execute(request, createAsyncHttpContext(), null);
+    try {
+      return future.get();
+    }
+    catch (InterruptedException e) {
+      future.cancel(true);
+      Thread.currentThread().interrupt(); // restore interruption status, see RemoteServiceInvocationCallable
+      InterruptedIOException ioe = new InterruptedIOException("Interrupted while waiting for the service tunnel response");
+      ioe.initCause(e);
+      throw ioe;
+    }
+    catch (CancellationException e) {
+      throw new IOException("Service tunnel request was cancelled", e);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    }
+  }
+
+  /**
+   * Creates the request for the async HTTP client. The request is derived from
+   * {@link #buildRequest(ServiceTunnelRequest, byte[])}, hence the same HTTP headers are sent as for
+   * {@link #executeRequest(ServiceTunnelRequest, byte[])}.
+   *
+   * @since 24.1
+   */
+  protected SimpleHttpRequest createAsyncRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    HttpRequest request = buildRequest(call, callData);
+    SimpleRequestBuilder builder = SimpleRequestBuilder.post(URI.create(request.getUrl().build()));
+    for (Entry<String, Object> header : request.getHeaders().entrySet()) {
+      String name = header.getKey();
+      // content type is sent with the body, content decoding is not supported by the async client
+      if ("Content-Type".equalsIgnoreCase(name) || "Accept-Encoding".equalsIgnoreCase(name)) {
+        continue;
+      }
+      if (header.getValue() instanceof Iterable) {
+        for (Object value : (Iterable<?>) header.getValue()) {
+          builder.addHeader(name, String.valueOf(value));
+        }
+      }
+      else if (header.getValue() != null) {
+        builder.addHeader(name, String.valueOf(header.getValue()));
+      }
+    }
+    String contentType = getContentHandler().getContentType();
+    return builder
+        .setBody(callData, contentType != null ? ContentType.parse(contentType) : ContentType.APPLICATION_OCTET_STREAM)
+        .build();
+  }
+
+  /**
+   * Cookies are processed by the I/O threads of the async client, hence the cookie store of the current session is
+   * resolved here.
+   */
+  protected HttpContext createAsyncHttpContext() {
+    return ContextBuilder.create()
+        .useCookieStore(getAsyncHttpClientManager().getCookieStore().getCurrentSessionCookieStore())
+        .build();
+  }
+
+  /**
+   * @return the async HTTP client manager used to send the service requests or {@code null} if the
+   *         {@link #getHttpTransportManager() HTTP transport} is used
+   * @see HttpServiceTunnelAsyncHttpClientManagerProperty
+   * @since 24.1
+   */
+  protected AbstractAsyncHttpClientManager<?> getAsyncHttpClientManager() {
+    if (m_asyncHttpClientManagerClass == null) {
+      return null;
+    }
+    return BEANS.get(m_asyncHttpClientManagerClass);
   }
 
   /**
@@ -134,13 +300,15 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array, <code>null</code> if the data was spooled to a temporary file (see
+   *          {@link HttpServiceTunnelRequestMemoryThresholdProperty})
    * @throws IOException
    * @since 6.0
    */
   protected void addCustomHeaders(HttpRequest httpRequest, ServiceTunnelRequest call, byte[] callData) throws IOException {
     addSignatureHeader(httpRequest, callData);
     addCorrelationId(httpRequest);
+    addTraceContext(httpRequest);
   }
 
   protected void addSignatureHeader(HttpRequest httpRequest, byte[] callData) throws IOException {
@@ -165,6 +333,14 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
   }
 
+  /**
+   * Method invoked to add the current OpenTelemetry trace context as W3C <code>traceparent</code> and
+   * <code>tracestate</code> HTTP headers to the request.
+   */
+  protected void addTraceContext(final HttpRequest httpRequest) {
+    BEANS.get(TracingHelper.class).injectCurrentContext(httpRequest.getHeaders(), HttpHeaders::set);
+  }
+
   /**
    * @return msgEncoder used to encode and decode a request / response to and from the binary stream. Default is the
    *         {@link BinaryServiceTunnelContentHandler} which handles binary messages
@@ -203,6 +379,23 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
 
   @Override
   protected ServiceTunnelResponse tunnel(final ServiceTunnelRequest serviceRequest) {
+    final TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    return tracingHelper.wrapInSpan(tracingHelper.getTracer(TRACER_NAME), createSpanName(serviceRequest), SpanKind.CLIENT, span -> {
+      span.setAttribute("rpc.system", "scout");
+      span.setAttribute("rpc.service", serviceRequest.getServiceInterfaceClassName());
+      span.setAttribute("rpc.method", serviceRequest.getOperation());
+      ServiceTunnelResponse serviceResponse = tunnelInternal(serviceRequest);
+      if (serviceResponse.getException() != null) {
+        span.setStatus(StatusCode.ERROR);
+      }
+      return serviceResponse;
+    });
+  }
+
+  /**
+   * Tunnels the service request on behalf of the span created in {@link #tunnel(ServiceTunnelRequest)}.
+   */
+  protected ServiceTunnelResponse tunnelInternal(final ServiceTunnelRequest serviceRequest) {
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
     }
@@ -215,7 +408,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     // Invoke the service operation asynchronously (to enable cancellation) and wait until completed or cancelled.
     final IFuture<ServiceTunnelResponse> future = Jobs
         .schedule(remoteInvocationCallable,
-            Jobs.newInput().withRunContext(RunContext.CURRENT.get().copy())
+            Jobs.newInput().withRunContext(RunContext.CURRENT.get().copy().withOpenTelemetryContext(Context.current()))
                 .withName(createServiceRequestName(requestSequence))
                 .withExceptionHandling(null, false)) // do not handle uncaught exceptions because typically invoked from within a model job (might cause a deadlock, because ClientExceptionHandler schedules and waits for a model job to visualize the exception).
         .whenDone(event -> {
@@ -245,6 +438,24 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     // subclasses may intercept HTTP response
   }
 
+  /**
+   * Same as {@link #interceptHttpResponse(HttpResponse, ServiceTunnelRequest)} for responses received by the async
+   * HTTP client.
+   *
+   * @since 24.1
+   */
+  protected void interceptAsyncHttpResponse(SimpleHttpResponse httpResponse, ServiceTunnelRequest call) {
+    // subclasses may intercept HTTP response
+  }
+
+  /**
+   * Returns the name of the span created for the service request, e.g. <code>IMyService.load</code>.
+   */
+  protected String createSpanName(final ServiceTunnelRequest serviceRequest) {
+    final String serviceInterfaceClassName = serviceRequest.getServiceInterfaceClassName();
+    return serviceInterfaceClassName.substring(serviceInterfaceClassName.lastIndexOf('.') + 1) + "." + serviceRequest.getOperation();
+  }
+
   /**
    * Returns the name to decorate the thread's name while executing the service request.
    */
@@ -10,9 +10,14 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractClassConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
+import org.eclipse.scout.rt.shared.http.async.AbstractAsyncHttpClientManager;
+import org.eclipse.scout.rt.shared.http.async.H2AsyncHttpClientManager;
+import org.eclipse.scout.rt.shared.servicetunnel.SpoolingOutputStream;
 
 public final class HttpServiceTunnelConfigurationProperties {
 
@@ -69,4 +74,59 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  /**
+   * <p>
+   * Configuration property to send service tunnel requests using an async HTTP client instead of the HTTP transport of
+   * {@link HttpServiceTunnelTransportManager}. Using {@link H2AsyncHttpClientManager}, concurrent service requests are
+   * multiplexed over a single HTTP/2 connection.
+   * </p>
+   *
+   * @since 24.1
+   */
+  public static class HttpServiceTunnelAsyncHttpClientManagerProperty extends AbstractClassConfigProperty<AbstractAsyncHttpClientManager> {
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.asyncClientManager";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Fully qualified class name of the async HTTP client manager used by the HTTP service tunnel (e.g. '%s').\n"
+          + "Using an HTTP/2 client manager, concurrent service requests are multiplexed over a single connection instead of using one HTTP/1.1 connection per request. The backend must accept HTTP/2 (for plain HTTP connections with prior knowledge, i.e. 'h2c').\n"
+          + "By default no async client manager is used and service requests are sent using the HTTP transport of the service tunnel.",
+          H2AsyncHttpClientManager.class.getName());
+    }
+  }
+
+  /**
+   * <p>
+   * Configuration property to define the maximum size of a serialized service tunnel request kept in memory. Larger
+   * requests are spooled to a temporary file and streamed from there to the backend (see
+   * {@link SpoolingOutputStream}).
+   * </p>
+   *
+   * @since 24.1
+   */
+  public static class HttpServiceTunnelRequestMemoryThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1024 * 1024;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.requestMemoryThreshold";
+    }
+
+    @Override
+    public String description() {
+      return "Maximum size in bytes of a serialized service tunnel request that is kept in memory.\n"
+          + "Larger requests (e.g. containing big remote files) are spooled to a temporary file and streamed from there to the backend.\n"
+          + "The default value is 1048576 (1 MB).";
+    }
+  }
 }
@@ -9,7 +9,7 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
-import java.io.ByteArrayOutputStream;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
@@ -17,6 +17,7 @@ import java.net.ConnectException;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
@@ -29,6 +30,7 @@ import org.eclipse.scout.rt.shared.ISession;
 import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.SpoolingOutputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -66,16 +68,21 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
     long nBytes = 0;
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
+    // Large requests are spooled to a temporary file instead of being kept in memory.
+    final SpoolingOutputStream requestData = new SpoolingOutputStream(m_tunnel.getRequestMemoryThreshold());
     try {
       // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
+      m_tunnel.getContentHandler().writeRequest(requestData, m_serviceRequest);
+      requestData.close();
+      nBytes = requestData.getSize();
 
       // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      if (m_tunnel.getAsyncHttpClientManager() != null) {
+        return readAsyncResponse(m_tunnel.executeAsyncRequest(m_serviceRequest, requestData.toByteArray()));
+      }
+      HttpResponse resp = requestData.isInMemory()
+          ? m_tunnel.executeRequest(m_serviceRequest, requestData.toByteArray())
+          : m_tunnel.executeRequest(m_serviceRequest, requestData);
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
@@ -130,6 +137,7 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
       throw e;
     }
     finally {
+      requestData.dispose();
       if (LOG.isDebugEnabled()) {
         final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tStart);
         LOG.debug("TIME {}.{} {}ms {} bytes", m_serviceRequest.getServiceInterfaceClassName(), m_serviceRequest.getOperation(), elapsedMillis, nBytes);
@@ -137,6 +145,26 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
     }
   }
 
+  /**
+   * Creates the {@link ServiceTunnelResponse} from a response received by the async HTTP client of the tunnel.
+   */
+  protected ServiceTunnelResponse readAsyncResponse(SimpleHttpResponse resp) throws IOException, ClassNotFoundException {
+    m_tunnel.interceptAsyncHttpResponse(resp, m_serviceRequest);
+    if (resp.getCode() < 200 || resp.getCode() > 299) {
+      return new ServiceTunnelResponse(new HttpServiceTunnelException(resp.getCode(), "Service tunnel request failed with status code {}", resp.getCode()));
+    }
+
+    byte[] body = resp.getBodyBytes();
+    ServiceTunnelResponse response = body != null ? m_tunnel.getContentHandler().readResponse(new ByteArrayInputStream(body)) : null;
+    if (response == null) {
+      return new ServiceTunnelResponse(new ProcessingException("Response contains no content")
+          .withContextInfo("http-status", "{} {}", resp.getCode(), resp.getReasonPhrase())
+          .withContextInfo("content-type", resp.getContentType())
+          .withContextInfo("http-version", resp.getVersion()));
+    }
+    return response;
+  }
+
   /**
    * Cancels the remote service operation on server side.
    */
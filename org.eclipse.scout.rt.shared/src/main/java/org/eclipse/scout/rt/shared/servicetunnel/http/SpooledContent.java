@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.SpoolingOutputStream;
+
+import com.google.api.client.http.AbstractInputStreamContent;
+import com.google.api.client.util.Preconditions;
+
+/**
+ * Implementation of {@link AbstractInputStreamContent} based on a closed {@link SpoolingOutputStream}. The content is
+ * streamed from memory or from the temporary file of the {@link SpoolingOutputStream} and is repeatable depending on
+ * the flag retrySupported.
+ *
+ * @since 24.1
+ */
+public class SpooledContent extends AbstractInputStreamContent {
+  private final SpoolingOutputStream m_spool;
+  private boolean m_retrySupported;
+
+  public SpooledContent(String type, SpoolingOutputStream spool, boolean retrySupported) {
+    super(type);
+    m_spool = Preconditions.checkNotNull(spool);
+    m_retrySupported = retrySupported;
+  }
+
+  @Override
+  public long getLength() {
+    return m_spool.getSize();
+  }
+
+  @Override
+  public boolean retrySupported() {
+    return m_retrySupported;
+  }
+
+  @Override
+  public InputStream getInputStream() throws IOException {
+    return m_spool.toInputStream();
+  }
+
+  public SpooledContent setRetrySupported(boolean retrySupported) {
+    m_retrySupported = retrySupported;
+    return this;
+  }
+
+  @Override
+  public SpooledContent setType(String type) {
+    super.setType(type);
+    return this;
+  }
+
+  @Override
+  public SpooledContent setCloseInputStream(boolean closeInputStream) {
+    super.setCloseInputStream(closeInputStream);
+    return this;
+  }
+}
@@ -11,6 +11,12 @@ package org.eclipse.scout.rt.shared.ui.webresource;
 
 import static org.eclipse.scout.rt.platform.util.CollectionUtility.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
@@ -81,6 +87,22 @@ public class WebResources {
     return WEB_RESOURCES.get().resolveWebResourceInternal(path, minified, cacheEnabled);
   }
 
+  /**
+   * Tries to find a precompressed variant of the given resource, e.g. a <code>.gz</code> or <code>.br</code> file
+   * created by the build next to the resource.
+   *
+   * @param descriptor
+   *          The resource as returned by {@link #resolveScriptResource(String, boolean, boolean, String)} or
+   *          {@link #resolveWebResource(String, boolean, boolean)}.
+   * @param fileSuffix
+   *          The file suffix of the variant, e.g. <code>.gz</code>
+   * @return An {@link Optional} holding the {@link URL} of the variant or an empty {@link Optional} if there is none.
+   * @since 24.1
+   */
+  public static Optional<URL> resolvePrecompressedResource(WebResourceDescriptor descriptor, String fileSuffix) {
+    return WEB_RESOURCES.get().resolvePrecompressedResourceInternal(descriptor, fileSuffix);
+  }
+
   protected List<WebResourceDescriptor> resolveScriptResourceInternal(String path, boolean minified, boolean cacheEnabled, String theme) {
     return resolveResource(resolver -> resolver.resolveScriptResource(cleanPath(path), minified, cacheEnabled, theme));
   }
@@ -89,6 +111,25 @@ public class WebResources {
     return resolveResource(resolver -> resolver.resolveWebResource(cleanPath(path), minified, cacheEnabled));
   }
 
+  protected Optional<URL> resolvePrecompressedResourceInternal(WebResourceDescriptor descriptor, String fileSuffix) {
+    if (descriptor == null || !StringUtility.hasText(fileSuffix)) {
+      return Optional.empty();
+    }
+    try {
+      URL url = new URL(descriptor.getUrl().toExternalForm() + fileSuffix);
+      if ("file".equals(url.getProtocol())) {
+        return Files.isRegularFile(Paths.get(url.toURI())) ? Optional.of(url) : Optional.empty();
+      }
+      try (InputStream in = url.openStream()) {
+        return Optional.of(url);
+      }
+    }
+    catch (IOException | URISyntaxException | IllegalArgumentException e) { // NOSONAR
+      // no such variant
+      return Optional.empty();
+    }
+  }
+
   protected List<WebResourceDescriptor> resolveResource(Function<IWebResourceResolver, List<WebResourceDescriptor>> callFunc) {
     if (CONFIG.getPropertyValue(LoadWebResourcesFromFilesystemConfigProperty.class)) {
       List<WebResourceDescriptor> resFromFilesystem = arrayListWithoutNullElements(callFunc.apply(FS_RESOLVER.get()));
@@ -11,12 +11,16 @@ package org.eclipse.scout.rt.ui.html;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
+import org.eclipse.scout.rt.ui.html.json.JsonResponse;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import org.junit.Test;
 
@@ -40,15 +44,16 @@ public class ResponseHistoryTest {
     assertNull(history.getResponseForRequest(null));
 
     // Insert two requests
-    JSONObject resp1 = new JSONObject();
-    JSONObject resp2 = new JSONObject();
+    JSONObject resp1 = createResponse(7L);
+    JSONObject resp2 = createResponse(8L);
     history.registerResponse(7L, resp1, 1L);
     history.registerResponse(8L, resp2, 2L);
 
-    // Test getters
-    assertSame(resp1, history.getResponse(7L));
+    // Test getters (the newest response is kept as registered, older responses are compacted)
+    assertNotSame(resp1, history.getResponse(7L));
+    assertJsonEquals(resp1, history.getResponse(7L));
     assertSame(resp2, history.getResponse(8L));
-    assertSame(resp1, history.getResponseForRequest(1L));
+    assertJsonEquals(resp1, history.getResponseForRequest(1L));
     assertSame(resp2, history.getResponseForRequest(2L));
     assertEquals(Long.valueOf(1), history.getRequestSequenceNo(7L));
     assertEquals(Long.valueOf(2), history.getRequestSequenceNo(8L));
@@ -90,7 +95,7 @@ public class ResponseHistoryTest {
     List<JSONObject> all = new ArrayList<>();
     // Insert many requests
     for (int i = 0; i < 20; i++) {
-      JSONObject resp = new JSONObject();
+      JSONObject resp = createResponse(i);
       all.add(resp);
       history.registerResponse(Long.valueOf(i), resp, Long.valueOf(i));
       assertEquals(Math.min(i + 1, 10), history.size());
@@ -100,9 +105,9 @@ public class ResponseHistoryTest {
     assertNull(history.getResponse(1L));
     assertNull(history.getResponse(2L));
     assertNull(history.getResponse(9L));
-    assertSame(all.get(10), history.getResponse(10L));
-    assertSame(all.get(11), history.getResponse(11L));
-    assertSame(all.get(12), history.getResponse(12L));
+    assertJsonEquals(all.get(10), history.getResponse(10L));
+    assertJsonEquals(all.get(11), history.getResponse(11L));
+    assertJsonEquals(all.get(12), history.getResponse(12L));
     assertSame(all.get(19), history.getResponse(19L));
     assertNull(history.getResponse(20L));
   }
@@ -150,4 +155,60 @@ public class ResponseHistoryTest {
     history.registerResponse(1L, new JSONObject(), 2L);
     history.registerResponse(1L, new JSONObject(), 3L); // response sequence no. already registered
   }
+
+  @Test
+  public void testSyncResponse() {
+    ResponseHistory history = new ResponseHistory();
+    history.registerResponse(1L, createResponse(1L), 1L);
+    history.registerResponse(2L, createResponse(2L), 2L);
+
+    JSONObject syncResponse = history.toSyncResponse();
+    assertEquals(2L, syncResponse.getLong(JsonResponse.PROP_SEQUENCE_NO));
+    assertTrue(syncResponse.getBoolean(JsonResponse.PROP_COMBINED));
+    assertEquals(2, syncResponse.getJSONObject(JsonResponse.PROP_ADAPTER_DATA).length());
+    assertEquals(2, syncResponse.getJSONArray(JsonResponse.PROP_EVENTS).length());
+    assertEquals("\u00e4\u00f6\u00fc 2", syncResponse.getJSONObject(JsonResponse.PROP_ADAPTER_DATA).getJSONObject("a2").getString("text"));
+    assertTrue(history.byteSize() > 0);
+  }
+
+  @Test
+  public void testCompactOnlyUnacknowledgedResponses() {
+    ResponseHistory history = new ResponseHistory();
+    history.registerResponse(1L, createResponse(1L), 1L);
+    assertEquals(0, history.byteSize());
+
+    // response #1 is acknowledged before the next response is registered: nothing to compact
+    history.confirmResponseProcessed(1L);
+    history.registerResponse(2L, createResponse(2L), 2L);
+    assertEquals(0, history.byteSize());
+
+    // response #2 is not acknowledged: it is compacted when response #3 is registered
+    history.registerResponse(3L, createResponse(3L), 3L);
+    assertTrue(history.byteSize() > 0);
+    assertJsonEquals(createResponse(2L), history.getResponse(2L));
+
+    history.confirmResponseProcessed(2L);
+    assertEquals(0, history.byteSize());
+  }
+
+  protected static JSONObject createResponse(long sequenceNo) {
+    JSONObject adapter = new JSONObject();
+    adapter.put("id", "a" + sequenceNo);
+    adapter.put("text", "\u00e4\u00f6\u00fc " + sequenceNo);
+    JSONObject adapterData = new JSONObject();
+    adapterData.put("a" + sequenceNo, adapter);
+    JSONObject event = new JSONObject();
+    event.put("target", "a" + sequenceNo);
+    event.put("type", "property");
+
+    JSONObject response = new JSONObject();
+    response.put(JsonResponse.PROP_SEQUENCE_NO, sequenceNo);
+    response.put(JsonResponse.PROP_ADAPTER_DATA, adapterData);
+    response.put(JsonResponse.PROP_EVENTS, new JSONArray().put(event));
+    return response;
+  }
+
+  protected static void assertJsonEquals(JSONObject expected, JSONObject actual) {
+    assertEquals(expected.toString(), actual == null ? null : actual.toString());
+  }
 }
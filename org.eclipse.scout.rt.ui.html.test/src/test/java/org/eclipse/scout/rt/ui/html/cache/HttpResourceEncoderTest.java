@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.cache;
+
+import static org.junit.Assert.*;
+
+import java.nio.charset.StandardCharsets;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.resource.BinaryResource;
+import org.eclipse.scout.rt.platform.resource.BinaryResources;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceEncoder;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+public class HttpResourceEncoderTest {
+
+  private HttpResourceEncoder encoder;
+  private boolean oldDevMode;
+
+  @Before
+  public void before() {
+    oldDevMode = BEANS.get(PlatformDevModeProperty.class).getValue();
+    BEANS.get(PlatformDevModeProperty.class).setValue(false);
+    encoder = BEANS.get(HttpResourceEncoder.class);
+  }
+
+  @After
+  public void after() {
+    BEANS.get(PlatformDevModeProperty.class).setValue(oldDevMode);
+  }
+
+  @Test
+  public void testGzipCreatedOnce() throws Exception {
+    HttpCacheObject obj = createCacheObject(StringUtility.repeat("function() {}\n", 200), true);
+
+    assertEquals(HttpResourceEncoder.GZIP, encoder.negotiateEncoding(createRequest("gzip, deflate"), obj));
+    BinaryResource gzipped = obj.getEncodedResource(HttpResourceEncoder.GZIP);
+    assertTrue(gzipped.getContentLength() < obj.getResource().getContentLength());
+    assertArrayEquals(obj.getResource().getContent(), IOUtility.uncompressGzip(gzipped.getContent()));
+    assertEquals(obj.getResource().getContentType(), gzipped.getContentType());
+
+    assertEquals(HttpResourceEncoder.GZIP, encoder.negotiateEncoding(createRequest("gzip"), obj));
+    assertSame(gzipped, obj.getEncodedResource(HttpResourceEncoder.GZIP));
+  }
+
+  @Test
+  public void testPrecompressedBrotliPreferred() {
+    HttpCacheObject obj = createCacheObject(StringUtility.repeat("function() {}\n", 200), true);
+    obj.putEncodedResource(HttpResourceEncoder.BROTLI, encoder.createEncodedResource(obj.getResource(), new byte[]{1, 2, 3}));
+
+    assertEquals(HttpResourceEncoder.BROTLI, encoder.negotiateEncoding(createRequest("gzip, deflate, br"), obj));
+    assertEquals(HttpResourceEncoder.GZIP, encoder.negotiateEncoding(createRequest("gzip, br;q=0"), obj));
+    assertEquals(HttpResourceEncoder.GZIP, encoder.negotiateEncoding(createRequest("gzip"), obj));
+  }
+
+  @Test
+  public void testNotAccepted() {
+    HttpCacheObject obj = createCacheObject(StringUtility.repeat("function() {}\n", 200), true);
+    assertNull(encoder.negotiateEncoding(createRequest(null), obj));
+    assertNull(encoder.negotiateEncoding(createRequest("deflate"), obj));
+    assertNull(encoder.negotiateEncoding(createRequest("gzip;q=0"), obj));
+    assertNull(obj.getEncodedResource(HttpResourceEncoder.GZIP));
+  }
+
+  @Test
+  public void testSmallResource() {
+    HttpCacheObject obj = createCacheObject("function() {}", true);
+    assertNull(encoder.negotiateEncoding(createRequest("gzip"), obj));
+  }
+
+  @Test
+  public void testNotCacheable() {
+    HttpCacheObject obj = createCacheObject(StringUtility.repeat("function() {}\n", 200), false);
+    assertNull(encoder.negotiateEncoding(createRequest("gzip"), obj));
+    assertNull(obj.getEncodedResource(HttpResourceEncoder.GZIP));
+  }
+
+  @Test
+  public void testCompressionNotBeneficial() {
+    HttpCacheObject obj = createCacheObject(StringUtility.repeat("x", 300), true);
+    obj.putEncodedResource(HttpResourceEncoder.BROTLI, encoder.createEncodedResource(obj.getResource(), new byte[400]));
+    assertSame(obj.getResource(), obj.getEncodedResource(HttpResourceEncoder.BROTLI));
+    assertEquals(HttpResourceEncoder.GZIP, encoder.negotiateEncoding(createRequest("br, gzip"), obj));
+  }
+
+  protected HttpCacheObject createCacheObject(String content, boolean cachingAllowed) {
+    BinaryResource res = BinaryResources.create()
+        .withFilename("a.js")
+        .withContent(content.getBytes(StandardCharsets.UTF_8))
+        .withCachingAllowed(cachingAllowed)
+        .build();
+    return new HttpCacheObject(new HttpCacheKey("/a.js"), res);
+  }
+
+  protected HttpServletRequest createRequest(String acceptEncoding) {
+    HttpServletRequest req = Mockito.mock(HttpServletRequest.class);
+    Mockito.when(req.getHeader("Accept-Encoding")).thenReturn(acceptEncoding);
+    return req;
+  }
+}
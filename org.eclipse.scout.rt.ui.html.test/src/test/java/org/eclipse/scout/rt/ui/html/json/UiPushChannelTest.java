@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class UiPushChannelTest {
+
+  private IUiSession m_uiSession;
+  private AsyncContext m_asyncContext;
+  private ServletResponse m_response;
+  private ByteArrayOutputStream m_out;
+
+  @Before
+  public void before() throws IOException {
+    m_uiSession = mock(IUiSession.class);
+    m_asyncContext = mock(AsyncContext.class);
+    m_response = mock(ServletResponse.class);
+    m_out = new ByteArrayOutputStream();
+    when(m_asyncContext.getResponse()).thenReturn(m_response);
+    when(m_asyncContext.getRequest()).thenReturn(mock(HttpServletRequest.class));
+    when(m_response.getOutputStream()).thenReturn(new P_ServletOutputStream(m_out));
+  }
+
+  @Test
+  public void testSend() {
+    UiPushChannel channel = createChannel();
+    JSONObject response = new JSONObject();
+    response.put(JsonResponse.PROP_SEQUENCE_NO, 5L);
+    response.put(JsonResponse.PROP_EVENTS, "line1\nline2");
+    channel.send(response);
+
+    assertEquals("id: 5\ndata: {\"#\":5,\"events\":\"line1\\nline2\"}\n\n", m_out.toString(UTF_8));
+    assertFalse(channel.isClosed());
+  }
+
+  @Test
+  public void testSendWithoutSequenceNo() {
+    UiPushChannel channel = createChannel();
+    channel.send(new JSONObject());
+
+    assertEquals("data: {}\n\n", m_out.toString(UTF_8));
+  }
+
+  @Test
+  public void testSendFailureClosesChannel() throws IOException {
+    when(m_response.getOutputStream()).thenThrow(new IOException("connection reset"));
+    UiPushChannel channel = createChannel();
+    channel.send(new JSONObject());
+
+    assertTrue(channel.isClosed());
+    verify(m_uiSession).detachPushChannel(channel);
+    verify(m_asyncContext).complete();
+  }
+
+  @Test
+  public void testClose() {
+    UiPushChannel channel = createChannel();
+    channel.close();
+    channel.close();
+    channel.send(new JSONObject());
+
+    assertTrue(channel.isClosed());
+    assertEquals(0, m_out.size());
+    verify(m_uiSession, times(1)).detachPushChannel(channel);
+    verify(m_asyncContext, times(1)).complete();
+  }
+
+  protected UiPushChannel createChannel() {
+    return new UiPushChannel(m_uiSession, m_asyncContext, null, RunContexts.empty(), false);
+  }
+
+  private static class P_ServletOutputStream extends ServletOutputStream {
+    private final ByteArrayOutputStream m_out;
+
+    P_ServletOutputStream(ByteArrayOutputStream out) {
+      m_out = out;
+    }
+
+    @Override
+    public boolean isReady() {
+      return true;
+    }
+
+    @Override
+    public void setWriteListener(WriteListener writeListener) {
+      // nop
+    }
+
+    @Override
+    public void write(int b) {
+      m_out.write(b);
+    }
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json.table;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+
+import org.eclipse.scout.rt.client.testenvironment.TestEnvironmentClientSession;
+import org.eclipse.scout.rt.client.ui.basic.table.ITable;
+import org.eclipse.scout.rt.client.ui.basic.table.ITableRow;
+import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableTextUserFilterState;
+import org.eclipse.scout.rt.testing.client.runner.ClientTestRunner;
+import org.eclipse.scout.rt.testing.client.runner.RunWithClientSession;
+import org.eclipse.scout.rt.testing.platform.runner.RunWithSubject;
+import org.eclipse.scout.rt.ui.html.json.JsonEvent;
+import org.eclipse.scout.rt.ui.html.json.fixtures.JsonAdapterMock;
+import org.eclipse.scout.rt.ui.html.json.fixtures.UiSessionMock;
+import org.eclipse.scout.rt.ui.html.json.table.fixtures.Table;
+import org.eclipse.scout.rt.ui.html.json.testing.JsonTestUtility;
+import org.json.JSONObject;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link JsonTable} with {@link ITable#getViewportRowCount()} &gt; 0.
+ */
+@RunWith(ClientTestRunner.class)
+@RunWithSubject("default")
+@RunWithClientSession(TestEnvironmentClientSession.class)
+public class JsonTableViewportTest {
+  private UiSessionMock m_uiSession;
+
+  @Before
+  public void setUp() {
+    m_uiSession = new UiSessionMock();
+  }
+
+  @Test
+  public void testInitialRows() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    assertEquals(10, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(40, json.getInt(JsonTable.PROP_UNLOADED_ROW_COUNT));
+    assertFalse(json.getBoolean(ITable.PROP_UI_SORT_POSSIBLE));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(9)));
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(10)));
+  }
+
+  @Test
+  public void testInitialRowsContainSelectedRow() {
+    Table table = createTableFixture(50, 10);
+    table.selectRow(table.getRow(30));
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    assertEquals(11, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(39, json.getInt(JsonTable.PROP_UNLOADED_ROW_COUNT));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(30)));
+  }
+
+  @Test
+  public void testRequestRows() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(createJsonRequestRowsEvent(15));
+
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(15, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(Integer.valueOf(25), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_UNLOADED_ROW_COUNT));
+    assertNotNull(jsonTable.tableRowIdsMap().get(table.getRow(24)));
+    assertNull(jsonTable.tableRowIdsMap().get(table.getRow(25)));
+  }
+
+  @Test
+  public void testInsertedRowsOutsideViewportAreNotSent() {
+    Table table = createTableFixture(5, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    for (int i = 0; i < 20; i++) {
+      table.addRowByArray(new Object[]{"new" + i});
+    }
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertEquals(10, jsonTable.tableRowIdsMap().size());
+    assertEquals(Integer.valueOf(15), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_UNLOADED_ROW_COUNT));
+  }
+
+  @Test
+  public void testSelectUnsentRow() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    ITableRow row = table.getRow(40);
+    table.selectRow(row);
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+
+    assertNotNull(jsonTable.tableRowIdsMap().get(row));
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_SELECTED);
+    assertEquals(1, responseEvents.size());
+  }
+
+  @Test
+  public void testDisableViewport() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    table.setViewportRowCount(0);
+
+    assertEquals(50, jsonTable.tableRowIdsMap().size());
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(40, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+  }
+
+  @Test
+  public void testInitialRowsWithUserFilter() {
+    Table table = createTableFixture(50, 10);
+    table.getUserFilterManager().addFilter(new TableTextUserFilterState("row"));
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    JSONObject json = jsonTable.toJson();
+
+    assertEquals(50, json.getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(0, json.getInt(JsonTable.PROP_UNLOADED_ROW_COUNT));
+  }
+
+  /**
+   * The UI evaluates text and column filters, hence it has to know all rows as soon as a filter is active.
+   */
+  @Test
+  public void testUiFilterAddedSendsAllRows() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(createJsonTextFilterAddedEvent("row"));
+
+    assertEquals(50, jsonTable.tableRowIdsMap().size());
+    List<JsonEvent> responseEvents = JsonTestUtility.extractEventsFromResponse(m_uiSession.currentJsonResponse(), JsonTable.EVENT_ROWS_INSERTED);
+    assertEquals(1, responseEvents.size());
+    assertEquals(40, responseEvents.get(0).getData().getJSONArray(JsonTable.PROP_ROWS).length());
+    assertEquals(Integer.valueOf(0), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_UNLOADED_ROW_COUNT));
+
+    // rows inserted while the filter is active are sent as well
+    JsonTestUtility.endRequest(m_uiSession);
+    table.addRowByArray(new Object[]{"new"});
+    JsonTestUtility.processBufferedEvents(m_uiSession);
+    assertEquals(51, jsonTable.tableRowIdsMap().size());
+  }
+
+  /**
+   * Filters without Java representation are only known by the rows the UI reports as filtered.
+   */
+  @Test
+  public void testUiRowFilterSendsAllRows() {
+    Table table = createTableFixture(50, 10);
+    JsonTable<ITable> jsonTable = m_uiSession.createJsonAdapter(table, new JsonAdapterMock());
+    jsonTable.toJson();
+    JsonTestUtility.endRequest(m_uiSession);
+
+    jsonTable.handleUiEvent(JsonTableTest.createJsonRowsFilteredEvent(jsonTable.getTableRowId(table.getRow(0))));
+
+    assertEquals(50, jsonTable.tableRowIdsMap().size());
+    assertEquals(Integer.valueOf(0), JsonTestUtility.extractProperty(m_uiSession.currentJsonResponse(), jsonTable.getId(), JsonTable.PROP_UNLOADED_ROW_COUNT));
+  }
+
+  protected static Table createTableFixture(int numRows, int viewportRowCount) {
+    Table table = new Table();
+    table.fill(numRows);
+    table.init();
+    table.setViewportRowCount(viewportRowCount);
+    return table;
+  }
+
+  protected static JsonEvent createJsonTextFilterAddedEvent(String text) {
+    JSONObject data = new JSONObject();
+    data.put("filterType", TableTextUserFilterState.TYPE);
+    data.put("text", text);
+    return new JsonEvent("x", JsonTable.EVENT_FILTER_ADDED, data);
+  }
+
+  protected static JsonEvent createJsonRequestRowsEvent(int count) {
+    JSONObject data = new JSONObject();
+    data.put(JsonTable.PROP_COUNT, count);
+    return new JsonEvent("x", JsonTable.EVENT_REQUEST_ROWS, data);
+  }
+}
@@ -29,6 +29,7 @@ import org.eclipse.scout.rt.ui.html.json.JsonMessageRequestHandler;
 import org.eclipse.scout.rt.ui.html.json.JsonRequest;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.JsonStartupRequest;
+import org.eclipse.scout.rt.ui.html.json.UiPushChannel;
 import org.eclipse.scout.rt.ui.html.res.IUploadable;
 import org.json.JSONObject;
 
@@ -215,6 +216,21 @@ public interface IUiSession {
    */
   void waitForBackgroundJobs(JsonRequest jsonRequest, int pollWaitSeconds) throws InterruptedException;
 
+  /**
+   * Attaches a push channel to this session. From now on, results of background jobs are pushed to the UI through this
+   * channel (in addition to waking up a waiting poll request). A previously attached channel is closed.
+   *
+   * @since 24.1
+   */
+  void attachPushChannel(UiPushChannel pushChannel);
+
+  /**
+   * Detaches the given push channel if it is the currently attached one. Does nothing otherwise.
+   *
+   * @since 24.1
+   */
+  void detachPushChannel(UiPushChannel pushChannel);
+
   /**
    * Sends a "localeChanged" event to the UI. All locale-relevant data (number formats, texts map etc.) is sent along.
    */
@@ -9,13 +9,20 @@
  */
 package org.eclipse.scout.rt.ui.html;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.SortedMap;
 import java.util.TreeMap;
 
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
@@ -29,6 +36,11 @@ import org.slf4j.LoggerFactory;
  * Collects JSON responses and their corresponding <i>request sequence number</i> and <i>response sequence number</i>
  * until they are acknowledged by the client. A maximum of 10 responses is stored in the history.
  * <p>
+ * Usually, a response is acknowledged by the next request of the client. Therefore the newest response is kept as
+ * registered, whereas older responses still waiting for an acknowledgement are converted to their compact serialized
+ * form (UTF-8 encoded JSON text) because they are only needed again in the rare case of a resend. Accessors return new
+ * {@link JSONObject} instances for compacted responses.
+ * <p>
  * This class is thread-safe.
  */
 @Bean
@@ -41,7 +53,7 @@ public class ResponseHistory {
 
   private final Map<Long, Long> m_requestToResponseMap = new HashMap<>(); // RequestSequenceNo -> ResponseSequenceNo
   private final Map<Long, Long> m_responseToRequestMap = new HashMap<>(); // ResponseSequenceNo -> RequestSequenceNo
-  private final SortedMap<Long, JSONObject> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
+  private final SortedMap<Long, P_ResponseEntry> m_responses = new TreeMap<>(); // ResponseSequenceNo -> Response
 
   private UiSession m_uiSession;
 
@@ -78,6 +90,7 @@ public class ResponseHistory {
     Assertions.assertNotNull(responseSequenceNo);
     Assertions.assertNotNull(response);
 
+    List<P_ResponseEntry> entriesToCompact = new ArrayList<>();
     synchronized (m_mutex) {
       Assertions.assertFalse(m_responses.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       if (requestSequenceNo != null) { // optional
@@ -85,7 +98,13 @@ public class ResponseHistory {
         Assertions.assertFalse(m_responseToRequestMap.containsKey(responseSequenceNo), "ResponseSequenceNo #{} already registered", responseSequenceNo);
       }
 
-      m_responses.put(responseSequenceNo, response);
+      // responses which are not acknowledged until the next response is registered are compacted
+      for (P_ResponseEntry entry : m_responses.values()) {
+        if (!entry.isCompact()) {
+          entriesToCompact.add(entry);
+        }
+      }
+      m_responses.put(responseSequenceNo, new P_ResponseEntry(response));
       if (requestSequenceNo != null) { // optional
         m_requestToResponseMap.put(requestSequenceNo, responseSequenceNo);
         m_responseToRequestMap.put(responseSequenceNo, requestSequenceNo);
@@ -99,6 +118,7 @@ public class ResponseHistory {
       }
       LOG.debug("Added response #{} to history {} for UI session {}", responseSequenceNo, m_responses.keySet(), getUiSessionId());
     }
+    entriesToCompact.forEach(P_ResponseEntry::compact); // outside of lock
   }
 
   /**
@@ -141,7 +161,8 @@ public class ResponseHistory {
       Long lastSentSequenceNo = m_responses.lastKey();
       JSONObject combinedAdapterData = new JSONObject();
       JSONArray combinedEvents = new JSONArray();
-      for (JSONObject response : m_responses.values()) {
+      for (P_ResponseEntry entry : m_responses.values()) {
+        JSONObject response = entry.getResponse();
         // combine adapterData
         JSONObject adapterData = response.optJSONObject(JsonResponse.PROP_ADAPTER_DATA);
         if (adapterData != null) {
@@ -202,9 +223,11 @@ public class ResponseHistory {
     if (responseSequenceNo == null) {
       return null;
     }
+    P_ResponseEntry entry;
     synchronized (m_mutex) {
-      return m_responses.get(responseSequenceNo);
+      entry = m_responses.get(responseSequenceNo);
     }
+    return entry == null ? null : entry.getResponse();
   }
 
   /**
@@ -217,6 +240,35 @@ public class ResponseHistory {
     }
   }
 
+  /**
+   * @return the number of bytes used by the compacted responses in the history
+   */
+  public long byteSize() {
+    synchronized (m_mutex) {
+      long byteSize = 0;
+      for (P_ResponseEntry entry : m_responses.values()) {
+        byteSize += entry.byteSize();
+      }
+      return byteSize;
+    }
+  }
+
+  protected byte[] toCompactForm(JSONObject response) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      response.write(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+    catch (IOException e) {
+      // not expected for an in-memory stream
+      throw new PlatformException("Unable to serialize response for UI session {}", getUiSessionId(), e);
+    }
+    return out.toByteArray();
+  }
+
+  protected JSONObject fromCompactForm(byte[] compactResponse) {
+    return new JSONObject(new String(compactResponse, StandardCharsets.UTF_8));
+  }
+
   /**
    * @return the number of responses in the history
    */
@@ -230,4 +282,35 @@ public class ResponseHistory {
   public String toString() {
     return "[" + CollectionUtility.format(m_responses.keySet()) + "]";
   }
+
+  /**
+   * A response in the history, either as registered or in its compact serialized form.
+   */
+  private final class P_ResponseEntry {
+    private JSONObject m_response;
+    private byte[] m_compactResponse;
+
+    private P_ResponseEntry(JSONObject response) {
+      m_response = response;
+    }
+
+    public synchronized boolean isCompact() {
+      return m_compactResponse != null;
+    }
+
+    public synchronized void compact() {
+      if (m_response != null) {
+        m_compactResponse = toCompactForm(m_response);
+        m_response = null;
+      }
+    }
+
+    public synchronized JSONObject getResponse() {
+      return m_response != null ? m_response : fromCompactForm(m_compactResponse);
+    }
+
+    public synchronized long byteSize() {
+      return m_compactResponse != null ? m_compactResponse.length : 0;
+    }
+  }
 }
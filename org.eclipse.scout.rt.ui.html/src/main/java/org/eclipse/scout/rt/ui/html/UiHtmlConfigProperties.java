@@ -22,6 +22,7 @@ import java.util.concurrent.TimeUnit;
 import jakarta.servlet.MultipartConfigElement;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
@@ -128,6 +129,31 @@ public final class UiHtmlConfigProperties {
     }
   }
 
+  /**
+   * @since 24.1
+   */
+  public static class ServerPushEnabledProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return false;
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies whether the results of background jobs are pushed to the browser using server-sent events instead of polling requests.\n"
+          + "The event stream does not occupy a container thread while it is idle. It is reopened after the time specified by property '%s' has elapsed. "
+          + "Browsers not supporting server-sent events fall back to polling.\n"
+          + "By default this property is set to false.", BEANS.get(BackgroundPollingIntervalProperty.class).getKey());
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.ui.serverPushEnabled";
+    }
+  }
+
   public static class UiModelJobsAwaitTimeoutProperty extends AbstractPositiveLongConfigProperty {
 
     @Override
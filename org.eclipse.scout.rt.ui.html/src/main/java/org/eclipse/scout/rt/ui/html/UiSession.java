@@ -78,6 +78,7 @@ import org.eclipse.scout.rt.shared.ui.UiSystem;
 import org.eclipse.scout.rt.shared.ui.UserAgent;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
 import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ServerPushEnabledProperty;
 import org.eclipse.scout.rt.ui.html.json.AbstractJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.IJsonAdapter;
 import org.eclipse.scout.rt.ui.html.json.JsonAdapterRegistry;
@@ -90,6 +91,7 @@ import org.eclipse.scout.rt.ui.html.json.JsonRequestHelper;
 import org.eclipse.scout.rt.ui.html.json.JsonResponse;
 import org.eclipse.scout.rt.ui.html.json.JsonStartupRequest;
 import org.eclipse.scout.rt.ui.html.json.MainJsonObjectFactory;
+import org.eclipse.scout.rt.ui.html.json.UiPushChannel;
 import org.eclipse.scout.rt.ui.html.json.form.fields.JsonFormField;
 import org.eclipse.scout.rt.ui.html.management.SessionMonitorMBean;
 import org.eclipse.scout.rt.ui.html.res.IBinaryResourceConsumer;
@@ -150,6 +152,7 @@ public class UiSession implements IUiSession {
   private volatile IRegistrationHandle m_uiDataAvailableListener;
   private volatile long m_lastAccessedTime;
   private volatile RunMonitor m_pollerMonitor;
+  private volatile UiPushChannel m_pushChannel;
   private volatile boolean m_persistent;
 
   public UiSession() {
@@ -499,6 +502,9 @@ public class UiSession implements IUiSession {
     startupData.put("clientSessionId", m_clientSession.getId()); // Send back clientSessionId to allow the browser to attach to the same client session on page reload
     startupData.put("clientSession", clientSessionAdapterId);
     startupData.put("pollingInterval", CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class));
+    if (CONFIG.getPropertyValue(ServerPushEnabledProperty.class)) {
+      startupData.put("serverPushEnabled", true); // only send if required
+    }
     startupData.put("persistent", isPersistent());
     if (Platform.get().inDevelopmentMode()) {
       startupData.put("inDevelopmentMode", true); // only send if required
@@ -1259,17 +1265,46 @@ public class UiSession implements IUiSession {
     LOG.trace("Background job terminated. Continue request processing...");
   }
 
+  @Override
+  public void attachPushChannel(UiPushChannel pushChannel) {
+    UiPushChannel previousChannel;
+    synchronized (m_pollerQueueLock) {
+      previousChannel = m_pushChannel;
+      m_pushChannel = pushChannel;
+    }
+    if (previousChannel != null && previousChannel != pushChannel) {
+      previousChannel.close();
+    }
+    // Data may have been collected while no channel was attached
+    pushChannel.signal();
+  }
+
+  @Override
+  public void detachPushChannel(UiPushChannel pushChannel) {
+    synchronized (m_pollerQueueLock) {
+      if (m_pushChannel == pushChannel) {
+        m_pushChannel = null;
+      }
+    }
+  }
+
   /**
    * Signals the 'poll-request' to return to the UI. This method never blocks.
    * <p>
    * Internally, a notification token is put into the poller-queue. If a thread is waiting, it will wake up. If no
    * thread is waiting, the token remains in the queue, and the next thread that polls the queue will get the token
    * immediately. If the queue is full (i.e. there is already a token in the queue), this method does nothing.
+   * <p>
+   * If a push channel is attached, it is signaled as well (see {@link #attachPushChannel(UiPushChannel)}).
    */
   @SuppressWarnings("findbugs:RV_RETURN_VALUE_IGNORED_BAD_PRACTICE")
   protected void signalPoller() {
     //noinspection ResultOfMethodCallIgnored
     m_pollerQueue.offer(m_notificationToken);
+    UiPushChannel pushChannel = m_pushChannel;
+    if (pushChannel != null) {
+      pushChannel.signal();
+    }
   }
 
   @Override
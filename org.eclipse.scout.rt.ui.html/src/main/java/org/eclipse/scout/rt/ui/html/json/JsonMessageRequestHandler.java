@@ -26,6 +26,7 @@ import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.Application
 import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.opentelemetry.TracingHelper;
 import org.eclipse.scout.rt.platform.resource.MimeType;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
@@ -45,12 +46,15 @@ import org.json.JSONObject;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.opentelemetry.api.trace.SpanKind;
+
 /**
  * This handler contributes to the {@link UiServlet} as the POST handler for /json.
  */
 @Order(4500)
 public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
   private static final Logger LOG = LoggerFactory.getLogger(JsonMessageRequestHandler.class);
+  protected static final String TRACER_NAME = "scout.JsonMessageRequestHandler";
 
   private final int m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class).intValue();
   private final int m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class).intValue();
@@ -124,7 +128,7 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
           .withThreadLocal(IUiSession.CURRENT, uiSession)
           .withThreadLocal(JsonRequest.CURRENT, jsonRequest)
           .withDiagnostics(BEANS.all(IUiRunContextDiagnostics.class))
-          .run(() -> handleJsonRequest(IUiSession.CURRENT.get(), JsonRequest.CURRENT.get(), req, resp), DefaultExceptionTranslator.class);
+          .run(() -> handleJsonRequestInSpan(IUiSession.CURRENT.get(), JsonRequest.CURRENT.get(), req, resp), DefaultExceptionTranslator.class);
     }
     catch (Exception | PlatformError e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -150,6 +154,18 @@ public class JsonMessageRequestHandler extends AbstractUiServletRequestHandler {
     return true;
   }
 
+  /**
+   * Handles the JSON request within a span. Model jobs scheduled while handling the request are part of the same trace.
+   */
+  protected void handleJsonRequestInSpan(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
+    TracingHelper tracingHelper = BEANS.get(TracingHelper.class);
+    tracingHelper.wrapInSpan(tracingHelper.getTracer(TRACER_NAME), "JSON " + jsonRequest.getRequestType(), SpanKind.SERVER, span -> {
+      span.setAttribute("scout.ui.sessionId", uiSession.getUiSessionId());
+      handleJsonRequest(uiSession, jsonRequest, httpServletRequest, httpServletResponse);
+      return null;
+    });
+  }
+
   protected void handleJsonRequest(IUiSession uiSession, JsonRequest jsonRequest, HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse) throws IOException {
     // If client sent ACK#, cleanup response history accordingly
     uiSession.confirmResponseProcessed(jsonRequest.getAckSequenceNo());
@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.ui.html.json;
 
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
@@ -144,11 +145,12 @@ public class JsonRequestHelper {
 
   /**
    * Writes the given {@link JSONObject} into the given {@link ServletResponse}.
+   * <p>
+   * The JSON text is streamed to the output stream of the response (and therefore compressed on the fly if the response
+   * is wrapped by the gzip filter). Neither the whole JSON string nor its encoded bytes are held in memory, hence no
+   * content length is set.
    */
   public void writeResponse(final ServletResponse servletResponse, final JSONObject jsonResponse) throws IOException {
-    String jsonText = jsonResponse.toString();
-    final byte[] data = jsonText.getBytes(StandardCharsets.UTF_8);
-    servletResponse.setContentLength(data.length);
     if (servletResponse.getContentType() == null) {
       servletResponse.setContentType("application/json");
     }
@@ -158,7 +160,8 @@ public class JsonRequestHelper {
     // Otherwise, the stream gets silently corrupted, which makes the client to loose the connection.
     IRestorer interruption = ThreadInterruption.clear();
     try {
-      servletResponse.getOutputStream().write(data);
+      // the writer is flushed but not closed, the output stream is closed by the container
+      jsonResponse.write(new OutputStreamWriter(servletResponse.getOutputStream(), StandardCharsets.UTF_8));
     }
     catch (final Exception e) {
       if (BEANS.get(ConnectionErrorDetector.class).isConnectionError(e)) {
@@ -172,7 +175,7 @@ public class JsonRequestHelper {
       interruption.restore();
     }
     if (LOG.isTraceEnabled()) {
-      LOG.trace("Returned: {}", formatJsonForLogging(jsonText));
+      LOG.trace("Returned: {}", formatJsonForLogging(jsonResponse.toString()));
     }
     else if (LOG.isDebugEnabled()) {
       LOG.debug("Returned: {}", formatJsonResponseForLogging(jsonResponse));
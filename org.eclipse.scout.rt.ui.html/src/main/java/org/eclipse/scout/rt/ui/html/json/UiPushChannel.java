@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Server-sent event stream of a single browser tab, see {@link UiPushRequestHandler}.
+ * <p>
+ * The channel replaces the poll request: when the {@link IUiSession} signals available background job results, a job
+ * processes a poll request on behalf of the UI and writes the resulting JSON response as event to the stream. No thread
+ * is occupied while the channel is idle. The event id is the response sequence number, therefore the UI processes pushed
+ * responses in the same response queue as all other responses.
+ * <p>
+ * Responses are registered in the response history as usual. If the connection is lost, the UI reconnects with the last
+ * processed response sequence number and receives the responses it missed in one combined response.
+ *
+ * @since 24.1
+ */
+public class UiPushChannel {
+  private static final Logger LOG = LoggerFactory.getLogger(UiPushChannel.class);
+
+  /**
+   * Delay before a signal is processed. Allows some sort of "coalescing background job results" (same as the additional
+   * delay of a poll request).
+   */
+  protected static final long PUSH_DELAY_MILLIS = 100;
+
+  private final IUiSession m_uiSession;
+  private final AsyncContext m_asyncContext;
+  private final JsonRequest m_pollRequest;
+  private final RunContext m_runContext;
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+  private final AtomicBoolean m_pushScheduled = new AtomicBoolean();
+  private final AtomicBoolean m_resumePending;
+  private volatile boolean m_closed;
+
+  /**
+   * @param uiSession
+   *          may be <code>null</code> if the channel is only used to send a final response (e.g. session timeout)
+   * @param pollRequest
+   *          request used to process the session on behalf of the UI
+   * @param runContext
+   *          context to run the push jobs in, should contain {@link IUiSession#CURRENT} and {@link JsonRequest#CURRENT}
+   * @param resume
+   *          {@code true} if responses which were not yet confirmed by the UI are to be sent first (reconnect)
+   */
+  public UiPushChannel(IUiSession uiSession, AsyncContext asyncContext, JsonRequest pollRequest, RunContext runContext, boolean resume) {
+    m_uiSession = uiSession;
+    m_asyncContext = asyncContext;
+    m_pollRequest = pollRequest;
+    m_runContext = runContext;
+    m_resumePending = new AtomicBoolean(resume);
+  }
+
+  public IUiSession getUiSession() {
+    return m_uiSession;
+  }
+
+  public boolean isClosed() {
+    return m_closed;
+  }
+
+  /**
+   * Schedules a job pushing the current response of the UI session. This method never blocks. If a push is already
+   * scheduled, this method does nothing.
+   */
+  public void signal() {
+    if (m_closed || !m_pushScheduled.compareAndSet(false, true)) {
+      return;
+    }
+    Jobs.schedule(this::push, Jobs.newInput()
+        .withRunContext(m_runContext.copy()
+            .withRunMonitor(BEANS.get(RunMonitor.class)))
+        .withName("Pushing JSON response to UI")
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(PUSH_DELAY_MILLIS, TimeUnit.MILLISECONDS))
+        .withExceptionHandling(BEANS.get(ExceptionHandler.class), true));
+  }
+
+  protected void push() {
+    m_pushScheduled.set(false);
+    if (m_closed) {
+      return;
+    }
+
+    // Same as for poll requests: do not wait for a request currently being processed, it takes the data along.
+    // Data may be added after that request transformed its response, therefore try again later.
+    ReentrantLock uiSessionLock = m_uiSession.uiSessionLock();
+    if (!uiSessionLock.tryLock()) {
+      signal();
+      return;
+    }
+    try {
+      if (m_uiSession.isDisposed()) {
+        pushSessionTerminated();
+        return;
+      }
+      if (m_resumePending.getAndSet(false)) {
+        JSONObject syncResponse = m_uiSession.processSyncResponseQueueRequest(m_pollRequest);
+        if (syncResponse != null) {
+          LOG.info("Resuming push channel of UI session {} with combined response #{}", m_uiSession.getUiSessionId(), syncResponse.opt(JsonResponse.PROP_SEQUENCE_NO));
+          send(syncResponse);
+        }
+      }
+      JsonResponse currentResponse = m_uiSession.currentJsonResponse();
+      if (currentResponse == null || currentResponse.isEmpty()) {
+        return;
+      }
+      JSONObject response = m_uiSession.processJsonRequest((HttpServletRequest) m_asyncContext.getRequest(), (HttpServletResponse) m_asyncContext.getResponse(), m_pollRequest);
+      if (response != null) {
+        send(response);
+      }
+    }
+    finally {
+      uiSessionLock.unlock();
+    }
+  }
+
+  /**
+   * The UI receives the same response as a poll request would, see
+   * {@link JsonMessageRequestHandler#handleUiSessionDisposed(HttpServletResponse, IUiSession, JsonRequest)}.
+   */
+  protected void pushSessionTerminated() {
+    boolean platformValid = (Platform.get() != null && Platform.get().getState() == State.PlatformStarted);
+    if (platformValid) {
+      send(m_jsonRequestHelper.createSessionTerminatedResponse(m_uiSession.getLogoutRedirectUrl()));
+    }
+    else {
+      send(m_jsonRequestHelper.createSessionTimeoutResponse());
+    }
+    close();
+  }
+
+  /**
+   * Writes the given response as server-sent event. If the connection is broken, the channel is closed. The response
+   * is not lost because it remains in the response history until the UI confirms it.
+   */
+  public synchronized void send(JSONObject response) {
+    if (m_closed) {
+      return;
+    }
+    StringBuilder sb = new StringBuilder();
+    Object sequenceNo = response.opt(JsonResponse.PROP_SEQUENCE_NO);
+    if (sequenceNo != null) {
+      sb.append("id: ").append(sequenceNo).append('\n');
+    }
+    // JSON strings never contain line breaks, therefore a single data line is sufficient
+    sb.append("data: ").append(response).append("\n\n");
+    try {
+      ServletOutputStream out = m_asyncContext.getResponse().getOutputStream();
+      out.write(sb.toString().getBytes(UTF_8));
+      out.flush();
+      m_asyncContext.getResponse().flushBuffer();
+    }
+    catch (IOException | IllegalStateException e) {
+      LOG.debug("Could not push response to UI, closing push channel", e);
+      close();
+    }
+  }
+
+  /**
+   * Completes the event stream. The UI reconnects if the session is still valid.
+   */
+  public void close() {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    if (m_uiSession != null) {
+      m_uiSession.detachPushChannel(this);
+    }
+    try {
+      m_asyncContext.complete();
+    }
+    catch (IllegalStateException e) {
+      LOG.trace("Async context already completed", e);
+    }
+  }
+}
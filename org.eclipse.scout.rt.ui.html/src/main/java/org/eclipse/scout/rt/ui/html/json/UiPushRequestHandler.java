@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.ui.html.json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
+import org.eclipse.scout.rt.ui.html.IUiSession;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.BackgroundPollingIntervalProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.MaxUserIdleTimeProperty;
+import org.eclipse.scout.rt.ui.html.UiHtmlConfigProperties.ServerPushEnabledProperty;
+import org.eclipse.scout.rt.ui.html.UiServlet;
+import org.eclipse.scout.rt.ui.html.UiSession;
+import org.eclipse.scout.rt.ui.html.logging.IUiRunContextDiagnostics;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This handler contributes to the {@link UiServlet} as the GET handler for /push/&lt;uiSessionId&gt;. It opens a
+ * server-sent event stream which replaces the poll requests of the UI session, see {@link UiPushChannel}.
+ * <p>
+ * The optional query parameter <code>ack</code> contains the sequence number of the last response processed by the UI.
+ * If present, all later responses still contained in the response history are sent first. The stream is completed
+ * after {@link BackgroundPollingIntervalProperty} seconds to check the idle timeout of the UI session, the UI reconnects
+ * immediately.
+ * <p>
+ * The handler is only active if {@link ServerPushEnabledProperty} is set. Otherwise, the UI uses polling requests.
+ *
+ * @since 24.1
+ */
+@Order(4510)
+public class UiPushRequestHandler extends AbstractUiServletRequestHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(UiPushRequestHandler.class);
+
+  public static final Pattern PATTERN_PUSH_PATH = Pattern.compile("^/push/([^/]+)$");
+  public static final String PARAM_ACK = "ack";
+  public static final String CONTENT_TYPE_EVENT_STREAM = "text/event-stream";
+
+  private final boolean m_enabled = CONFIG.getPropertyValue(ServerPushEnabledProperty.class);
+  private final long m_pollingInterval = CONFIG.getPropertyValue(BackgroundPollingIntervalProperty.class);
+  private final long m_maxUserIdleTime = CONFIG.getPropertyValue(MaxUserIdleTimeProperty.class);
+
+  private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final JsonRequestHelper m_jsonRequestHelper = BEANS.get(JsonRequestHelper.class);
+
+  @Override
+  protected boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    // serve only /push/<uiSessionId>
+    String pathInfo = req.getPathInfo();
+    if (pathInfo == null) {
+      return false;
+    }
+    Matcher matcher = PATTERN_PUSH_PATH.matcher(pathInfo);
+    if (!matcher.matches()) {
+      return false;
+    }
+    if (!m_enabled) {
+      resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+      return true;
+    }
+
+    // disable caching
+    m_httpCacheControl.checkAndSetCacheHeaders(req, resp, null);
+
+    String uiSessionId = matcher.group(1);
+    IUiSession uiSession = UiSession.get(req, uiSessionId);
+    JsonRequest pollRequest = createPollRequest(uiSessionId);
+    Long ackSequenceNo = getAckSequenceNo(req);
+
+    resp.setContentType(CONTENT_TYPE_EVENT_STREAM);
+    resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+    // the async context has to be started before the output stream is accessed (prevents compression of the stream)
+    AsyncContext asyncContext = req.startAsync(req, resp);
+    asyncContext.setTimeout(TimeUnit.SECONDS.toMillis(m_pollingInterval));
+
+    RunContext runContext = RunContexts.copyCurrent()
+        .withThreadLocal(IUiSession.CURRENT, uiSession)
+        .withThreadLocal(JsonRequest.CURRENT, pollRequest)
+        .withDiagnostics(BEANS.all(IUiRunContextDiagnostics.class));
+    UiPushChannel channel = createPushChannel(uiSession, asyncContext, pollRequest, runContext, ackSequenceNo != null);
+
+    if (uiSession == null) {
+      LOG.info("Push channel cannot be opened due to UI session timeout [id={}]", uiSessionId);
+      sendAndClose(channel, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return true;
+    }
+    if (!validateIdleTime(uiSession)) {
+      sendAndClose(channel, m_jsonRequestHelper.createSessionTimeoutResponse());
+      return true;
+    }
+
+    asyncContext.addListener(new P_AsyncListener(channel));
+    if (ackSequenceNo != null) {
+      uiSession.confirmResponseProcessed(ackSequenceNo);
+    }
+    uiSession.attachPushChannel(channel);
+    LOG.debug("Push channel opened for UI session {} [#ACK {}]", uiSessionId, ackSequenceNo);
+    return true;
+  }
+
+  protected UiPushChannel createPushChannel(IUiSession uiSession, AsyncContext asyncContext, JsonRequest pollRequest, RunContext runContext, boolean resume) {
+    return new UiPushChannel(uiSession, asyncContext, pollRequest, runContext, resume);
+  }
+
+  /**
+   * @return a request equivalent to a poll request sent by the UI
+   */
+  protected JsonRequest createPollRequest(String uiSessionId) {
+    JSONObject request = new JSONObject();
+    request.put(JsonRequest.PROP_UI_SESSION_ID, uiSessionId);
+    request.put(JsonRequest.PROP_POLL, true);
+    return new JsonRequest(request);
+  }
+
+  /**
+   * @return <code>false</code> if the max idle time of the UI session has been reached. In that case the session is
+   *         disposed.
+   */
+  protected boolean validateIdleTime(IUiSession uiSession) {
+    long idleSeconds = (System.currentTimeMillis() - uiSession.getLastAccessedTime()) / 1000L;
+    if (idleSeconds <= m_maxUserIdleTime) {
+      return true;
+    }
+    LOG.info("Detected idle timeout for UI session {} after {} seconds (maxIdleSeconds={})", uiSession.getUiSessionId(), idleSeconds, m_maxUserIdleTime);
+    uiSession.uiSessionLock().lock();
+    try {
+      uiSession.dispose();
+    }
+    finally {
+      uiSession.uiSessionLock().unlock();
+    }
+    return false;
+  }
+
+  protected void sendAndClose(UiPushChannel channel, JSONObject response) {
+    channel.send(response);
+    channel.close();
+  }
+
+  /**
+   * @return the value of the query parameter <code>ack</code> as {@link Long}, or <code>null</code> if value is not set
+   *         or not a number.
+   */
+  protected Long getAckSequenceNo(HttpServletRequest req) {
+    String ackSeqNoStr = req.getParameter(PARAM_ACK);
+    if (StringUtility.hasText(ackSeqNoStr)) {
+      try {
+        return Long.valueOf(ackSeqNoStr);
+      }
+      catch (NumberFormatException e) {
+        // nop
+      }
+    }
+    return null;
+  }
+
+  protected static class P_AsyncListener implements AsyncListener {
+    private final UiPushChannel m_channel;
+
+    public P_AsyncListener(UiPushChannel channel) {
+      m_channel = channel;
+    }
+
+    @Override
+    public void onComplete(AsyncEvent event) {
+      m_channel.getUiSession().detachPushChannel(m_channel);
+    }
+
+    @Override
+    public void onTimeout(AsyncEvent event) {
+      m_channel.close();
+    }
+
+    @Override
+    public void onError(AsyncEvent event) {
+      LOG.debug("Push channel of UI session {} failed", m_channel.getUiSession().getUiSessionId(), event.getThrowable());
+      m_channel.close();
+    }
+
+    @Override
+    public void onStartAsync(AsyncEvent event) {
+      // nop
+    }
+  }
+}
@@ -9,10 +9,13 @@
  */
 package org.eclipse.scout.rt.ui.html.json.table;
 
+import java.beans.PropertyChangeEvent;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +45,7 @@ import org.eclipse.scout.rt.client.ui.basic.table.TableListener;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.IColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.columns.INumberColumn;
 import org.eclipse.scout.rt.client.ui.basic.table.controls.ITableControl;
+import org.eclipse.scout.rt.client.ui.basic.table.userfilter.TableUserFilterManager;
 import org.eclipse.scout.rt.client.ui.basic.userfilter.IUserFilterState;
 import org.eclipse.scout.rt.client.ui.desktop.outline.pages.IReloadReason;
 import org.eclipse.scout.rt.client.ui.dnd.IDNDSupport;
@@ -127,6 +131,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String EVENT_FILTER_REMOVED = "filterRemoved";
   public static final String EVENT_FILTERS_CHANGED = "filtersChanged";
   public static final String EVENT_FILTER = "filter";
+  public static final String EVENT_REQUEST_ROWS = "requestRows";
 
   public static final String PROP_ROWS = "rows";
   public static final String PROP_ROW_IDS = "rowIds";
@@ -139,6 +144,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   public static final String PROP_SELECTED_ROWS = "selectedRows";
   public static final String PROP_FILTERS = "filters";
   public static final String PROP_HAS_RELOAD_HANDLER = "hasReloadHandler";
+  public static final String PROP_UNLOADED_ROW_COUNT = "unloadedRowCount";
+  public static final String PROP_COUNT = "count";
 
   private TableListener m_tableListener;
   private final Map<String, ITableRow> m_tableRows;
@@ -150,6 +157,15 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   private JsonContextMenu<IContextMenu> m_jsonContextMenu;
   private final BinaryResourceMediator m_binaryResourceMediator;
   private final JsonTableListeners m_listeners = new JsonTableListeners();
+  /**
+   * Number of rows the UI asked for in viewport mode (at least {@link ITable#getViewportRowCount()}).
+   */
+  private int m_viewportLimit;
+  private int m_sentUnloadedRowCount = -1;
+  /**
+   * The UI reported rows rejected by a filter which has no Java representation, see {@link #isUiFilterActive()}.
+   */
+  private boolean m_uiRowFilterActive;
 
   public JsonTable(T model, IUiSession uiSession, String id, IJsonAdapter<?> parent) {
     super(model, uiSession, id, parent);
@@ -326,7 +342,8 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_UI_SORT_POSSIBLE, model) {
       @Override
       protected Boolean modelValue() {
-        return getModel().isUiSortPossible();
+        // the UI only knows part of the rows in viewport mode, so it cannot sort by itself
+        return getModel().isUiSortPossible() && !isViewportMode();
       }
     });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_LOADING, model) {
@@ -358,6 +375,12 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
         return getModel().getMaxRowCount();
       }
     });
+    putJsonProperty(new JsonProperty<ITable>(ITable.PROP_VIEWPORT_ROW_COUNT, model) {
+      @Override
+      protected Integer modelValue() {
+        return getModel().getViewportRowCount();
+      }
+    });
     putJsonProperty(new JsonProperty<ITable>(ITable.PROP_HIERARCHICAL_STYLE, model) {
       @Override
       protected HierarchicalStyle modelValue() {
@@ -454,7 +477,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void attachRows() {
-    List<ITableRow> rows = getModel().getRows();
+    List<ITableRow> rows = isViewportMode() ? getInitialViewportRows() : getModel().getRows();
     for (ITableRow row : rows) {
       if (isRowAccepted(row)) {
         getOrCreateRowId(row);
@@ -567,7 +590,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject json = super.toJson();
     json.put(PROP_COLUMNS, columnsToJson(getColumnsInViewOrder()));
     json.put(PROP_COLUMN_ADDABLE, getModel().getTableOrganizer().isColumnAddable());
-    json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    if (isViewportMode()) {
+      json.put(PROP_ROWS, tableRowsToJson(filterSentRows(getModel().getRows())));
+      m_sentUnloadedRowCount = getUnloadedRowCount();
+      json.put(PROP_UNLOADED_ROW_COUNT, m_sentUnloadedRowCount);
+    }
+    else {
+      json.put(PROP_ROWS, tableRowsToJson(getModel().getRows()));
+    }
     json.put(PROP_MENUS, getJsonContextMenu().childActionsToJson());
     json.put(PROP_SELECTED_ROWS, rowIdsToJson(getModel().getSelectedRows()));
     if (getModel().getUserFilterManager() != null) {
@@ -660,6 +690,9 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     else if (EVENT_COLUMN_ORGANIZE_ACTION.equals(event.getType())) {
       handleUiColumnOrganizeAction(event);
     }
+    else if (EVENT_REQUEST_ROWS.equals(event.getType())) {
+      handleUiRequestRows(event);
+    }
     else {
       super.handleUiEvent(event);
     }
@@ -678,6 +711,38 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
   }
 
+  /**
+   * Sends the next rows (in model order) that are not yet known by the UI, see {@link ITable#getViewportRowCount()}.
+   * If the model has not enough rows but more rows are available, the next page is requested from the model (see
+   * {@link ITable#isMoreRowsAvailable()}), its rows are sent by the resulting table events. The unloaded row count is
+   * always sent back, the UI uses it to complete the request.
+   */
+  protected void handleUiRequestRows(JsonEvent event) {
+    if (isViewportMode()) {
+      int count = Math.max(1, event.getData().optInt(PROP_COUNT, getModel().getViewportRowCount()));
+      List<ITableRow> rows = new ArrayList<>();
+      for (ITableRow row : getModel().getRows()) {
+        if (rows.size() >= count) {
+          break;
+        }
+        if (isRowAccepted(row) && getTableRowId(row) == null) {
+          rows.add(row);
+        }
+      }
+      m_viewportLimit = m_tableRows.size() + rows.size();
+      if (!rows.isEmpty()) {
+        sendRows(rows);
+        handleModelRowOrderChanged(getModel().getRows());
+      }
+      if (rows.size() < count && getModel().isMoreRowsAvailable()) {
+        m_viewportLimit = m_tableRows.size() + count - rows.size();
+        getModel().getUIFacade().fireTableReloadFromUI(IReloadReason.NEXT_PAGE);
+      }
+    }
+    m_sentUnloadedRowCount = getUnloadedRowCount();
+    addPropertyChangeEvent(PROP_UNLOADED_ROW_COUNT, m_sentUnloadedRowCount);
+  }
+
   protected void handleUiColumnOrganizeAction(JsonEvent event) {
     JSONObject data = event.getData();
     String action = data.getString("action");
@@ -967,6 +1032,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     TableEventFilterCondition condition = addTableEventFilterCondition(TableEvent.TYPE_USER_FILTER_ADDED);
     condition.setUserFilter(filterState);
     getModel().getUIFacade().fireFilterAddedFromUI(filterState);
+    sendUnsentRowsIfUiFilterActive();
   }
 
   protected IUserFilterState createFilterState(JSONObject data) {
@@ -1003,11 +1069,14 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleUiFilter(JsonEvent event) {
     if (event.getData().optBoolean("remove")) {
+      m_uiRowFilterActive = false;
       getModel().getUIFacade().removeFilteredRowsFromUI();
     }
     else {
+      m_uiRowFilterActive = true;
       List<ITableRow> tableRows = extractTableRows(event.getData());
       getModel().getUIFacade().setFilteredRowsFromUI(tableRows);
+      sendUnsentRowsIfUiFilterActive();
     }
   }
 
@@ -1100,6 +1169,142 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonRowIds;
   }
 
+  /**
+   * @return {@code true} if only a window of the rows is sent to the UI, see {@link ITable#getViewportRowCount()}.
+   *         Hierarchical tables always send all rows because child rows reference their parent rows.
+   */
+  protected boolean isViewportMode() {
+    return getModel().getViewportRowCount() > 0 && !getModel().isHierarchical();
+  }
+
+  /**
+   * @return the number of accepted rows the UI should know in viewport mode. Unlimited while a UI filter is active.
+   */
+  protected int getViewportLimit() {
+    if (isUiFilterActive()) {
+      return Integer.MAX_VALUE;
+    }
+    return Math.max(m_viewportLimit, getModel().getViewportRowCount());
+  }
+
+  /**
+   * Text and column user filters are evaluated by the UI. In viewport mode the UI would only filter the rows sent so
+   * far, hence all rows are sent as long as such a filter is active.
+   *
+   * @return {@code true} if the model has a user filter or the UI reported rows rejected by a UI only filter
+   */
+  protected boolean isUiFilterActive() {
+    TableUserFilterManager userFilterManager = getModel().getUserFilterManager();
+    return m_uiRowFilterActive || (userFilterManager != null && !userFilterManager.isEmpty());
+  }
+
+  /**
+   * Sends the rows not yet known by the UI if a UI filter is active in viewport mode, see {@link #isUiFilterActive()}.
+   */
+  protected void sendUnsentRowsIfUiFilterActive() {
+    if (isViewportMode() && isUiFilterActive()) {
+      sendUnsentRows();
+      m_viewportLimit = m_tableRows.size();
+      updateUnloadedRowCount();
+    }
+  }
+
+  /**
+   * Sends all accepted rows not yet known by the UI and restores the model row order.
+   */
+  protected void sendUnsentRows() {
+    List<ITableRow> unsentRows = new ArrayList<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (isRowAccepted(row) && getTableRowId(row) == null) {
+        unsentRows.add(row);
+      }
+    }
+    if (!unsentRows.isEmpty()) {
+      sendRows(unsentRows);
+      handleModelRowOrderChanged(getModel().getRows());
+    }
+  }
+
+  /**
+   * @return the first {@link #getViewportLimit()} accepted rows followed by the selected rows not contained therein
+   */
+  protected List<ITableRow> getInitialViewportRows() {
+    int limit = getViewportLimit();
+    Set<ITableRow> rows = new LinkedHashSet<>();
+    for (ITableRow row : getModel().getRows()) {
+      if (rows.size() >= limit) {
+        break;
+      }
+      if (isRowAccepted(row)) {
+        rows.add(row);
+      }
+    }
+    rows.addAll(getModel().getSelectedRows());
+    return new ArrayList<>(rows);
+  }
+
+  /**
+   * @return the rows of the given collection which fit into the viewport (by model order), newly selected rows are
+   *         always included
+   */
+  protected List<ITableRow> filterRowsInViewport(Collection<ITableRow> modelRows) {
+    int free = getViewportLimit() - m_tableRows.size();
+    List<ITableRow> candidates = new ArrayList<>();
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : modelRows) {
+      if (!isRowAccepted(row)) {
+        continue;
+      }
+      if (row.isSelected()) {
+        rows.add(row);
+      }
+      else {
+        candidates.add(row);
+      }
+    }
+    if (free > 0) {
+      candidates.sort(Comparator.comparingInt(ITableRow::getRowIndex));
+      rows.addAll(candidates.subList(0, Math.min(free, candidates.size())));
+    }
+    return rows;
+  }
+
+  /**
+   * @return the rows of the given collection which are known by the UI
+   */
+  protected List<ITableRow> filterSentRows(Collection<ITableRow> modelRows) {
+    List<ITableRow> rows = new ArrayList<>();
+    for (ITableRow row : modelRows) {
+      if (getTableRowId(row) != null) {
+        rows.add(row);
+      }
+    }
+    return rows;
+  }
+
+  /**
+   * @return the number of accepted rows not yet sent to the UI (always 0 if not in viewport mode). Is at least 1 if
+   *         the model has more rows available which are not loaded yet.
+   */
+  protected int getUnloadedRowCount() {
+    if (!isViewportMode()) {
+      return 0;
+    }
+    int unloadedRowCount = Math.max(0, getFilteredRowCount() - m_tableRows.size());
+    if (unloadedRowCount == 0 && getModel().isMoreRowsAvailable()) {
+      return 1;
+    }
+    return unloadedRowCount;
+  }
+
+  protected void updateUnloadedRowCount() {
+    int unloadedRowCount = getUnloadedRowCount();
+    if (unloadedRowCount != m_sentUnloadedRowCount) {
+      m_sentUnloadedRowCount = unloadedRowCount;
+      addPropertyChangeEvent(PROP_UNLOADED_ROW_COUNT, unloadedRowCount);
+    }
+  }
+
   /**
    * Ignore deleted or filtered rows, because for the UI, they don't exist
    */
@@ -1225,6 +1430,26 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     return jsonFilters;
   }
 
+  @Override
+  protected void handleModelPropertyChange(PropertyChangeEvent event) {
+    super.handleModelPropertyChange(event);
+    if (ITable.PROP_VIEWPORT_ROW_COUNT.equals(event.getPropertyName())) {
+      handleModelViewportRowCountChange();
+    }
+    else if (ITable.PROP_MORE_ROWS_AVAILABLE.equals(event.getPropertyName())) {
+      updateUnloadedRowCount();
+    }
+  }
+
+  protected void handleModelViewportRowCountChange() {
+    addPropertyChangeEvent(getJsonProperty(ITable.PROP_UI_SORT_POSSIBLE));
+    if (!isViewportMode()) {
+      // the UI has to know all rows again
+      sendUnsentRows();
+    }
+    updateUnloadedRowCount();
+  }
+
   protected void handleModelTableEvent(TableEvent event) {
     event = m_tableEventFilter.filter(event);
     if (event == null) {
@@ -1359,6 +1584,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     for (TableEvent event : coalescedEvents) {
       processEvent(event);
     }
+    updateUnloadedRowCount();
   }
 
   protected void processEvent(TableEvent event) {
@@ -1430,6 +1656,17 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsInserted(Collection<ITableRow> modelRows) {
+    if (isViewportMode()) {
+      modelRows = filterRowsInViewport(modelRows);
+    }
+    sendRows(modelRows);
+  }
+
+  /**
+   * Sends the given rows to the UI using a rows inserted event. The UI appends them to the end, hence a row order
+   * changed event has to follow if they don't belong there.
+   */
+  protected void sendRows(Collection<ITableRow> modelRows) {
     Set<ITableRow> acceptedRows = new HashSet<>();
     JSONArray jsonRows = tableRowsToJson(modelRows, acceptedRows);
     if (jsonRows.length() == 0) {
@@ -1442,6 +1679,10 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowsUpdated(Collection<ITableRow> modelRows) {
+    if (isViewportMode()) {
+      // rows not known by the UI are sent with their current state when requested
+      modelRows = filterSentRows(modelRows);
+    }
     JSONArray jsonRows = tableRowsToJson(modelRows);
     if (jsonRows.length() == 0) {
       return;
@@ -1505,11 +1746,25 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     }
     m_tableRows.clear();
     m_tableRowIds.clear();
+    m_viewportLimit = 0;
     addActionEvent(EVENT_ALL_ROWS_DELETED);
     m_listeners.fireEvent(new JsonTableEvent(this, JsonTableEvent.TYPE_ROWS_DELETED, disposedRows));
   }
 
   protected void handleModelRowsSelected(Collection<ITableRow> modelRows) {
+    if (isViewportMode()) {
+      // selection has to work for rows the UI does not know yet
+      List<ITableRow> unsentRows = new ArrayList<>();
+      for (ITableRow row : modelRows) {
+        if (isRowAccepted(row) && getTableRowId(row) == null) {
+          unsentRows.add(row);
+        }
+      }
+      if (!unsentRows.isEmpty()) {
+        sendRows(unsentRows);
+        handleModelRowOrderChanged(getModel().getRows());
+      }
+    }
     JSONObject jsonEvent = new JSONObject();
     putProperty(jsonEvent, PROP_ROW_IDS, rowIdsToJson(modelRows));
     addActionEvent(EVENT_ROWS_SELECTED, jsonEvent);
@@ -1518,7 +1773,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   protected void handleModelRowsChecked(Collection<ITableRow> modelRows) {
     JSONArray jsonRows = new JSONArray();
     for (ITableRow row : modelRows) {
-      if (!isRowAccepted(row)) {
+      if (!isRowAccepted(row) || getTableRowId(row) == null) {
         continue;
       }
       JSONObject jsonRow = new JSONObject();
@@ -1536,7 +1791,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
 
   protected void handleModelRowsExpanded(List<ITableRow> rows) {
     JSONArray jsonRows = new JSONArray();
-    rows.stream().filter(this::isRowAccepted)
+    rows.stream().filter(row -> isRowAccepted(row) && getTableRowId(row) != null)
         .map(row -> {
           JSONObject jsonRow = new JSONObject();
           putProperty(jsonRow, "id", getTableRowId(row));
@@ -1550,11 +1805,32 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
   }
 
   protected void handleModelRowOrderChanged(Collection<ITableRow> modelRows) {
+    if (isViewportMode()) {
+      // the rows at the top of the new order have to be known by the UI (e.g. after sorting)
+      List<ITableRow> unsentRows = new ArrayList<>();
+      int acceptedCount = 0;
+      int limit = getViewportLimit();
+      for (ITableRow row : modelRows) {
+        if (acceptedCount >= limit) {
+          break;
+        }
+        if (isRowAccepted(row)) {
+          acceptedCount++;
+          if (getTableRowId(row) == null) {
+            unsentRows.add(row);
+          }
+        }
+      }
+      sendRows(unsentRows);
+    }
     JSONArray jsonRowIds = new JSONArray();
     List<String> rowIds = new ArrayList<>();
     for (ITableRow row : modelRows) {
       if (isRowAccepted(row)) {
         String rowId = getTableRowId(row);
+        if (rowId == null) { // Ignore rows that are not yet sent to the UI (viewport mode)
+          continue;
+        }
         jsonRowIds.put(rowId);
         rowIds.add(rowId);
       }
@@ -1630,6 +1906,7 @@ public class JsonTable<T extends ITable> extends AbstractJsonWidget<T> implement
     JSONObject jsonEvent = new JSONObject();
     jsonEvent.put(PROP_FILTERS, filtersToJson(filters));
     addActionEvent(EVENT_FILTERS_CHANGED, jsonEvent);
+    sendUnsentRowsIfUiFilterActive();
   }
 
   protected void handleModelColumnAggregationChanged(TableEvent event) {
@@ -26,7 +26,9 @@ import org.eclipse.scout.rt.server.commons.servlet.cache.GlobalHttpResourceCache
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceEncoder;
 import org.eclipse.scout.rt.server.commons.servlet.cache.IHttpResourceCache;
+import org.eclipse.scout.rt.server.commons.servlet.filter.gzip.GzipServletFilter;
 import org.eclipse.scout.rt.ui.html.AbstractUiServletRequestHandler;
 import org.eclipse.scout.rt.ui.html.UiServlet;
 import org.eclipse.scout.rt.ui.html.res.loader.IResourceLoader;
@@ -49,6 +51,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   // Remember bean instances to save lookups on each GET request
   private final List<ResourceLoaders> m_resourceLoaders = Collections.unmodifiableList(BEANS.all(ResourceLoaders.class));
   private final HttpCacheControl m_httpCacheControl = BEANS.get(HttpCacheControl.class);
+  private final HttpResourceEncoder m_httpResourceEncoder = BEANS.get(HttpResourceEncoder.class);
 
   @Override
   public boolean handleGet(HttpServletRequest req, HttpServletResponse resp) throws ServletException, IOException {
@@ -78,7 +81,7 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
   }
 
   protected void writeResourceToResponse(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) throws IOException {
-    BinaryResource binaryResource = cachedObject.getResource();
+    BinaryResource binaryResource = resolveEncodedResource(req, resp, cachedObject);
     setHttpResponseHeaders(resp, binaryResource);
 
     // Apply response interceptors
@@ -89,6 +92,27 @@ public class ResourceRequestHandler extends AbstractUiServletRequestHandler {
     }
   }
 
+  /**
+   * Selects the variant of the resource to deliver according to the <code>Accept-Encoding</code> header of the request
+   * and sets the corresponding <code>Content-Encoding</code> header. Compressed variants are kept in the
+   * {@link HttpCacheObject}, hence cached resources are not compressed again for each request.
+   *
+   * @return the variant to write to the response
+   */
+  protected BinaryResource resolveEncodedResource(HttpServletRequest req, HttpServletResponse resp, HttpCacheObject cachedObject) {
+    BinaryResource binaryResource = cachedObject.getResource();
+    if (!m_httpResourceEncoder.isCompressible(binaryResource)) {
+      return binaryResource;
+    }
+    resp.addHeader(HttpResourceEncoder.VARY, GzipServletFilter.ACCEPT_ENCODING);
+    String encoding = m_httpResourceEncoder.negotiateEncoding(req, cachedObject);
+    if (encoding == null) {
+      return binaryResource;
+    }
+    resp.setHeader(GzipServletFilter.CONTENT_ENCODING, encoding);
+    return cachedObject.getEncodedResource(encoding);
+  }
+
   /**
    * Clear global cache (only allowed in development mode). This allows to work with ?cache=true and clears the cache
    * only when required --> rebuilds script/less files.
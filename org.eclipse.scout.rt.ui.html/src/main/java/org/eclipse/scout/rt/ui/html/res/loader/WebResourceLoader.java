@@ -15,6 +15,7 @@ import java.net.URL;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.resource.BinaryResource;
@@ -22,6 +23,9 @@ import org.eclipse.scout.rt.platform.resource.BinaryResources;
 import org.eclipse.scout.rt.platform.util.IOUtility;
 import org.eclipse.scout.rt.platform.util.ImmutablePair;
 import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheControl;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheKey;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpCacheObject;
+import org.eclipse.scout.rt.server.commons.servlet.cache.HttpResourceEncoder;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResourceDescriptor;
 import org.eclipse.scout.rt.shared.ui.webresource.WebResources;
 
@@ -37,6 +41,20 @@ public class WebResourceLoader extends AbstractResourceLoader {
     m_theme = theme;
   }
 
+  @Override
+  public HttpCacheObject loadResource(HttpCacheKey cacheKey) {
+    String pathInfo = cacheKey.getResourcePath();
+    return lookupResource(pathInfo)
+        .map(pair -> {
+          HttpCacheObject obj = new HttpCacheObject(cacheKey, toBinaryResource(pair.getLeft(), pathInfo, pair.getRight()));
+          if (m_cacheEnabled) {
+            addPrecompressedResources(obj, pair.getLeft());
+          }
+          return obj;
+        })
+        .orElse(null);
+  }
+
   @Override
   public BinaryResource loadResource(String pathInfo) {
     return lookupResource(pathInfo)
@@ -82,10 +100,34 @@ public class WebResourceLoader extends AbstractResourceLoader {
     }
   }
 
+  /**
+   * Adds the precompressed variants (e.g. <code>.br</code> and <code>.gz</code> files created by the build) of the
+   * resource to the cache object, so that they are delivered without compressing the resource again.
+   */
+  protected void addPrecompressedResources(HttpCacheObject obj, WebResourceDescriptor descriptor) {
+    HttpResourceEncoder encoder = BEANS.get(HttpResourceEncoder.class);
+    if (!encoder.isCompressible(obj.getResource())) {
+      return;
+    }
+    for (String encoding : encoder.getEncodings()) {
+      WebResources.resolvePrecompressedResource(descriptor, encoder.getFileSuffix(encoding))
+          .ifPresent(url -> obj.putEncodedResource(encoding, encoder.createEncodedResource(obj.getResource(), getContent(url))));
+    }
+  }
+
   protected byte[] getContent(WebResourceDescriptor descriptor) throws IOException {
     // do not use IOUtility.readFromUrl because it temporarily leaks a file handle when calling getContentLength
     try (BufferedInputStream in = new BufferedInputStream(descriptor.getUrl().openConnection().getInputStream())) {
       return IOUtility.readBytes(in, -1);
     }
   }
+
+  protected byte[] getContent(URL url) {
+    try (BufferedInputStream in = new BufferedInputStream(url.openConnection().getInputStream())) {
+      return IOUtility.readBytes(in, -1);
+    }
+    catch (IOException e) {
+      throw new PlatformException("Unable to read from url '{}'.", url, e);
+    }
+  }
 }